@@ -288,6 +288,24 @@ public class CoreOptions implements Serializable {
                     .defaultValue(true)
                     .withDescription("Whether enabled read file index.");
 
+    public static final ConfigOption<Boolean> FILE_INDEX_READ_EXTERNAL_IN_PLAN =
+            key("file-index.read.external-in-plan")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to evaluate file index files which are not embedded in "
+                                    + "manifests while planning, to filter data files before "
+                                    + "splits are generated. Index files are read in parallel "
+                                    + "with 'scan.manifest.parallelism'.");
+
+    public static final ConfigOption<MemorySize> FILE_INDEX_READ_EXTERNAL_CACHE_SIZE =
+            key("file-index.read.external-cache-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("64 mb"))
+                    .withDescription(
+                            "Max memory size for caching file index files read while planning, "
+                                    + "see 'file-index.read.external-in-plan'.");
+
     public static final ConfigOption<String> MANIFEST_FORMAT =
             key("manifest.format")
                     .stringType()
@@ -321,6 +339,16 @@ public class CoreOptions implements Serializable {
                             "To avoid frequent manifest merges, this parameter specifies the minimum number "
                                     + "of ManifestFileMeta to merge.");
 
+    public static final ConfigOption<Boolean> MANIFEST_PARTITION_INDEX_ENABLED =
+            key("manifest.partition-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write a partition index for each snapshot of a partitioned "
+                                    + "table, which maps partitions to the manifest files containing "
+                                    + "them. Planning with a partition filter then only reads the "
+                                    + "manifest files of the matched partitions.");
+
     public static final ConfigOption<String> PARTITION_DEFAULT_NAME =
             key("partition.default-name")
                     .stringType()
@@ -391,6 +419,19 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The maximum number of snapshots allowed to expire at a time.");
 
+    public static final ConfigOption<Boolean> SNAPSHOT_TIME_INDEX_ENABLED =
+            key("snapshot.time-index.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to maintain snapshot time index files in the snapshot "
+                                    + "directory when committing and expiring snapshots. Time "
+                                    + "travel by timestamp or watermark is answered from this "
+                                    + "index instead of binary searching snapshot files, once the "
+                                    + "index covers all retained snapshots. The index is "
+                                    + "best-effort, entries lost by concurrent commits are read "
+                                    + "from snapshot files.");
+
     public static final ConfigOption<Boolean> SNAPSHOT_CLEAN_EMPTY_DIRECTORIES =
             key("snapshot.clean-empty-directories")
                     .booleanType()
@@ -516,6 +557,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Whether the write buffer can be spillable. Enabled by default when using object storage or when 'target-file-size' is greater than 'write-buffer-size'.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_ASYNC_FLUSH =
+            key("write-buffer-async-flush")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "This option only works for primary key table with non-spillable "
+                                    + "write buffer. Whether to split the write buffer into two "
+                                    + "halves, a full half is sorted and flushed to level 0 files "
+                                    + "in background while records are written into the other "
+                                    + "half. Writing is blocked only when both halves are full.");
+
     public static final ConfigOption<Boolean> WRITE_BUFFER_FOR_APPEND =
             key("write-buffer-for-append")
                     .booleanType()
@@ -523,6 +575,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "This option only works for append-only table. Whether the write use write buffer to avoid out-of-memory error.");
 
+    public static final ConfigOption<Boolean> WRITE_BUFFER_OFF_HEAP =
+            key("write-buffer-off-heap")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to allocate pages of write buffer and local merge buffer from "
+                                    + "off-heap memory instead of Java heap, which avoids GC "
+                                    + "pressure for large buffers. The off-heap memory is released "
+                                    + "when the writer is closed, please make sure the JVM is "
+                                    + "configured with enough direct memory.");
+
     public static final ConfigOption<Integer> WRITE_MAX_WRITERS_TO_SPILL =
             key("write-max-writers-to-spill")
                     .intType()
@@ -586,6 +649,36 @@ public class CoreOptions implements Serializable {
                             "The number of sorted runs that trigger the stopping of writes,"
                                     + " the default value is 'num-sorted-run.compaction-trigger' + 3.");
 
+    public static final ConfigOption<Integer> COMPACTION_REWRITE_PARALLELISM =
+            key("compaction.rewrite-parallelism")
+                    .intType()
+                    .defaultValue(1)
+                    .withDescription(
+                            "The number of threads to rewrite one compaction of a primary key table. "
+                                    + "If it is larger than 1, the overlapping sections to merge are split into "
+                                    + "disjoint key ranges which are rewritten concurrently into separate files. "
+                                    + "Sections are never split, so a compaction of a single section is still "
+                                    + "rewritten by one thread. "
+                                    + "Not supported when lookup or 'full-compaction' changelog producer is used.");
+
+    public static final ConfigOption<Boolean> COMPACTION_SHARED_EXECUTOR_ENABLED =
+            key("compaction.shared-executor.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to run compactions of all writers in a JVM-wide shared thread pool. "
+                                    + "Queued compactions are prioritized by their number of sorted runs "
+                                    + "relative to 'num-sorted-run.stop-trigger', so that buckets close to "
+                                    + "stopping writes are compacted first.");
+
+    public static final ConfigOption<Integer> COMPACTION_SHARED_EXECUTOR_THREADS =
+            key("compaction.shared-executor.threads")
+                    .intType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "The maximum number of concurrent compactions of the shared compaction thread pool, "
+                                    + "the default value is the number of available processors.");
+
     public static final ConfigOption<Integer> NUM_LEVELS =
             key("num-levels")
                     .intType()
@@ -818,6 +911,38 @@ public class CoreOptions implements Serializable {
                                     + "Note: Scale-up this parameter will increase memory usage while scanning manifest files. "
                                     + "We can consider downsize it when we encounter an out of memory exception while scanning");
 
+    public static final ConfigOption<Boolean> SCAN_MANIFEST_SINGLE_PASS =
+            key("scan.manifest.single-pass")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to decode each manifest file only once when planning a "
+                                    + "full scan. Deleted files are tracked by a compact 128-bit "
+                                    + "fingerprint instead of their full identifier, which halves "
+                                    + "manifest reading for snapshots with many entries, at the "
+                                    + "cost of buffering added entries until all manifests are read.");
+
+    public static final ConfigOption<Boolean> SCAN_PLAN_CACHE_ENABLED =
+            key("scan.plan-cache.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to cache the merged live data files of the latest "
+                                    + "planned snapshot in the table, and advance them with the "
+                                    + "delta manifests of newer snapshots when planning again. "
+                                    + "This is useful for long-running services that plan the "
+                                    + "same table frequently, at the cost of keeping the metadata "
+                                    + "of all data files in memory.");
+
+    public static final ConfigOption<Integer> SCAN_PLAN_CACHE_MAX_DELTA_SNAPSHOTS =
+            key("scan.plan-cache.max-delta-snapshots")
+                    .intType()
+                    .defaultValue(100)
+                    .withDescription(
+                            "The maximum number of snapshots whose delta manifests are applied to "
+                                    + "advance the plan cache, the cache is rebuilt from the data "
+                                    + "manifests if there are more snapshots in between.");
+
     public static final ConfigOption<Duration> STREAMING_READ_SNAPSHOT_DELAY =
             key("streaming.read.snapshot.delay")
                     .durationType()
@@ -1013,6 +1138,34 @@ public class CoreOptions implements Serializable {
                     .defaultValue(LookupLocalFileType.SORT)
                     .withDescription("The local file type for lookup.");
 
+    public static final ConfigOption<Boolean> LOOKUP_REMOTE_FILE_ENABLED =
+            key("lookup.remote-file.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to build the sorted lookup file for data files written by compaction"
+                                    + " and store it alongside the data file, so that lookup can download it"
+                                    + " instead of building it from the data file on the local disk. Only"
+                                    + " takes effect when 'lookup.local-file-type' is sort.");
+
+    public static final ConfigOption<Duration> LOOKUP_REMOTE_QUERY_COALESCE_WINDOW =
+            key("lookup.remote-query.coalesce-window")
+                    .durationType()
+                    .defaultValue(Duration.ofMillis(0))
+                    .withDescription(
+                            "The time window in which concurrent lookups to the query service for the same "
+                                    + "partition and bucket are coalesced into one request. Zero means every "
+                                    + "lookup is sent immediately.");
+
+    public static final ConfigOption<Integer> LOOKUP_REMOTE_QUERY_MAX_BATCH_KEYS =
+            key("lookup.remote-query.max-batch-keys")
+                    .intType()
+                    .defaultValue(1024)
+                    .withDescription(
+                            "The maximum number of keys of a coalesced request to the query service, "
+                                    + "the request is sent once it is reached even if the coalesce window "
+                                    + "has not elapsed.");
+
     public static final ConfigOption<Float> LOOKUP_HASH_LOAD_FACTOR =
             key("lookup.hash-load-factor")
                     .floatType()
@@ -1499,6 +1652,17 @@ public class CoreOptions implements Serializable {
                                     + "Mainly to resolve data skew on primary keys. "
                                     + "We recommend starting with 64 mb when trying out this feature.");
 
+    public static final ConfigOption<Double> LOCAL_MERGE_HOT_KEY_RATIO =
+            key("local-merge-hot-key-ratio")
+                    .doubleType()
+                    .defaultValue(0.0)
+                    .withDescription(
+                            "When the local merge buffer is full, keep at most this ratio of its "
+                                    + "records whose keys are frequently updated, and only emit the "
+                                    + "other records. Hot keys keep merging later input instead of "
+                                    + "being flushed. 0 means the whole buffer is flushed. Only works "
+                                    + "when non-primary-key fields are all fixed-length.");
+
     public static final ConfigOption<Duration> CROSS_PARTITION_UPSERT_INDEX_TTL =
             key("cross-partition-upsert.index-ttl")
                     .durationType()
@@ -1515,6 +1679,17 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "The parallelism for bootstrap in a single task for cross partition upsert.");
 
+    public static final ConfigOption<Boolean> CROSS_PARTITION_UPSERT_PERSIST_INDEX =
+            key("cross-partition-upsert.persist-index")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to persist the keys read by bootstrap for cross partition upsert "
+                                    + "under the table directory. On restart, only data files which have "
+                                    + "changed are read from the table, the keys of other files are read "
+                                    + "from the persisted keys. Without deletion vectors, the files of a "
+                                    + "split are merged, so all files of a changed split are read again.");
+
     public static final ConfigOption<Integer> ZORDER_VAR_LENGTH_CONTRIBUTION =
             key("zorder.var-length-contribution")
                     .intType()
@@ -1528,6 +1703,16 @@ public class CoreOptions implements Serializable {
                     .defaultValue(MemorySize.ofMebiBytes(10))
                     .withDescription("The threshold for read file async.");
 
+    public static final ConfigOption<Integer> FILE_READER_PREFETCH_NUM =
+            key("file-reader-prefetch-num")
+                    .intType()
+                    .defaultValue(0)
+                    .withDescription(
+                            "The maximum number of data files opened ahead in background when "
+                                    + "merging sorted runs of a primary key table on read. "
+                                    + "It hides the latency of opening files, especially on object "
+                                    + "stores. 0 means files are opened when they are needed.");
+
     public static final ConfigOption<Boolean> COMMIT_FORCE_CREATE_SNAPSHOT =
             key("commit.force-create-snapshot")
                     .booleanType()
@@ -1557,6 +1742,25 @@ public class CoreOptions implements Serializable {
                     .withDescription(
                             "Enable 64 bit bitmap implementation. Note that only 64 bit bitmap implementation is compatible with Iceberg.");
 
+    public static final ConfigOption<Boolean> DELETION_VECTORS_INCREMENTAL_WRITE =
+            key("deletion-vectors.incremental-write.enabled")
+                    .booleanType()
+                    .defaultValue(false)
+                    .withDescription(
+                            "Whether to write deletion vectors of bucketed tables incrementally. When enabled,"
+                                    + " a commit only rewrites the deletion vector index files containing changed"
+                                    + " deletion vectors instead of all deletion vectors of the bucket. Writers and"
+                                    + " committers of a table must use the same value.");
+
+    public static final ConfigOption<Integer> DELETION_VECTORS_INCREMENTAL_MAX_INDEX_FILES =
+            key("deletion-vectors.incremental-write.max-index-files")
+                    .intType()
+                    .defaultValue(8)
+                    .withDescription(
+                            "The maximum number of deletion vector index files of a bucket when incremental"
+                                    + " write is enabled. When it would be exceeded, all deletion vectors of the"
+                                    + " bucket are rewritten into one index file.");
+
     public static final ConfigOption<Boolean> DELETION_FORCE_PRODUCE_CHANGELOG =
             key("delete.force-produce-changelog")
                     .booleanType()
@@ -2031,6 +2235,10 @@ public class CoreOptions implements Serializable {
         return options.get(FILE_READER_ASYNC_THRESHOLD);
     }
 
+    public int fileReaderPrefetchNum() {
+        return options.get(FILE_READER_PREFETCH_NUM);
+    }
+
     public int snapshotNumRetainMin() {
         return options.get(SNAPSHOT_NUM_RETAINED_MIN);
     }
@@ -2072,6 +2280,10 @@ public class CoreOptions implements Serializable {
         return options.get(SNAPSHOT_EXPIRE_LIMIT);
     }
 
+    public boolean snapshotTimeIndexEnabled() {
+        return options.get(SNAPSHOT_TIME_INDEX_ENABLED);
+    }
+
     public boolean cleanEmptyDirectories() {
         return options.get(SNAPSHOT_CLEAN_EMPTY_DIRECTORIES);
     }
@@ -2102,6 +2314,10 @@ public class CoreOptions implements Serializable {
         return options.get(MANIFEST_MERGE_MIN_COUNT);
     }
 
+    public boolean manifestPartitionIndexEnabled() {
+        return options.get(MANIFEST_PARTITION_INDEX_ENABLED);
+    }
+
     public MergeEngine mergeEngine() {
         return options.get(MERGE_ENGINE);
     }
@@ -2149,6 +2365,14 @@ public class CoreOptions implements Serializable {
                                 || targetFileSize(hasPrimaryKey) > writeBufferSize());
     }
 
+    public boolean writeBufferAsyncFlush() {
+        return options.get(WRITE_BUFFER_ASYNC_FLUSH);
+    }
+
+    public boolean writeBufferOffHeap() {
+        return options.get(WRITE_BUFFER_OFF_HEAP);
+    }
+
     public MemorySize writeBufferSpillDiskSize() {
         return options.get(WRITE_BUFFER_MAX_DISK_SIZE);
     }
@@ -2204,6 +2428,19 @@ public class CoreOptions implements Serializable {
         return options.get(LOOKUP_LOCAL_FILE_TYPE);
     }
 
+    public boolean lookupRemoteFileEnabled() {
+        return options.get(LOOKUP_REMOTE_FILE_ENABLED)
+                && lookupLocalFileType() == LookupLocalFileType.SORT;
+    }
+
+    public Duration lookupRemoteQueryCoalesceWindow() {
+        return options.get(LOOKUP_REMOTE_QUERY_COALESCE_WINDOW);
+    }
+
+    public int lookupRemoteQueryMaxBatchKeys() {
+        return options.get(LOOKUP_REMOTE_QUERY_MAX_BATCH_KEYS);
+    }
+
     public MemorySize lookupCacheMaxMemory() {
         return options.get(LOOKUP_CACHE_MAX_MEMORY_SIZE);
     }
@@ -2234,6 +2471,19 @@ public class CoreOptions implements Serializable {
         return options.get(COMPACTION_OPTIMIZATION_INTERVAL);
     }
 
+    public int compactionRewriteParallelism() {
+        return options.get(COMPACTION_REWRITE_PARALLELISM);
+    }
+
+    public boolean compactionSharedExecutorEnabled() {
+        return options.get(COMPACTION_SHARED_EXECUTOR_ENABLED);
+    }
+
+    public int compactionSharedExecutorThreads() {
+        return options.getOptional(COMPACTION_SHARED_EXECUTOR_THREADS)
+                .orElse(Runtime.getRuntime().availableProcessors());
+    }
+
     public int numSortedRunStopTrigger() {
         Integer stopTrigger = options.get(NUM_SORTED_RUNS_STOP_TRIGGER);
         if (stopTrigger == null) {
@@ -2428,6 +2678,18 @@ public class CoreOptions implements Serializable {
         return options.get(SCAN_MANIFEST_PARALLELISM);
     }
 
+    public boolean scanManifestSinglePass() {
+        return options.get(SCAN_MANIFEST_SINGLE_PASS);
+    }
+
+    public boolean scanPlanCacheEnabled() {
+        return options.get(SCAN_PLAN_CACHE_ENABLED);
+    }
+
+    public int scanPlanCacheMaxDeltaSnapshots() {
+        return options.get(SCAN_PLAN_CACHE_MAX_DELTA_SNAPSHOTS);
+    }
+
     public Duration streamingReadDelay() {
         return options.get(STREAMING_READ_SNAPSHOT_DELAY);
     }
@@ -2660,6 +2922,10 @@ public class CoreOptions implements Serializable {
         return options.get(LOCAL_MERGE_BUFFER_SIZE).getBytes();
     }
 
+    public double localMergeHotKeyRatio() {
+        return options.get(LOCAL_MERGE_HOT_KEY_RATIO);
+    }
+
     public Duration crossPartitionUpsertIndexTtl() {
         return options.get(CROSS_PARTITION_UPSERT_INDEX_TTL);
     }
@@ -2668,6 +2934,10 @@ public class CoreOptions implements Serializable {
         return options.get(CROSS_PARTITION_UPSERT_BOOTSTRAP_PARALLELISM);
     }
 
+    public boolean crossPartitionUpsertPersistIndex() {
+        return options.get(CROSS_PARTITION_UPSERT_PERSIST_INDEX);
+    }
+
     public int varTypeSize() {
         return options.get(ZORDER_VAR_LENGTH_CONTRIBUTION);
     }
@@ -2692,6 +2962,14 @@ public class CoreOptions implements Serializable {
         return options.get(DELETION_VECTOR_BITMAP64);
     }
 
+    public boolean deletionVectorsIncrementalWrite() {
+        return options.get(DELETION_VECTORS_INCREMENTAL_WRITE);
+    }
+
+    public int deletionVectorsIncrementalMaxIndexFiles() {
+        return options.get(DELETION_VECTORS_INCREMENTAL_MAX_INDEX_FILES);
+    }
+
     public FileIndexOptions indexColumnsOptions() {
         return new FileIndexOptions(this);
     }
@@ -2704,6 +2982,14 @@ public class CoreOptions implements Serializable {
         return options.get(FILE_INDEX_READ_ENABLED);
     }
 
+    public boolean fileIndexReadExternalInPlan() {
+        return options.get(FILE_INDEX_READ_EXTERNAL_IN_PLAN);
+    }
+
+    public MemorySize fileIndexReadExternalCacheSize() {
+        return options.get(FILE_INDEX_READ_EXTERNAL_CACHE_SIZE);
+    }
+
     public boolean deleteForceProduceChangelog() {
         return options.get(DELETION_FORCE_PRODUCE_CHANGELOG);
     }
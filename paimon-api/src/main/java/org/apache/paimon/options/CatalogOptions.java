@@ -184,4 +184,27 @@ public class CatalogOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to populate file metadata while listing or getting file status.");
+
+    public static final ConfigOption<String> FILE_IO_LOCAL_CACHE_DIR =
+            key("file-io.local-cache.dir")
+                    .stringType()
+                    .noDefaultValue()
+                    .withDescription(
+                            "Local directory to cache blocks of remote data files. When set, data files read "
+                                    + "from remote file systems such as object stores are cached block by block "
+                                    + "on local disk, since data files are immutable.");
+
+    public static final ConfigOption<MemorySize> FILE_IO_LOCAL_CACHE_MAX_SIZE =
+            key("file-io.local-cache.max-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.parse("10 gb"))
+                    .withDescription(
+                            "Max disk size of the local data file cache, least recently used blocks are evicted when exceeded.");
+
+    public static final ConfigOption<MemorySize> FILE_IO_LOCAL_CACHE_BLOCK_SIZE =
+            key("file-io.local-cache.block-size")
+                    .memoryType()
+                    .defaultValue(MemorySize.ofMebiBytes(1))
+                    .withDescription(
+                            "Block size of the local data file cache, remote files are fetched and cached in aligned blocks of this size.");
 }
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexResult;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fileindex.FileIndexer;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.predicate.FieldRef;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeFamily;
+import org.apache.paimon.utils.BloomFilter64;
+import org.apache.paimon.utils.BloomFilter64.BitSet;
+import org.apache.paimon.utils.IOUtils;
+
+import net.openhft.hashing.LongHashFunction;
+
+import java.io.IOException;
+
+import static org.apache.paimon.fileindex.FileIndexResult.REMAIN;
+import static org.apache.paimon.fileindex.FileIndexResult.SKIP;
+
+/**
+ * N-gram bloom filter for file index, answers {@code contains}, {@code startsWith}, {@code
+ * endsWith} and {@code equal} predicates of string columns.
+ *
+ * <p>Grams are taken over the UTF-8 bytes of values, as UTF-8 is self-synchronizing a byte
+ * substring matches if and only if the character substring matches. For each value, all grams of
+ * {@code size} bytes are added, together with its prefixes and suffixes of 1 to {@code size} bytes
+ * hashed with separate seeds, so that anchored patterns shorter than a gram can be tested too.
+ *
+ * <p>The filter is sized by {@code items}, which counts the hashes added to the filter of a file
+ * and not its rows: a value of {@code n} bytes adds {@code n - size + 1} grams and up to {@code 2 *
+ * size} prefixes and suffixes.
+ */
+public class NgramFileIndex implements FileIndexer {
+
+    private static final int DEFAULT_SIZE = 3;
+    // number of grams, prefixes and suffixes, not number of rows
+    private static final int DEFAULT_ITEMS = 1_000_000;
+    private static final double DEFAULT_FPP = 0.1;
+
+    private static final String SIZE = "size";
+    private static final String ITEMS = "items";
+    private static final String FPP = "fpp";
+
+    private static final LongHashFunction GRAM_HASH = LongHashFunction.xx();
+    private static final LongHashFunction PREFIX_HASH = LongHashFunction.xx(1);
+    private static final LongHashFunction SUFFIX_HASH = LongHashFunction.xx(2);
+
+    private final int size;
+    private final int items;
+    private final double fpp;
+
+    public NgramFileIndex(DataType dataType, Options options) {
+        if (!dataType.getTypeRoot().getFamilies().contains(DataTypeFamily.CHARACTER_STRING)) {
+            throw new IllegalArgumentException(
+                    "Ngram file index only supports character string type, but is " + dataType);
+        }
+        this.size = options.getInteger(SIZE, DEFAULT_SIZE);
+        if (size <= 0) {
+            throw new IllegalArgumentException("Ngram size should be positive, but is " + size);
+        }
+        this.items = options.getInteger(ITEMS, DEFAULT_ITEMS);
+        this.fpp = options.getDouble(FPP, DEFAULT_FPP);
+    }
+
+    @Override
+    public FileIndexWriter createWriter() {
+        return new Writer(size, items, fpp);
+    }
+
+    @Override
+    public FileIndexReader createReader(SeekableInputStream inputStream, int start, int length) {
+        try {
+            inputStream.seek(start);
+            byte[] serializedBytes = new byte[length];
+            IOUtils.readFully(inputStream, serializedBytes);
+            return new Reader(serializedBytes);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static class Writer extends FileIndexWriter {
+
+        private final int size;
+        private final BloomFilter64 filter;
+
+        public Writer(int size, int items, double fpp) {
+            this.size = size;
+            this.filter = new BloomFilter64(items, fpp);
+        }
+
+        @Override
+        public void write(Object key) {
+            if (key == null) {
+                return;
+            }
+
+            byte[] bytes = ((BinaryString) key).toBytes();
+            int anchored = Math.min(size, bytes.length);
+            for (int i = 1; i <= anchored; i++) {
+                filter.addHash(PREFIX_HASH.hashBytes(bytes, 0, i));
+                filter.addHash(SUFFIX_HASH.hashBytes(bytes, bytes.length - i, i));
+            }
+            for (int i = 0; i + size <= bytes.length; i++) {
+                filter.addHash(GRAM_HASH.hashBytes(bytes, i, size));
+            }
+        }
+
+        @Override
+        public byte[] serializedBytes() {
+            int numHashFunctions = filter.getNumHashFunctions();
+            byte[] serialized =
+                    new byte[filter.getBitSet().bitSize() / Byte.SIZE + 2 * Integer.BYTES];
+            writeInt(serialized, 0, size);
+            writeInt(serialized, 4, numHashFunctions);
+            filter.getBitSet().toByteArray(serialized, 8, serialized.length - 8);
+            return serialized;
+        }
+
+        private static void writeInt(byte[] bytes, int offset, int value) {
+            // big endian
+            bytes[offset] = (byte) ((value >>> 24) & 0xFF);
+            bytes[offset + 1] = (byte) ((value >>> 16) & 0xFF);
+            bytes[offset + 2] = (byte) ((value >>> 8) & 0xFF);
+            bytes[offset + 3] = (byte) (value & 0xFF);
+        }
+    }
+
+    private static class Reader extends FileIndexReader {
+
+        private final int size;
+        private final BloomFilter64 filter;
+
+        public Reader(byte[] serializedBytes) {
+            this.size = readInt(serializedBytes, 0);
+            int numHashFunctions = readInt(serializedBytes, 4);
+            this.filter = new BloomFilter64(numHashFunctions, new BitSet(serializedBytes, 8));
+        }
+
+        private static int readInt(byte[] bytes, int offset) {
+            return ((bytes[offset] & 0xFF) << 24)
+                    | ((bytes[offset + 1] & 0xFF) << 16)
+                    | ((bytes[offset + 2] & 0xFF) << 8)
+                    | (bytes[offset + 3] & 0xFF);
+        }
+
+        @Override
+        public FileIndexResult visitEqual(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            byte[] bytes = ((BinaryString) literal).toBytes();
+            return testPrefix(bytes) && testSuffix(bytes) && testGrams(bytes) ? REMAIN : SKIP;
+        }
+
+        @Override
+        public FileIndexResult visitStartsWith(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            byte[] bytes = ((BinaryString) literal).toBytes();
+            return testPrefix(bytes) && testGrams(bytes) ? REMAIN : SKIP;
+        }
+
+        @Override
+        public FileIndexResult visitEndsWith(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            byte[] bytes = ((BinaryString) literal).toBytes();
+            return testSuffix(bytes) && testGrams(bytes) ? REMAIN : SKIP;
+        }
+
+        @Override
+        public FileIndexResult visitContains(FieldRef fieldRef, Object literal) {
+            if (literal == null) {
+                return REMAIN;
+            }
+            return testGrams(((BinaryString) literal).toBytes()) ? REMAIN : SKIP;
+        }
+
+        private boolean testPrefix(byte[] bytes) {
+            int length = Math.min(size, bytes.length);
+            return bytes.length == 0 || filter.testHash(PREFIX_HASH.hashBytes(bytes, 0, length));
+        }
+
+        private boolean testSuffix(byte[] bytes) {
+            int length = Math.min(size, bytes.length);
+            return bytes.length == 0
+                    || filter.testHash(SUFFIX_HASH.hashBytes(bytes, bytes.length - length, length));
+        }
+
+        private boolean testGrams(byte[] bytes) {
+            for (int i = 0; i + size <= bytes.length; i++) {
+                if (!filter.testHash(GRAM_HASH.hashBytes(bytes, i, size))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.catalog.CatalogContext;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.options.Options;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.apache.paimon.options.CatalogOptions.FILE_IO_LOCAL_CACHE_BLOCK_SIZE;
+import static org.apache.paimon.options.CatalogOptions.FILE_IO_LOCAL_CACHE_DIR;
+import static org.apache.paimon.options.CatalogOptions.FILE_IO_LOCAL_CACHE_MAX_SIZE;
+
+/**
+ * A {@link FileIO} which caches blocks of remote data files on local disk through a {@link
+ * LocalBlockCache}. Only files in bucket directories are cached, they are written once with
+ * unique names and never modified, so cached blocks never need to be invalidated.
+ */
+public class CachingFileIO implements FileIO {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String BUCKET_DIR_PREFIX = "bucket-";
+
+    private final FileIO fileIO;
+    private final String cacheDirectory;
+    private final long cacheMaxSize;
+    private final int blockSize;
+
+    private transient volatile LocalBlockCache cache;
+
+    public CachingFileIO(FileIO fileIO, String cacheDirectory, long cacheMaxSize, int blockSize) {
+        this.fileIO = fileIO;
+        this.cacheDirectory = cacheDirectory;
+        this.cacheMaxSize = cacheMaxSize;
+        this.blockSize = blockSize;
+    }
+
+    /** Wraps the {@link FileIO} with a local cache if it is configured by the options. */
+    public static FileIO wrapIfEnabled(FileIO fileIO, Options options) {
+        String directory = options.get(FILE_IO_LOCAL_CACHE_DIR);
+        if (directory == null || fileIO instanceof LocalFileIO) {
+            return fileIO;
+        }
+        return new CachingFileIO(
+                fileIO,
+                directory,
+                options.get(FILE_IO_LOCAL_CACHE_MAX_SIZE).getBytes(),
+                (int) options.get(FILE_IO_LOCAL_CACHE_BLOCK_SIZE).getBytes());
+    }
+
+    @VisibleForTesting
+    LocalBlockCache cache() {
+        if (cache == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    cache =
+                            LocalBlockCache.getOrCreate(
+                                    cacheDirectory, new MemorySize(cacheMaxSize), blockSize);
+                }
+            }
+        }
+        return cache;
+    }
+
+    /** Number of block reads served by the local cache, 0 if nothing has been read yet. */
+    public long cacheHitCount() {
+        LocalBlockCache cache = this.cache;
+        return cache == null ? 0 : cache.hitCount();
+    }
+
+    /** Number of block reads missing the local cache, 0 if nothing has been read yet. */
+    public long cacheMissCount() {
+        LocalBlockCache cache = this.cache;
+        return cache == null ? 0 : cache.missCount();
+    }
+
+    @Override
+    public boolean isObjectStore() {
+        return fileIO.isObjectStore();
+    }
+
+    @Override
+    public void configure(CatalogContext context) {
+        fileIO.configure(context);
+    }
+
+    @Override
+    public SeekableInputStream newInputStream(Path path) throws IOException {
+        Path parent = path.getParent();
+        if (parent == null || !parent.getName().startsWith(BUCKET_DIR_PREFIX)) {
+            return fileIO.newInputStream(path);
+        }
+        return new CachingInputStream(fileIO, path, cache());
+    }
+
+    @Override
+    public PositionOutputStream newOutputStream(Path path, boolean overwrite) throws IOException {
+        return fileIO.newOutputStream(path, overwrite);
+    }
+
+    @Override
+    public FileStatus getFileStatus(Path path) throws IOException {
+        return fileIO.getFileStatus(path);
+    }
+
+    @Override
+    public FileStatus[] listStatus(Path path) throws IOException {
+        return fileIO.listStatus(path);
+    }
+
+    @Override
+    public FileStatus[] listFiles(Path path, boolean recursive) throws IOException {
+        return fileIO.listFiles(path, recursive);
+    }
+
+    @Override
+    public RemoteIterator<FileStatus> listFilesIterative(Path path, boolean recursive)
+            throws IOException {
+        return fileIO.listFilesIterative(path, recursive);
+    }
+
+    @Override
+    public FileStatus[] listDirectories(Path path) throws IOException {
+        return fileIO.listDirectories(path);
+    }
+
+    @Override
+    public boolean exists(Path path) throws IOException {
+        return fileIO.exists(path);
+    }
+
+    @Override
+    public boolean delete(Path path, boolean recursive) throws IOException {
+        return fileIO.delete(path, recursive);
+    }
+
+    @Override
+    public boolean mkdirs(Path path) throws IOException {
+        return fileIO.mkdirs(path);
+    }
+
+    @Override
+    public boolean rename(Path src, Path dst) throws IOException {
+        return fileIO.rename(src, dst);
+    }
+
+    @Override
+    public void overwriteFileUtf8(Path path, String content) throws IOException {
+        fileIO.overwriteFileUtf8(path, content);
+    }
+
+    @Override
+    public boolean tryToWriteAtomic(Path path, String content) throws IOException {
+        return fileIO.tryToWriteAtomic(path, content);
+    }
+
+    @Override
+    public void copyFile(Path sourcePath, Path targetPath, boolean overwrite) throws IOException {
+        fileIO.copyFile(sourcePath, targetPath, overwrite);
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileIO.close();
+    }
+
+    /**
+     * A {@link SeekableInputStream} reading whole blocks from the local cache, the remote stream is
+     * only opened on the first cache miss.
+     */
+    private static class CachingInputStream extends SeekableInputStream {
+
+        private final FileIO fileIO;
+        private final Path path;
+        private final LocalBlockCache cache;
+        private final int blockSize;
+        private final byte[] block;
+
+        private SeekableInputStream remote;
+
+        private long pos;
+        private long blockIndex = -1;
+        private int blockLength;
+
+        private CachingInputStream(FileIO fileIO, Path path, LocalBlockCache cache) {
+            this.fileIO = fileIO;
+            this.path = path;
+            this.cache = cache;
+            this.blockSize = cache.blockSize();
+            this.block = new byte[blockSize];
+        }
+
+        @Override
+        public void seek(long desired) throws IOException {
+            if (desired < 0) {
+                throw new EOFException("Cannot seek to a negative offset: " + desired);
+            }
+            this.pos = desired;
+        }
+
+        @Override
+        public long getPos() {
+            return pos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!loadBlock()) {
+                return -1;
+            }
+            int b = block[(int) (pos - blockIndex * blockSize)] & 0xFF;
+            pos++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!loadBlock()) {
+                return -1;
+            }
+            int offsetInBlock = (int) (pos - blockIndex * blockSize);
+            int n = Math.min(len, blockLength - offsetInBlock);
+            System.arraycopy(block, offsetInBlock, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        /** Loads the block containing the current position, returns false on end of file. */
+        private boolean loadBlock() throws IOException {
+            long index = pos / blockSize;
+            if (index != blockIndex) {
+                blockIndex = index;
+                blockLength = cache.read(path, index, block);
+                if (blockLength < 0) {
+                    blockLength = readRemote(index);
+                    if (blockLength > 0) {
+                        cache.write(path, index, block, blockLength);
+                    }
+                }
+            }
+            return pos - blockIndex * blockSize < blockLength;
+        }
+
+        private int readRemote(long index) throws IOException {
+            if (remote == null) {
+                remote = fileIO.newInputStream(path);
+            }
+            remote.seek(index * blockSize);
+            int length = 0;
+            while (length < blockSize) {
+                int n = remote.read(block, length, blockSize - length);
+                if (n < 0) {
+                    break;
+                }
+                length += n;
+            }
+            return length;
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (remote != null) {
+                remote.close();
+            }
+        }
+    }
+}
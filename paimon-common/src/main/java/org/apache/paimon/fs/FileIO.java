@@ -582,7 +582,7 @@ public interface FileIO extends Serializable, Closeable {
 
         FileIO fileIO = loader.load(path);
         fileIO.configure(config);
-        return fileIO;
+        return CachingFileIO.wrapIfEnabled(fileIO, config.options());
     }
 
     /** Discovers all {@link FileIOLoader} by service loader. */
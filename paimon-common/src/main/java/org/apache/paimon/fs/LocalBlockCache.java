@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.utils.FileIOUtils;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.RemovalCause;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A cache of fixed size, aligned blocks of remote immutable files on local disk. Blocks are keyed
+ * by file path and block index, and least recently used blocks are evicted when the total size
+ * exceeds the max size.
+ */
+public class LocalBlockCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LocalBlockCache.class);
+
+    private static final Map<String, LocalBlockCache> CACHES = new ConcurrentHashMap<>();
+
+    private final File directory;
+    private final long maxSize;
+    private final int blockSize;
+    private final Cache<BlockKey, Integer> blocks;
+    private final AtomicLong tmpFileId = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+
+    @VisibleForTesting
+    LocalBlockCache(File directory, MemorySize maxSize, int blockSize) {
+        this.directory = directory;
+        this.maxSize = maxSize.getBytes();
+        this.blockSize = blockSize;
+        this.blocks =
+                Caffeine.newBuilder()
+                        .weigher(LocalBlockCache::weigh)
+                        .maximumWeight(maxSize.getBytes())
+                        .removalListener(this::onRemoval)
+                        .executor(Runnable::run)
+                        .build();
+    }
+
+    /**
+     * Returns the process wide cache for the given local directory, blocks are stored in a sub
+     * directory owned by this process and removed on exit.
+     *
+     * @throws IllegalArgumentException if the cache of the directory has been created with another
+     *     max size or block size.
+     */
+    public static LocalBlockCache getOrCreate(String directory, MemorySize maxSize, int blockSize) {
+        LocalBlockCache cache = create(directory, maxSize, blockSize);
+        if (cache.maxSize != maxSize.getBytes() || cache.blockSize != blockSize) {
+            throw new IllegalArgumentException(
+                    String.format(
+                            "Local file cache of directory %s has been created with max size %s"
+                                    + " and block size %s, which conflicts with max size %s and"
+                                    + " block size %s. Please use another directory.",
+                            directory,
+                            new MemorySize(cache.maxSize),
+                            cache.blockSize,
+                            maxSize,
+                            blockSize));
+        }
+        return cache;
+    }
+
+    private static LocalBlockCache create(String directory, MemorySize maxSize, int blockSize) {
+        return CACHES.computeIfAbsent(
+                directory,
+                dir -> {
+                    File subDir =
+                            new File(dir, String.format("paimon-file-cache-%s", UUID.randomUUID()));
+                    if (!subDir.mkdirs() && !subDir.isDirectory()) {
+                        throw new RuntimeException(
+                                "Could not create local file cache directory " + subDir);
+                    }
+                    LOG.info(
+                            "Created local file cache directory {} with max size {}.",
+                            subDir,
+                            maxSize);
+                    Runtime.getRuntime()
+                            .addShutdownHook(
+                                    new Thread(() -> FileIOUtils.deleteDirectoryQuietly(subDir)));
+                    return new LocalBlockCache(subDir, maxSize, blockSize);
+                });
+    }
+
+    public int blockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Reads the cached block into the buffer, the buffer length must be at least {@link
+     * #blockSize()}.
+     *
+     * @return the length of the block, or -1 if the block is not cached.
+     */
+    public int read(Path path, long blockIndex, byte[] buffer) throws IOException {
+        BlockKey key = new BlockKey(path, blockIndex);
+        Integer length = blocks.getIfPresent(key);
+        if (length == null) {
+            missCount.increment();
+            return -1;
+        }
+
+        try (RandomAccessFile file = new RandomAccessFile(blockFile(key), "r")) {
+            file.readFully(buffer, 0, length);
+        } catch (FileNotFoundException e) {
+            // evicted concurrently
+            blocks.invalidate(key);
+            missCount.increment();
+            return -1;
+        }
+        hitCount.increment();
+        return length;
+    }
+
+    /** Caches the first length bytes of the buffer as the given block. */
+    public void write(Path path, long blockIndex, byte[] buffer, int length) {
+        BlockKey key = new BlockKey(path, blockIndex);
+        File target = blockFile(key);
+        File tmp = new File(directory, target.getName() + "." + tmpFileId.incrementAndGet());
+        try {
+            try (RandomAccessFile file = new RandomAccessFile(tmp, "rw")) {
+                file.write(buffer, 0, length);
+            }
+            Files.move(
+                    tmp.toPath(),
+                    target.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            blocks.put(key, length);
+        } catch (IOException e) {
+            // caching is best effort, the block has already been read from remote
+            LOG.warn("Failed to cache block {} of file {} locally.", blockIndex, path, e);
+            tmp.delete();
+        }
+    }
+
+    public long hitCount() {
+        return hitCount.sum();
+    }
+
+    public long missCount() {
+        return missCount.sum();
+    }
+
+    @VisibleForTesting
+    long cachedBlocks() {
+        blocks.cleanUp();
+        return blocks.estimatedSize();
+    }
+
+    private File blockFile(BlockKey key) {
+        String name = UUID.nameUUIDFromBytes(key.path.toString().getBytes(UTF_8)).toString();
+        return new File(directory, name + "-" + key.blockIndex);
+    }
+
+    private void onRemoval(BlockKey key, Integer length, RemovalCause cause) {
+        if (key != null && cause != RemovalCause.REPLACED) {
+            File file = blockFile(key);
+            if (!file.delete() && file.exists()) {
+                LOG.warn("Failed to delete evicted cache block {}.", file);
+            }
+        }
+    }
+
+    private static int weigh(BlockKey key, Integer length) {
+        return length;
+    }
+
+    /** Key of a cached block. */
+    private static class BlockKey {
+
+        private final Path path;
+        private final long blockIndex;
+
+        private BlockKey(Path path, long blockIndex) {
+            this.path = path;
+            this.blockIndex = blockIndex;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            BlockKey that = (BlockKey) o;
+            return blockIndex == that.blockIndex && Objects.equals(path, that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, blockIndex);
+        }
+    }
+}
@@ -26,7 +26,7 @@ import java.io.IOException;
 /** Reader, lookup value by key bytes. */
 public interface LookupStoreReader extends Closeable {
 
-    /** Lookup value by key. */
+    /** Lookup value by key, implementations should support concurrent lookups. */
     @Nullable
     byte[] lookup(byte[] key) throws IOException;
 }
@@ -112,8 +112,9 @@ public class HashLookupStoreReader
         }
     }
 
+    /** Lookups are serialized since they share the input view and slot buffer. */
     @Override
-    public byte[] lookup(byte[] key) throws IOException {
+    public synchronized byte[] lookup(byte[] key) throws IOException {
         int keyLength = key.length;
         if (keyLength >= slots.length || keyCounts[keyLength] == 0) {
             return null;
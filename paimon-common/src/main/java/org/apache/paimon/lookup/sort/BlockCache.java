@@ -28,10 +28,10 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /** Cache for block reading. */
@@ -46,7 +46,7 @@ public class BlockCache implements Closeable {
         this.file = file;
         this.channel = this.file.getChannel();
         this.cacheManager = cacheManager;
-        this.blocks = new HashMap<>();
+        this.blocks = new ConcurrentHashMap<>();
     }
 
     private byte[] readFrom(long offset, int length) throws IOException {
@@ -65,7 +65,7 @@ public class BlockCache implements Closeable {
         CacheKey cacheKey = CacheKey.forPosition(file, position, length, isIndex);
 
         SegmentContainer container = blocks.get(cacheKey);
-        if (container == null || container.getAccessCount() == CacheManager.REFRESH_COUNT) {
+        if (container == null || container.getAccessCount() >= CacheManager.REFRESH_COUNT) {
             MemorySegment segment =
                     cacheManager.getPage(
                             cacheKey,
@@ -45,7 +45,7 @@ public class SortLookupStoreReader implements LookupStoreReader {
     private final String filePath;
     private final long fileSize;
 
-    private final BlockIterator indexBlockIterator;
+    private final BlockReader indexBlock;
     @Nullable private FileBasedBloomFilter bloomFilter;
     private final BlockCache blockCache;
     private final PageFileInput fileInput;
@@ -64,7 +64,7 @@ public class SortLookupStoreReader implements LookupStoreReader {
         this.fileInput = PageFileInput.create(file, blockSize, null, fileSize, null);
         this.blockCache = new BlockCache(fileInput.file(), cacheManager);
         Footer footer = readFooter();
-        this.indexBlockIterator = readBlock(footer.getIndexBlockHandle(), true).iterator();
+        this.indexBlock = readBlock(footer.getIndexBlockHandle(), true);
         BloomFilterHandle handle = footer.getBloomFilterHandle();
         if (handle != null) {
             this.bloomFilter =
@@ -92,13 +92,15 @@ public class SortLookupStoreReader implements LookupStoreReader {
         }
 
         MemorySlice keySlice = MemorySlice.wrap(key);
-        // seek the index to the block containing the key
+        // seek the index to the block containing the key, the iterator is created per lookup so
+        // that concurrent lookups do not share the seek position
+        BlockIterator indexBlockIterator = indexBlock.iterator();
         indexBlockIterator.seekTo(keySlice);
 
         // if indexIterator does not have a next, it means the key does not exist in this iterator
         if (indexBlockIterator.hasNext()) {
             // seek the current iterator to the key
-            BlockIterator current = getNextBlock();
+            BlockIterator current = getNextBlock(indexBlockIterator);
             if (current.seekTo(keySlice)) {
                 return current.next().getValue().copyBytes();
             }
@@ -106,7 +108,7 @@ public class SortLookupStoreReader implements LookupStoreReader {
         return null;
     }
 
-    private BlockIterator getNextBlock() {
+    private BlockIterator getNextBlock(BlockIterator indexBlockIterator) {
         // index block handle, point to the key, value position.
         MemorySlice blockHandle = indexBlockIterator.next().getValue();
         BlockReader dataBlock =
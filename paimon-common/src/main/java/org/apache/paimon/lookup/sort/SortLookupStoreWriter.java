@@ -37,6 +37,7 @@ import javax.annotation.Nullable;
 import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 
 import static org.apache.paimon.lookup.sort.BlockHandle.writeBlockHandle;
@@ -73,7 +74,20 @@ public class SortLookupStoreWriter implements LookupStoreWriter {
             @Nullable BloomFilter.Builder bloomFilter,
             @Nullable BlockCompressionFactory compressionFactory)
             throws IOException {
-        this.fileOutputStream = new BufferedOutputStream(Files.newOutputStream(file.toPath()));
+        this(Files.newOutputStream(file.toPath()), blockSize, bloomFilter, compressionFactory);
+    }
+
+    /**
+     * Create a writer to an arbitrary output stream, for example a remote file. The stream is
+     * closed when this writer is closed, and the written file can be read by a {@link
+     * SortLookupStoreReader} with a {@link SortContext} of the file size.
+     */
+    public SortLookupStoreWriter(
+            OutputStream outputStream,
+            int blockSize,
+            @Nullable BloomFilter.Builder bloomFilter,
+            @Nullable BlockCompressionFactory compressionFactory) {
+        this.fileOutputStream = new BufferedOutputStream(outputStream);
         this.blockSize = blockSize;
         this.dataBlockWriter = new BlockWriter((int) (blockSize * 1.1));
         int expectedNumberOfBlocks = 1024;
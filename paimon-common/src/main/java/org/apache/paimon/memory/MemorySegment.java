@@ -92,6 +92,17 @@ public final class MemorySegment {
         return size;
     }
 
+    /**
+     * Releases the off-heap memory of this segment explicitly, this is a no-op for heap segments.
+     * The segment must not be accessed after it is freed.
+     */
+    public void free() {
+        if (offHeapBuffer != null) {
+            MemoryUtils.releaseDirectBuffer(offHeapBuffer);
+            offHeapBuffer = null;
+        }
+    }
+
     public boolean isOffHeap() {
         return heapMemory == null;
     }
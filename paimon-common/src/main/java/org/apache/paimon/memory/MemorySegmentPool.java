@@ -53,4 +53,14 @@ public interface MemorySegmentPool extends MemorySegmentSource {
     static MemorySegmentPool createHeapPool(MemorySize maxMemory, MemorySize pageSize) {
         return new HeapMemorySegmentPool(maxMemory.getBytes(), (int) pageSize.getBytes());
     }
+
+    /**
+     * Create a pool from heap or off-heap memory. An off-heap pool is an {@link
+     * OffHeapMemorySegmentPool} which should be closed to release its memory.
+     */
+    static MemorySegmentPool create(long maxMemory, int pageSize, boolean offHeap) {
+        return offHeap
+                ? new OffHeapMemorySegmentPool(maxMemory, pageSize)
+                : new HeapMemorySegmentPool(maxMemory, pageSize);
+    }
 }
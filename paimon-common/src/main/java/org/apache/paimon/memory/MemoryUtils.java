@@ -21,6 +21,7 @@ package org.apache.paimon.memory;
 import org.apache.paimon.utils.Preconditions;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -123,6 +124,38 @@ public class MemoryUtils {
         return offHeapAddress;
     }
 
+    /**
+     * Releases the native memory of the given direct {@link ByteBuffer} immediately instead of
+     * waiting for garbage collection. The buffer must not be accessed after this call.
+     *
+     * @return true if the memory is released, false if it is left to garbage collection
+     */
+    static boolean releaseDirectBuffer(ByteBuffer buffer) {
+        Preconditions.checkArgument(buffer.isDirect(), "Can't release a non-direct ByteBuffer.");
+        try {
+            // Java 9+
+            Method invokeCleaner = UNSAFE.getClass().getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(UNSAFE, buffer);
+            return true;
+        } catch (NoSuchMethodException e) {
+            // Java 8
+            try {
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                if (cleaner != null) {
+                    Method clean = cleaner.getClass().getMethod("clean");
+                    clean.setAccessible(true);
+                    clean.invoke(cleaner);
+                    return true;
+                }
+            } catch (Throwable ignored) {
+            }
+        } catch (Throwable ignored) {
+        }
+        return false;
+    }
+
     /** Should not be instantiated. */
     private MemoryUtils() {}
 }
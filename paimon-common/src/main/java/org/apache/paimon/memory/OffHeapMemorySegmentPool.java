@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.memory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.apache.paimon.utils.Preconditions.checkState;
+
+/**
+ * MemorySegment pool from off-heap memory. Pages are allocated lazily and the memory of pages in
+ * the pool is released explicitly when the pool is closed, instead of waiting for garbage
+ * collection.
+ *
+ * <p>Pages which are not returned to the pool when it is closed are counted as leaked. They are
+ * not released on closing because they may still be accessed, instead they are released when they
+ * are returned to the closed pool, or by garbage collection otherwise.
+ */
+public class OffHeapMemorySegmentPool extends AbstractMemorySegmentPool implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OffHeapMemorySegmentPool.class);
+
+    private static final AtomicLong TOTAL_ALLOCATED_BYTES = new AtomicLong();
+    private static final AtomicLong TOTAL_LEAKED_PAGES = new AtomicLong();
+
+    private final Set<MemorySegment> allocated;
+    private final Set<MemorySegment> outstanding;
+
+    private boolean closed;
+
+    public OffHeapMemorySegmentPool(long maxMemory, int pageSize) {
+        super(maxMemory, pageSize);
+        this.allocated = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.outstanding = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.closed = false;
+    }
+
+    @Override
+    public MemorySegment nextSegment() {
+        checkState(!closed, "Off-heap memory segment pool is already closed.");
+        MemorySegment segment = super.nextSegment();
+        if (segment != null) {
+            outstanding.add(segment);
+        }
+        return segment;
+    }
+
+    @Override
+    protected MemorySegment allocateMemory() {
+        MemorySegment segment = MemorySegment.allocateOffHeapMemory(pageSize);
+        allocated.add(segment);
+        TOTAL_ALLOCATED_BYTES.addAndGet(pageSize);
+        return segment;
+    }
+
+    @Override
+    public void returnAll(List<MemorySegment> memory) {
+        if (closed) {
+            // pages held while closing are released once they are returned
+            for (MemorySegment segment : memory) {
+                if (outstanding.remove(segment)) {
+                    release(segment);
+                }
+            }
+            return;
+        }
+
+        outstanding.removeAll(memory);
+        super.returnAll(memory);
+    }
+
+    /** Off-heap memory in bytes which is allocated by this pool and not released yet. */
+    public long allocatedBytes() {
+        return (long) allocated.size() * pageSize;
+    }
+
+    /** Pages which are taken from this pool and not returned yet. */
+    public int outstandingPages() {
+        return outstanding.size();
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        int leaked = outstanding.size();
+        if (leaked > 0) {
+            TOTAL_LEAKED_PAGES.addAndGet(leaked);
+            LOG.warn(
+                    "{} pages of off-heap memory are not returned to the pool before closing, "
+                            + "they are released when returned or garbage collected.",
+                    leaked);
+        }
+
+        for (MemorySegment segment : allocated.toArray(new MemorySegment[0])) {
+            if (!outstanding.contains(segment)) {
+                release(segment);
+            }
+        }
+    }
+
+    private void release(MemorySegment segment) {
+        segment.free();
+        allocated.remove(segment);
+        TOTAL_ALLOCATED_BYTES.addAndGet(-pageSize);
+    }
+
+    /** Off-heap memory in bytes which is allocated by all pools in this JVM and not released. */
+    public static long totalAllocatedBytes() {
+        return TOTAL_ALLOCATED_BYTES.get();
+    }
+
+    /** Pages which were not returned to their pools when the pools were closed in this JVM. */
+    public static long totalLeakedPages() {
+        return TOTAL_LEAKED_PAGES.get();
+    }
+}
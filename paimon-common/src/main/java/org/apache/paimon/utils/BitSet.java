@@ -83,10 +83,22 @@ public class BitSet {
      * @return - value at the bit position
      */
     public boolean get(int index) {
+        return get(memorySegment, index);
+    }
+
+    /**
+     * Returns true if the bit is set in the specified index of the given segment, which allows
+     * concurrent readers to test against a segment captured before it is unset.
+     *
+     * @param segment - memory segment of this bit set
+     * @param index - position
+     * @return - value at the bit position
+     */
+    public boolean get(MemorySegment segment, int index) {
         checkArgument(index < bitLength && index >= 0);
 
         int byteIndex = index >>> 3;
-        byte current = memorySegment.get(offset + byteIndex);
+        byte current = segment.get(offset + byteIndex);
         return (current & (1 << (index & BYTE_INDEX_MASK))) != 0;
     }
 
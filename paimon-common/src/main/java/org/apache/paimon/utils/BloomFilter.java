@@ -86,6 +86,11 @@ public class BloomFilter {
     }
 
     public boolean testHash(int hash1) {
+        return testHash(hash1, bitSet.getMemorySegment());
+    }
+
+    /** Test the hash against the given segment instead of the one set to this filter. */
+    public boolean testHash(int hash1, MemorySegment segment) {
         int hash2 = hash1 >>> 16;
 
         for (int i = 1; i <= numHashFunctions; i++) {
@@ -95,7 +100,7 @@ public class BloomFilter {
                 combinedHash = ~combinedHash;
             }
             int pos = combinedHash % bitSet.bitSize();
-            if (!bitSet.get(pos)) {
+            if (!bitSet.get(segment, pos)) {
                 return false;
             }
         }
@@ -59,11 +59,13 @@ public class FileBasedBloomFilter implements Closeable {
     }
 
     public boolean testHash(int hash) {
+        // capture the segment locally, it may be unset concurrently by the cache eviction
+        MemorySegment segment = filter.getMemorySegment();
         accessCount++;
         // we should refresh cache in LRU, but we cannot refresh everytime, it is costly.
         // so we introduce a refresh count to reduce refresh
-        if (accessCount == REFRESH_COUNT || filter.getMemorySegment() == null) {
-            MemorySegment segment =
+        if (accessCount >= REFRESH_COUNT || segment == null) {
+            segment =
                     cacheManager.getPage(
                             cacheKey,
                             key -> input.readPosition(readOffset, readLength),
@@ -71,7 +73,7 @@ public class FileBasedBloomFilter implements Closeable {
             filter.setMemorySegment(segment, 0);
             accessCount = 0;
         }
-        return filter.testHash(hash);
+        return filter.testHash(hash, segment);
     }
 
     @VisibleForTesting
@@ -93,6 +93,10 @@ public class RoaringBitmap32 {
         return roaringBitmap.previousValue(fromValue);
     }
 
+    public long nextAbsentValue(int fromValue) {
+        return roaringBitmap.nextAbsentValue(fromValue);
+    }
+
     public boolean intersects(long minimum, long supremum) {
         return roaringBitmap.intersects(minimum, supremum);
     }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fileindex.ngram;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.fileindex.FileIndexReader;
+import org.apache.paimon.fileindex.FileIndexWriter;
+import org.apache.paimon.fs.ByteArraySeekableStream;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataTypes;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link NgramFileIndex}. */
+public class NgramFileIndexTest {
+
+    @Test
+    public void testPatterns() {
+        FileIndexReader reader =
+                createReader(
+                        "https://paimon.apache.org/docs/master",
+                        "GET /api/v1/tables HTTP/1.1",
+                        "ab",
+                        null);
+
+        assertThat(reader.visitContains(null, fromString("apache")).remain()).isTrue();
+        assertThat(reader.visitContains(null, fromString("/api/v1")).remain()).isTrue();
+        assertThat(reader.visitContains(null, fromString("flink")).remain()).isFalse();
+        assertThat(reader.visitContains(null, fromString("v2/tables")).remain()).isFalse();
+
+        assertThat(reader.visitStartsWith(null, fromString("https://")).remain()).isTrue();
+        assertThat(reader.visitStartsWith(null, fromString("GE")).remain()).isTrue();
+        assertThat(reader.visitStartsWith(null, fromString("a")).remain()).isTrue();
+        assertThat(reader.visitStartsWith(null, fromString("POST")).remain()).isFalse();
+        assertThat(reader.visitStartsWith(null, fromString("paimon")).remain()).isFalse();
+
+        assertThat(reader.visitEndsWith(null, fromString("HTTP/1.1")).remain()).isTrue();
+        assertThat(reader.visitEndsWith(null, fromString("b")).remain()).isTrue();
+        assertThat(reader.visitEndsWith(null, fromString("HTTP/2")).remain()).isFalse();
+        assertThat(reader.visitEndsWith(null, fromString("docs")).remain()).isFalse();
+
+        assertThat(reader.visitEqual(null, fromString("ab")).remain()).isTrue();
+        assertThat(reader.visitEqual(null, fromString("abc")).remain()).isFalse();
+
+        // patterns which can not be tested by grams
+        assertThat(reader.visitContains(null, fromString("zz")).remain()).isTrue();
+        assertThat(reader.visitStartsWith(null, fromString("")).remain()).isTrue();
+        assertThat(reader.visitContains(null, null).remain()).isTrue();
+    }
+
+    @Test
+    public void testRandomContains() {
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(UUID.randomUUID().toString());
+        }
+        FileIndexReader reader = createReader(values.toArray(new String[0]));
+
+        for (String value : values) {
+            assertThat(reader.visitContains(null, fromString(value.substring(5, 20))).remain())
+                    .isTrue();
+            assertThat(reader.visitStartsWith(null, fromString(value.substring(0, 8))).remain())
+                    .isTrue();
+            assertThat(reader.visitEndsWith(null, fromString(value.substring(24))).remain())
+                    .isTrue();
+        }
+
+        int errorCount = 0;
+        int num = 1000;
+        for (int i = 0; i < num; i++) {
+            // uuids are hexadecimal, grams out of [g-z] are never written
+            StringBuilder absent = new StringBuilder();
+            for (int j = 0; j < 4; j++) {
+                absent.append((char) ('g' + ThreadLocalRandom.current().nextInt(20)));
+            }
+            if (reader.visitContains(null, fromString(absent.toString())).remain()) {
+                errorCount++;
+            }
+        }
+        assertThat((double) errorCount / num).isLessThan(0.01);
+    }
+
+    @Test
+    public void testUnsupportedType() {
+        assertThatThrownBy(() -> new NgramFileIndex(DataTypes.INT(), new Options()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static FileIndexReader createReader(String... values) {
+        NgramFileIndex index =
+                new NgramFileIndex(
+                        DataTypes.STRING(),
+                        new Options(
+                                new HashMap<String, String>() {
+                                    {
+                                        put("size", "3");
+                                        put("items", "100000");
+                                        put("fpp", "0.01");
+                                    }
+                                }));
+        FileIndexWriter writer = index.createWriter();
+        for (String value : values) {
+            writer.write(fromString(value));
+        }
+        byte[] serializedBytes = writer.serializedBytes();
+        return index.createReader(
+                new ByteArraySeekableStream(serializedBytes), 0, serializedBytes.length);
+    }
+
+    private static BinaryString fromString(String s) {
+        return s == null ? null : BinaryString.fromString(s);
+    }
+}
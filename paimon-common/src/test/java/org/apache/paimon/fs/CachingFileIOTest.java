@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.fs;
+
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.MemorySize;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link CachingFileIO}. */
+public class CachingFileIOTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testReadThroughCache() throws IOException {
+        LocalBlockCache cache =
+                new LocalBlockCache(tempDir.toFile(), MemorySize.ofMebiBytes(1), 100);
+        FileIO fileIO = newCachingFileIO(cache);
+
+        Path path = new Path(tempDir.toString(), "bucket-0/data-1.orc");
+        byte[] data = writeRandomFile(fileIO, path, 1050);
+
+        assertThat(readFully(fileIO, path, data.length)).isEqualTo(data);
+        assertThat(cache.missCount()).isEqualTo(11);
+        assertThat(cache.hitCount()).isEqualTo(0);
+        assertThat(cache.cachedBlocks()).isEqualTo(11);
+
+        // read again from cache, remote file is not needed anymore
+        LocalFileIO.create().delete(path, false);
+        assertThat(readFully(fileIO, path, data.length)).isEqualTo(data);
+        assertThat(cache.hitCount()).isEqualTo(11);
+
+        // random seeks across blocks
+        try (SeekableInputStream in = fileIO.newInputStream(path)) {
+            for (int i = 0; i < 100; i++) {
+                int pos = ThreadLocalRandom.current().nextInt(data.length);
+                int len = ThreadLocalRandom.current().nextInt(data.length - pos) + 1;
+                in.seek(pos);
+                byte[] bytes = new byte[len];
+                readFully(in, bytes);
+                assertThat(bytes).isEqualTo(Arrays.copyOfRange(data, pos, pos + len));
+                assertThat(in.getPos()).isEqualTo(pos + len);
+            }
+            in.seek(data.length);
+            assertThat(in.read()).isEqualTo(-1);
+        }
+    }
+
+    @Test
+    public void testEviction() throws IOException {
+        LocalBlockCache cache =
+                new LocalBlockCache(tempDir.toFile(), MemorySize.parse("500 b"), 100);
+        FileIO fileIO = newCachingFileIO(cache);
+
+        Path path = new Path(tempDir.toString(), "bucket-0/data-1.orc");
+        byte[] data = writeRandomFile(fileIO, path, 2000);
+
+        assertThat(readFully(fileIO, path, data.length)).isEqualTo(data);
+        assertThat(cache.cachedBlocks()).isLessThanOrEqualTo(5);
+        assertThat(tempDir.toFile().list((dir, name) -> !name.startsWith("bucket-")))
+                .hasSizeLessThanOrEqualTo(5);
+    }
+
+    @Test
+    public void testOnlyCacheBucketFiles() throws IOException {
+        LocalBlockCache cache =
+                new LocalBlockCache(tempDir.toFile(), MemorySize.ofMebiBytes(1), 100);
+        FileIO fileIO = newCachingFileIO(cache);
+
+        Path path = new Path(tempDir.toString(), "snapshot/LATEST");
+        byte[] data = writeRandomFile(fileIO, path, 500);
+
+        assertThat(readFully(fileIO, path, data.length)).isEqualTo(data);
+        assertThat(cache.missCount()).isEqualTo(0);
+        assertThat(cache.cachedBlocks()).isEqualTo(0);
+    }
+
+    @Test
+    public void testGetOrCreateWithConflictingSize() {
+        String directory = tempDir.resolve("shared").toString();
+        LocalBlockCache cache =
+                LocalBlockCache.getOrCreate(directory, MemorySize.ofMebiBytes(1), 100);
+        assertThat(LocalBlockCache.getOrCreate(directory, MemorySize.ofMebiBytes(1), 100))
+                .isSameAs(cache);
+        assertThatThrownBy(
+                        () ->
+                                LocalBlockCache.getOrCreate(
+                                        directory, MemorySize.ofMebiBytes(2), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("conflicts with");
+        assertThatThrownBy(
+                        () ->
+                                LocalBlockCache.getOrCreate(
+                                        directory, MemorySize.ofMebiBytes(1), 200))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("conflicts with");
+    }
+
+    private FileIO newCachingFileIO(LocalBlockCache cache) {
+        return new CachingFileIO(LocalFileIO.create(), tempDir.toString(), 0, 0) {
+            @Override
+            LocalBlockCache cache() {
+                return cache;
+            }
+        };
+    }
+
+    private static byte[] writeRandomFile(FileIO fileIO, Path path, int length)
+            throws IOException {
+        byte[] data = new byte[length];
+        ThreadLocalRandom.current().nextBytes(data);
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            out.write(data);
+        }
+        return data;
+    }
+
+    private static byte[] readFully(FileIO fileIO, Path path, int length) throws IOException {
+        try (SeekableInputStream in = fileIO.newInputStream(path)) {
+            byte[] bytes = new byte[length];
+            readFully(in, bytes);
+            assertThat(in.read()).isEqualTo(-1);
+            return bytes;
+        }
+    }
+
+    private static void readFully(SeekableInputStream in, byte[] bytes) throws IOException {
+        int off = 0;
+        while (off < bytes.length) {
+            int n = in.read(bytes, off, bytes.length - off);
+            assertThat(n).isGreaterThan(0);
+            off += n;
+        }
+    }
+}
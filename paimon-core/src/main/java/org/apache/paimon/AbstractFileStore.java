@@ -33,15 +33,18 @@ import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.manifest.IndexManifestFile;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.metastore.AddPartitionCommitCallback;
 import org.apache.paimon.metastore.AddPartitionTagCallback;
 import org.apache.paimon.metastore.TagPreviewCommitCallback;
 import org.apache.paimon.operation.ChangelogDeletion;
+import org.apache.paimon.operation.ExternalFileIndexFilter;
 import org.apache.paimon.operation.FileStoreCommitImpl;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.operation.Lock;
 import org.apache.paimon.operation.ManifestsReader;
 import org.apache.paimon.operation.PartitionExpire;
+import org.apache.paimon.operation.PlanCache;
 import org.apache.paimon.operation.SnapshotDeletion;
 import org.apache.paimon.operation.TagDeletion;
 import org.apache.paimon.options.MemorySize;
@@ -100,6 +103,8 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
     @Nullable private final SegmentsCache<Path> writeManifestCache;
     @Nullable private SegmentsCache<Path> readManifestCache;
     @Nullable private Cache<Path, Snapshot> snapshotCache;
+    @Nullable private PlanCache planCache;
+    @Nullable private ExternalFileIndexFilter externalFileIndexFilter;
 
     protected AbstractFileStore(
             FileIO fileIO,
@@ -245,7 +250,11 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                         bucketMode() == BucketMode.BUCKET_UNAWARE
                                 ? options.deletionVectorIndexFileTargetSize()
                                 : MemorySize.ofBytes(Long.MAX_VALUE),
-                        options.deletionVectorBitmap64()));
+                        options.deletionVectorBitmap64(),
+                        bucketMode() != BucketMode.BUCKET_UNAWARE
+                                        && options.deletionVectorsIncrementalWrite()
+                                ? options.deletionVectorsIncrementalMaxIndexFiles()
+                                : 0));
     }
 
     @Override
@@ -256,12 +265,60 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 new StatsFile(fileIO, pathFactory().statsFileFactory()));
     }
 
+    /** Returns the {@link PlanCache} shared by read scans, or null if it is disabled. */
+    @Nullable
+    protected synchronized PlanCache planCache() {
+        if (!options.scanPlanCacheEnabled()) {
+            return null;
+        }
+
+        if (planCache == null) {
+            planCache =
+                    new PlanCache(
+                            snapshotManager(),
+                            manifestListFactory(),
+                            manifestFileFactory(),
+                            options.scanManifestParallelism(),
+                            options.scanPlanCacheMaxDeltaSnapshots());
+        }
+        return planCache;
+    }
+
+    /**
+     * Returns the {@link ExternalFileIndexFilter} shared by read scans, or null if file index files
+     * should not be read while planning.
+     */
+    @Nullable
+    protected synchronized ExternalFileIndexFilter externalFileIndexFilter() {
+        if (!options.fileIndexReadEnabled() || !options.fileIndexReadExternalInPlan()) {
+            return null;
+        }
+
+        if (externalFileIndexFilter == null) {
+            externalFileIndexFilter =
+                    new ExternalFileIndexFilter(
+                            fileIO, pathFactory(), options.fileIndexReadExternalCacheSize());
+        }
+        return externalFileIndexFilter;
+    }
+
     protected ManifestsReader newManifestsReader(boolean forWrite) {
         return new ManifestsReader(
                 partitionType,
                 options.partitionDefaultName(),
                 snapshotManager(),
-                manifestListFactory(forWrite));
+                manifestListFactory(forWrite),
+                partitionIndexFileFactory());
+    }
+
+    @Override
+    public PartitionIndexFile.Factory partitionIndexFileFactory() {
+        return new PartitionIndexFile.Factory(
+                fileIO,
+                FileFormat.manifestFormat(options),
+                options.manifestCompression(),
+                pathFactory(),
+                readManifestCache);
     }
 
     @Override
@@ -308,13 +365,16 @@ abstract class AbstractFileStore<T> implements FileStore<T> {
                 manifestFileFactory(),
                 manifestListFactory(),
                 indexManifestFileFactory(),
+                partitionType.getFieldCount() > 0 && options.manifestPartitionIndexEnabled()
+                        ? partitionIndexFileFactory()
+                        : null,
                 newScan(ScanType.FOR_COMMIT),
                 options.bucket(),
                 options.manifestTargetSize(),
                 options.manifestFullCompactionThresholdSize(),
                 options.manifestMergeMinCount(),
                 partitionType.getFieldCount() > 0 && options.dynamicPartitionOverwrite(),
-                newKeyComparator(),
+                schema.primaryKeys().isEmpty() ? null : this::newKeyComparator,
                 options.branch(),
                 newStatsFileHandler(),
                 bucketMode(),
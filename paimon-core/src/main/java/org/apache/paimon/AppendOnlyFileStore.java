@@ -157,15 +157,22 @@ public class AppendOnlyFileStore extends AbstractFileStore<InternalRow> {
                     return Optional.empty();
                 };
 
-        return new AppendOnlyFileStoreScan(
-                newManifestsReader(scanType == ScanType.FOR_WRITE),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                manifestFileFactory(scanType == ScanType.FOR_WRITE),
-                options.scanManifestParallelism(),
-                options.fileIndexReadEnabled());
+        AppendOnlyFileStoreScan scan =
+                new AppendOnlyFileStoreScan(
+                        newManifestsReader(scanType == ScanType.FOR_WRITE),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        manifestFileFactory(scanType == ScanType.FOR_WRITE),
+                        options.scanManifestParallelism(),
+                        options.fileIndexReadEnabled());
+        scan.withSinglePassMerge(options.scanManifestSinglePass());
+        if (scanType == ScanType.FOR_READ) {
+            scan.withPlanCache(planCache());
+            scan.withExternalFileIndexFilter(externalFileIndexFilter());
+        }
+        return scan;
     }
 
     @Override
@@ -24,6 +24,7 @@ import org.apache.paimon.manifest.IndexManifestFile;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.operation.ChangelogDeletion;
 import org.apache.paimon.operation.FileStoreCommit;
 import org.apache.paimon.operation.FileStoreScan;
@@ -80,6 +81,8 @@ public interface FileStore<T> {
 
     IndexManifestFile.Factory indexManifestFileFactory();
 
+    PartitionIndexFile.Factory partitionIndexFileFactory();
+
     IndexFileHandler newIndexFileHandler();
 
     StatsFileHandler newStatsFileHandler();
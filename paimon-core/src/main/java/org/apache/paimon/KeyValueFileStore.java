@@ -237,19 +237,26 @@ public class KeyValueFileStore extends AbstractFileStore<KeyValue> {
                     return Optional.empty();
                 };
 
-        return new KeyValueFileStoreScan(
-                newManifestsReader(scanType == ScanType.FOR_WRITE),
-                bucketSelectConverter,
-                snapshotManager(),
-                schemaManager,
-                schema,
-                keyValueFieldsExtractor,
-                manifestFileFactory(scanType == ScanType.FOR_WRITE),
-                options.scanManifestParallelism(),
-                options.deletionVectorsEnabled(),
-                options.mergeEngine(),
-                options.changelogProducer(),
-                options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        KeyValueFileStoreScan scan =
+                new KeyValueFileStoreScan(
+                        newManifestsReader(scanType == ScanType.FOR_WRITE),
+                        bucketSelectConverter,
+                        snapshotManager(),
+                        schemaManager,
+                        schema,
+                        keyValueFieldsExtractor,
+                        manifestFileFactory(scanType == ScanType.FOR_WRITE),
+                        options.scanManifestParallelism(),
+                        options.deletionVectorsEnabled(),
+                        options.mergeEngine(),
+                        options.changelogProducer(),
+                        options.fileIndexReadEnabled() && options.deletionVectorsEnabled());
+        scan.withSinglePassMerge(options.scanManifestSinglePass());
+        if (scanType == ScanType.FOR_READ) {
+            scan.withPlanCache(planCache());
+            scan.withExternalFileIndexFilter(externalFileIndexFilter());
+        }
+        return scan;
     }
 
     @Override
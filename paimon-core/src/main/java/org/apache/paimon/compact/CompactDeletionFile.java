@@ -21,16 +21,17 @@ package org.apache.paimon.compact;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.io.IndexIncrement;
 
-import javax.annotation.Nullable;
-
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /** Deletion File from compaction. */
 public interface CompactDeletionFile {
 
-    Optional<IndexFileMeta> getOrCompute();
+    IndexIncrement getOrCompute();
 
     CompactDeletionFile mergeOldFile(CompactDeletionFile old);
 
@@ -42,14 +43,13 @@ public interface CompactDeletionFile {
      * them).
      */
     static CompactDeletionFile generateFiles(DeletionVectorsMaintainer maintainer) {
-        List<IndexFileMeta> files = maintainer.writeDeletionVectorsIndex();
-        if (files.size() > 1) {
+        IndexIncrement increment = maintainer.writeDeletionVectorsIndexIncrement();
+        if (increment.newIndexFiles().size() > 1) {
             throw new IllegalStateException(
                     "Should only generate one compact deletion file, this is a bug.");
         }
 
-        return new GeneratedDeletionFile(
-                files.isEmpty() ? null : files.get(0), maintainer.indexFileHandler());
+        return new GeneratedDeletionFile(increment, maintainer.indexFileHandler());
     }
 
     /** For sync compaction, only create deletion files when prepareCommit. */
@@ -60,21 +60,20 @@ public interface CompactDeletionFile {
     /** A generated files implementation of {@link CompactDeletionFile}. */
     class GeneratedDeletionFile implements CompactDeletionFile {
 
-        @Nullable private final IndexFileMeta deletionFile;
+        private final IndexIncrement increment;
         private final IndexFileHandler fileHandler;
 
         private boolean getInvoked = false;
 
-        public GeneratedDeletionFile(
-                @Nullable IndexFileMeta deletionFile, IndexFileHandler fileHandler) {
-            this.deletionFile = deletionFile;
+        public GeneratedDeletionFile(IndexIncrement increment, IndexFileHandler fileHandler) {
+            this.increment = increment;
             this.fileHandler = fileHandler;
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public IndexIncrement getOrCompute() {
             this.getInvoked = true;
-            return Optional.ofNullable(deletionFile);
+            return increment;
         }
 
         @Override
@@ -88,19 +87,45 @@ public interface CompactDeletionFile {
                 throw new IllegalStateException("old should not be get, this is a bug.");
             }
 
-            if (deletionFile == null) {
+            if (increment.isEmpty()) {
                 return old;
             }
 
-            old.clean();
-            return this;
+            if (!fileHandler.deletionVectorsIndex().incrementalWrite()) {
+                old.clean();
+                return this;
+            }
+
+            // new files of the old one which have been rewritten by this one are never committed
+            IndexIncrement oldIncrement = ((GeneratedDeletionFile) old).increment;
+            Set<String> rewritten = fileNames(increment.deletedIndexFiles());
+            List<IndexFileMeta> newFiles = new ArrayList<>(increment.newIndexFiles());
+            for (IndexFileMeta file : oldIncrement.newIndexFiles()) {
+                if (rewritten.contains(file.fileName())) {
+                    fileHandler.deleteIndexFile(file);
+                } else {
+                    newFiles.add(file);
+                }
+            }
+
+            Set<String> oldNewFiles = fileNames(oldIncrement.newIndexFiles());
+            List<IndexFileMeta> deletedFiles = new ArrayList<>(oldIncrement.deletedIndexFiles());
+            for (IndexFileMeta file : increment.deletedIndexFiles()) {
+                if (!oldNewFiles.contains(file.fileName())) {
+                    deletedFiles.add(file);
+                }
+            }
+            return new GeneratedDeletionFile(
+                    new IndexIncrement(newFiles, deletedFiles), fileHandler);
         }
 
         @Override
         public void clean() {
-            if (deletionFile != null) {
-                fileHandler.deleteIndexFile(deletionFile);
-            }
+            increment.newIndexFiles().forEach(fileHandler::deleteIndexFile);
+        }
+
+        private static Set<String> fileNames(List<IndexFileMeta> files) {
+            return files.stream().map(IndexFileMeta::fileName).collect(Collectors.toSet());
         }
     }
 
@@ -116,7 +141,7 @@ public interface CompactDeletionFile {
         }
 
         @Override
-        public Optional<IndexFileMeta> getOrCompute() {
+        public IndexIncrement getOrCompute() {
             generated = true;
             return generateFiles(maintainer).getOrCompute();
         }
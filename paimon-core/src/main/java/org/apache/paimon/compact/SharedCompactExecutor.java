@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A JVM-wide compaction executor shared by all writers of all tables. Queued tasks are ordered by
+ * their priority (see {@link #prioritized}), so that buckets which are close to stopping writes
+ * are compacted before others, and the number of concurrent compactions is capped by the thread
+ * number of this executor.
+ *
+ * <p>The shared executor is never shut down by writers, its threads are daemon threads and will
+ * be terminated after being idle for a while.
+ */
+public class SharedCompactExecutor extends ThreadPoolExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 60;
+
+    private static SharedCompactExecutor instance;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @VisibleForTesting
+    SharedCompactExecutor(int threads) {
+        super(
+                threads,
+                threads,
+                KEEP_ALIVE_SECONDS,
+                TimeUnit.SECONDS,
+                new PriorityBlockingQueue<>(),
+                new ExecutorThreadFactory("paimon-shared-compaction"));
+        allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the shared executor of this JVM. The executor will be created with {@code threads}
+     * threads on first access, and enlarged if a later caller requires more threads.
+     */
+    public static synchronized SharedCompactExecutor getInstance(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                    "Thread number of shared compaction executor should be positive, but is "
+                            + threads);
+        }
+        if (instance == null) {
+            instance = new SharedCompactExecutor(threads);
+        } else if (instance.getMaximumPoolSize() < threads) {
+            instance.setMaximumPoolSize(threads);
+            instance.setCorePoolSize(threads);
+        }
+        return instance;
+    }
+
+    /** Number of tasks waiting in the queue, running tasks are excluded. */
+    public int queueDepth() {
+        return getQueue().size();
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Callable<T> callable) {
+        double priority =
+                callable instanceof PrioritizedCallable
+                        ? ((PrioritizedCallable<T>) callable).priority
+                        : 0;
+        return new PrioritizedFutureTask<>(callable, priority, sequence.getAndIncrement());
+    }
+
+    @Override
+    protected <T> RunnableFuture<T> newTaskFor(Runnable runnable, T value) {
+        return new PrioritizedFutureTask<>(
+                new RunnableCallable<>(runnable, value), 0, sequence.getAndIncrement());
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        if (!(command instanceof PrioritizedFutureTask)) {
+            command = newTaskFor(command, null);
+        }
+        super.execute(command);
+    }
+
+    /**
+     * Attaches a priority to a compaction task. Larger priority means more urgent. If the task is
+     * submitted to a {@link SharedCompactExecutor} it is scheduled before queued tasks of lower
+     * priority, otherwise the priority is simply ignored.
+     */
+    public static <T> Callable<T> prioritized(Callable<T> task, double priority) {
+        return new PrioritizedCallable<>(task, priority);
+    }
+
+    private static class PrioritizedCallable<T> implements Callable<T> {
+
+        private final Callable<T> task;
+        private final double priority;
+
+        private PrioritizedCallable(Callable<T> task, double priority) {
+            this.task = task;
+            this.priority = priority;
+        }
+
+        @Override
+        public T call() throws Exception {
+            return task.call();
+        }
+    }
+
+    private static class RunnableCallable<T> implements Callable<T> {
+
+        private final Runnable runnable;
+        private final T value;
+
+        private RunnableCallable(Runnable runnable, T value) {
+            this.runnable = runnable;
+            this.value = value;
+        }
+
+        @Override
+        public T call() {
+            runnable.run();
+            return value;
+        }
+    }
+
+    private static class PrioritizedFutureTask<T> extends FutureTask<T>
+            implements Comparable<PrioritizedFutureTask<?>> {
+
+        private final double priority;
+        private final long sequence;
+
+        private PrioritizedFutureTask(Callable<T> callable, double priority, long sequence) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(PrioritizedFutureTask<?> other) {
+            int result = Double.compare(other.priority, priority);
+            return result != 0 ? result : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -23,26 +23,38 @@ import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.JoinedRow;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.compact.ConcatRecordReader;
+import org.apache.paimon.reader.ReaderSupplier;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.source.DataSplit;
 import org.apache.paimon.table.source.DataTableScan;
+import org.apache.paimon.table.source.DeletionFile;
 import org.apache.paimon.table.source.ReadBuilder;
 import org.apache.paimon.table.source.Split;
 import org.apache.paimon.types.DataField;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FunctionWithIOException;
 import org.apache.paimon.utils.RowDataToObjectArrayConverter;
 import org.apache.paimon.utils.TypeUtils;
 
+import javax.annotation.Nullable;
+
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.Serializable;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -110,19 +122,197 @@ public class IndexBootstrap implements Serializable {
                                 TypeUtils.project(rowType, table.partitionKeys()),
                                 RowType.of(DataTypes.INT())));
 
-        return parallelExecute(
-                TypeUtils.project(rowType, keyProjection),
-                s -> readBuilder.newRead().createReader(s),
-                splits,
-                options.pageSize(),
-                options.crossPartitionUpsertBootstrapParallelism(),
-                split -> {
-                    DataSplit dataSplit = ((DataSplit) split);
-                    int bucket = dataSplit.bucket();
-                    return partBucketConverter.toGenericRow(
-                            new JoinedRow(dataSplit.partition(), GenericRow.of(bucket)));
-                },
-                (row, extra) -> new JoinedRow().replace(row, extra));
+        RowType keyType = TypeUtils.project(rowType, keyProjection);
+        FunctionWithIOException<Split, RecordReader<InternalRow>> splitReader =
+                s -> readBuilder.newRead().createReader(s);
+        PersistedKeys persistedKeys = null;
+        if (options.crossPartitionUpsertPersistIndex()) {
+            persistedKeys =
+                    new PersistedKeys(
+                            new PersistedKeyIndex(table.fileIO(), table.location(), keyType),
+                            numAssigners,
+                            assignId,
+                            options.deletionVectorsEnabled(),
+                            splits,
+                            splitReader);
+            splitReader = persistedKeys::createReader;
+        }
+
+        RecordReader<InternalRow> reader =
+                parallelExecute(
+                        keyType,
+                        splitReader,
+                        splits,
+                        options.pageSize(),
+                        options.crossPartitionUpsertBootstrapParallelism(),
+                        split -> {
+                            DataSplit dataSplit = ((DataSplit) split);
+                            int bucket = dataSplit.bucket();
+                            return partBucketConverter.toGenericRow(
+                                    new JoinedRow(dataSplit.partition(), GenericRow.of(bucket)));
+                        },
+                        (row, extra) -> new JoinedRow().replace(row, extra));
+        return persistedKeys == null ? reader : persistedKeys.commitOnClose(reader);
+    }
+
+    /** Data files and deletion files of a split, the keys of the split change with them. */
+    private static List<String> splitFiles(DataSplit split) {
+        List<DataFileMeta> dataFiles = split.dataFiles();
+        List<DeletionFile> deletionFiles = split.deletionFiles().orElse(null);
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < dataFiles.size(); i++) {
+            String file = dataFiles.get(i).fileName();
+            DeletionFile deletionFile = deletionFiles == null ? null : deletionFiles.get(i);
+            if (deletionFile != null) {
+                file += "#" + new Path(deletionFile.path()).getName() + ":" + deletionFile.offset();
+            }
+            files.add(file);
+        }
+        Collections.sort(files);
+        return files;
+    }
+
+    /**
+     * Keys of splits from a {@link PersistedKeyIndex}. The data files of a split are divided into
+     * groups, see {@link PersistedKeyIndex}, groups which have changed are read from the table.
+     */
+    private static class PersistedKeys {
+
+        private final PersistedKeyIndex keyIndex;
+        private final int numAssigners;
+        private final int assignId;
+        private final boolean perFile;
+        private final FunctionWithIOException<Split, RecordReader<InternalRow>> tableReader;
+        private final Map<List<String>, PersistedKeyIndex.Entry> previous;
+        private final List<List<String>> groups = new ArrayList<>();
+        private final Map<List<String>, PersistedKeyIndex.Entry> current =
+                new ConcurrentHashMap<>();
+
+        private boolean finished = false;
+
+        private PersistedKeys(
+                PersistedKeyIndex keyIndex,
+                int numAssigners,
+                int assignId,
+                boolean perFile,
+                List<Split> splits,
+                FunctionWithIOException<Split, RecordReader<InternalRow>> tableReader)
+                throws IOException {
+            this.keyIndex = keyIndex;
+            this.numAssigners = numAssigners;
+            this.assignId = assignId;
+            this.perFile = perFile;
+            this.tableReader = tableReader;
+            this.previous = keyIndex.load(numAssigners, assignId);
+            for (Split split : splits) {
+                for (DataSplit group : groups((DataSplit) split)) {
+                    groups.add(splitFiles(group));
+                }
+            }
+        }
+
+        private RecordReader<InternalRow> createReader(Split split) throws IOException {
+            List<ReaderSupplier<InternalRow>> readers = new ArrayList<>();
+            for (DataSplit group : groups((DataSplit) split)) {
+                readers.add(() -> createGroupReader(group));
+            }
+            return ConcatRecordReader.create(readers);
+        }
+
+        private RecordReader<InternalRow> createGroupReader(DataSplit group) throws IOException {
+            List<String> files = splitFiles(group);
+            PersistedKeyIndex.Entry entry = previous.get(files);
+            if (entry != null) {
+                try {
+                    RecordReader<InternalRow> reader = keyIndex.readKeys(entry);
+                    current.put(files, entry);
+                    return reader;
+                } catch (FileNotFoundException e) {
+                    // the key file has been removed, read the keys from the table again
+                }
+            }
+            return keyIndex.writeKeys(
+                    group.partition(),
+                    group.bucket(),
+                    files,
+                    tableReader.apply(group),
+                    written -> current.put(files, written));
+        }
+
+        /** Files of deletion vectors tables are read independently, each is a group. */
+        private List<DataSplit> groups(DataSplit split) {
+            if (!perFile || split.dataFiles().size() == 1) {
+                return Collections.singletonList(split);
+            }
+
+            List<DeletionFile> deletionFiles = split.deletionFiles().orElse(null);
+            List<DataSplit> groups = new ArrayList<>();
+            for (int i = 0; i < split.dataFiles().size(); i++) {
+                DataSplit.Builder builder =
+                        DataSplit.builder()
+                                .withSnapshot(split.snapshotId())
+                                .withPartition(split.partition())
+                                .withBucket(split.bucket())
+                                .withBucketPath(split.bucketPath())
+                                .withTotalBuckets(split.totalBuckets())
+                                .withDataFiles(
+                                        Collections.singletonList(split.dataFiles().get(i)))
+                                .isStreaming(false)
+                                .rawConvertible(split.rawConvertible());
+                if (deletionFiles != null) {
+                    builder.withDataDeletionFiles(
+                            Collections.singletonList(deletionFiles.get(i)));
+                }
+                groups.add(builder.build());
+            }
+            return groups;
+        }
+
+        /**
+         * Commits the entries once all keys have been read, otherwise removes the key files written
+         * by this bootstrap.
+         */
+        private RecordReader<InternalRow> commitOnClose(RecordReader<InternalRow> reader) {
+            return new RecordReader<InternalRow>() {
+                @Nullable
+                @Override
+                public RecordIterator<InternalRow> readBatch() throws IOException {
+                    return reader.readBatch();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        reader.close();
+                    } finally {
+                        finish();
+                    }
+                }
+            };
+        }
+
+        private void finish() throws IOException {
+            if (finished) {
+                return;
+            }
+            finished = true;
+
+            if (current.keySet().containsAll(groups)) {
+                List<PersistedKeyIndex.Entry> entries = new ArrayList<>();
+                for (List<String> group : groups) {
+                    entries.add(current.get(group));
+                }
+                keyIndex.commit(numAssigners, assignId, entries, previous.values());
+            } else {
+                Set<String> previousKeyFiles = new HashSet<>();
+                previous.values().forEach(e -> previousKeyFiles.add(e.keyFile()));
+                for (PersistedKeyIndex.Entry entry : current.values()) {
+                    if (!previousKeyFiles.contains(entry.keyFile())) {
+                        keyIndex.deleteKeys(entry);
+                    }
+                }
+            }
+        }
     }
 
     @VisibleForTesting
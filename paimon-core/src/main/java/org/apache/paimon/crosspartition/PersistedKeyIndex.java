@@ -0,0 +1,479 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.crosspartition;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.InternalRowSerializer;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.io.DataInputViewStreamWrapper;
+import org.apache.paimon.io.DataOutputViewStreamWrapper;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.IOUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
+import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+
+/**
+ * Persisted keys of a cross partition upsert table, so that bootstrapping the key index does not
+ * need to scan the whole table on every restart.
+ *
+ * <p>Keys are stored in key files under {@code <table>/key-index/keys}, each of them holds the
+ * keys of a group of data files: a single data file with its deletion vector for deletion vectors
+ * tables, whose files are read independently, or all data files of a split otherwise, because
+ * their keys are only known after merging. Entries are identified by their data files. Each
+ * bootstrap task records the key files it bootstraps from in a meta file {@code
+ * <table>/key-index/meta/meta-<numAssigners>-<assignId>}.
+ *
+ * <p>On bootstrap, groups whose data files have not changed reuse their key files. Only changed
+ * groups are read from the table, and their keys are written into new key files while they are
+ * bootstrapped, so the keys are never read back in the same bootstrap. With deletion vectors, a
+ * commit only causes its new files and the files it deletes rows from to be read again.
+ */
+public class PersistedKeyIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PersistedKeyIndex.class);
+
+    public static final String KEY_INDEX_DIR = "key-index";
+
+    private static final String META_PREFIX = "meta-";
+    private static final String KEY_FILE_PREFIX = "keys-";
+
+    private final FileIO fileIO;
+    private final Path metaDir;
+    private final Path keysDir;
+    private final InternalRowSerializer keySerializer;
+
+    public PersistedKeyIndex(FileIO fileIO, Path tablePath, RowType keyType) {
+        this.fileIO = fileIO;
+        Path indexDir = new Path(tablePath, KEY_INDEX_DIR);
+        this.metaDir = new Path(indexDir, "meta");
+        this.keysDir = new Path(indexDir, "keys");
+        this.keySerializer = new InternalRowSerializer(keyType);
+    }
+
+    /**
+     * Loads the persisted entries of buckets belonging to the given bootstrap task, keyed by their
+     * {@link Entry#dataFiles()}. If the index was persisted with another number of tasks, the
+     * entries of all tasks are read and filtered.
+     */
+    public Map<List<String>, Entry> load(int numAssigners, int assignId) throws IOException {
+        Map<List<String>, Entry> result = new HashMap<>();
+        if (!fileIO.exists(metaDir)) {
+            return result;
+        }
+
+        // numAssigners -> assignId -> meta file
+        Map<Integer, Map<Integer, FileStatus>> metas = new HashMap<>();
+        for (FileStatus status : fileIO.listStatus(metaDir)) {
+            int[] ids = parseMetaName(status.getPath().getName());
+            if (ids != null) {
+                metas.computeIfAbsent(ids[0], k -> new HashMap<>()).put(ids[1], status);
+            }
+        }
+
+        List<FileStatus> toRead = new ArrayList<>();
+        if (isComplete(metas, numAssigners)) {
+            toRead.add(metas.get(numAssigners).get(assignId));
+        } else {
+            // rescaled, use the latest complete meta files of another parallelism
+            long latestTime = -1;
+            for (Map.Entry<Integer, Map<Integer, FileStatus>> entry : metas.entrySet()) {
+                if (!isComplete(metas, entry.getKey())) {
+                    continue;
+                }
+                long time =
+                        entry.getValue().values().stream()
+                                .mapToLong(FileStatus::getModificationTime)
+                                .max()
+                                .orElse(-1);
+                if (time > latestTime) {
+                    latestTime = time;
+                    toRead = new ArrayList<>(entry.getValue().values());
+                }
+            }
+        }
+
+        for (FileStatus status : toRead) {
+            for (Entry entry : readMeta(status.getPath())) {
+                if (entry.bucket % numAssigners == assignId) {
+                    result.put(entry.dataFiles, entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates a reader which returns the given keys and writes them into a new key file at the same
+     * time. Once all keys have been read, the entry of the key file is passed to the callback. If
+     * the reader is closed before, the key file is removed.
+     */
+    public RecordReader<InternalRow> writeKeys(
+            BinaryRow partition,
+            int bucket,
+            List<String> dataFiles,
+            RecordReader<InternalRow> keys,
+            Consumer<Entry> onComplete)
+            throws IOException {
+        return new KeyFileWriter(partition, bucket, dataFiles, keys, onComplete);
+    }
+
+    /**
+     * Creates a reader of the keys of an entry.
+     *
+     * @throws java.io.FileNotFoundException if the key file has been removed
+     */
+    public RecordReader<InternalRow> readKeys(Entry entry) throws IOException {
+        return new KeyFileReader(
+                fileIO.newInputStream(new Path(keysDir, entry.keyFile)), entry.rowCount);
+    }
+
+    /** Removes the key file of an entry which has not been committed. */
+    public void deleteKeys(Entry entry) {
+        fileIO.deleteQuietly(new Path(keysDir, entry.keyFile));
+    }
+
+    /**
+     * Records the entries of a bootstrap task, and removes key files of its previous entries which
+     * are not used anymore, including entries replaced because the files of their split changed.
+     */
+    public void commit(
+            int numAssigners,
+            int assignId,
+            List<Entry> entries,
+            Collection<Entry> previousEntries)
+            throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (Entry entry : entries) {
+            content.append(entry.toLine()).append('\n');
+        }
+        fileIO.overwriteFileUtf8(
+                new Path(metaDir, META_PREFIX + numAssigners + "-" + assignId),
+                content.toString());
+
+        // buckets are owned by this task now, nobody else reads their previous key files
+        Set<String> used = new HashSet<>();
+        entries.forEach(e -> used.add(e.keyFile));
+        for (Entry entry : previousEntries) {
+            if (!used.contains(entry.keyFile)) {
+                fileIO.deleteQuietly(new Path(keysDir, entry.keyFile));
+            }
+        }
+
+        // meta files of an old parallelism are useless once all tasks have committed
+        Map<Integer, Map<Integer, FileStatus>> metas = new HashMap<>();
+        for (FileStatus status : fileIO.listStatus(metaDir)) {
+            int[] ids = parseMetaName(status.getPath().getName());
+            if (ids != null) {
+                metas.computeIfAbsent(ids[0], k -> new HashMap<>()).put(ids[1], status);
+            }
+        }
+        if (isComplete(metas, numAssigners)) {
+            for (Map.Entry<Integer, Map<Integer, FileStatus>> entry : metas.entrySet()) {
+                if (entry.getKey() != numAssigners) {
+                    entry.getValue().values().forEach(s -> fileIO.deleteQuietly(s.getPath()));
+                }
+            }
+        }
+    }
+
+    private List<Entry> readMeta(Path path) throws IOException {
+        List<Entry> entries = new ArrayList<>();
+        for (String line : fileIO.readFileUtf8(path).split("\n")) {
+            if (!line.isEmpty()) {
+                entries.add(Entry.fromLine(line));
+            }
+        }
+        return entries;
+    }
+
+    private static boolean isComplete(
+            Map<Integer, Map<Integer, FileStatus>> metas, int numAssigners) {
+        Map<Integer, FileStatus> tasks = metas.get(numAssigners);
+        if (tasks == null) {
+            return false;
+        }
+        for (int i = 0; i < numAssigners; i++) {
+            if (!tasks.containsKey(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Nullable
+    private static int[] parseMetaName(String name) {
+        if (!name.startsWith(META_PREFIX)) {
+            return null;
+        }
+        String[] split = name.substring(META_PREFIX.length()).split("-");
+        if (split.length != 2) {
+            return null;
+        }
+        try {
+            return new int[] {Integer.parseInt(split[0]), Integer.parseInt(split[1])};
+        } catch (NumberFormatException e) {
+            LOG.warn("Ignore unknown key index meta file {}.", name);
+            return null;
+        }
+    }
+
+    /** Persisted keys of a group of data files of a partition and bucket. */
+    public static class Entry {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final List<String> dataFiles;
+        private final String keyFile;
+        private final long rowCount;
+
+        public Entry(
+                BinaryRow partition,
+                int bucket,
+                List<String> dataFiles,
+                String keyFile,
+                long rowCount) {
+            this.partition = partition;
+            this.bucket = bucket;
+            this.dataFiles = dataFiles;
+            this.keyFile = keyFile;
+            this.rowCount = rowCount;
+        }
+
+        public BinaryRow partition() {
+            return partition;
+        }
+
+        public int bucket() {
+            return bucket;
+        }
+
+        /** Sorted names of the data files which the keys are read from. */
+        public List<String> dataFiles() {
+            return dataFiles;
+        }
+
+        public String keyFile() {
+            return keyFile;
+        }
+
+        public long rowCount() {
+            return rowCount;
+        }
+
+        private String toLine() {
+            return Base64.getEncoder().encodeToString(serializeBinaryRow(partition))
+                    + '\t'
+                    + bucket
+                    + '\t'
+                    + keyFile
+                    + '\t'
+                    + rowCount
+                    + '\t'
+                    + String.join(",", dataFiles);
+        }
+
+        private static Entry fromLine(String line) {
+            String[] fields = line.split("\t", -1);
+            return new Entry(
+                    deserializeBinaryRow(Base64.getDecoder().decode(fields[0])),
+                    Integer.parseInt(fields[1]),
+                    fields[4].isEmpty()
+                            ? new ArrayList<>()
+                            : new ArrayList<>(Arrays.asList(fields[4].split(","))),
+                    fields[2],
+                    Long.parseLong(fields[3]));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Entry entry = (Entry) o;
+            return bucket == entry.bucket
+                    && rowCount == entry.rowCount
+                    && Objects.equals(partition, entry.partition)
+                    && Objects.equals(dataFiles, entry.dataFiles)
+                    && Objects.equals(keyFile, entry.keyFile);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, bucket, dataFiles, keyFile, rowCount);
+        }
+    }
+
+    /** Reader which writes the keys it returns into a key file. */
+    private class KeyFileWriter implements RecordReader<InternalRow> {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final List<String> dataFiles;
+        private final RecordReader<InternalRow> keys;
+        private final Consumer<Entry> onComplete;
+        private final InternalRowSerializer serializer;
+        private final String keyFile;
+        private final Path path;
+        private final PositionOutputStream out;
+        private final DataOutputViewStreamWrapper view;
+
+        private long rowCount = 0;
+        private boolean completed = false;
+
+        private KeyFileWriter(
+                BinaryRow partition,
+                int bucket,
+                List<String> dataFiles,
+                RecordReader<InternalRow> keys,
+                Consumer<Entry> onComplete)
+                throws IOException {
+            this.partition = partition;
+            this.bucket = bucket;
+            this.dataFiles = dataFiles;
+            this.keys = keys;
+            this.onComplete = onComplete;
+            this.serializer = keySerializer.duplicate();
+            this.keyFile = KEY_FILE_PREFIX + UUID.randomUUID();
+            this.path = new Path(keysDir, keyFile);
+            this.out = fileIO.newOutputStream(path, false);
+            this.view = new DataOutputViewStreamWrapper(out);
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<InternalRow> readBatch() throws IOException {
+            if (completed) {
+                return null;
+            }
+
+            RecordIterator<InternalRow> batch = keys.readBatch();
+            if (batch == null) {
+                out.close();
+                completed = true;
+                onComplete.accept(new Entry(partition, bucket, dataFiles, keyFile, rowCount));
+                return null;
+            }
+
+            return new RecordIterator<InternalRow>() {
+                @Nullable
+                @Override
+                public InternalRow next() throws IOException {
+                    InternalRow key = batch.next();
+                    if (key != null) {
+                        serializer.serialize(key, view);
+                        rowCount++;
+                    }
+                    return key;
+                }
+
+                @Override
+                public void releaseBatch() {
+                    batch.releaseBatch();
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                keys.close();
+            } finally {
+                if (!completed) {
+                    IOUtils.closeQuietly(out);
+                    fileIO.deleteQuietly(path);
+                }
+            }
+        }
+    }
+
+    /** Reader of a key file, all keys are returned in one batch. */
+    private class KeyFileReader implements RecordReader<InternalRow> {
+
+        private final SeekableInputStream in;
+        private final DataInputViewStreamWrapper view;
+        private final long rowCount;
+        private boolean consumed;
+
+        private KeyFileReader(SeekableInputStream in, long rowCount) {
+            this.in = in;
+            this.view = new DataInputViewStreamWrapper(in);
+            this.rowCount = rowCount;
+        }
+
+        @Nullable
+        @Override
+        public RecordIterator<InternalRow> readBatch() {
+            if (consumed) {
+                return null;
+            }
+            consumed = true;
+            return new RecordIterator<InternalRow>() {
+
+                private long read = 0;
+
+                @Nullable
+                @Override
+                public InternalRow next() throws IOException {
+                    if (read >= rowCount) {
+                        return null;
+                    }
+                    read++;
+                    return keySerializer.deserialize(view);
+                }
+
+                @Override
+                public void releaseBatch() {}
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+}
@@ -48,21 +48,44 @@ public class DeletionVectorsIndexFile extends IndexFile {
 
     private final MemorySize targetSizePerIndexFile;
     private final boolean bitmap64;
+    private final int incrementalMaxIndexFiles;
 
     public DeletionVectorsIndexFile(
             FileIO fileIO,
             PathFactory pathFactory,
             MemorySize targetSizePerIndexFile,
             boolean bitmap64) {
+        this(fileIO, pathFactory, targetSizePerIndexFile, bitmap64, 0);
+    }
+
+    /**
+     * @param incrementalMaxIndexFiles the maximum number of index files per bucket when deletion
+     *     vectors are written incrementally, a non-positive value disables incremental write.
+     */
+    public DeletionVectorsIndexFile(
+            FileIO fileIO,
+            PathFactory pathFactory,
+            MemorySize targetSizePerIndexFile,
+            boolean bitmap64,
+            int incrementalMaxIndexFiles) {
         super(fileIO, pathFactory);
         this.targetSizePerIndexFile = targetSizePerIndexFile;
         this.bitmap64 = bitmap64;
+        this.incrementalMaxIndexFiles = incrementalMaxIndexFiles;
     }
 
     public boolean bitmap64() {
         return bitmap64;
     }
 
+    public boolean incrementalWrite() {
+        return incrementalMaxIndexFiles > 0;
+    }
+
+    public int incrementalMaxIndexFiles() {
+        return incrementalMaxIndexFiles;
+    }
+
     /**
      * Reads all deletion vectors from a specified file.
      *
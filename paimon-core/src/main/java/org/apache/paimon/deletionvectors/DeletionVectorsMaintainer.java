@@ -21,17 +21,22 @@ package org.apache.paimon.deletionvectors;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.index.DeletionVectorMeta;
 import org.apache.paimon.index.IndexFileHandler;
 import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.manifest.IndexManifestEntry;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
@@ -42,14 +47,33 @@ public class DeletionVectorsMaintainer {
     private final IndexFileHandler indexFileHandler;
     private final Map<String, DeletionVector> deletionVectors;
     protected final boolean bitmap64;
+    private final boolean incrementalWrite;
+    private final int maxIndexFiles;
+
+    // current index files and the index file of each data file, only used by incremental write
+    private final List<IndexFileMeta> indexFiles;
+    private final Map<String, IndexFileMeta> dataFileToIndexFile;
+    private final Set<String> modifiedDataFiles;
+
     private boolean modified;
 
     private DeletionVectorsMaintainer(
-            IndexFileHandler fileHandler, Map<String, DeletionVector> deletionVectors) {
+            IndexFileHandler fileHandler,
+            Map<String, DeletionVector> deletionVectors,
+            List<IndexFileMeta> indexFiles) {
         this.indexFileHandler = fileHandler;
         this.deletionVectors = deletionVectors;
-        this.bitmap64 = indexFileHandler.deletionVectorsIndex().bitmap64();
+        DeletionVectorsIndexFile deletionVectorsIndex = indexFileHandler.deletionVectorsIndex();
+        this.bitmap64 = deletionVectorsIndex.bitmap64();
+        this.incrementalWrite = deletionVectorsIndex.incrementalWrite();
+        this.maxIndexFiles = deletionVectorsIndex.incrementalMaxIndexFiles();
+        this.indexFiles = new ArrayList<>();
+        this.dataFileToIndexFile = new HashMap<>();
+        this.modifiedDataFiles = new HashSet<>();
         this.modified = false;
+        if (incrementalWrite) {
+            addIndexFiles(indexFiles);
+        }
     }
 
     private DeletionVector createNewDeletionVector() {
@@ -67,7 +91,7 @@ public class DeletionVectorsMaintainer {
         DeletionVector deletionVector =
                 deletionVectors.computeIfAbsent(fileName, k -> createNewDeletionVector());
         if (deletionVector.checkedDelete(position)) {
-            modified = true;
+            markModified(fileName);
         }
     }
 
@@ -79,7 +103,7 @@ public class DeletionVectorsMaintainer {
      */
     public void notifyNewDeletion(String fileName, DeletionVector deletionVector) {
         deletionVectors.put(fileName, deletionVector);
-        modified = true;
+        markModified(fileName);
     }
 
     /**
@@ -95,7 +119,7 @@ public class DeletionVectorsMaintainer {
             deletionVector.merge(old);
         }
         deletionVectors.put(fileName, deletionVector);
-        modified = true;
+        markModified(fileName);
     }
 
     /**
@@ -107,22 +131,104 @@ public class DeletionVectorsMaintainer {
     public void removeDeletionVectorOf(String fileName) {
         if (deletionVectors.containsKey(fileName)) {
             deletionVectors.remove(fileName);
-            modified = true;
+            markModified(fileName);
+        }
+    }
+
+    private void markModified(String fileName) {
+        modified = true;
+        if (incrementalWrite) {
+            modifiedDataFiles.add(fileName);
         }
     }
 
     /**
      * Write new deletion vectors index file if any modifications have been made.
      *
+     * <p>Note: the replaced index files are not returned, use {@link
+     * #writeDeletionVectorsIndexIncrement} if incremental write may be enabled.
+     *
      * @return A list containing the metadata of the deletion vectors index file, or an empty list
      *     if no changes need to be committed.
      */
     public List<IndexFileMeta> writeDeletionVectorsIndex() {
-        if (modified) {
-            modified = false;
-            return indexFileHandler.writeDeletionVectorsIndex(deletionVectors);
+        return writeDeletionVectorsIndexIncrement().newIndexFiles();
+    }
+
+    /**
+     * Write new deletion vectors index files if any modifications have been made.
+     *
+     * <p>Without incremental write, all deletion vectors are written into a new index file which
+     * overwrites the old one of the bucket. With incremental write, only the index files containing
+     * modified deletion vectors are rewritten, they are returned as deleted index files. If the
+     * number of index files would exceed the limit, all of them are rewritten into one.
+     *
+     * @return An {@link IndexIncrement} containing the new and the replaced index files, which is
+     *     empty if no changes need to be committed.
+     */
+    public IndexIncrement writeDeletionVectorsIndexIncrement() {
+        if (!modified) {
+            return new IndexIncrement(Collections.emptyList());
+        }
+        modified = false;
+        if (!incrementalWrite) {
+            return new IndexIncrement(indexFileHandler.writeDeletionVectorsIndex(deletionVectors));
+        }
+
+        // rewrite index files containing modified deletion vectors, and empty index files
+        Set<String> rewrittenIndexFiles = new HashSet<>();
+        for (IndexFileMeta indexFile : indexFiles) {
+            if (indexFile.rowCount() == 0) {
+                rewrittenIndexFiles.add(indexFile.fileName());
+            }
+        }
+        for (String dataFile : modifiedDataFiles) {
+            IndexFileMeta indexFile = dataFileToIndexFile.get(dataFile);
+            if (indexFile != null) {
+                rewrittenIndexFiles.add(indexFile.fileName());
+            }
+        }
+        if (indexFiles.size() - rewrittenIndexFiles.size() + 1 > maxIndexFiles) {
+            for (IndexFileMeta indexFile : indexFiles) {
+                rewrittenIndexFiles.add(indexFile.fileName());
+            }
+        }
+
+        Map<String, DeletionVector> toWrite = new HashMap<>();
+        for (Map.Entry<String, DeletionVector> entry : deletionVectors.entrySet()) {
+            IndexFileMeta indexFile = dataFileToIndexFile.get(entry.getKey());
+            if (indexFile == null || rewrittenIndexFiles.contains(indexFile.fileName())) {
+                toWrite.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        List<IndexFileMeta> deletedIndexFiles = new ArrayList<>();
+        for (IndexFileMeta indexFile : indexFiles) {
+            if (rewrittenIndexFiles.contains(indexFile.fileName())) {
+                deletedIndexFiles.add(indexFile);
+            }
+        }
+        indexFiles.removeAll(deletedIndexFiles);
+        dataFileToIndexFile.values().removeIf(f -> rewrittenIndexFiles.contains(f.fileName()));
+        modifiedDataFiles.clear();
+
+        List<IndexFileMeta> newIndexFiles =
+                toWrite.isEmpty()
+                        ? Collections.emptyList()
+                        : indexFileHandler.writeDeletionVectorsIndex(toWrite);
+        addIndexFiles(newIndexFiles);
+        return new IndexIncrement(newIndexFiles, deletedIndexFiles);
+    }
+
+    private void addIndexFiles(List<IndexFileMeta> files) {
+        for (IndexFileMeta indexFile : files) {
+            indexFiles.add(indexFile);
+            if (indexFile.deletionVectorMetas() != null) {
+                for (DeletionVectorMeta dvMeta : indexFile.deletionVectorMetas().values()) {
+                    dataFileToIndexFile.put(dvMeta.dataFileName(), indexFile);
+                }
+            }
         }
-        return Collections.emptyList();
     }
 
     /**
@@ -170,7 +276,7 @@ public class DeletionVectorsMaintainer {
                             : handler.scan(snapshot, DELETION_VECTORS_INDEX, partition, bucket);
             Map<String, DeletionVector> deletionVectors =
                     new HashMap<>(handler.readAllDeletionVectors(indexFiles));
-            return createOrRestore(deletionVectors);
+            return new DeletionVectorsMaintainer(handler, deletionVectors, indexFiles);
         }
 
         @VisibleForTesting
@@ -185,7 +291,7 @@ public class DeletionVectorsMaintainer {
                                     .collect(Collectors.toList());
             Map<String, DeletionVector> deletionVectors =
                     new HashMap<>(handler.readAllDeletionVectors(indexFiles));
-            return createOrRestore(deletionVectors);
+            return new DeletionVectorsMaintainer(handler, deletionVectors, indexFiles);
         }
 
         public DeletionVectorsMaintainer create() {
@@ -194,7 +300,8 @@ public class DeletionVectorsMaintainer {
 
         public DeletionVectorsMaintainer createOrRestore(
                 Map<String, DeletionVector> deletionVectors) {
-            return new DeletionVectorsMaintainer(handler, deletionVectors);
+            return new DeletionVectorsMaintainer(
+                    handler, deletionVectors, Collections.emptyList());
         }
     }
 }
@@ -21,11 +21,13 @@ package org.apache.paimon.deletionvectors.append;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
+import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.io.IndexIncrement;
 import org.apache.paimon.manifest.FileKind;
 import org.apache.paimon.manifest.IndexManifestEntry;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /** A {@link BaseAppendDeleteFileMaintainer} of bucketed append table. */
 public class BucketedAppendDeleteFileMaintainer implements BaseAppendDeleteFileMaintainer {
@@ -58,8 +60,14 @@ public class BucketedAppendDeleteFileMaintainer implements BaseAppendDeleteFileM
 
     @Override
     public List<IndexManifestEntry> persist() {
-        return maintainer.writeDeletionVectorsIndex().stream()
-                .map(fileMeta -> new IndexManifestEntry(FileKind.ADD, partition, bucket, fileMeta))
-                .collect(Collectors.toList());
+        IndexIncrement increment = maintainer.writeDeletionVectorsIndexIncrement();
+        List<IndexManifestEntry> result = new ArrayList<>();
+        for (IndexFileMeta file : increment.newIndexFiles()) {
+            result.add(new IndexManifestEntry(FileKind.ADD, partition, bucket, file));
+        }
+        for (IndexFileMeta file : increment.deletedIndexFiles()) {
+            result.add(new IndexManifestEntry(FileKind.DELETE, partition, bucket, file));
+        }
+        return result;
     }
 }
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.io;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.compression.BlockCompressionFactory;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.lookup.sort.SortLookupStoreWriter;
+import org.apache.paimon.mergetree.LookupLevels.KeyValueProcessor;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.IOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Writer to build the sorted lookup file of a data file while the data file is written, see {@link
+ * CoreOptions#LOOKUP_REMOTE_FILE_ENABLED}. The lookup file has the same layout as the local lookup
+ * file built by {@link org.apache.paimon.mergetree.LookupLevels} with a {@link KeyValueProcessor},
+ * but has no bloom filter because the row count is unknown until the data file is rolled.
+ */
+public final class DataFileLookupWriter implements Closeable {
+
+    private final FileIO fileIO;
+    private final Path path;
+    private final RowCompactedSerializer keySerializer;
+    private final KeyValueProcessor valueProcessor;
+
+    @Nullable private SortLookupStoreWriter writer;
+
+    private DataFileLookupWriter(
+            FileIO fileIO, Path path, RowType keyType, RowType valueType, CoreOptions options) {
+        this.fileIO = fileIO;
+        this.path = path;
+        this.keySerializer = new RowCompactedSerializer(keyType);
+        this.valueProcessor = new KeyValueProcessor(valueType);
+        try {
+            this.writer =
+                    new SortLookupStoreWriter(
+                            fileIO.newOutputStream(path, false),
+                            options.cachePageSize(),
+                            null,
+                            BlockCompressionFactory.create(options.lookupCompressOptions()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void write(KeyValue kv) throws IOException {
+        if (writer != null) {
+            writer.put(keySerializer.serializeToBytes(kv.key()), valueProcessor.persistToDisk(kv));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+            writer = null;
+        }
+    }
+
+    public void abort() {
+        if (writer != null) {
+            IOUtils.closeQuietly(writer::close);
+            writer = null;
+        }
+        fileIO.deleteQuietly(path);
+    }
+
+    public String result() {
+        return path.getName();
+    }
+
+    @Nullable
+    public static DataFileLookupWriter create(
+            FileIO fileIO,
+            Path path,
+            RowType keyType,
+            RowType valueType,
+            int level,
+            CoreOptions options) {
+        // level 0 files are short-lived, only build lookup files for compacted files
+        return level > 0 && options.lookupRemoteFileEnabled()
+                ? new DataFileLookupWriter(fileIO, path, keyType, valueType, options)
+                : null;
+    }
+}
@@ -36,6 +36,8 @@ public class DataFilePathFactory {
 
     public static final String INDEX_PATH_SUFFIX = ".index";
 
+    public static final String LOOKUP_PATH_SUFFIX = ".lookup";
+
     private final Path parent;
     private final String uuid;
 
@@ -137,6 +139,10 @@ public class DataFilePathFactory {
         return new Path(dataFilePath.getParent(), dataFilePath.getName() + INDEX_PATH_SUFFIX);
     }
 
+    public static Path dataFileToLookupFilePath(Path dataFilePath) {
+        return new Path(dataFilePath.getParent(), dataFilePath.getName() + LOOKUP_PATH_SUFFIX);
+    }
+
     public static Path createNewFileIndexFilePath(Path filePath) {
         String fileName = filePath.getName();
         int dot = fileName.lastIndexOf(".");
@@ -39,11 +39,12 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
 
 import static org.apache.paimon.io.DataFilePathFactory.dataFileToFileIndexPath;
+import static org.apache.paimon.io.DataFilePathFactory.dataFileToLookupFilePath;
 
 /**
  * A {@link StatsCollectingSingleFileWriter} to write data files containing {@link KeyValue}s. Also
@@ -68,6 +69,7 @@ public abstract class KeyValueDataFileWriter
     private final InternalRowSerializer keySerializer;
     private final FileSource fileSource;
     @Nullable private final DataFileIndexWriter dataFileIndexWriter;
+    @Nullable private final DataFileLookupWriter dataFileLookupWriter;
 
     private BinaryRow minKey = null;
     private InternalRow maxKey = null;
@@ -104,6 +106,16 @@ public abstract class KeyValueDataFileWriter
         this.dataFileIndexWriter =
                 DataFileIndexWriter.create(
                         fileIO, dataFileToFileIndexPath(path), valueType, fileIndexOptions);
+        this.dataFileLookupWriter =
+                fileSource == FileSource.COMPACT
+                        ? DataFileLookupWriter.create(
+                                fileIO,
+                                dataFileToLookupFilePath(path),
+                                keyType,
+                                valueType,
+                                level,
+                                options)
+                        : null;
     }
 
     @Override
@@ -114,6 +126,10 @@ public abstract class KeyValueDataFileWriter
             dataFileIndexWriter.write(kv.value());
         }
 
+        if (dataFileLookupWriter != null) {
+            dataFileLookupWriter.write(kv);
+        }
+
         updateMinKey(kv);
         updateMaxKey(kv);
 
@@ -167,6 +183,14 @@ public abstract class KeyValueDataFileWriter
                         ? DataFileIndexWriter.EMPTY_RESULT
                         : dataFileIndexWriter.result();
 
+        List<String> extraFiles = new ArrayList<>();
+        if (indexResult.independentIndexFile() != null) {
+            extraFiles.add(indexResult.independentIndexFile());
+        }
+        if (dataFileLookupWriter != null) {
+            extraFiles.add(dataFileLookupWriter.result());
+        }
+
         String externalPath = isExternalPath ? path.toString() : null;
         return new DataFileMeta(
                 path.getName(),
@@ -180,9 +204,7 @@ public abstract class KeyValueDataFileWriter
                 maxSeqNumber,
                 schemaId,
                 level,
-                indexResult.independentIndexFile() == null
-                        ? Collections.emptyList()
-                        : Collections.singletonList(indexResult.independentIndexFile()),
+                extraFiles,
                 deleteRecordCount,
                 indexResult.embeddedIndexBytes(),
                 fileSource,
@@ -197,6 +219,17 @@ public abstract class KeyValueDataFileWriter
         if (dataFileIndexWriter != null) {
             dataFileIndexWriter.close();
         }
+        if (dataFileLookupWriter != null) {
+            dataFileLookupWriter.close();
+        }
         super.close();
     }
+
+    @Override
+    public void abort() {
+        if (dataFileLookupWriter != null) {
+            dataFileLookupWriter.abort();
+        }
+        super.abort();
+    }
 }
@@ -20,6 +20,8 @@ package org.apache.paimon.manifest;
 
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.memory.MemorySegment;
+import org.apache.paimon.memory.MemorySegmentUtils;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.Preconditions;
@@ -134,6 +136,59 @@ public interface FileEntry {
             return hash;
         }
 
+        /**
+         * Computes a 64-bit hash over all fields of this identifier without allocating. Hashes
+         * computed with different odd multipliers are independent, see {@link
+         * IdentifierFingerprintSet}.
+         */
+        public long longHash(long multiplier) {
+            long h = mix(mix(0, bucket, multiplier), level, multiplier);
+            MemorySegment[] segments = partition.getSegments();
+            int offset = partition.getOffset();
+            int size = partition.getSizeInBytes();
+            for (int i = 0; i < size; i++) {
+                h = mix(h, MemorySegmentUtils.getByte(segments, offset + i), multiplier);
+            }
+            h = mix(h, size, multiplier);
+            h = mix(h, fileName, multiplier);
+            h = mix(h, extraFiles.size(), multiplier);
+            for (String extraFile : extraFiles) {
+                h = mix(h, extraFile, multiplier);
+            }
+            if (embeddedIndex == null) {
+                h = mix(h, -1, multiplier);
+            } else {
+                for (byte b : embeddedIndex) {
+                    h = mix(h, b, multiplier);
+                }
+                h = mix(h, embeddedIndex.length, multiplier);
+            }
+            h = mix(h, externalPath, multiplier);
+
+            // finalizer of MurmurHash3
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+
+        private static long mix(long h, @Nullable String s, long multiplier) {
+            if (s == null) {
+                return mix(h, -1, multiplier);
+            }
+            for (int i = 0; i < s.length(); i++) {
+                h = mix(h, s.charAt(i), multiplier);
+            }
+            return mix(h, s.length(), multiplier);
+        }
+
+        private static long mix(long h, long value, long multiplier) {
+            h = (h + value) * multiplier;
+            return h ^ (h >>> 29);
+        }
+
         @Override
         public String toString() {
             return "{partition="
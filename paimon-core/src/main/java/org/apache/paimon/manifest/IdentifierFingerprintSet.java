@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.manifest.FileEntry.Identifier;
+
+/**
+ * A set of {@link Identifier}s which only keeps a 128-bit fingerprint of each identifier in
+ * primitive arrays with open addressing. Compared to a {@code HashSet<Identifier>} it needs 16
+ * bytes (32 bytes with slack) per element and does not keep partitions and file names alive.
+ *
+ * <p>The probability of two different identifiers sharing a fingerprint is negligible (about
+ * 2^-128 per pair), so {@link #contains} can be treated as exact.
+ *
+ * <p>Not thread-safe for {@link #add}, {@link #contains} can be called concurrently once all
+ * elements are added.
+ */
+public class IdentifierFingerprintSet {
+
+    private static final long MULTIPLIER_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long MULTIPLIER_LOW = 0xC2B2AE3D27D4EB4FL;
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    // (0, 0) marks an empty slot, fingerprints never have a zero low part
+    private long[] highs;
+    private long[] lows;
+    private int mask;
+    private int size;
+
+    public IdentifierFingerprintSet() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public IdentifierFingerprintSet(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, DEFAULT_CAPACITY / 2) * 2 - 1);
+        allocate(capacity << 1);
+    }
+
+    /** Adds the identifier, returns false if it was already in this set. */
+    public boolean add(Identifier identifier) {
+        long high = identifier.longHash(MULTIPLIER_HIGH);
+        long low = lowPart(identifier);
+        if (!insert(high, low)) {
+            return false;
+        }
+        if (++size > (mask + 1) >>> 1) {
+            rehash();
+        }
+        return true;
+    }
+
+    public boolean contains(Identifier identifier) {
+        long high = identifier.longHash(MULTIPLIER_HIGH);
+        long low = lowPart(identifier);
+        for (int i = (int) high & mask; ; i = (i + 1) & mask) {
+            if (lows[i] == 0) {
+                return false;
+            }
+            if (highs[i] == high && lows[i] == low) {
+                return true;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private static long lowPart(Identifier identifier) {
+        long low = identifier.longHash(MULTIPLIER_LOW);
+        return low == 0 ? 1 : low;
+    }
+
+    private boolean insert(long high, long low) {
+        for (int i = (int) high & mask; ; i = (i + 1) & mask) {
+            if (lows[i] == 0) {
+                highs[i] = high;
+                lows[i] = low;
+                return true;
+            }
+            if (highs[i] == high && lows[i] == low) {
+                return false;
+            }
+        }
+    }
+
+    private void rehash() {
+        long[] oldHighs = highs;
+        long[] oldLows = lows;
+        allocate(oldHighs.length << 1);
+        for (int i = 0; i < oldHighs.length; i++) {
+            if (oldLows[i] != 0) {
+                insert(oldHighs[i], oldLows[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        highs = new long[capacity];
+        lows = new long[capacity];
+        mask = capacity - 1;
+    }
+}
@@ -63,10 +63,19 @@ public class IndexManifestFile extends ObjectsFile<IndexManifestEntry> {
             @Nullable String previousIndexManifest,
             List<IndexManifestEntry> newIndexFiles,
             BucketMode bucketMode) {
+        return writeIndexFiles(previousIndexManifest, newIndexFiles, bucketMode, false);
+    }
+
+    public String writeIndexFiles(
+            @Nullable String previousIndexManifest,
+            List<IndexManifestEntry> newIndexFiles,
+            BucketMode bucketMode,
+            boolean incrementalDeletionVectors) {
         if (newIndexFiles.isEmpty()) {
             return previousIndexManifest;
         }
-        IndexManifestFileHandler handler = new IndexManifestFileHandler(this, bucketMode);
+        IndexManifestFileHandler handler =
+                new IndexManifestFileHandler(this, bucketMode, incrementalDeletionVectors);
         return handler.write(previousIndexManifest, newIndexFiles);
     }
 
@@ -43,9 +43,19 @@ public class IndexManifestFileHandler {
 
     private final BucketMode bucketMode;
 
+    private final boolean incrementalDeletionVectors;
+
     IndexManifestFileHandler(IndexManifestFile indexManifestFile, BucketMode bucketMode) {
+        this(indexManifestFile, bucketMode, false);
+    }
+
+    IndexManifestFileHandler(
+            IndexManifestFile indexManifestFile,
+            BucketMode bucketMode,
+            boolean incrementalDeletionVectors) {
         this.indexManifestFile = indexManifestFile;
         this.bucketMode = bucketMode;
+        this.incrementalDeletionVectors = incrementalDeletionVectors;
     }
 
     String write(@Nullable String previousIndexManifest, List<IndexManifestEntry> newIndexFiles) {
@@ -93,7 +103,8 @@ public class IndexManifestFileHandler {
     }
 
     private IndexManifestFileCombiner getIndexManifestFileCombine(String indexType) {
-        if (DELETION_VECTORS_INDEX.equals(indexType) && BucketMode.BUCKET_UNAWARE == bucketMode) {
+        if (DELETION_VECTORS_INDEX.equals(indexType)
+                && (BucketMode.BUCKET_UNAWARE == bucketMode || incrementalDeletionVectors)) {
             return new GlobalCombiner();
         } else {
             return new BucketedCombiner();
@@ -107,7 +118,7 @@ public class IndexManifestFileHandler {
 
     /**
      * We combine the previous and new index files by the file name. This is only used for tables
-     * without bucket.
+     * without bucket, or deletion vectors written incrementally.
      */
     static class GlobalCombiner implements IndexManifestFileCombiner {
 
@@ -130,15 +141,20 @@ public class IndexManifestFileHandler {
         }
     }
 
-    /** We combine the previous and new index files by {@link BucketIdentifier}. */
+    /**
+     * We combine the previous and new index files by {@link BucketIdentifier}, new index files
+     * replace all previous index files of the bucket.
+     */
     static class BucketedCombiner implements IndexManifestFileCombiner {
 
         @Override
         public List<IndexManifestEntry> combine(
                 List<IndexManifestEntry> prevIndexFiles, List<IndexManifestEntry> newIndexFiles) {
-            Map<BucketIdentifier, IndexManifestEntry> indexEntries = new HashMap<>();
+            // a bucket may have several deletion vectors index files if they have been written
+            // incrementally, keep all of them
+            Map<BucketIdentifier, List<IndexManifestEntry>> indexEntries = new HashMap<>();
             for (IndexManifestEntry entry : prevIndexFiles) {
-                indexEntries.put(identifier(entry), entry);
+                indexEntries.computeIfAbsent(identifier(entry), k -> new ArrayList<>()).add(entry);
             }
 
             // The deleted entry is processed first to avoid overwriting a new entry.
@@ -153,10 +169,14 @@ public class IndexManifestFileHandler {
             for (IndexManifestEntry entry : removed) {
                 indexEntries.remove(identifier(entry));
             }
+            Map<BucketIdentifier, List<IndexManifestEntry>> addedEntries = new HashMap<>();
             for (IndexManifestEntry entry : added) {
-                indexEntries.put(identifier(entry), entry);
+                addedEntries.computeIfAbsent(identifier(entry), k -> new ArrayList<>()).add(entry);
             }
-            return new ArrayList<>(indexEntries.values());
+            indexEntries.putAll(addedEntries);
+            return indexEntries.values().stream()
+                    .flatMap(List::stream)
+                    .collect(Collectors.toList());
         }
     }
 
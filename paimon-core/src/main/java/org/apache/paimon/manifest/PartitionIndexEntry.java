@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.types.ArrayType;
+import org.apache.paimon.types.DataField;
+import org.apache.paimon.types.RowType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.apache.paimon.utils.SerializationUtils.newBytesType;
+import static org.apache.paimon.utils.SerializationUtils.newStringType;
+
+/** Entry of a partition index file, records the data manifest files containing a partition. */
+public class PartitionIndexEntry {
+
+    public static final RowType SCHEMA =
+            new RowType(
+                    false,
+                    Arrays.asList(
+                            new DataField(0, "_PARTITION", newBytesType(false)),
+                            new DataField(
+                                    1,
+                                    "_MANIFEST_FILES",
+                                    new ArrayType(false, newStringType(false)))));
+
+    private final BinaryRow partition;
+    private final List<String> manifestFiles;
+
+    public PartitionIndexEntry(BinaryRow partition, List<String> manifestFiles) {
+        this.partition = partition;
+        this.manifestFiles = manifestFiles;
+    }
+
+    public BinaryRow partition() {
+        return partition;
+    }
+
+    public List<String> manifestFiles() {
+        return manifestFiles;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        PartitionIndexEntry that = (PartitionIndexEntry) o;
+        return Objects.equals(partition, that.partition)
+                && Objects.equals(manifestFiles, that.manifestFiles);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(partition, manifestFiles);
+    }
+
+    @Override
+    public String toString() {
+        return "PartitionIndexEntry{"
+                + "partition="
+                + partition
+                + ", manifestFiles="
+                + manifestFiles
+                + '}';
+    }
+}
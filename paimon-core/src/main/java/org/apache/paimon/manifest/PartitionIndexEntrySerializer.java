@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryString;
+import org.apache.paimon.data.GenericArray;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalArray;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.utils.VersionedObjectSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.paimon.utils.SerializationUtils.deserializeBinaryRow;
+import static org.apache.paimon.utils.SerializationUtils.serializeBinaryRow;
+
+/** A {@link VersionedObjectSerializer} for {@link PartitionIndexEntry}. */
+public class PartitionIndexEntrySerializer extends VersionedObjectSerializer<PartitionIndexEntry> {
+
+    public PartitionIndexEntrySerializer() {
+        super(PartitionIndexEntry.SCHEMA);
+    }
+
+    @Override
+    public int getVersion() {
+        return 1;
+    }
+
+    @Override
+    public InternalRow convertTo(PartitionIndexEntry record) {
+        List<String> manifestFiles = record.manifestFiles();
+        BinaryString[] names = new BinaryString[manifestFiles.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = BinaryString.fromString(manifestFiles.get(i));
+        }
+        return GenericRow.of(serializeBinaryRow(record.partition()), new GenericArray(names));
+    }
+
+    @Override
+    public PartitionIndexEntry convertFrom(int version, InternalRow row) {
+        if (version != 1) {
+            throw new UnsupportedOperationException("Unsupported version: " + version);
+        }
+        InternalArray array = row.getArray(1);
+        List<String> manifestFiles = new ArrayList<>(array.size());
+        for (int i = 0; i < array.size(); i++) {
+            manifestFiles.add(array.getString(i).toString());
+        }
+        return new PartitionIndexEntry(deserializeBinaryRow(row.getBinary(0)), manifestFiles);
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.format.FileFormat;
+import org.apache.paimon.format.FormatReaderFactory;
+import org.apache.paimon.format.FormatWriterFactory;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.ObjectsFile;
+import org.apache.paimon.utils.PathFactory;
+import org.apache.paimon.utils.SegmentsCache;
+import org.apache.paimon.utils.VersionedObjectSerializer;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.apache.paimon.utils.ManifestReadThreadPool.randomlyExecuteSequentialReturn;
+
+/**
+ * Partition index file, which maps each partition to the data manifest files of a snapshot
+ * containing entries of the partition. The file is referenced by the {@link #SNAPSHOT_PROPERTY}
+ * property of the snapshot, so that planning with a partition filter only reads the manifest files
+ * of the matched partitions, instead of all manifest files whose partition stats overlap.
+ */
+public class PartitionIndexFile extends ObjectsFile<PartitionIndexEntry> {
+
+    public static final String SNAPSHOT_PROPERTY = "partition-index";
+
+    /**
+     * Snapshot property of the base and delta manifest lists the index is written for. Snapshot
+     * properties may be copied to a snapshot with other manifest lists, the index is only valid
+     * for the snapshot whose manifest lists are recorded here.
+     */
+    public static final String MANIFEST_LISTS_PROPERTY = "partition-index.manifest-lists";
+
+    private PartitionIndexFile(
+            FileIO fileIO,
+            RowType schema,
+            FormatReaderFactory readerFactory,
+            FormatWriterFactory writerFactory,
+            String compression,
+            PathFactory pathFactory,
+            @Nullable SegmentsCache<Path> cache) {
+        super(
+                fileIO,
+                new PartitionIndexEntrySerializer(),
+                schema,
+                readerFactory,
+                writerFactory,
+                compression,
+                pathFactory,
+                cache);
+    }
+
+    /**
+     * Returns the partition index file referenced by the snapshot, or null if it has no index. The
+     * index may be written for another snapshot, use {@link #validPartitionIndex} to read it.
+     */
+    @Nullable
+    public static String partitionIndex(Snapshot snapshot) {
+        Map<String, String> properties = snapshot.properties();
+        return properties == null ? null : properties.get(SNAPSHOT_PROPERTY);
+    }
+
+    /**
+     * Returns the partition index file of the snapshot, or null if it has no index or the index is
+     * not written for the manifest lists of the snapshot.
+     */
+    @Nullable
+    public static String validPartitionIndex(Snapshot snapshot) {
+        String partitionIndex = partitionIndex(snapshot);
+        if (partitionIndex == null) {
+            return null;
+        }
+        String manifestLists = snapshot.properties().get(MANIFEST_LISTS_PROPERTY);
+        return manifestLists(snapshot.baseManifestList(), snapshot.deltaManifestList())
+                        .equals(manifestLists)
+                ? partitionIndex
+                : null;
+    }
+
+    /**
+     * Returns the properties of a new snapshot, which reference the partition index file written
+     * for the given manifest lists if it is not null.
+     */
+    @Nullable
+    public static Map<String, String> withPartitionIndex(
+            @Nullable Map<String, String> properties,
+            @Nullable String partitionIndex,
+            String baseManifestList,
+            String deltaManifestList) {
+        Map<String, String> newProperties = properties == null ? new HashMap<>() : properties;
+        if (partitionIndex == null
+                && !newProperties.containsKey(SNAPSHOT_PROPERTY)
+                && !newProperties.containsKey(MANIFEST_LISTS_PROPERTY)) {
+            return properties;
+        }
+
+        newProperties = new HashMap<>(newProperties);
+        if (partitionIndex == null) {
+            newProperties.remove(SNAPSHOT_PROPERTY);
+            newProperties.remove(MANIFEST_LISTS_PROPERTY);
+        } else {
+            newProperties.put(SNAPSHOT_PROPERTY, partitionIndex);
+            newProperties.put(
+                    MANIFEST_LISTS_PROPERTY, manifestLists(baseManifestList, deltaManifestList));
+        }
+        return newProperties.isEmpty() ? null : newProperties;
+    }
+
+    private static String manifestLists(String baseManifestList, String deltaManifestList) {
+        return baseManifestList + "," + deltaManifestList;
+    }
+
+    /** Reads the index as a map from partition to manifest file names. */
+    public Map<BinaryRow, List<String>> readIndex(String fileName) {
+        Map<BinaryRow, List<String>> index = new HashMap<>();
+        for (PartitionIndexEntry entry : read(fileName)) {
+            index.put(entry.partition(), entry.manifestFiles());
+        }
+        return index;
+    }
+
+    /**
+     * Writes the partition index of the given data manifest files. Entries of the previous index
+     * are reused, so only the manifest files which are neither in the previous index nor in the
+     * known partitions are read.
+     *
+     * @param previousIndex index of the previous snapshot, its manifests which are not in the
+     *     given manifests are removed.
+     * @param manifests all data manifest files of the new snapshot.
+     * @param knownPartitions partitions of newly written manifest files, which may be a superset of
+     *     the real partitions.
+     * @return the name of the written index file.
+     */
+    public String writeIndex(
+            @Nullable String previousIndex,
+            List<ManifestFileMeta> manifests,
+            Map<String, ? extends Collection<BinaryRow>> knownPartitions,
+            ManifestFile manifestFile,
+            @Nullable Integer manifestReadParallelism) {
+        Set<String> manifestNames =
+                manifests.stream().map(ManifestFileMeta::fileName).collect(Collectors.toSet());
+        Map<BinaryRow, Set<String>> index = new HashMap<>();
+        Set<String> indexed = new HashSet<>();
+
+        if (previousIndex != null) {
+            for (PartitionIndexEntry entry : read(previousIndex)) {
+                for (String manifest : entry.manifestFiles()) {
+                    if (manifestNames.contains(manifest)) {
+                        index.computeIfAbsent(entry.partition(), p -> new LinkedHashSet<>())
+                                .add(manifest);
+                        indexed.add(manifest);
+                    }
+                }
+            }
+        }
+
+        List<ManifestFileMeta> toRead = new ArrayList<>();
+        for (ManifestFileMeta manifest : manifests) {
+            String name = manifest.fileName();
+            if (indexed.contains(name)) {
+                continue;
+            }
+            Collection<BinaryRow> partitions = knownPartitions.get(name);
+            if (partitions == null) {
+                toRead.add(manifest);
+            } else {
+                for (BinaryRow partition : partitions) {
+                    index.computeIfAbsent(partition, p -> new LinkedHashSet<>()).add(name);
+                }
+            }
+        }
+
+        Function<ManifestFileMeta, List<PartitionIndexEntry>> processor =
+                manifest ->
+                        manifestFile
+                                .readExpireFileEntries(manifest.fileName(), manifest.fileSize())
+                                .stream()
+                                .map(ExpireFileEntry::partition)
+                                .distinct()
+                                .map(
+                                        p ->
+                                                new PartitionIndexEntry(
+                                                        p,
+                                                        Collections.singletonList(
+                                                                manifest.fileName())))
+                                .collect(Collectors.toList());
+        Iterator<PartitionIndexEntry> readEntries =
+                randomlyExecuteSequentialReturn(processor, toRead, manifestReadParallelism);
+        while (readEntries.hasNext()) {
+            PartitionIndexEntry entry = readEntries.next();
+            index.computeIfAbsent(entry.partition(), p -> new LinkedHashSet<>())
+                    .addAll(entry.manifestFiles());
+        }
+
+        List<PartitionIndexEntry> entries = new ArrayList<>(index.size());
+        index.forEach(
+                (p, files) -> entries.add(new PartitionIndexEntry(p, new ArrayList<>(files))));
+        return writeWithoutRolling(entries);
+    }
+
+    /** Creator of {@link PartitionIndexFile}. */
+    public static class Factory {
+
+        private final FileIO fileIO;
+        private final FileFormat fileFormat;
+        private final String compression;
+        private final FileStorePathFactory pathFactory;
+        @Nullable private final SegmentsCache<Path> cache;
+
+        public Factory(
+                FileIO fileIO,
+                FileFormat fileFormat,
+                String compression,
+                FileStorePathFactory pathFactory,
+                @Nullable SegmentsCache<Path> cache) {
+            this.fileIO = fileIO;
+            this.fileFormat = fileFormat;
+            this.compression = compression;
+            this.pathFactory = pathFactory;
+            this.cache = cache;
+        }
+
+        public PartitionIndexFile create() {
+            RowType schema = VersionedObjectSerializer.versionType(PartitionIndexEntry.SCHEMA);
+            return new PartitionIndexFile(
+                    fileIO,
+                    schema,
+                    fileFormat.createReaderFactory(schema),
+                    fileFormat.createWriterFactory(schema),
+                    compression,
+                    pathFactory.partitionIndexFileFactory(),
+                    cache);
+        }
+    }
+}
@@ -110,6 +110,20 @@ public class MemoryPoolFactory {
         return totalBufferSize;
     }
 
+    /** Off-heap memory in bytes allocated by the inner pool, 0 if the pool is on heap. */
+    public long offHeapBufferSize() {
+        return innerPool instanceof OffHeapMemorySegmentPool
+                ? ((OffHeapMemorySegmentPool) innerPool).allocatedBytes()
+                : 0L;
+    }
+
+    /** Releases the memory of the inner pool if it is an {@link OffHeapMemorySegmentPool}. */
+    public void close() {
+        if (innerPool instanceof OffHeapMemorySegmentPool) {
+            ((OffHeapMemorySegmentPool) innerPool).close();
+        }
+    }
+
     private class OwnerMemoryPool implements MemorySegmentPool {
 
         private final MemoryOwner owner;
@@ -38,12 +38,21 @@ import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import static org.apache.paimon.mergetree.LookupUtils.fileKibiBytes;
 import static org.apache.paimon.utils.InternalRowPartitionComputer.partToSimpleString;
 import static org.apache.paimon.utils.Preconditions.checkArgument;
 
-/** Lookup file for cache remote file to local. */
+/**
+ * Lookup file for cache remote file to local.
+ *
+ * <p>A lookup file can be read by multiple threads concurrently. Readers should {@link #tryRetain}
+ * the file before reading and {@link #release} it afterwards, closing the file waits for all
+ * retained readers.
+ */
 public class LookupFile {
 
     private static final Logger LOG = LoggerFactory.getLogger(LookupFile.class);
@@ -52,10 +61,11 @@ public class LookupFile {
     private final DataFileMeta remoteFile;
     private final LookupStoreReader reader;
     private final Runnable callback;
+    private final ReadWriteLock lock;
 
-    private long requestCount;
-    private long hitCount;
-    private boolean isClosed = false;
+    private final LongAdder requestCount;
+    private final LongAdder hitCount;
+    private volatile boolean isClosed = false;
 
     public LookupFile(
             File localFile, DataFileMeta remoteFile, LookupStoreReader reader, Runnable callback) {
@@ -63,15 +73,36 @@ public class LookupFile {
         this.remoteFile = remoteFile;
         this.reader = reader;
         this.callback = callback;
+        this.lock = new ReentrantReadWriteLock();
+        this.requestCount = new LongAdder();
+        this.hitCount = new LongAdder();
+    }
+
+    /**
+     * Retain this file for reading, the file will not be closed until {@link #release} is called.
+     *
+     * @return false if this file has already been closed.
+     */
+    public boolean tryRetain() {
+        lock.readLock().lock();
+        if (isClosed) {
+            lock.readLock().unlock();
+            return false;
+        }
+        return true;
+    }
+
+    public void release() {
+        lock.readLock().unlock();
     }
 
     @Nullable
     public byte[] get(byte[] key) throws IOException {
         checkArgument(!isClosed);
-        requestCount++;
+        requestCount.increment();
         byte[] res = reader.lookup(key);
         if (res != null) {
-            hitCount++;
+            hitCount.increment();
         }
         return res;
     }
@@ -85,15 +116,20 @@ public class LookupFile {
     }
 
     public void close(RemovalCause cause) throws IOException {
-        reader.close();
-        isClosed = true;
+        lock.writeLock().lock();
+        try {
+            reader.close();
+            isClosed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
         callback.run();
         LOG.info(
                 "Delete Lookup file {} due to {}. Access stats: requestCount={}, hitCount={}, size={}KB",
                 localFile.getName(),
                 cause,
-                requestCount,
-                hitCount,
+                requestCount.sum(),
+                hitCount.sum(),
                 localFile.length() >> 10);
         FileIOUtils.deleteFileOrDirectory(localFile);
     }
@@ -41,23 +41,33 @@ import javax.annotation.Nullable;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import static org.apache.paimon.utils.VarLengthIntUtils.MAX_VAR_LONG_SIZE;
 import static org.apache.paimon.utils.VarLengthIntUtils.decodeLong;
 import static org.apache.paimon.utils.VarLengthIntUtils.encodeLong;
 
-/** Provide lookup by key. */
+/**
+ * Provide lookup by key.
+ *
+ * <p>Lookups are thread-safe as long as the {@link Levels} are not updated concurrently: lookup files
+ * are created once per data file under a striped lock and retained while being read.
+ */
 public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
+    private static final int CREATE_LOCK_STRIPES = 64;
+
     private final Levels levels;
     private final Comparator<InternalRow> keyComparator;
-    private final RowCompactedSerializer keySerializer;
+    private final ThreadLocal<RowCompactedSerializer> keySerializer;
     private final ValueProcessor<T> valueProcessor;
     private final IOFunction<DataFileMeta, RecordReader<KeyValue>> fileReaderFactory;
     private final Function<String, File> localFileFactory;
@@ -66,6 +76,9 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
     private final Cache<String, LookupFile> lookupFileCache;
     private final Set<String> ownCachedFiles;
+    private final Object[] createLocks;
+
+    @Nullable private RemoteFileDownloader remoteFileDownloader;
 
     public LookupLevels(
             Levels levels,
@@ -79,17 +92,32 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             Cache<String, LookupFile> lookupFileCache) {
         this.levels = levels;
         this.keyComparator = keyComparator;
-        this.keySerializer = new RowCompactedSerializer(keyType);
+        this.keySerializer = ThreadLocal.withInitial(() -> new RowCompactedSerializer(keyType));
         this.valueProcessor = valueProcessor;
         this.fileReaderFactory = fileReaderFactory;
         this.localFileFactory = localFileFactory;
         this.lookupStoreFactory = lookupStoreFactory;
         this.bfGenerator = bfGenerator;
         this.lookupFileCache = lookupFileCache;
-        this.ownCachedFiles = new HashSet<>();
+        this.ownCachedFiles = ConcurrentHashMap.newKeySet();
+        this.createLocks = new Object[CREATE_LOCK_STRIPES];
+        for (int i = 0; i < CREATE_LOCK_STRIPES; i++) {
+            createLocks[i] = new Object();
+        }
         levels.addDropFileCallback(this);
     }
 
+    /**
+     * Download the lookup files built at compaction time instead of building them from data files.
+     * The downloader should only be set when the remote lookup files are compatible with the value
+     * processor and lookup store factory of this instance.
+     */
+    public LookupLevels<T> withRemoteFileDownloader(
+            @Nullable RemoteFileDownloader remoteFileDownloader) {
+        this.remoteFileDownloader = remoteFileDownloader;
+        return this;
+    }
+
     public Levels getLevels() {
         return levels;
     }
@@ -124,31 +152,81 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         return LookupUtils.lookup(keyComparator, key, level, this::lookup);
     }
 
+    /**
+     * Lookup a batch of keys, see {@link LookupUtils#lookupBatch}.
+     *
+     * @return results in the same order as the input keys, null if a key is not found.
+     */
+    public List<T> lookupBatch(List<InternalRow> keys, int startLevel) throws IOException {
+        return LookupUtils.lookupBatch(levels, keyComparator, keys, startLevel, this::lookupBatch);
+    }
+
     @Nullable
     private T lookup(InternalRow key, DataFileMeta file) throws IOException {
-        LookupFile lookupFile = lookupFileCache.getIfPresent(file.fileName());
+        return withLookupFile(file, lookupFile -> lookup(key, lookupFile));
+    }
 
-        boolean newCreatedLookupFile = false;
-        if (lookupFile == null) {
-            lookupFile = createLookupFile(file);
-            newCreatedLookupFile = true;
+    private List<T> lookupBatch(DataFileMeta file, List<InternalRow> keys) throws IOException {
+        return withLookupFile(
+                file,
+                lookupFile -> {
+                    List<T> result = new ArrayList<>(keys.size());
+                    for (InternalRow key : keys) {
+                        result.add(lookup(key, lookupFile));
+                    }
+                    return result;
+                });
+    }
+
+    @Nullable
+    private T lookup(InternalRow key, LookupFile lookupFile) throws IOException {
+        byte[] keyBytes = keySerializer.get().serializeToBytes(key);
+        byte[] valueBytes = lookupFile.get(keyBytes);
+        if (valueBytes == null) {
+            return null;
         }
 
-        byte[] valueBytes;
-        try {
-            byte[] keyBytes = keySerializer.serializeToBytes(key);
-            valueBytes = lookupFile.get(keyBytes);
-        } finally {
-            if (newCreatedLookupFile) {
-                lookupFileCache.put(file.fileName(), lookupFile);
+        DataFileMeta file = lookupFile.remoteFile();
+        return valueProcessor.readFromDisk(key, file.level(), valueBytes, file.fileName());
+    }
+
+    private <R> R withLookupFile(DataFileMeta file, IOFunction<LookupFile, R> function)
+            throws IOException {
+        String fileName = file.fileName();
+        LookupFile lookupFile = lookupFileCache.getIfPresent(fileName);
+        if (lookupFile != null && lookupFile.tryRetain()) {
+            try {
+                return function.apply(lookupFile);
+            } finally {
+                lookupFile.release();
             }
         }
-        if (valueBytes == null) {
-            return null;
+
+        // lookup file is absent or has just been evicted, create it under the lock so that
+        // concurrent lookups do not build the same file twice
+        synchronized (createLock(fileName)) {
+            lookupFile = lookupFileCache.getIfPresent(fileName);
+            if (lookupFile != null && lookupFile.tryRetain()) {
+                try {
+                    return function.apply(lookupFile);
+                } finally {
+                    lookupFile.release();
+                }
+            }
+
+            // the new created file is put into cache only after it is used, so that it can not be
+            // evicted before the first lookup
+            lookupFile = createLookupFile(file);
+            try {
+                return function.apply(lookupFile);
+            } finally {
+                lookupFileCache.put(fileName, lookupFile);
+            }
         }
+    }
 
-        return valueProcessor.readFromDisk(
-                key, lookupFile.remoteFile().level(), valueBytes, file.fileName());
+    private Object createLock(String fileName) {
+        return createLocks[(fileName.hashCode() & Integer.MAX_VALUE) % CREATE_LOCK_STRIPES];
     }
 
     private LookupFile createLookupFile(DataFileMeta file) throws IOException {
@@ -156,6 +234,20 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         if (!localFile.createNewFile()) {
             throw new IOException("Can not create new file: " + localFile);
         }
+
+        if (remoteFileDownloader != null) {
+            LookupStoreFactory.Context context;
+            try {
+                context = remoteFileDownloader.tryToDownload(file, localFile);
+            } catch (IOException e) {
+                FileIOUtils.deleteFileOrDirectory(localFile);
+                throw e;
+            }
+            if (context != null) {
+                return newLookupFile(localFile, file, context);
+            }
+        }
+
         LookupStoreWriter kvWriter =
                 lookupStoreFactory.createWriter(localFile, bfGenerator.apply(file.rowCount()));
         LookupStoreFactory.Context context;
@@ -165,7 +257,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 FileRecordIterator<KeyValue> batch;
                 while ((batch = (FileRecordIterator<KeyValue>) reader.readBatch()) != null) {
                     while ((kv = batch.next()) != null) {
-                        byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
+                        byte[] keyBytes = keySerializer.get().serializeToBytes(kv.key());
                         byte[] valueBytes =
                                 valueProcessor.persistToDisk(kv, batch.returnedPosition());
                         kvWriter.put(keyBytes, valueBytes);
@@ -176,7 +268,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
                 RecordReader.RecordIterator<KeyValue> batch;
                 while ((batch = reader.readBatch()) != null) {
                     while ((kv = batch.next()) != null) {
-                        byte[] keyBytes = keySerializer.serializeToBytes(kv.key());
+                        byte[] keyBytes = keySerializer.get().serializeToBytes(kv.key());
                         byte[] valueBytes = valueProcessor.persistToDisk(kv);
                         kvWriter.put(keyBytes, valueBytes);
                     }
@@ -190,6 +282,12 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
             context = kvWriter.close();
         }
 
+        return newLookupFile(localFile, file, context);
+    }
+
+    private LookupFile newLookupFile(
+            File localFile, DataFileMeta file, LookupStoreFactory.Context context)
+            throws IOException {
         ownCachedFiles.add(file.fileName());
         return new LookupFile(
                 localFile,
@@ -206,6 +304,19 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         }
     }
 
+    /** Downloader to fetch the lookup file of a data file built at compaction time. */
+    public interface RemoteFileDownloader {
+
+        /**
+         * Download the remote lookup file of the data file to the local file.
+         *
+         * @return the context to read the local file, or null if there is no remote lookup file.
+         */
+        @Nullable
+        LookupStoreFactory.Context tryToDownload(DataFileMeta dataFile, File localFile)
+                throws IOException;
+    }
+
     /** Processor to process value. */
     public interface ValueProcessor<T> {
 
@@ -220,13 +331,14 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
         T readFromDisk(InternalRow key, int level, byte[] valueBytes, String fileName);
     }
 
-    /** A {@link ValueProcessor} to return {@link KeyValue}. */
+    /** A thread-safe {@link ValueProcessor} to return {@link KeyValue}. */
     public static class KeyValueProcessor implements ValueProcessor<KeyValue> {
 
-        private final RowCompactedSerializer valueSerializer;
+        private final ThreadLocal<RowCompactedSerializer> valueSerializer;
 
         public KeyValueProcessor(RowType valueType) {
-            this.valueSerializer = new RowCompactedSerializer(valueType);
+            this.valueSerializer =
+                    ThreadLocal.withInitial(() -> new RowCompactedSerializer(valueType));
         }
 
         @Override
@@ -236,7 +348,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         @Override
         public byte[] persistToDisk(KeyValue kv) {
-            byte[] vBytes = valueSerializer.serializeToBytes(kv.value());
+            byte[] vBytes = valueSerializer.get().serializeToBytes(kv.value());
             byte[] bytes = new byte[vBytes.length + 8 + 1];
             MemorySegment segment = MemorySegment.wrap(bytes);
             segment.put(0, vBytes);
@@ -247,7 +359,7 @@ public class LookupLevels<T> implements Levels.DropFileCallback, Closeable {
 
         @Override
         public KeyValue readFromDisk(InternalRow key, int level, byte[] bytes, String fileName) {
-            InternalRow value = valueSerializer.deserialize(bytes);
+            InternalRow value = valueSerializer.get().deserialize(bytes);
             long sequenceNumber = MemorySegment.wrap(bytes).getLong(bytes.length - 9);
             RowKind rowKind = RowKind.fromByteValue(bytes[bytes.length - 1]);
             return new KeyValue().replace(key, sequenceNumber, rowKind, value).setLevel(level);
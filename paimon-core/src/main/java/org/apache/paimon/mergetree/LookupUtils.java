@@ -25,6 +25,8 @@ import org.apache.paimon.utils.BiFunctionWithIOE;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.TreeSet;
@@ -118,6 +120,161 @@ public class LookupUtils {
         return index < files.size() ? lookup.apply(target, files.get(index)) : null;
     }
 
+    /**
+     * Lookup a batch of keys through the levels. The keys are sorted once, then each {@link
+     * SortedRun} is walked with a merge cursor so that every data file is probed at most once per
+     * batch, with all the pending keys falling into its key range.
+     *
+     * @return results in the same order as the input keys, null if a key is not found.
+     */
+    public static <T> List<T> lookupBatch(
+            Levels levels,
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            int startLevel,
+            BiFunctionWithIOE<DataFileMeta, List<InternalRow>, List<T>> fileLookup)
+            throws IOException {
+        List<T> results = new ArrayList<>(Collections.nCopies(keys.size(), null));
+        List<Integer> pending = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            pending.add(i);
+        }
+        pending.sort((i1, i2) -> keyComparator.compare(keys.get(i1), keys.get(i2)));
+
+        for (int i = startLevel; i < levels.numberOfLevels() && !pending.isEmpty(); i++) {
+            if (i == 0) {
+                pending =
+                        lookupLevel0Batch(
+                                keyComparator, keys, pending, levels.level0(), fileLookup, results);
+            } else {
+                pending =
+                        lookupBatch(
+                                keyComparator,
+                                keys,
+                                pending,
+                                levels.runOfLevel(i),
+                                fileLookup,
+                                results);
+            }
+        }
+
+        return results;
+    }
+
+    private static <T> List<Integer> lookupLevel0Batch(
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            List<Integer> pending,
+            TreeSet<DataFileMeta> level0,
+            BiFunctionWithIOE<DataFileMeta, List<InternalRow>, List<T>> fileLookup,
+            List<T> results)
+            throws IOException {
+        for (DataFileMeta file : level0) {
+            if (pending.isEmpty()) {
+                break;
+            }
+
+            List<Integer> positions = new ArrayList<>();
+            for (Integer pos : pending) {
+                InternalRow key = keys.get(pos);
+                if (keyComparator.compare(file.maxKey(), key) < 0) {
+                    // pending keys are sorted, the rest are all bigger than this file
+                    break;
+                }
+                if (keyComparator.compare(file.minKey(), key) <= 0) {
+                    positions.add(pos);
+                }
+            }
+
+            if (lookupFile(keys, positions, file, fileLookup, results)) {
+                pending = removeFound(pending, results);
+            }
+        }
+        return pending;
+    }
+
+    private static <T> List<Integer> lookupBatch(
+            Comparator<InternalRow> keyComparator,
+            List<InternalRow> keys,
+            List<Integer> pending,
+            SortedRun level,
+            BiFunctionWithIOE<DataFileMeta, List<InternalRow>, List<T>> fileLookup,
+            List<T> results)
+            throws IOException {
+        if (level.isEmpty()) {
+            return pending;
+        }
+
+        boolean found = false;
+        List<DataFileMeta> files = level.files();
+        int fileIndex = 0;
+        int keyIndex = 0;
+        while (keyIndex < pending.size() && fileIndex < files.size()) {
+            DataFileMeta file = files.get(fileIndex);
+            if (keyComparator.compare(file.maxKey(), keys.get(pending.get(keyIndex))) < 0) {
+                fileIndex++;
+                continue;
+            }
+
+            // collect all pending keys not greater than the max key of this file, keys smaller
+            // than the min key can not exist in this level
+            List<Integer> positions = new ArrayList<>();
+            while (keyIndex < pending.size()) {
+                InternalRow key = keys.get(pending.get(keyIndex));
+                if (keyComparator.compare(file.maxKey(), key) < 0) {
+                    break;
+                }
+                if (keyComparator.compare(file.minKey(), key) <= 0) {
+                    positions.add(pending.get(keyIndex));
+                }
+                keyIndex++;
+            }
+
+            found |= lookupFile(keys, positions, file, fileLookup, results);
+            fileIndex++;
+        }
+
+        return found ? removeFound(pending, results) : pending;
+    }
+
+    private static <T> boolean lookupFile(
+            List<InternalRow> keys,
+            List<Integer> positions,
+            DataFileMeta file,
+            BiFunctionWithIOE<DataFileMeta, List<InternalRow>, List<T>> fileLookup,
+            List<T> results)
+            throws IOException {
+        if (positions.isEmpty()) {
+            return false;
+        }
+
+        List<InternalRow> fileKeys = new ArrayList<>(positions.size());
+        for (Integer pos : positions) {
+            fileKeys.add(keys.get(pos));
+        }
+
+        boolean found = false;
+        List<T> fileResults = fileLookup.apply(file, fileKeys);
+        for (int i = 0; i < positions.size(); i++) {
+            T result = fileResults.get(i);
+            if (result != null) {
+                results.set(positions.get(i), result);
+                found = true;
+            }
+        }
+        return found;
+    }
+
+    private static <T> List<Integer> removeFound(List<Integer> pending, List<T> results) {
+        List<Integer> remaining = new ArrayList<>(pending.size());
+        for (Integer pos : pending) {
+            if (results.get(pos) == null) {
+                remaining.add(pos);
+            }
+        }
+        return remaining;
+    }
+
     public static int fileKibiBytes(File file) {
         long kibiBytes = file.length() >> 10;
         if (kibiBytes > Integer.MAX_VALUE) {
@@ -35,6 +35,7 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.Semaphore;
 
 /** Utility class to create commonly used {@link RecordReader}s for merge trees. */
 public class MergeTreeReaders {
@@ -72,6 +73,31 @@ public class MergeTreeReaders {
             MergeFunctionWrapper<T> mergeFunctionWrapper,
             MergeSorter mergeSorter)
             throws IOException {
+        return readerForSection(
+                section,
+                readerFactory,
+                userKeyComparator,
+                userDefinedSeqComparator,
+                mergeFunctionWrapper,
+                mergeSorter,
+                0);
+    }
+
+    /**
+     * Creates a reader merging the sorted runs of a section. If {@code prefetchFiles} is positive,
+     * up to this number of files of the section are opened ahead in background, see {@link
+     * PrefetchConcatRecordReader}.
+     */
+    public static <T> RecordReader<T> readerForSection(
+            List<SortedRun> section,
+            FileReaderFactory<KeyValue> readerFactory,
+            Comparator<InternalRow> userKeyComparator,
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            MergeFunctionWrapper<T> mergeFunctionWrapper,
+            MergeSorter mergeSorter,
+            int prefetchFiles)
+            throws IOException {
+        Semaphore prefetchBudget = prefetchFiles > 0 ? new Semaphore(prefetchFiles) : null;
         List<SizedReaderSupplier<KeyValue>> readers = new ArrayList<>();
         for (SortedRun run : section) {
             readers.add(
@@ -83,7 +109,7 @@ public class MergeTreeReaders {
 
                         @Override
                         public RecordReader<KeyValue> get() throws IOException {
-                            return readerForRun(run, readerFactory);
+                            return readerForRun(run, readerFactory, prefetchBudget);
                         }
                     });
         }
@@ -92,11 +118,16 @@ public class MergeTreeReaders {
     }
 
     private static RecordReader<KeyValue> readerForRun(
-            SortedRun run, FileReaderFactory<KeyValue> readerFactory) throws IOException {
+            SortedRun run,
+            FileReaderFactory<KeyValue> readerFactory,
+            @Nullable Semaphore prefetchBudget)
+            throws IOException {
         List<ReaderSupplier<KeyValue>> readers = new ArrayList<>();
         for (DataFileMeta file : run.files()) {
             readers.add(() -> readerFactory.createRecordReader(file));
         }
-        return ConcatRecordReader.create(readers);
+        return prefetchBudget == null
+                ? ConcatRecordReader.create(readers)
+                : new PrefetchConcatRecordReader<>(readers, prefetchBudget);
     }
 }
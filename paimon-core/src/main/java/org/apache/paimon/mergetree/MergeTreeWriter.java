@@ -34,29 +34,43 @@ import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.memory.MemoryOwner;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExceptionUtils;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.RecordWriter;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 
 /** A {@link RecordWriter} to write records and generate {@link CompactIncrement}. */
 public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
+    private static final Logger LOG = LoggerFactory.getLogger(MergeTreeWriter.class);
+
+    // SortBufferWriteBuffer requires at least 3 pages
+    private static final int MIN_BUFFER_PAGES = 3;
+
     private final boolean writeBufferSpillable;
     private final MemorySize maxDiskSize;
     private final int sortMaxFan;
@@ -72,6 +86,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private final boolean commitForceCompact;
     private final ChangelogProducer changelogProducer;
     @Nullable private final FieldsComparator userDefinedSeqComparator;
+    @Nullable private final ExecutorService flushExecutor;
 
     private final LinkedHashSet<DataFileMeta> newFiles;
     private final LinkedHashSet<DataFileMeta> deletedFiles;
@@ -85,6 +100,12 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
     private long newSequenceNumber;
     private WriteBuffer writeBuffer;
 
+    // for background flush, a full buffer is flushed by flushExecutor while records are written
+    // into the spare buffer
+    @Nullable private WriteBuffer spareBuffer;
+    @Nullable private Future<FlushResult> asyncFlush;
+    private long asyncFlushOccupancy;
+
     public MergeTreeWriter(
             boolean writeBufferSpillable,
             MemorySize maxDiskSize,
@@ -99,7 +120,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             boolean commitForceCompact,
             ChangelogProducer changelogProducer,
             @Nullable CommitIncrement increment,
-            @Nullable FieldsComparator userDefinedSeqComparator) {
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            @Nullable ExecutorService flushExecutor) {
         this.writeBufferSpillable = writeBufferSpillable;
         this.maxDiskSize = maxDiskSize;
         this.sortMaxFan = sortMaxFan;
@@ -115,6 +137,8 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         this.commitForceCompact = commitForceCompact;
         this.changelogProducer = changelogProducer;
         this.userDefinedSeqComparator = userDefinedSeqComparator;
+        // spilled buffer never becomes full, background flush only works for in-memory buffer
+        this.flushExecutor = writeBufferSpillable ? null : flushExecutor;
 
         this.newFiles = new LinkedHashSet<>();
         this.deletedFiles = new LinkedHashSet<>();
@@ -147,25 +171,45 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public void setMemoryPool(MemorySegmentPool memoryPool) {
-        this.writeBuffer =
-                new SortBufferWriteBuffer(
-                        keyType,
-                        valueType,
-                        userDefinedSeqComparator,
-                        memoryPool,
-                        writeBufferSpillable,
-                        maxDiskSize,
-                        sortMaxFan,
-                        sortCompression,
-                        ioManager);
+        int halfPages = memoryPool.freePages() / 2;
+        if (flushExecutor != null && halfPages >= MIN_BUFFER_PAGES) {
+            // each buffer takes half of the memory, so that one can be filled while the other
+            // one is being flushed
+            this.writeBuffer = createWriteBuffer(new BoundedMemoryPool(memoryPool, halfPages));
+            this.spareBuffer = createWriteBuffer(new BoundedMemoryPool(memoryPool, halfPages));
+        } else {
+            this.writeBuffer = createWriteBuffer(memoryPool);
+            this.spareBuffer = null;
+        }
+    }
+
+    private WriteBuffer createWriteBuffer(MemorySegmentPool memoryPool) {
+        return new SortBufferWriteBuffer(
+                keyType,
+                valueType,
+                userDefinedSeqComparator,
+                memoryPool,
+                writeBufferSpillable,
+                maxDiskSize,
+                sortMaxFan,
+                sortCompression,
+                ioManager);
     }
 
     @Override
     public void write(KeyValue kv) throws Exception {
+        if (asyncFlush != null && asyncFlush.isDone()) {
+            completeAsyncFlush();
+        }
+
         long sequenceNumber = newSequenceNumber();
         boolean success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
         if (!success) {
-            flushWriteBuffer(false, false);
+            if (spareBuffer != null) {
+                flushWriteBufferAsync();
+            } else {
+                flushWriteBuffer(false, false);
+            }
             success = writeBuffer.put(sequenceNumber, kv.valueKind(), kv.key(), kv.value());
             if (!success) {
                 throw new RuntimeException("Mem table is too small to hold a single element.");
@@ -195,7 +239,7 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     @Override
     public long memoryOccupancy() {
-        return writeBuffer.memoryOccupancy();
+        return writeBuffer.memoryOccupancy() + (asyncFlush == null ? 0 : asyncFlushOccupancy);
     }
 
     @Override
@@ -208,44 +252,114 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
 
     private void flushWriteBuffer(boolean waitForLatestCompaction, boolean forcedFullCompaction)
             throws Exception {
+        completeAsyncFlush();
         if (writeBuffer.size() > 0) {
             if (compactManager.shouldWaitForLatestCompaction()) {
                 waitForLatestCompaction = true;
             }
 
-            final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
-                    changelogProducer == ChangelogProducer.INPUT
-                            ? writerFactory.createRollingChangelogFileWriter(0)
-                            : null;
-            final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
-                    writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
-
+            FlushResult result;
             try {
-                writeBuffer.forEach(
-                        keyComparator,
-                        mergeFunction,
-                        changelogWriter == null ? null : changelogWriter::write,
-                        dataWriter::write);
+                result = flush(writeBuffer);
             } finally {
                 writeBuffer.clear();
-                if (changelogWriter != null) {
-                    changelogWriter.close();
-                }
-                dataWriter.close();
             }
+            addFlushResult(result);
+        }
 
-            if (changelogWriter != null) {
-                newFilesChangelog.addAll(changelogWriter.result());
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(forcedFullCompaction);
+    }
+
+    /**
+     * Hands the full write buffer to the flush executor and switches to the spare buffer. If the
+     * previous flush has not finished yet, waits for it, which is the backpressure of writing.
+     */
+    private void flushWriteBufferAsync() throws Exception {
+        completeAsyncFlush();
+        if (writeBuffer.size() == 0) {
+            return;
+        }
+
+        WriteBuffer flushing = writeBuffer;
+        writeBuffer = spareBuffer;
+        spareBuffer = flushing;
+        asyncFlushOccupancy = flushing.memoryOccupancy();
+        asyncFlush = flushExecutor.submit(() -> flush(flushing));
+    }
+
+    /** Waits for the background flush and adds its files, the flushed buffer is cleared. */
+    private void completeAsyncFlush() throws Exception {
+        FlushResult result = awaitAsyncFlush();
+        if (result == null) {
+            return;
+        }
+
+        addFlushResult(result);
+        boolean waitForLatestCompaction = compactManager.shouldWaitForLatestCompaction();
+        trySyncLatestCompaction(waitForLatestCompaction);
+        compactManager.triggerCompaction(false);
+    }
+
+    @Nullable
+    private FlushResult awaitAsyncFlush() throws Exception {
+        if (asyncFlush == null) {
+            return null;
+        }
+
+        FlushResult result = null;
+        try {
+            result = asyncFlush.get();
+        } catch (ExecutionException e) {
+            ExceptionUtils.rethrowException(e.getCause());
+        } finally {
+            // keep the future if interrupted, the buffer is still being read by the flush
+            if (asyncFlush.isDone()) {
+                asyncFlush = null;
+                asyncFlushOccupancy = 0;
+                // return memory in writer thread, the memory pool is not thread safe
+                spareBuffer.clear();
             }
+        }
+        return result;
+    }
 
-            for (DataFileMeta fileMeta : dataWriter.result()) {
-                newFiles.add(fileMeta);
-                compactManager.addNewFile(fileMeta);
+    /**
+     * Sorts, merges and writes records of the buffer into level 0 files. This may be called in
+     * flush executor, so it should not touch the states of this writer.
+     */
+    private FlushResult flush(WriteBuffer buffer) throws Exception {
+        final RollingFileWriter<KeyValue, DataFileMeta> changelogWriter =
+                changelogProducer == ChangelogProducer.INPUT
+                        ? writerFactory.createRollingChangelogFileWriter(0)
+                        : null;
+        final RollingFileWriter<KeyValue, DataFileMeta> dataWriter =
+                writerFactory.createRollingMergeTreeFileWriter(0, FileSource.APPEND);
+
+        try {
+            buffer.forEach(
+                    keyComparator,
+                    mergeFunction,
+                    changelogWriter == null ? null : changelogWriter::write,
+                    dataWriter::write);
+        } finally {
+            if (changelogWriter != null) {
+                changelogWriter.close();
             }
+            dataWriter.close();
         }
 
-        trySyncLatestCompaction(waitForLatestCompaction);
-        compactManager.triggerCompaction(forcedFullCompaction);
+        return new FlushResult(
+                dataWriter.result(),
+                changelogWriter == null ? Collections.emptyList() : changelogWriter.result());
+    }
+
+    private void addFlushResult(FlushResult result) {
+        newFilesChangelog.addAll(result.changelogFiles);
+        for (DataFileMeta fileMeta : result.dataFiles) {
+            newFiles.add(fileMeta);
+            compactManager.addNewFile(fileMeta);
+        }
     }
 
     @Override
@@ -346,6 +460,22 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
         sync();
         compactManager.close();
 
+        // wait for the background flush, its files are deleted below as temporary files
+        try {
+            FlushResult result = awaitAsyncFlush();
+            if (result != null) {
+                newFiles.addAll(result.dataFiles);
+                newFilesChangelog.addAll(result.changelogFiles);
+            }
+        } catch (Exception e) {
+            LOG.warn("Background flush of write buffer failed when closing writer.", e);
+        }
+
+        // return memory of the write buffer, the pool may be off-heap and released later
+        if (writeBuffer != null) {
+            writeBuffer.clear();
+        }
+
         // delete temporary files
         List<DataFileMeta> delete = new ArrayList<>(newFiles);
         newFiles.clear();
@@ -379,4 +509,59 @@ public class MergeTreeWriter implements RecordWriter<KeyValue>, MemoryOwner {
             compactDeletionFile.clean();
         }
     }
+
+    /** Files written by flushing a write buffer. */
+    private static class FlushResult {
+
+        private final List<DataFileMeta> dataFiles;
+        private final List<DataFileMeta> changelogFiles;
+
+        private FlushResult(List<DataFileMeta> dataFiles, List<DataFileMeta> changelogFiles) {
+            this.dataFiles = dataFiles;
+            this.changelogFiles = changelogFiles;
+        }
+    }
+
+    /** A {@link MemorySegmentPool} which limits the number of pages taken from another pool. */
+    private static class BoundedMemoryPool implements MemorySegmentPool {
+
+        private final MemorySegmentPool pool;
+        private final int maxPages;
+
+        private int allocatedPages;
+
+        private BoundedMemoryPool(MemorySegmentPool pool, int maxPages) {
+            this.pool = pool;
+            this.maxPages = maxPages;
+            this.allocatedPages = 0;
+        }
+
+        @Override
+        public int pageSize() {
+            return pool.pageSize();
+        }
+
+        @Override
+        public void returnAll(List<MemorySegment> memory) {
+            allocatedPages -= memory.size();
+            pool.returnAll(memory);
+        }
+
+        @Override
+        public int freePages() {
+            return Math.min(maxPages - allocatedPages, pool.freePages());
+        }
+
+        @Override
+        public MemorySegment nextSegment() {
+            if (allocatedPages >= maxPages) {
+                return null;
+            }
+            MemorySegment segment = pool.nextSegment();
+            if (segment != null) {
+                allocatedPages++;
+            }
+            return segment;
+        }
+    }
 }
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.reader.ReaderSupplier;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.ExecutorThreadFactory;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * A {@link RecordReader} to concatenate readers of files like {@link
+ * org.apache.paimon.mergetree.compact.ConcatRecordReader}, but the next reader is opened in
+ * background while the current one is read. Readers sharing the same {@link Semaphore} can open at
+ * most as many readers ahead as its permits, otherwise readers are opened when needed.
+ *
+ * <p>Opening a reader usually reads the footer and the first pages of a file, so prefetching hides
+ * this latency from merging, especially on object stores. Batches are not read ahead, because file
+ * formats may reuse a batch after it is released.
+ */
+public class PrefetchConcatRecordReader<T> implements RecordReader<T> {
+
+    private static final ExecutorService PREFETCH_EXECUTOR =
+            Executors.newCachedThreadPool(
+                    new ExecutorThreadFactory("paimon-reader-prefetch-thread"));
+
+    private final Queue<ReaderSupplier<T>> queue;
+    private final Semaphore budget;
+
+    @Nullable private Future<RecordReader<T>> next;
+    @Nullable private RecordReader<T> current;
+
+    public PrefetchConcatRecordReader(
+            List<? extends ReaderSupplier<T>> suppliers, Semaphore budget) {
+        this.queue = new LinkedList<>(suppliers);
+        this.budget = budget;
+        prefetchNext();
+    }
+
+    private void prefetchNext() {
+        if (queue.isEmpty() || !budget.tryAcquire()) {
+            return;
+        }
+
+        ReaderSupplier<T> supplier = queue.poll();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        next =
+                PREFETCH_EXECUTOR.submit(
+                        () -> {
+                            Thread.currentThread().setContextClassLoader(classLoader);
+                            return supplier.get();
+                        });
+    }
+
+    @Nullable
+    private RecordReader<T> takeNext() throws IOException {
+        if (next == null) {
+            ReaderSupplier<T> supplier = queue.poll();
+            return supplier == null ? null : supplier.get();
+        }
+
+        Future<RecordReader<T>> future = next;
+        next = null;
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            budget.release();
+        }
+    }
+
+    @Nullable
+    @Override
+    public RecordIterator<T> readBatch() throws IOException {
+        while (true) {
+            if (current == null) {
+                current = takeNext();
+                if (current == null) {
+                    return null;
+                }
+                prefetchNext();
+            }
+
+            RecordIterator<T> iterator = current.readBatch();
+            if (iterator != null) {
+                return iterator;
+            }
+            current.close();
+            current = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (current != null) {
+                current.close();
+            }
+        } finally {
+            if (next != null) {
+                // the reader may be opening, wait for it to be able to close it
+                RecordReader<T> reader = null;
+                try {
+                    reader = takeNext();
+                } catch (IOException ignored) {
+                    // nothing to close if the reader failed to open
+                }
+                if (reader != null) {
+                    reader.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.io.DataFileLookupWriter;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
+import org.apache.paimon.lookup.LookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortContext;
+import org.apache.paimon.utils.IOUtils;
+
+import javax.annotation.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Optional;
+
+import static org.apache.paimon.io.DataFilePathFactory.LOOKUP_PATH_SUFFIX;
+
+/**
+ * A {@link LookupLevels.RemoteFileDownloader} to download the sorted lookup files written by {@link
+ * DataFileLookupWriter}. Lookup files are only reused if the data file is written with the current
+ * schema, since the serialized values of the lookup file follow the schema of the data file.
+ */
+public class RemoteLookupFileDownloader implements LookupLevels.RemoteFileDownloader {
+
+    private final FileIO fileIO;
+    private final DataFilePathFactory pathFactory;
+    private final long schemaId;
+
+    public RemoteLookupFileDownloader(
+            FileIO fileIO, DataFilePathFactory pathFactory, long schemaId) {
+        this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
+        this.schemaId = schemaId;
+    }
+
+    @Nullable
+    @Override
+    public LookupStoreFactory.Context tryToDownload(DataFileMeta dataFile, File localFile)
+            throws IOException {
+        if (dataFile.schemaId() != schemaId) {
+            return null;
+        }
+
+        Optional<String> lookupFile =
+                dataFile.extraFiles().stream()
+                        .filter(name -> name.endsWith(LOOKUP_PATH_SUFFIX))
+                        .findFirst();
+        if (!lookupFile.isPresent()) {
+            return null;
+        }
+
+        Path remoteFile = pathFactory.toAlignedPath(lookupFile.get(), dataFile);
+        try (SeekableInputStream in = fileIO.newInputStream(remoteFile);
+                OutputStream out = Files.newOutputStream(localFile.toPath())) {
+            IOUtils.copyBytes(in, out, IOUtils.BLOCKSIZE, false);
+        }
+        return new SortContext(localFile.length());
+    }
+}
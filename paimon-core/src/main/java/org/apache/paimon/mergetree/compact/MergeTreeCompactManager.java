@@ -25,6 +25,7 @@ import org.apache.paimon.compact.CompactFutureManager;
 import org.apache.paimon.compact.CompactResult;
 import org.apache.paimon.compact.CompactTask;
 import org.apache.paimon.compact.CompactUnit;
+import org.apache.paimon.compact.SharedCompactExecutor;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.io.DataFileMeta;
@@ -237,7 +238,9 @@ public class MergeTreeCompactManager extends CompactFutureManager {
                                                     file.fileName(), file.level(), file.fileSize()))
                             .collect(Collectors.joining(", ")));
         }
-        taskFuture = executor.submit(task);
+        // buckets closer to stopping writes are more urgent when the executor is shared
+        double priority = (double) levels.numberOfSortedRuns() / numSortedRunStopTrigger;
+        taskFuture = executor.submit(SharedCompactExecutor.prioritized(task, priority));
         if (metricsReporter != null) {
             metricsReporter.increaseCompactionsQueuedCount();
         }
@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.mergetree.SortedRun;
+import org.apache.paimon.utils.ExceptionUtils;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.apache.paimon.utils.Preconditions.checkArgument;
+
+/**
+ * A {@link CompactRewriter} which splits the sections to rewrite into several disjoint key ranges
+ * and rewrites them concurrently.
+ *
+ * <p>Sections produced by {@link IntervalPartition} never overlap with each other and are ordered
+ * by key, so contiguous groups of sections cover disjoint key ranges. Each group is merged by its
+ * own {@link MergeTreeCompactRewriter} into separate output files, the outputs are concatenated in
+ * key order and still form a valid sorted run.
+ *
+ * <p>The first group is rewritten in the calling thread, the others are submitted to the given
+ * executor.
+ *
+ * <p>Sections are never split, so a compaction with a single section, for example a full
+ * compaction of fully overlapping files, is rewritten by one thread only. Splitting inside a
+ * section would need key boundaries, which are not known without reading the files.
+ */
+public class ParallelMergeTreeCompactRewriter extends AbstractCompactRewriter {
+
+    private final List<MergeTreeCompactRewriter> rewriters;
+    private final ExecutorService executor;
+
+    /**
+     * @param rewriters rewriters for each parallel slot, they must not share any state because
+     *     they are used concurrently
+     */
+    public ParallelMergeTreeCompactRewriter(
+            List<MergeTreeCompactRewriter> rewriters, ExecutorService executor) {
+        checkArgument(!rewriters.isEmpty(), "Rewriters should not be empty.");
+        this.rewriters = rewriters;
+        this.executor = executor;
+    }
+
+    @Override
+    public CompactResult rewrite(
+            int outputLevel, boolean dropDelete, List<List<SortedRun>> sections) throws Exception {
+        List<List<List<SortedRun>>> groups = splitSections(sections, rewriters.size());
+        if (groups.size() <= 1) {
+            return rewriters.get(0).rewrite(outputLevel, dropDelete, sections);
+        }
+
+        // tasks are not cancelled on failure, because a cancelled task may still be writing files
+        // which could not be deleted then, instead tasks not started yet are skipped
+        AtomicBoolean failed = new AtomicBoolean(false);
+        List<Future<CompactResult>> futures = new ArrayList<>();
+        for (int i = 1; i < groups.size(); i++) {
+            MergeTreeCompactRewriter rewriter = rewriters.get(i);
+            List<List<SortedRun>> group = groups.get(i);
+            futures.add(
+                    executor.submit(
+                            () -> {
+                                if (failed.get()) {
+                                    return new CompactResult();
+                                }
+                                try {
+                                    return rewriter.rewrite(outputLevel, dropDelete, group);
+                                } catch (Exception e) {
+                                    failed.set(true);
+                                    throw e;
+                                }
+                            }));
+        }
+
+        List<CompactResult> results = new ArrayList<>();
+        Exception exception = null;
+        try {
+            results.add(rewriters.get(0).rewrite(outputLevel, dropDelete, groups.get(0)));
+        } catch (Exception e) {
+            failed.set(true);
+            exception = e;
+        }
+        for (Future<CompactResult> future : futures) {
+            try {
+                results.add(getUninterruptibly(future, failed));
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                exception =
+                        ExceptionUtils.firstOrSuppressed(
+                                cause instanceof Exception ? (Exception) cause : e, exception);
+            }
+        }
+        if (exception == null && failed.get()) {
+            // interrupted while waiting, some ranges may have been skipped or cancelled
+            exception = new InterruptedException("Interrupted while rewriting in parallel.");
+        }
+
+        if (exception != null) {
+            // outputs of the succeeded ranges are useless now
+            for (CompactResult result : results) {
+                for (DataFileMeta file : result.after()) {
+                    rewriters.get(0).writerFactory.deleteFile(file);
+                }
+            }
+            throw exception;
+        }
+
+        CompactResult result = new CompactResult();
+        results.forEach(result::merge);
+        return result;
+    }
+
+    /**
+     * Waits for the task even if the current thread is interrupted, so that its outputs can be
+     * deleted. The interruption makes the tasks which are not started yet skipped. A task cancelled
+     * by {@link #shutdownNow} has no outputs, it fails the rewrite.
+     */
+    private static CompactResult getUninterruptibly(
+            Future<CompactResult> future, AtomicBoolean failed) throws ExecutionException {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    failed.set(true);
+                } catch (CancellationException e) {
+                    failed.set(true);
+                    return new CompactResult();
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Shuts down an executor used by rewriters. Tasks not started yet are cancelled, so that the
+     * rewrites waiting for them don't block forever.
+     */
+    public static void shutdownNow(ExecutorService executor) {
+        for (Runnable task : executor.shutdownNow()) {
+            if (task instanceof Future) {
+                ((Future<?>) task).cancel(false);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        for (MergeTreeCompactRewriter rewriter : rewriters) {
+            try {
+                rewriter.close();
+            } catch (IOException e) {
+                exception = ExceptionUtils.firstOrSuppressed(e, exception);
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    /**
+     * Splits sections into at most {@code maxGroups} contiguous groups, trying to balance the total
+     * file size of each group.
+     */
+    @VisibleForTesting
+    static List<List<List<SortedRun>>> splitSections(
+            List<List<SortedRun>> sections, int maxGroups) {
+        List<List<List<SortedRun>>> groups = new ArrayList<>();
+        if (maxGroups <= 1 || sections.size() <= 1) {
+            groups.add(sections);
+            return groups;
+        }
+
+        long totalSize = 0;
+        for (List<SortedRun> section : sections) {
+            totalSize += sectionSize(section);
+        }
+        long targetSize = Math.max(1, totalSize / maxGroups);
+
+        List<List<SortedRun>> current = new ArrayList<>();
+        long currentSize = 0;
+        for (int i = 0; i < sections.size(); i++) {
+            List<SortedRun> section = sections.get(i);
+            current.add(section);
+            currentSize += sectionSize(section);
+            int remainingSections = sections.size() - i - 1;
+            if (currentSize >= targetSize
+                    && remainingSections > 0
+                    && groups.size() < maxGroups - 1) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentSize = 0;
+            }
+        }
+        if (!current.isEmpty()) {
+            groups.add(current);
+        }
+        return groups;
+    }
+
+    private static long sectionSize(List<SortedRun> section) {
+        long size = 0;
+        for (SortedRun run : section) {
+            size += run.totalSize();
+        }
+        return size;
+    }
+}
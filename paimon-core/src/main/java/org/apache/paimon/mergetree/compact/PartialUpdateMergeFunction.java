@@ -541,6 +541,13 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
                         projectedAggregators.put(i, fieldAggregators.get(projects[i]).get());
                     }
                 }
+                Set<Integer> projectedPartialDelete = new HashSet<>();
+                for (int field : sequenceGroupPartialDelete) {
+                    Integer newField = indexMap.get(field);
+                    if (newField != null) {
+                        projectedPartialDelete.add(newField);
+                    }
+                }
 
                 List<DataType> projectedTypes = Projection.of(projection).project(tableTypes);
                 return new PartialUpdateMergeFunction(
@@ -550,7 +557,7 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
                         projectedAggregators,
                         !fieldSeqComparators.isEmpty(),
                         removeRecordOnDelete,
-                        sequenceGroupPartialDelete,
+                        projectedPartialDelete,
                         ArrayUtils.toPrimitiveBoolean(
                                 projectedTypes.stream()
                                         .map(DataType::isNullable)
@@ -589,7 +596,17 @@ public class PartialUpdateMergeFunction implements MergeFunction<KeyValue> {
             LinkedHashSet<Integer> extraFields = new LinkedHashSet<>();
             int[] topProjects = Projection.of(projection).toTopLevelIndexes();
             Set<Integer> indexSet = Arrays.stream(topProjects).boxed().collect(Collectors.toSet());
-            for (int index : topProjects) {
+            // a delete of these sequence groups removes the whole record, even if no field of the
+            // groups is projected
+            for (int field : sequenceGroupPartialDelete) {
+                if (!indexSet.contains(field)) {
+                    extraFields.add(field);
+                }
+            }
+            List<Integer> mergedFields = new ArrayList<>();
+            Arrays.stream(topProjects).forEach(mergedFields::add);
+            mergedFields.addAll(extraFields);
+            for (int index : mergedFields) {
                 Supplier<FieldsComparator> comparatorSupplier = fieldSeqComparators.get(index);
                 if (comparatorSupplier == null) {
                     continue;
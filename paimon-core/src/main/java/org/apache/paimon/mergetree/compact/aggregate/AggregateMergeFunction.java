@@ -37,7 +37,10 @@ import org.apache.paimon.utils.Projection;
 import javax.annotation.Nullable;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.apache.paimon.utils.InternalRowUtils.createFieldGetters;
 import static org.apache.paimon.utils.Preconditions.checkNotNull;
@@ -58,15 +61,38 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
     private boolean currentDeleteRow;
     private final boolean removeRecordOnDelete;
 
+    // fields aggregated by primitives while primitiveMode is on, all fields otherwise
+    @Nullable private final PrimitiveFieldsAggregator primitives;
+    private final int[] nonPrimitiveFields;
+    private boolean primitiveMode;
+
     public AggregateMergeFunction(
             InternalRow.FieldGetter[] getters,
             FieldAggregator[] aggregators,
             boolean removeRecordOnDelete,
             boolean[] nullables) {
+        this(getters, aggregators, removeRecordOnDelete, nullables, null);
+    }
+
+    AggregateMergeFunction(
+            InternalRow.FieldGetter[] getters,
+            FieldAggregator[] aggregators,
+            boolean removeRecordOnDelete,
+            boolean[] nullables,
+            @Nullable PrimitiveFieldsAggregator primitives) {
         this.getters = getters;
         this.aggregators = aggregators;
         this.removeRecordOnDelete = removeRecordOnDelete;
         this.nullables = nullables;
+        this.primitives = primitives;
+        Set<Integer> primitiveFields = new HashSet<>();
+        if (primitives != null) {
+            Arrays.stream(primitives.fields()).forEach(primitiveFields::add);
+        }
+        this.nonPrimitiveFields =
+                IntStream.range(0, getters.length)
+                        .filter(i -> !primitiveFields.contains(i))
+                        .toArray();
     }
 
     @Override
@@ -75,6 +101,10 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
         this.row = new GenericRow(getters.length);
         Arrays.stream(aggregators).forEach(FieldAggregator::reset);
         this.currentDeleteRow = false;
+        if (primitives != null) {
+            primitives.reset();
+            primitiveMode = true;
+        }
     }
 
     @Override
@@ -83,12 +113,30 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
 
         currentDeleteRow = removeRecordOnDelete && kv.valueKind() == RowKind.DELETE;
         if (currentDeleteRow) {
+            // the record restarts from the deleted row, aggregate all fields by aggregators
+            primitiveMode = false;
             row = new GenericRow(getters.length);
             initRow(row, kv.value());
             return;
         }
 
         boolean isRetract = kv.valueKind().isRetract();
+        if (primitiveMode) {
+            if (!isRetract) {
+                primitives.add(kv.value());
+                for (int i : nonPrimitiveFields) {
+                    Object accumulator = getters[i].getFieldOrNull(row);
+                    Object inputField = getters[i].getFieldOrNull(kv.value());
+                    row.setField(i, aggregators[i].agg(accumulator, inputField));
+                }
+                return;
+            }
+
+            // primitives do not support retraction
+            primitives.writeTo(row);
+            primitiveMode = false;
+        }
+
         for (int i = 0; i < getters.length; i++) {
             FieldAggregator fieldAggregator = aggregators[i];
             Object accumulator = getters[i].getFieldOrNull(row);
@@ -123,6 +171,9 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
         if (reused == null) {
             reused = new KeyValue();
         }
+        if (primitiveMode) {
+            primitives.writeTo(row);
+        }
         RowKind rowKind = currentDeleteRow ? RowKind.DELETE : RowKind.INSERT;
         return reused.replace(latestKv.key(), latestKv.sequenceNumber(), rowKind, row);
     }
@@ -188,7 +239,8 @@ public class AggregateMergeFunction implements MergeFunction<KeyValue> {
                     fieldAggregators,
                     removeRecordOnDelete,
                     ArrayUtils.toPrimitiveBoolean(
-                            fieldTypes.stream().map(DataType::isNullable).toArray(Boolean[]::new)));
+                            fieldTypes.stream().map(DataType::isNullable).toArray(Boolean[]::new)),
+                    PrimitiveFieldsAggregator.create(fieldAggregators, fieldTypes));
         }
 
         private String getAggFuncName(String fieldName, List<String> sequenceFields) {
@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact.aggregate;
+
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeRoot;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregates fields of primitive types with sum, max, min, bool_and and bool_or in one loop over
+ * unboxed accumulators. It reads input fields with typed getters and boxes the results only once
+ * per key, instead of boxing every field of every row like {@link FieldAggregator}. Retraction is
+ * not supported, {@link AggregateMergeFunction} falls back to {@link FieldAggregator}s for it.
+ */
+class PrimitiveFieldsAggregator {
+
+    private static final int SUM = 0;
+    private static final int MAX = 1;
+    private static final int MIN = 2;
+    private static final int AND = 3;
+    private static final int OR = 4;
+
+    private final int[] fields;
+    private final int[] functions;
+    private final DataTypeRoot[] types;
+
+    // integral types and booleans (0 or 1) are accumulated in longs, floating types in doubles
+    private final long[] longs;
+    private final double[] doubles;
+    private final boolean[] nulls;
+
+    private PrimitiveFieldsAggregator(int[] fields, int[] functions, DataTypeRoot[] types) {
+        this.fields = fields;
+        this.functions = functions;
+        this.types = types;
+        this.longs = new long[fields.length];
+        this.doubles = new double[fields.length];
+        this.nulls = new boolean[fields.length];
+    }
+
+    @Nullable
+    static PrimitiveFieldsAggregator create(
+            FieldAggregator[] aggregators, List<DataType> fieldTypes) {
+        List<Integer> fields = new ArrayList<>();
+        for (int i = 0; i < aggregators.length; i++) {
+            if (function(aggregators[i], fieldTypes.get(i).getTypeRoot()) >= 0) {
+                fields.add(i);
+            }
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+
+        int[] fieldArray = new int[fields.size()];
+        int[] functions = new int[fields.size()];
+        DataTypeRoot[] types = new DataTypeRoot[fields.size()];
+        for (int j = 0; j < fieldArray.length; j++) {
+            int field = fields.get(j);
+            fieldArray[j] = field;
+            types[j] = fieldTypes.get(field).getTypeRoot();
+            functions[j] = function(aggregators[field], types[j]);
+        }
+        return new PrimitiveFieldsAggregator(fieldArray, functions, types);
+    }
+
+    private static int function(FieldAggregator aggregator, DataTypeRoot type) {
+        // exact classes only, subclasses and wrappers may change the semantics
+        Class<?> clazz = aggregator.getClass();
+        if (type == DataTypeRoot.BOOLEAN) {
+            return clazz == FieldBoolAndAgg.class ? AND : clazz == FieldBoolOrAgg.class ? OR : -1;
+        }
+
+        switch (type) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+                break;
+            default:
+                return -1;
+        }
+        if (clazz == FieldSumAgg.class) {
+            return SUM;
+        } else if (clazz == FieldMaxAgg.class) {
+            return MAX;
+        } else if (clazz == FieldMinAgg.class) {
+            return MIN;
+        }
+        return -1;
+    }
+
+    /** Indexes of the fields aggregated by this aggregator. */
+    int[] fields() {
+        return fields;
+    }
+
+    void reset() {
+        Arrays.fill(nulls, true);
+    }
+
+    void add(InternalRow value) {
+        for (int j = 0; j < fields.length; j++) {
+            int pos = fields[j];
+            if (value.isNullAt(pos)) {
+                continue;
+            }
+
+            switch (types[j]) {
+                case TINYINT:
+                    addLong(j, value.getByte(pos));
+                    break;
+                case SMALLINT:
+                    addLong(j, value.getShort(pos));
+                    break;
+                case INTEGER:
+                    addLong(j, value.getInt(pos));
+                    break;
+                case BIGINT:
+                    addLong(j, value.getLong(pos));
+                    break;
+                case BOOLEAN:
+                    addLong(j, value.getBoolean(pos) ? 1 : 0);
+                    break;
+                case FLOAT:
+                    addDouble(j, value.getFloat(pos));
+                    break;
+                default:
+                    addDouble(j, value.getDouble(pos));
+                    break;
+            }
+        }
+    }
+
+    private void addLong(int j, long input) {
+        if (nulls[j]) {
+            nulls[j] = false;
+            longs[j] = input;
+            return;
+        }
+
+        long acc = longs[j];
+        switch (functions[j]) {
+            case SUM:
+                // integral sums wrap like the boxed ones, the result is narrowed in writeTo
+                longs[j] = acc + input;
+                break;
+            case MAX:
+                longs[j] = Math.max(acc, input);
+                break;
+            case MIN:
+                longs[j] = Math.min(acc, input);
+                break;
+            case AND:
+                longs[j] = acc & input;
+                break;
+            default:
+                longs[j] = acc | input;
+                break;
+        }
+    }
+
+    private void addDouble(int j, double input) {
+        if (nulls[j]) {
+            nulls[j] = false;
+            doubles[j] = input;
+            return;
+        }
+
+        double acc = doubles[j];
+        switch (functions[j]) {
+            case SUM:
+                double sum = acc + input;
+                // keep the precision of float sums
+                doubles[j] = types[j] == DataTypeRoot.FLOAT ? (float) sum : sum;
+                break;
+            case MAX:
+                doubles[j] = Double.compare(acc, input) < 0 ? input : acc;
+                break;
+            default:
+                doubles[j] = Double.compare(acc, input) > 0 ? input : acc;
+                break;
+        }
+    }
+
+    /** Writes the accumulated values into the fields of {@code row}. */
+    void writeTo(GenericRow row) {
+        for (int j = 0; j < fields.length; j++) {
+            row.setField(fields[j], nulls[j] ? null : result(j));
+        }
+    }
+
+    private Object result(int j) {
+        switch (types[j]) {
+            case TINYINT:
+                return (byte) longs[j];
+            case SMALLINT:
+                return (short) longs[j];
+            case INTEGER:
+                return (int) longs[j];
+            case BIGINT:
+                return longs[j];
+            case BOOLEAN:
+                return longs[j] != 0;
+            case FLOAT:
+                return (float) doubles[j];
+            default:
+                return doubles[j];
+        }
+    }
+}
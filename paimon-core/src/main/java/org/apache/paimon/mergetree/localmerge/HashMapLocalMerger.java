@@ -44,21 +44,45 @@ import java.util.function.Consumer;
 
 import static org.apache.paimon.data.InternalRow.createFieldSetter;
 
-/** A {@link LocalMerger} which stores records in {@link BytesHashMap}. */
+/**
+ * A {@link LocalMerger} which stores records in {@link BytesHashMap}.
+ *
+ * <p>If a hot key ratio is set, the update frequencies of keys are estimated with a small
+ * count-min sketch, and {@link #evict} only emits records of cold keys when the buffer is full.
+ */
 public class HashMapLocalMerger implements LocalMerger {
 
+    private static final int SKETCH_SIZE = 1 << 16;
+    private static final int SKETCH_MASK = SKETCH_SIZE - 1;
+
+    // keys updated only once gain nothing from staying in the buffer
+    private static final int MIN_HOT_FREQUENCY = 2;
+
     private final InternalRowSerializer valueSerializer;
     private final MergeFunction<KeyValue> mergeFunction;
     @Nullable private final FieldsComparator udsComparator;
     private final BytesHashMap<BinaryRow> buffer;
     private final List<FieldSetter> nonKeySetters;
 
+    private final double hotKeyRatio;
+    @Nullable private final byte[] frequencies;
+
     public HashMapLocalMerger(
             RowType rowType,
             List<String> primaryKeys,
             MemorySegmentPool memoryPool,
             MergeFunction<KeyValue> mergeFunction,
             @Nullable FieldsComparator userDefinedSeqComparator) {
+        this(rowType, primaryKeys, memoryPool, mergeFunction, userDefinedSeqComparator, 0);
+    }
+
+    public HashMapLocalMerger(
+            RowType rowType,
+            List<String> primaryKeys,
+            MemorySegmentPool memoryPool,
+            MergeFunction<KeyValue> mergeFunction,
+            @Nullable FieldsComparator userDefinedSeqComparator,
+            double hotKeyRatio) {
         this.valueSerializer = new InternalRowSerializer(rowType);
         this.mergeFunction = mergeFunction;
         this.udsComparator = userDefinedSeqComparator;
@@ -76,12 +100,18 @@ public class HashMapLocalMerger implements LocalMerger {
             }
             nonKeySetters.add(createFieldSetter(field.type(), i));
         }
+
+        this.hotKeyRatio = hotKeyRatio;
+        this.frequencies = hotKeyRatio > 0 ? new byte[SKETCH_SIZE] : null;
     }
 
     @Override
     public boolean put(RowKind rowKind, BinaryRow key, InternalRow value) throws IOException {
         // we store row kind in value
         value.setRowKind(rowKind);
+        if (frequencies != null) {
+            increment(key.hashCode());
+        }
 
         LookupInfo<BinaryRow, BinaryRow> lookup = buffer.lookup(key);
         if (!lookup.isFound()) {
@@ -126,8 +156,82 @@ public class HashMapLocalMerger implements LocalMerger {
         }
     }
 
+    @Override
+    public boolean evict(Consumer<InternalRow> consumer) throws IOException {
+        int retainLimit = (int) (buffer.getNumElements() * hotKeyRatio);
+        if (frequencies == null || retainLimit == 0) {
+            return false;
+        }
+
+        // find the lowest frequency of which all keys can be retained
+        int[] histogram = new int[Byte.MAX_VALUE + 1];
+        KeyValueIterator<BinaryRow, BinaryRow> iterator = buffer.getEntryIterator(false);
+        while (iterator.advanceNext()) {
+            histogram[frequency(iterator.getKey().hashCode())]++;
+        }
+        int threshold = histogram.length;
+        int retained = 0;
+        while (threshold > MIN_HOT_FREQUENCY
+                && retained + histogram[threshold - 1] <= retainLimit) {
+            threshold--;
+            retained += histogram[threshold];
+        }
+        if (retained == 0) {
+            return false;
+        }
+
+        List<BinaryRow> hotKeys = new ArrayList<>(retained);
+        List<BinaryRow> hotValues = new ArrayList<>(retained);
+        iterator = buffer.getEntryIterator(false);
+        while (iterator.advanceNext()) {
+            BinaryRow key = iterator.getKey();
+            if (frequency(key.hashCode()) >= threshold) {
+                hotKeys.add(key.copy());
+                hotValues.add(iterator.getValue().copy());
+            } else {
+                consumer.accept(iterator.getValue());
+            }
+        }
+
+        buffer.reset();
+        for (int i = 0; i < hotKeys.size(); i++) {
+            buffer.append(buffer.lookup(hotKeys.get(i)), hotValues.get(i));
+        }
+
+        // age the frequencies, so that keys which are not updated anymore turn cold
+        for (int i = 0; i < frequencies.length; i++) {
+            frequencies[i] >>= 1;
+        }
+        return true;
+    }
+
+    private void increment(int hash) {
+        int i1 = hash & SKETCH_MASK;
+        int i2 = spread(hash) & SKETCH_MASK;
+        if (frequencies[i1] < Byte.MAX_VALUE) {
+            frequencies[i1]++;
+        }
+        if (frequencies[i2] < Byte.MAX_VALUE) {
+            frequencies[i2]++;
+        }
+    }
+
+    private int frequency(int hash) {
+        return Math.min(frequencies[hash & SKETCH_MASK], frequencies[spread(hash) & SKETCH_MASK]);
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
     @Override
     public void clear() {
         buffer.reset();
     }
+
+    @Override
+    public void close() {
+        buffer.free();
+    }
 }
@@ -34,5 +34,16 @@ public interface LocalMerger {
 
     void forEach(Consumer<InternalRow> consumer) throws IOException;
 
+    /**
+     * Emits part of the buffered records to make room for new records, the remaining records keep
+     * merging new records. Returns false if nothing is evicted, the merger should be flushed then.
+     */
+    default boolean evict(Consumer<InternalRow> consumer) throws IOException {
+        return false;
+    }
+
     void clear();
+
+    /** Returns all memory to the pool, the merger can not be used anymore. */
+    void close();
 }
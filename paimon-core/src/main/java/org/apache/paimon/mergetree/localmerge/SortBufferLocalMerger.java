@@ -75,4 +75,9 @@ public class SortBufferLocalMerger implements LocalMerger {
     public void clear() {
         sortBuffer.clear();
     }
+
+    @Override
+    public void close() {
+        sortBuffer.clear();
+    }
 }
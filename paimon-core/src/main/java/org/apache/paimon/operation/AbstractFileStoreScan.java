@@ -24,6 +24,8 @@ import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.manifest.BucketEntry;
 import org.apache.paimon.manifest.FileEntry;
 import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.IdentifierFingerprintSet;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.manifest.ManifestEntry;
 import org.apache.paimon.manifest.ManifestEntrySerializer;
@@ -55,6 +57,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -91,6 +94,12 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     private ManifestCacheFilter manifestCacheFilter = null;
     private ScanMetrics scanMetrics = null;
     private boolean dropStats;
+    @Nullable private PlanCache planCache = null;
+    private boolean singlePassMerge = false;
+    @Nullable private ExternalFileIndexFilter externalFileIndexFilter = null;
+
+    private final AtomicLong readManifestBytes = new AtomicLong();
+    private final AtomicLong readManifestEntries = new AtomicLong();
 
     public AbstractFileStoreScan(
             ManifestsReader manifestsReader,
@@ -240,6 +249,26 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return this;
     }
 
+    /**
+     * Plans with the cached live data files of {@link PlanCache} instead of reading and merging
+     * all data manifests, only valid for {@link ScanMode#ALL}.
+     */
+    public AbstractFileStoreScan withPlanCache(@Nullable PlanCache planCache) {
+        this.planCache = planCache;
+        return this;
+    }
+
+    public AbstractFileStoreScan withSinglePassMerge(boolean singlePassMerge) {
+        this.singlePassMerge = singlePassMerge;
+        return this;
+    }
+
+    public AbstractFileStoreScan withExternalFileIndexFilter(
+            @Nullable ExternalFileIndexFilter externalFileIndexFilter) {
+        this.externalFileIndexFilter = externalFileIndexFilter;
+        return this;
+    }
+
     @Nullable
     @Override
     public Integer parallelism() {
@@ -254,14 +283,36 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
     @Override
     public Plan plan() {
         long started = System.nanoTime();
-        ManifestsReader.Result manifestsResult = readManifests();
-        Snapshot snapshot = manifestsResult.snapshot;
-        List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
-
-        Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
+        readManifestBytes.set(0);
+        readManifestEntries.set(0);
+        PlanCache.Result cachedResult = readCachedFiles();
+        Snapshot snapshot;
         List<ManifestEntry> files = new ArrayList<>();
-        while (iterator.hasNext()) {
-            files.add(iterator.next());
+        int scannedManifests;
+        long allDataFiles;
+        if (cachedResult != null) {
+            snapshot = cachedResult.snapshot;
+            for (ManifestEntry entry : cachedResult.files) {
+                if (filterCachedEntry(entry)) {
+                    files.add(dropStats ? dropStats(entry) : entry);
+                }
+            }
+            scannedManifests = 0;
+            allDataFiles = cachedResult.totalFiles;
+        } else {
+            ManifestsReader.Result manifestsResult = readManifests();
+            snapshot = manifestsResult.snapshot;
+            List<ManifestFileMeta> manifests = manifestsResult.filteredManifests;
+
+            Iterator<ManifestEntry> iterator = readManifestEntries(manifests, false);
+            while (iterator.hasNext()) {
+                files.add(iterator.next());
+            }
+            scannedManifests = manifests.size();
+            allDataFiles =
+                    manifestsResult.allManifests.stream()
+                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
+                            .sum();
         }
 
         if (wholeBucketFilterEnabled()) {
@@ -284,33 +335,41 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                             .collect(Collectors.toList());
         }
 
+        if (externalFileIndexFilter != null) {
+            files =
+                    externalFileIndexFilter.filter(
+                            files,
+                            this::fileIndexPredicate,
+                            id -> scanTableSchema(id).logicalRowType(),
+                            parallelism);
+        }
+
         List<ManifestEntry> result = files;
+        Snapshot resultSnapshot = snapshot;
 
         long scanDuration = (System.nanoTime() - started) / 1_000_000;
         if (scanMetrics != null) {
-            long allDataFiles =
-                    manifestsResult.allManifests.stream()
-                            .mapToLong(f -> f.numAddedFiles() - f.numDeletedFiles())
-                            .sum();
             scanMetrics.reportScan(
                     new ScanStats(
                             scanDuration,
-                            manifests.size(),
+                            scannedManifests,
                             allDataFiles - result.size(),
-                            result.size()));
+                            result.size(),
+                            readManifestBytes.get(),
+                            readManifestEntries.get()));
         }
 
         return new Plan() {
             @Nullable
             @Override
             public Long watermark() {
-                return snapshot == null ? null : snapshot.watermark();
+                return resultSnapshot == null ? null : resultSnapshot.watermark();
             }
 
             @Nullable
             @Override
             public Snapshot snapshot() {
-                return snapshot;
+                return resultSnapshot;
             }
 
             @Override
@@ -375,6 +434,10 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
             List<ManifestFileMeta> manifests,
             Function<List<ManifestEntry>, List<T>> converter,
             boolean useSequential) {
+        if (singlePassMerge && !useSequential) {
+            return singlePassMergeFileEntries(manifests, converter);
+        }
+
         Set<Identifier> deletedEntries =
                 FileEntry.readDeletedEntries(
                         manifest -> readManifest(manifest, FileEntry.deletedFilter(), null),
@@ -400,6 +463,45 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         }
     }
 
+    /**
+     * Reads each manifest only once. Deleted files are tracked by their fingerprints, see {@link
+     * IdentifierFingerprintSet}, and added files are buffered until all manifests are read. Added
+     * files deleted later are dropped from the buffer while reading, so that the buffer holds at
+     * most about twice the live entries even if manifests are not compacted.
+     */
+    private <T extends FileEntry> Iterator<T> singlePassMergeFileEntries(
+            List<ManifestFileMeta> manifests, Function<List<ManifestEntry>, List<T>> converter) {
+        Function<ManifestFileMeta, List<ManifestEntry>> reader =
+                manifest ->
+                        readManifest(
+                                manifest,
+                                manifest.numDeletedFiles() == 0 ? FileEntry.addFilter() : null,
+                                null);
+        IdentifierFingerprintSet deletedEntries = new IdentifierFingerprintSet();
+        List<ManifestEntry> addedEntries = new ArrayList<>();
+        int pendingDeletes = 0;
+        Iterator<ManifestEntry> iterator =
+                randomlyExecuteSequentialReturn(reader, manifests, parallelism);
+        while (iterator.hasNext()) {
+            ManifestEntry entry = iterator.next();
+            if (entry.kind() == FileKind.ADD) {
+                addedEntries.add(entry);
+            } else {
+                deletedEntries.add(entry.identifier());
+                // amortized, every pass over the buffer is paid by as many deletions
+                if (++pendingDeletes > addedEntries.size() / 2) {
+                    addedEntries.removeIf(e -> deletedEntries.contains(e.identifier()));
+                    pendingDeletes = 0;
+                }
+            }
+        }
+
+        if (pendingDeletes > 0) {
+            addedEntries.removeIf(e -> deletedEntries.contains(e.identifier()));
+        }
+        return converter.apply(addedEntries).iterator();
+    }
+
     private <T extends FileEntry> Iterator<T> readAndNoMergeFileEntries(
             List<ManifestFileMeta> manifests,
             Function<List<ManifestEntry>, List<T>> converter,
@@ -417,6 +519,40 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return manifestsReader.read(specifiedSnapshot, scanMode);
     }
 
+    @Nullable
+    private PlanCache.Result readCachedFiles() {
+        if (planCache == null || scanMode != ScanMode.ALL) {
+            return null;
+        }
+
+        Snapshot snapshot =
+                specifiedSnapshot == null ? snapshotManager.latestSnapshot() : specifiedSnapshot;
+        if (snapshot == null) {
+            return null;
+        }
+        return planCache.files(snapshot, this::filterCachedBucket);
+    }
+
+    /** The in-memory counterpart of {@link #createEntryRowFilter} for the buckets of cache. */
+    private boolean filterCachedBucket(BinaryRow partition, int bucket) {
+        PartitionPredicate partitionFilter = manifestsReader.partitionFilter();
+        return (partitionFilter == null || partitionFilter.test(partition))
+                && !(onlyReadRealBuckets && bucket < 0)
+                && (specifiedBucket == null || bucket == specifiedBucket)
+                && (bucketFilter == null || bucketFilter.test(bucket));
+    }
+
+    /** The in-memory counterpart of {@link #readManifest} for the entries of cache. */
+    private boolean filterCachedEntry(ManifestEntry entry) {
+        return (totalAwareBucketFilter == null
+                        || totalAwareBucketFilter.test(entry.bucket(), entry.totalBuckets()))
+                && (specifiedLevel == null || entry.level() == specifiedLevel)
+                && (levelFilter == null || levelFilter.test(entry.level()))
+                && (fileNameFilter == null || fileNameFilter.test(entry.fileName()))
+                && (manifestEntryFilter == null || manifestEntryFilter.test(entry))
+                && filterByStats(entry);
+    }
+
     // ------------------------------------------------------------------------
     // Start Thread Safe Methods: The following methods need to be thread safe because they will be
     // called by multiple threads
@@ -454,6 +590,8 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                         .create()
                         .withCacheMetrics(
                                 scanMetrics != null ? scanMetrics.getCacheMetrics() : null)
+                        .withFileReadListener(
+                                () -> readManifestBytes.addAndGet(manifest.fileSize()))
                         .read(
                                 manifest.fileName(),
                                 manifest.fileSize(),
@@ -464,6 +602,7 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
                                                 && (manifestEntryFilter == null
                                                         || manifestEntryFilter.test(entry))
                                                 && filterByStats(entry));
+        readManifestEntries.addAndGet(entries.size());
         if (dropStats) {
             List<ManifestEntry> copied = new ArrayList<>(entries.size());
             for (ManifestEntry entry : entries) {
@@ -474,6 +613,17 @@ public abstract class AbstractFileStoreScan implements FileStoreScan {
         return entries;
     }
 
+    /**
+     * Returns the data predicate to test the file index of the entry with, or null if the file of
+     * the entry can not be filtered by file index.
+     *
+     * <p>Note: Keep this thread-safe.
+     */
+    @Nullable
+    protected Predicate fileIndexPredicate(ManifestEntry entry) {
+        return null;
+    }
+
     protected ManifestEntry dropStats(ManifestEntry entry) {
         return entry.copyWithoutStats();
     }
@@ -22,6 +22,7 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.Snapshot;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.compact.CompactDeletionFile;
+import org.apache.paimon.compact.SharedCompactExecutor;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.disk.IOManager;
@@ -54,6 +55,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Function;
 
 import static org.apache.paimon.CoreOptions.PARTITION_DEFAULT_NAME;
@@ -76,6 +78,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Nullable private final DeletionVectorsMaintainer.Factory dvMaintainerFactory;
     private final int numBuckets;
     private final RowType partitionType;
+    @Nullable private final Integer sharedCompactExecutorThreads;
 
     @Nullable protected IOManager ioManager;
 
@@ -115,6 +118,10 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
         this.tableName = tableName;
         this.writerNumberMax = options.writeMaxWritersToSpill();
         this.legacyPartitionName = options.legacyPartitionName();
+        this.sharedCompactExecutorThreads =
+                options.compactionSharedExecutorEnabled()
+                        ? options.compactionSharedExecutorThreads()
+                        : null;
     }
 
     @Override
@@ -212,9 +219,12 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                 if (writerContainer.indexMaintainer != null) {
                     newIndexFiles.addAll(writerContainer.indexMaintainer.prepareCommit());
                 }
+                List<IndexFileMeta> deletedIndexFiles = new ArrayList<>();
                 CompactDeletionFile compactDeletionFile = increment.compactDeletionFile();
                 if (compactDeletionFile != null) {
-                    compactDeletionFile.getOrCompute().ifPresent(newIndexFiles::add);
+                    IndexIncrement dvIncrement = compactDeletionFile.getOrCompute();
+                    newIndexFiles.addAll(dvIncrement.newIndexFiles());
+                    deletedIndexFiles.addAll(dvIncrement.deletedIndexFiles());
                 }
                 CommitMessageImpl committable =
                         new CommitMessageImpl(
@@ -223,7 +233,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
                                 writerContainer.totalBuckets,
                                 increment.newFilesIncrement(),
                                 increment.compactIncrement(),
-                                new IndexIncrement(newIndexFiles));
+                                new IndexIncrement(newIndexFiles, deletedIndexFiles));
                 result.add(committable);
 
                 if (committable.isEmpty()) {
@@ -466,6 +476,7 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
     @Override
     public FileStoreWrite<T> withMetricRegistry(MetricRegistry metricRegistry) {
         this.compactionMetrics = new CompactionMetrics(metricRegistry, tableName);
+        this.compactionMetrics.setQueueDepthSupplier(this::compactQueueDepth);
         return this;
     }
 
@@ -502,14 +513,31 @@ public abstract class AbstractFileStoreWrite<T> implements FileStoreWrite<T> {
 
     private ExecutorService compactExecutor() {
         if (lazyCompactExecutor == null) {
-            lazyCompactExecutor =
-                    Executors.newSingleThreadScheduledExecutor(
-                            new ExecutorThreadFactory(
-                                    Thread.currentThread().getName() + "-compaction"));
+            if (sharedCompactExecutorThreads != null) {
+                // the shared executor lives as long as the JVM, never shut it down here
+                lazyCompactExecutor =
+                        SharedCompactExecutor.getInstance(sharedCompactExecutorThreads);
+                closeCompactExecutorWhenLeaving = false;
+            } else {
+                // same as newSingleThreadScheduledExecutor, but not wrapped, so that the queue is
+                // visible to compactQueueDepth
+                lazyCompactExecutor =
+                        Executors.newScheduledThreadPool(
+                                1,
+                                new ExecutorThreadFactory(
+                                        Thread.currentThread().getName() + "-compaction"));
+            }
         }
         return lazyCompactExecutor;
     }
 
+    private int compactQueueDepth() {
+        ExecutorService executor = lazyCompactExecutor;
+        return executor instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) executor).getQueue().size()
+                : 0;
+    }
+
     @VisibleForTesting
     public ExecutorService getCompactExecutor() {
         return lazyCompactExecutor;
@@ -99,19 +99,26 @@ public class AppendOnlyFileStoreScan extends AbstractFileStoreScan {
                 && (!fileIndexReadEnabled || testFileIndex(entry.file().embeddedIndex(), entry));
     }
 
+    /** Note: Keep this thread-safe. */
+    @Nullable
+    @Override
+    protected Predicate fileIndexPredicate(ManifestEntry entry) {
+        if (filter == null || !fileIndexReadEnabled) {
+            return null;
+        }
+
+        return dataFilterMapping.computeIfAbsent(
+                entry.file().schemaId(),
+                id -> simpleStatsEvolutions.tryDevolveFilter(entry.file().schemaId(), filter));
+    }
+
     private boolean testFileIndex(@Nullable byte[] embeddedIndexBytes, ManifestEntry entry) {
         if (embeddedIndexBytes == null) {
             return true;
         }
 
         RowType dataRowType = scanTableSchema(entry.file().schemaId()).logicalRowType();
-
-        Predicate dataPredicate =
-                dataFilterMapping.computeIfAbsent(
-                        entry.file().schemaId(),
-                        id ->
-                                simpleStatsEvolutions.tryDevolveFilter(
-                                        entry.file().schemaId(), filter));
+        Predicate dataPredicate = fileIndexPredicate(entry);
 
         try (FileIndexPredicate predicate =
                 new FileIndexPredicate(embeddedIndexBytes, dataRowType)) {
@@ -33,6 +33,8 @@ import org.apache.paimon.io.BundleRecords;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.RowDataRollingFileWriter;
 import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.LocalFileCacheMetrics;
 import org.apache.paimon.reader.RecordReaderIterator;
 import org.apache.paimon.statistics.SimpleColStatsCollector;
 import org.apache.paimon.types.RowType;
@@ -209,6 +211,13 @@ public abstract class BaseAppendFileStoreWrite extends MemoryFileStoreWrite<Inte
         return new RecordReaderIterator<>(read.createReader(partition, bucket, files, dvFactories));
     }
 
+    @Override
+    public FileStoreWrite<InternalRow> withMetricRegistry(MetricRegistry metricRegistry) {
+        super.withMetricRegistry(metricRegistry);
+        LocalFileCacheMetrics.register(metricRegistry, tableName, fileIO);
+        return this;
+    }
+
     @Override
     protected void forceBufferSpill() throws Exception {
         if (ioManager == null) {
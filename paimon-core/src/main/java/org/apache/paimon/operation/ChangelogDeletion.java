@@ -28,6 +28,7 @@ import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.stats.StatsFileHandler;
 import org.apache.paimon.utils.FileStorePathFactory;
 
@@ -84,6 +85,8 @@ public class ChangelogDeletion extends FileDeletionBase<Changelog> {
             cleanUnusedManifestList(changelog.baseManifestList(), skippingSet);
         }
 
+        cleanUnusedPartitionIndex(changelog, skippingSet);
+
         // the index and statics manifest list should handle by snapshot deletion.
     }
 
@@ -122,6 +125,12 @@ public class ChangelogDeletion extends FileDeletionBase<Changelog> {
             if (skippingSnapshot.statistics() != null) {
                 skippingSet.add(skippingSnapshot.statistics());
             }
+
+            // partition index
+            String partitionIndex = PartitionIndexFile.partitionIndex(skippingSnapshot);
+            if (partitionIndex != null) {
+                skippingSet.add(partitionIndex);
+            }
         }
 
         return skippingSet;
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.fileindex.FileIndexPredicate;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.options.MemorySize;
+import org.apache.paimon.predicate.Predicate;
+import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileStorePathFactory;
+import org.apache.paimon.utils.IOUtils;
+
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cache;
+import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Caffeine;
+
+import javax.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.apache.paimon.utils.ManifestReadThreadPool.randomlyExecuteSequentialReturn;
+
+/**
+ * Filters data files by their external file index files (index files which are too large to be
+ * embedded in manifests) while planning, so that they are pruned before splits are generated.
+ *
+ * <p>Index files are evaluated in parallel with the manifest read thread pool. As index files are
+ * immutable, their contents are cached with a bounded total size and shared between scans.
+ */
+public class ExternalFileIndexFilter {
+
+    private final FileIO fileIO;
+    private final FileStorePathFactory pathFactory;
+    private final Cache<Path, byte[]> cache;
+
+    public ExternalFileIndexFilter(
+            FileIO fileIO, FileStorePathFactory pathFactory, MemorySize maxCacheSize) {
+        this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumWeight(maxCacheSize.getBytes())
+                        .weigher((Path path, byte[] bytes) -> bytes.length)
+                        .executor(Runnable::run)
+                        .build();
+    }
+
+    /**
+     * Returns the entries whose external file index may match the predicate, order is kept.
+     *
+     * @param predicates data predicate of each entry, null if the entry should not be filtered
+     * @param rowTypes row type of data files by schema id
+     */
+    public List<ManifestEntry> filter(
+            List<ManifestEntry> entries,
+            Function<ManifestEntry, Predicate> predicates,
+            Function<Long, RowType> rowTypes,
+            @Nullable Integer parallelism) {
+        List<ManifestEntry> candidates = new ArrayList<>();
+        for (ManifestEntry entry : entries) {
+            if (indexFile(entry.file()) != null) {
+                candidates.add(entry);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return entries;
+        }
+
+        Iterator<Boolean> remains =
+                randomlyExecuteSequentialReturn(
+                        entry -> {
+                            Predicate predicate = predicates.apply(entry);
+                            return Collections.singletonList(
+                                    predicate == null
+                                            || test(
+                                                    entry,
+                                                    predicate,
+                                                    rowTypes.apply(entry.file().schemaId())));
+                        },
+                        candidates,
+                        parallelism);
+
+        List<ManifestEntry> result = new ArrayList<>(entries.size());
+        for (ManifestEntry entry : entries) {
+            if (indexFile(entry.file()) == null || remains.next()) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    private boolean test(ManifestEntry entry, Predicate predicate, RowType rowType) {
+        DataFileMeta file = entry.file();
+        Path path =
+                pathFactory
+                        .createDataFilePathFactory(entry.partition(), entry.bucket())
+                        .toAlignedPath(indexFile(file), file);
+        byte[] bytes = cache.get(path, this::readIndexFile);
+        try (FileIndexPredicate indexPredicate = new FileIndexPredicate(bytes, rowType)) {
+            return indexPredicate.evaluate(predicate).remain();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private byte[] readIndexFile(Path path) {
+        try {
+            return IOUtils.readFully(fileIO.newInputStream(path), true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** Returns the external index file of the data file, null if it has none. */
+    @Nullable
+    private static String indexFile(DataFileMeta file) {
+        if (file.embeddedIndex() != null) {
+            return null;
+        }
+        for (String extraFile : file.extraFiles()) {
+            if (extraFile.endsWith(DataFilePathFactory.INDEX_PATH_SUFFIX)) {
+                return extraFile;
+            }
+        }
+        return null;
+    }
+}
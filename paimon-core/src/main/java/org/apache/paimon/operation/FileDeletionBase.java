@@ -33,6 +33,7 @@ import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.stats.StatsFileHandler;
 import org.apache.paimon.utils.DataFilePathFactories;
 import org.apache.paimon.utils.FileDeletionThreadPool;
@@ -282,6 +283,13 @@ public abstract class FileDeletionBase<T extends Snapshot> {
         }
     }
 
+    protected void cleanUnusedPartitionIndex(Snapshot snapshot, Set<String> skippingSet) {
+        String partitionIndex = PartitionIndexFile.partitionIndex(snapshot);
+        if (partitionIndex != null && !skippingSet.contains(partitionIndex)) {
+            manifestFile.delete(partitionIndex);
+        }
+    }
+
     public void cleanUnusedIndexManifests(Snapshot snapshot, Set<String> skippingSet) {
         // clean index manifests
         String indexManifest = snapshot.indexManifest();
@@ -325,6 +333,7 @@ public abstract class FileDeletionBase<T extends Snapshot> {
         if (deleteDataManifestLists) {
             cleanUnusedManifestList(snapshot.baseManifestList(), skippingSet);
             cleanUnusedManifestList(snapshot.deltaManifestList(), skippingSet);
+            cleanUnusedPartitionIndex(snapshot, skippingSet);
         }
         if (deleteChangelog && snapshot.changelogManifestList() != null) {
             cleanUnusedManifestList(snapshot.changelogManifestList(), skippingSet);
@@ -436,6 +445,12 @@ public abstract class FileDeletionBase<T extends Snapshot> {
             if (skippingSnapshot.statistics() != null) {
                 skippingSet.add(skippingSnapshot.statistics());
             }
+
+            // partition index
+            String partitionIndex = PartitionIndexFile.partitionIndex(skippingSnapshot);
+            if (partitionIndex != null) {
+                skippingSet.add(partitionIndex);
+            }
         }
 
         return skippingSet;
@@ -37,6 +37,7 @@ import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
 import org.apache.paimon.manifest.PartitionEntry;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.manifest.SimpleFileEntry;
 import org.apache.paimon.operation.metrics.CommitMetrics;
 import org.apache.paimon.operation.metrics.CommitStats;
@@ -74,11 +75,14 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Collections.emptyList;
@@ -90,6 +94,8 @@ import static org.apache.paimon.manifest.ManifestEntry.recordCountDelete;
 import static org.apache.paimon.partition.PartitionPredicate.createBinaryPartitions;
 import static org.apache.paimon.partition.PartitionPredicate.createPartitionPredicate;
 import static org.apache.paimon.utils.InternalRowPartitionComputer.partToSimpleString;
+import static org.apache.paimon.utils.ManifestReadThreadPool.getExecutorService;
+import static org.apache.paimon.utils.ThreadPoolUtils.randomlyOnlyExecute;
 
 /**
  * Default implementation of {@link FileStoreCommit}.
@@ -127,12 +133,14 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final ManifestFile manifestFile;
     private final ManifestList manifestList;
     private final IndexManifestFile indexManifestFile;
+    @Nullable private final PartitionIndexFile partitionIndexFile;
     private final FileStoreScan scan;
     private final int numBucket;
     private final MemorySize manifestTargetSize;
     private final MemorySize manifestFullCompactionSize;
     private final int manifestMergeMinCount;
     private final boolean dynamicPartitionOverwrite;
+    @Nullable private final Supplier<Comparator<InternalRow>> keyComparatorSupplier;
     @Nullable private final Comparator<InternalRow> keyComparator;
     private final String branchName;
     @Nullable private final Integer manifestReadParallelism;
@@ -143,9 +151,13 @@ public class FileStoreCommitImpl implements FileStoreCommit {
     private final int commitMaxRetries;
     @Nullable private Long strictModeLastSafeSnapshot;
     private final InternalRowPartitionComputer partitionComputer;
+    private final boolean snapshotTimeIndexEnabled;
+    private final boolean incrementalDeletionVectors;
 
     private boolean ignoreEmptyCommit;
     private CommitMetrics commitMetrics;
+    private long conflictReadNanos;
+    private long conflictCheckNanos;
     @Nullable private PartitionExpire partitionExpire;
 
     public FileStoreCommitImpl(
@@ -162,13 +174,14 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             ManifestFile.Factory manifestFileFactory,
             ManifestList.Factory manifestListFactory,
             IndexManifestFile.Factory indexManifestFileFactory,
+            @Nullable PartitionIndexFile.Factory partitionIndexFileFactory,
             FileStoreScan scan,
             int numBucket,
             MemorySize manifestTargetSize,
             MemorySize manifestFullCompactionSize,
             int manifestMergeMinCount,
             boolean dynamicPartitionOverwrite,
-            @Nullable Comparator<InternalRow> keyComparator,
+            @Nullable Supplier<Comparator<InternalRow>> keyComparatorSupplier,
             String branchName,
             StatsFileHandler statsFileHandler,
             BucketMode bucketMode,
@@ -189,6 +202,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.manifestFile = manifestFileFactory.create();
         this.manifestList = manifestListFactory.create();
         this.indexManifestFile = indexManifestFileFactory.create();
+        this.partitionIndexFile =
+                partitionIndexFileFactory == null ? null : partitionIndexFileFactory.create();
         this.scan = scan;
         // Stats in DELETE Manifest Entries is useless
         if (options.manifestDeleteFileDropStats()) {
@@ -199,7 +214,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         this.manifestFullCompactionSize = manifestFullCompactionSize;
         this.manifestMergeMinCount = manifestMergeMinCount;
         this.dynamicPartitionOverwrite = dynamicPartitionOverwrite;
-        this.keyComparator = keyComparator;
+        this.keyComparatorSupplier = keyComparatorSupplier;
+        this.keyComparator = keyComparatorSupplier == null ? null : keyComparatorSupplier.get();
         this.branchName = branchName;
         this.manifestReadParallelism = manifestReadParallelism;
         this.commitCallbacks = commitCallbacks;
@@ -212,6 +228,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         partitionType,
                         partitionType.getFieldNames().toArray(new String[0]),
                         options.legacyPartitionName());
+        this.snapshotTimeIndexEnabled = options.snapshotTimeIndexEnabled();
+        this.incrementalDeletionVectors = options.deletionVectorsIncrementalWrite();
 
         this.ignoreEmptyCommit = true;
         this.commitMetrics = null;
@@ -275,6 +293,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         long started = System.nanoTime();
         int generatedSnapshot = 0;
         int attempts = 0;
+        conflictReadNanos = 0;
+        conflictCheckNanos = 0;
         Snapshot latestSnapshot = null;
         Long safeLatestSnapshotId = null;
         List<SimpleFileEntry> baseEntries = new ArrayList<>();
@@ -403,7 +423,9 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         compactChangelogFiles,
                         commitDuration,
                         generatedSnapshots,
-                        attempts);
+                        attempts,
+                        conflictReadNanos / 1_000_000,
+                        conflictCheckNanos / 1_000_000);
         commitMetrics.reportCommit(commitStats);
     }
 
@@ -427,6 +449,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         long started = System.nanoTime();
         int generatedSnapshot = 0;
         int attempts = 0;
+        conflictReadNanos = 0;
+        conflictCheckNanos = 0;
         List<ManifestEntry> appendTableFiles = new ArrayList<>();
         List<ManifestEntry> appendChangelog = new ArrayList<>();
         List<ManifestEntry> compactTableFiles = new ArrayList<>();
@@ -715,6 +739,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     .forEach(
                             f -> {
                                 if (f.indexType().equals(DELETION_VECTORS_INDEX)) {
+                                    checkIncrementalDeletionVectors(commitMessage);
                                     compactDvIndexFiles.add(
                                             new IndexManifestEntry(
                                                     FileKind.DELETE,
@@ -752,6 +777,22 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         }
     }
 
+    private void checkIncrementalDeletionVectors(CommitMessage commitMessage) {
+        // Without incremental write, the deletion vector index files of a bucket are replaced as
+        // a whole, so committing files written incrementally would lose the untouched ones.
+        if (!incrementalDeletionVectors && bucketMode != BucketMode.BUCKET_UNAWARE) {
+            throw new RuntimeException(
+                    String.format(
+                            "Deletion vector index files of partition %s bucket %s are written"
+                                    + " incrementally, but '%s' is disabled for the committer."
+                                    + " Please use the same value for writers and committers.",
+                            partToSimpleString(
+                                    partitionType, commitMessage.partition(), "-", 200),
+                            commitMessage.bucket(),
+                            CoreOptions.DELETION_VECTORS_INCREMENTAL_WRITE.key()));
+        }
+    }
+
     private ManifestEntry makeEntry(FileKind kind, CommitMessage commitMessage, DataFileMeta file) {
         Integer totalBuckets = commitMessage.totalBuckets();
         if (totalBuckets == null) {
@@ -975,6 +1016,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         Pair<String, Long> changelogManifestList = null;
         String oldIndexManifest = null;
         String indexManifest = null;
+        String partitionIndex = null;
         List<ManifestFileMeta> mergeBeforeManifests = new ArrayList<>();
         List<ManifestFileMeta> mergeAfterManifests = new ArrayList<>();
         try {
@@ -1018,7 +1060,15 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
             // write new delta files into manifest files
             deltaStatistics = new ArrayList<>(PartitionEntry.merge(deltaFiles));
-            deltaManifestList = manifestList.write(manifestFile.write(deltaFiles));
+            List<ManifestFileMeta> deltaManifests = manifestFile.write(deltaFiles);
+            deltaManifestList = manifestList.write(deltaManifests);
+
+            // write partition index of all data manifests
+            if (partitionIndexFile != null) {
+                partitionIndex =
+                        writePartitionIndex(
+                                latestSnapshot, mergeAfterManifests, deltaManifests, deltaFiles);
+            }
 
             // write changelog into manifest files
             if (!changelogFiles.isEmpty()) {
@@ -1026,7 +1076,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             }
 
             indexManifest =
-                    indexManifestFile.writeIndexFiles(oldIndexManifest, indexFiles, bucketMode);
+                    indexManifestFile.writeIndexFiles(
+                            oldIndexManifest, indexFiles, bucketMode, incrementalDeletionVectors);
 
             long latestSchemaId =
                     schemaManager
@@ -1070,12 +1121,17 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             recordCount(changelogFiles),
                             currentWatermark,
                             statsFileName,
-                            // if empty properties, just set to null
-                            properties.isEmpty() ? null : properties);
+                            PartitionIndexFile.withPartitionIndex(
+                                    // if empty properties, just set to null
+                                    properties.isEmpty() ? null : properties,
+                                    partitionIndex,
+                                    baseManifestList.getLeft(),
+                                    deltaManifestList.getLeft()));
         } catch (Throwable e) {
             // fails when preparing for commit, we should clean up
             cleanUpReuseTmpManifests(
                     deltaManifestList, changelogManifestList, oldIndexManifest, indexManifest);
+            cleanPartitionIndex(partitionIndex);
             cleanUpNoReuseTmpManifests(baseManifestList, mergeBeforeManifests, mergeAfterManifests);
             throw new RuntimeException(
                     String.format(
@@ -1107,6 +1163,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     commitKind.name(),
                     commitTime);
             cleanUpNoReuseTmpManifests(baseManifestList, mergeBeforeManifests, mergeAfterManifests);
+            cleanPartitionIndex(partitionIndex);
             return new RetryResult(latestSnapshot, baseDataFiles, null);
         }
 
@@ -1121,6 +1178,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         if (strictModeLastSafeSnapshot != null) {
             strictModeLastSafeSnapshot = newSnapshot.id();
         }
+        writeSnapshotTimeIndex(newSnapshot);
         commitCallbacks.forEach(callback -> callback.call(deltaFiles, indexFiles, newSnapshot));
         return new SuccessResult();
     }
@@ -1175,6 +1233,11 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
         Pair<String, Long> baseManifestList = manifestList.write(mergeAfterManifests);
         Pair<String, Long> deltaManifestList = manifestList.write(emptyList());
+        String partitionIndex =
+                partitionIndexFile == null
+                        ? null
+                        : writePartitionIndex(
+                                latestSnapshot, mergeAfterManifests, emptyList(), emptyList());
 
         // prepare snapshot file
         Snapshot newSnapshot =
@@ -1198,9 +1261,58 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                         0L,
                         latestSnapshot.watermark(),
                         latestSnapshot.statistics(),
-                        latestSnapshot.properties());
+                        PartitionIndexFile.withPartitionIndex(
+                                latestSnapshot.properties(),
+                                partitionIndex,
+                                baseManifestList.getLeft(),
+                                deltaManifestList.getLeft()));
+
+        boolean success = commitSnapshotImpl(newSnapshot, emptyList());
+        if (success) {
+            writeSnapshotTimeIndex(newSnapshot);
+        } else {
+            cleanPartitionIndex(partitionIndex);
+        }
+        return success;
+    }
 
-        return commitSnapshotImpl(newSnapshot, emptyList());
+    private String writePartitionIndex(
+            @Nullable Snapshot latestSnapshot,
+            List<ManifestFileMeta> baseManifests,
+            List<ManifestFileMeta> deltaManifests,
+            List<ManifestEntry> deltaFiles) {
+        List<ManifestFileMeta> manifests = new ArrayList<>(baseManifests);
+        manifests.addAll(deltaManifests);
+
+        // delta manifests are just written, partitions of all delta files is a superset of
+        // partitions of each delta manifest, so there is no need to read them again
+        Set<BinaryRow> deltaPartitions =
+                deltaFiles.stream().map(ManifestEntry::partition).collect(Collectors.toSet());
+        Map<String, Set<BinaryRow>> knownPartitions = new HashMap<>();
+        for (ManifestFileMeta manifest : deltaManifests) {
+            knownPartitions.put(manifest.fileName(), deltaPartitions);
+        }
+
+        return partitionIndexFile.writeIndex(
+                latestSnapshot == null
+                        ? null
+                        : PartitionIndexFile.validPartitionIndex(latestSnapshot),
+                manifests,
+                knownPartitions,
+                manifestFile,
+                manifestReadParallelism);
+    }
+
+    private void writeSnapshotTimeIndex(Snapshot newSnapshot) {
+        if (!snapshotTimeIndexEnabled) {
+            return;
+        }
+        try {
+            snapshotManager.commitSnapshotTimeIndex(newSnapshot);
+        } catch (Exception e) {
+            // the index is only a hint, readers fill missing entries from snapshot files
+            LOG.warn("Failed to update snapshot time index for snapshot #{}.", newSnapshot.id(), e);
+        }
     }
 
     private boolean commitSnapshotImpl(Snapshot newSnapshot, List<PartitionEntry> deltaStatistics) {
@@ -1228,6 +1340,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
     private List<SimpleFileEntry> readIncrementalChanges(
             Snapshot from, Snapshot to, List<BinaryRow> changedPartitions) {
+        long started = System.nanoTime();
         List<SimpleFileEntry> entries = new ArrayList<>();
         for (long i = from.id() + 1; i <= to.id(); i++) {
             List<SimpleFileEntry> delta =
@@ -1237,6 +1350,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                             .readSimpleEntries();
             entries.addAll(delta);
         }
+        conflictReadNanos += System.nanoTime() - started;
         return entries;
     }
 
@@ -1254,6 +1368,7 @@ public class FileStoreCommitImpl implements FileStoreCommit {
 
     private List<SimpleFileEntry> readAllEntriesFromChangedPartitions(
             Snapshot snapshot, List<BinaryRow> changedPartitions) {
+        long started = System.nanoTime();
         try {
             return scan.withSnapshot(snapshot)
                     .withKind(ScanMode.ALL)
@@ -1261,6 +1376,8 @@ public class FileStoreCommitImpl implements FileStoreCommit {
                     .readSimpleEntries();
         } catch (Throwable e) {
             throw new RuntimeException("Cannot read manifest entries from changed partitions.", e);
+        } finally {
+            conflictReadNanos += System.nanoTime() - started;
         }
     }
 
@@ -1269,6 +1386,114 @@ public class FileStoreCommitImpl implements FileStoreCommit {
             List<SimpleFileEntry> baseEntries,
             List<SimpleFileEntry> changes,
             Snapshot.CommitKind commitKind) {
+        long started = System.nanoTime();
+        try {
+            // check partitions in parallel for the common path without conflicts, the detailed
+            // conflict exception is built by checking all entries again
+            if (!mayHaveConflicts(baseEntries, changes, commitKind)) {
+                return;
+            }
+            checkNoConflicts(baseCommitUser, baseEntries, changes, commitKind);
+        } finally {
+            conflictCheckNanos += System.nanoTime() - started;
+        }
+    }
+
+    /**
+     * Checks each changed partition for conflicts in parallel, returns true once a conflict is
+     * found in any partition. All checks of {@link #checkNoConflicts} are within a partition, so
+     * partitions are independent of each other.
+     */
+    private boolean mayHaveConflicts(
+            List<SimpleFileEntry> baseEntries,
+            List<SimpleFileEntry> changes,
+            Snapshot.CommitKind commitKind) {
+        Map<BinaryRow, List<SimpleFileEntry>> partitions = new LinkedHashMap<>();
+        for (List<SimpleFileEntry> entries : Arrays.asList(baseEntries, changes)) {
+            for (SimpleFileEntry entry : entries) {
+                partitions.computeIfAbsent(entry.partition(), p -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        if (partitions.size() <= 1) {
+            return true;
+        }
+
+        // generated comparators are not thread safe, create one for each thread
+        ThreadLocal<Comparator<InternalRow>> comparators =
+                keyComparatorSupplier == null
+                        ? null
+                        : ThreadLocal.withInitial(keyComparatorSupplier);
+        AtomicBoolean conflicted = new AtomicBoolean(false);
+        randomlyOnlyExecute(
+                getExecutorService(manifestReadParallelism),
+                entries -> {
+                    if (!conflicted.get()
+                            && partitionHasConflicts(
+                                    entries,
+                                    commitKind,
+                                    comparators == null ? null : comparators.get())) {
+                        conflicted.set(true);
+                    }
+                },
+                partitions.values());
+        return conflicted.get();
+    }
+
+    private static boolean partitionHasConflicts(
+            List<SimpleFileEntry> entries,
+            Snapshot.CommitKind commitKind,
+            @Nullable Comparator<InternalRow> keyComparator) {
+        if (commitKind != Snapshot.CommitKind.OVERWRITE) {
+            int totalBuckets = -1;
+            for (SimpleFileEntry entry : entries) {
+                if (entry.totalBuckets() <= 0) {
+                    continue;
+                }
+                if (totalBuckets > 0 && totalBuckets != entry.totalBuckets()) {
+                    return true;
+                }
+                totalBuckets = entry.totalBuckets();
+            }
+        }
+
+        Collection<SimpleFileEntry> mergedEntries;
+        try {
+            mergedEntries = FileEntry.mergeEntries(entries);
+        } catch (Throwable e) {
+            return true;
+        }
+
+        Map<Pair<Integer, Integer>, List<SimpleFileEntry>> levels = new HashMap<>();
+        for (SimpleFileEntry entry : mergedEntries) {
+            if (entry.kind() == FileKind.DELETE) {
+                return true;
+            }
+            if (keyComparator != null && entry.level() >= 1) {
+                levels.computeIfAbsent(
+                                Pair.of(entry.bucket(), entry.level()), lv -> new ArrayList<>())
+                        .add(entry);
+            }
+        }
+
+        for (List<SimpleFileEntry> levelEntries : levels.values()) {
+            levelEntries.sort((a, b) -> keyComparator.compare(a.minKey(), b.minKey()));
+            for (int i = 0; i + 1 < levelEntries.size(); i++) {
+                if (keyComparator.compare(
+                                levelEntries.get(i).maxKey(), levelEntries.get(i + 1).minKey())
+                        >= 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void checkNoConflicts(
+            String baseCommitUser,
+            List<SimpleFileEntry> baseEntries,
+            List<SimpleFileEntry> changes,
+            Snapshot.CommitKind commitKind) {
         List<SimpleFileEntry> allEntries = new ArrayList<>(baseEntries);
         allEntries.addAll(changes);
 
@@ -1543,6 +1768,12 @@ public class FileStoreCommitImpl implements FileStoreCommit {
         cleanIndexManifest(oldIndexManifest, newIndexManifest);
     }
 
+    private void cleanPartitionIndex(@Nullable String partitionIndex) {
+        if (partitionIndex != null && partitionIndexFile != null) {
+            partitionIndexFile.delete(partitionIndex);
+        }
+    }
+
     private void cleanIndexManifest(String oldIndexManifest, String newIndexManifest) {
         if (newIndexManifest != null && !Objects.equals(oldIndexManifest, newIndexManifest)) {
             indexManifestFile.delete(newIndexManifest);
@@ -152,18 +152,33 @@ public class KeyValueFileStoreScan extends AbstractFileStoreScan {
         RowType dataRowType = scanTableSchema(entry.file().schemaId()).logicalRowType();
         try (FileIndexPredicate predicate =
                 new FileIndexPredicate(embeddedIndexBytes, dataRowType)) {
-            Predicate dataPredicate =
-                    schemaId2DataFilter.computeIfAbsent(
-                            entry.file().schemaId(),
-                            id ->
-                                    fieldValueStatsConverters.tryDevolveFilter(
-                                            entry.file().schemaId(), valueFilter));
-            return predicate.evaluate(dataPredicate).remain();
+            return predicate.evaluate(devolvedValueFilter(entry)).remain();
         } catch (IOException e) {
             throw new RuntimeException("Exception happens while checking fileIndex predicate.", e);
         }
     }
 
+    /**
+     * Only files which are read independently, like files of deletion vectors or first-row tables,
+     * can be filtered by file index one by one.
+     */
+    @Nullable
+    @Override
+    protected Predicate fileIndexPredicate(ManifestEntry entry) {
+        if (!fileIndexReadEnabled || !isValueFilterEnabled()) {
+            return null;
+        }
+        return devolvedValueFilter(entry);
+    }
+
+    private Predicate devolvedValueFilter(ManifestEntry entry) {
+        return schemaId2DataFilter.computeIfAbsent(
+                entry.file().schemaId(),
+                id ->
+                        fieldValueStatsConverters.tryDevolveFilter(
+                                entry.file().schemaId(), valueFilter));
+    }
+
     private boolean isValueFilterEnabled() {
         if (valueFilter == null) {
             return false;
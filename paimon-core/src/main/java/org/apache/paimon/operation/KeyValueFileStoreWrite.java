@@ -50,6 +50,7 @@ import org.apache.paimon.mergetree.LookupLevels.KeyValueProcessor;
 import org.apache.paimon.mergetree.LookupLevels.PositionedKeyValueProcessor;
 import org.apache.paimon.mergetree.MergeSorter;
 import org.apache.paimon.mergetree.MergeTreeWriter;
+import org.apache.paimon.mergetree.RemoteLookupFileDownloader;
 import org.apache.paimon.mergetree.compact.CompactRewriter;
 import org.apache.paimon.mergetree.compact.CompactStrategy;
 import org.apache.paimon.mergetree.compact.ForceUpLevel0Compaction;
@@ -60,13 +61,17 @@ import org.apache.paimon.mergetree.compact.LookupMergeTreeCompactRewriter.Lookup
 import org.apache.paimon.mergetree.compact.MergeFunctionFactory;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactManager;
 import org.apache.paimon.mergetree.compact.MergeTreeCompactRewriter;
+import org.apache.paimon.mergetree.compact.ParallelMergeTreeCompactRewriter;
 import org.apache.paimon.mergetree.compact.UniversalCompaction;
+import org.apache.paimon.metrics.MetricRegistry;
+import org.apache.paimon.operation.metrics.LocalFileCacheMetrics;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.KeyValueFieldsExtractor;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.schema.TableSchema;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.CommitIncrement;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FieldsComparator;
 import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.SnapshotManager;
@@ -79,9 +84,11 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -106,12 +113,16 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
     private final MergeFunctionFactory<KeyValue> mfFactory;
     private final CoreOptions options;
     private final FileIO fileIO;
+    private final FileStorePathFactory pathFactory;
     private final RowType keyType;
     private final RowType valueType;
     private final RowType partitionType;
     private final String commitUser;
+    private final long schemaId;
     @Nullable private final RecordLevelExpire recordLevelExpire;
     @Nullable private Cache<String, LookupFile> lookupFileCache;
+    @Nullable private ExecutorService lazyFlushExecutor;
+    @Nullable private ExecutorService lazyCompactRewriteExecutor;
 
     public KeyValueFileStoreWrite(
             FileIO fileIO,
@@ -143,10 +154,12 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 deletionVectorsMaintainerFactory,
                 tableName);
         this.fileIO = fileIO;
+        this.pathFactory = pathFactory;
         this.partitionType = partitionType;
         this.keyType = keyType;
         this.valueType = valueType;
         this.commitUser = commitUser;
+        this.schemaId = schema.id();
 
         this.udsComparatorSupplier = udsComparatorSupplier;
         this.readerFactoryBuilder =
@@ -210,13 +223,25 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                 ioManager,
                 compactManager,
                 restoredMaxSeqNumber,
-                keyComparator,
+                // the writer may flush in another thread, do not share comparator with levels
+                options.writeBufferAsyncFlush() ? keyComparatorSupplier.get() : keyComparator,
                 mfFactory.create(),
                 writerFactory,
                 options.commitForceCompact(),
                 options.changelogProducer(),
                 restoreIncrement,
-                UserDefinedSeqComparator.create(valueType, options));
+                UserDefinedSeqComparator.create(valueType, options),
+                options.writeBufferAsyncFlush() ? flushExecutor() : null);
+    }
+
+    private ExecutorService flushExecutor() {
+        if (lazyFlushExecutor == null) {
+            lazyFlushExecutor =
+                    Executors.newSingleThreadExecutor(
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-buffer-flush"));
+        }
+        return lazyFlushExecutor;
     }
 
     @VisibleForTesting
@@ -295,7 +320,7 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         }
     }
 
-    private MergeTreeCompactRewriter createRewriter(
+    private CompactRewriter createRewriter(
             BinaryRow partition,
             int bucket,
             Comparator<InternalRow> keyComparator,
@@ -372,14 +397,52 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                     dvMaintainer,
                     options);
         } else {
-            return new MergeTreeCompactRewriter(
-                    readerFactory,
-                    writerFactory,
-                    keyComparator,
-                    userDefinedSeqComparator,
-                    mfFactory,
-                    mergeSorter);
+            MergeTreeCompactRewriter rewriter =
+                    new MergeTreeCompactRewriter(
+                            readerFactory,
+                            writerFactory,
+                            keyComparator,
+                            userDefinedSeqComparator,
+                            mfFactory,
+                            mergeSorter);
+            int parallelism = options.compactionRewriteParallelism();
+            if (parallelism <= 1) {
+                return rewriter;
+            }
+
+            // rewriters run concurrently, so every one needs its own readers, writers,
+            // comparators and sorter
+            List<MergeTreeCompactRewriter> rewriters = new ArrayList<>();
+            rewriters.add(rewriter);
+            for (int i = 1; i < parallelism; i++) {
+                FileReaderFactory<KeyValue> rangeReaderFactory =
+                        readerFactoryBuilder.build(partition, bucket, dvFactory);
+                if (recordLevelExpire != null) {
+                    rangeReaderFactory = recordLevelExpire.wrap(rangeReaderFactory);
+                }
+                rewriters.add(
+                        new MergeTreeCompactRewriter(
+                                rangeReaderFactory,
+                                writerFactoryBuilder.build(partition, bucket, options),
+                                keyComparatorSupplier.get(),
+                                udsComparatorSupplier.get(),
+                                mfFactory,
+                                new MergeSorter(options, keyType, valueType, ioManager)));
+            }
+            return new ParallelMergeTreeCompactRewriter(
+                    rewriters, compactRewriteExecutor(parallelism - 1));
+        }
+    }
+
+    private ExecutorService compactRewriteExecutor(int threads) {
+        if (lazyCompactRewriteExecutor == null) {
+            lazyCompactRewriteExecutor =
+                    Executors.newFixedThreadPool(
+                            threads,
+                            new ExecutorThreadFactory(
+                                    Thread.currentThread().getName() + "-compaction-rewrite"));
         }
+        return lazyCompactRewriteExecutor;
     }
 
     private <T> LookupLevels<T> createLookupLevels(
@@ -404,20 +467,39 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
                             options.get(CoreOptions.LOOKUP_CACHE_FILE_RETENTION),
                             options.get(CoreOptions.LOOKUP_CACHE_MAX_DISK_SIZE));
         }
-        return new LookupLevels<>(
-                levels,
-                keyComparatorSupplier.get(),
-                keyType,
-                valueProcessor,
-                readerFactory::createRecordReader,
-                file ->
-                        ioManager
-                                .createChannel(
-                                        localFilePrefix(partitionType, partition, bucket, file))
-                                .getPathFile(),
-                lookupStoreFactory,
-                bfGenerator(options),
-                lookupFileCache);
+        LookupLevels<T> lookupLevels =
+                new LookupLevels<>(
+                        levels,
+                        keyComparatorSupplier.get(),
+                        keyType,
+                        valueProcessor,
+                        readerFactory::createRecordReader,
+                        file ->
+                                ioManager
+                                        .createChannel(
+                                                localFilePrefix(
+                                                        partitionType, partition, bucket, file))
+                                        .getPathFile(),
+                        lookupStoreFactory,
+                        bfGenerator(options),
+                        lookupFileCache);
+        // remote lookup files are built with the full value by KeyValueProcessor
+        if (this.options.lookupRemoteFileEnabled()
+                && valueProcessor instanceof KeyValueProcessor) {
+            lookupLevels.withRemoteFileDownloader(
+                    new RemoteLookupFileDownloader(
+                            fileIO,
+                            pathFactory.createDataFilePathFactory(partition, bucket),
+                            schemaId));
+        }
+        return lookupLevels;
+    }
+
+    @Override
+    public FileStoreWrite<KeyValue> withMetricRegistry(MetricRegistry metricRegistry) {
+        super.withMetricRegistry(metricRegistry);
+        LocalFileCacheMetrics.register(metricRegistry, tableName, fileIO);
+        return this;
     }
 
     @Override
@@ -431,5 +513,11 @@ public class KeyValueFileStoreWrite extends MemoryFileStoreWrite<KeyValue> {
         if (lookupFileCache != null) {
             lookupFileCache.invalidateAll();
         }
+        if (lazyFlushExecutor != null) {
+            lazyFlushExecutor.shutdownNow();
+        }
+        if (lazyCompactRewriteExecutor != null) {
+            ParallelMergeTreeCompactRewriter.shutdownNow(lazyCompactRewriteExecutor);
+        }
     }
 }
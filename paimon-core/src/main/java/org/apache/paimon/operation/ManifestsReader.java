@@ -22,6 +22,7 @@ import org.apache.paimon.Snapshot;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.partition.PartitionPredicate;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.stats.SimpleStats;
@@ -29,12 +30,17 @@ import org.apache.paimon.table.source.ScanMode;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.SnapshotManager;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.apache.paimon.partition.PartitionPredicate.createBinaryPartitions;
@@ -43,10 +49,13 @@ import static org.apache.paimon.partition.PartitionPredicate.createBinaryPartiti
 @ThreadSafe
 public class ManifestsReader {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ManifestsReader.class);
+
     private final RowType partitionType;
     private final String partitionDefaultValue;
     private final SnapshotManager snapshotManager;
     private final ManifestList.Factory manifestListFactory;
+    @Nullable private final PartitionIndexFile.Factory partitionIndexFileFactory;
 
     private boolean onlyReadRealBuckets = false;
     @Nullable private Integer specifiedBucket = null;
@@ -57,11 +66,13 @@ public class ManifestsReader {
             RowType partitionType,
             String partitionDefaultValue,
             SnapshotManager snapshotManager,
-            ManifestList.Factory manifestListFactory) {
+            ManifestList.Factory manifestListFactory,
+            @Nullable PartitionIndexFile.Factory partitionIndexFileFactory) {
         this.partitionType = partitionType;
         this.partitionDefaultValue = partitionDefaultValue;
         this.snapshotManager = snapshotManager;
         this.manifestListFactory = manifestListFactory;
+        this.partitionIndexFileFactory = partitionIndexFileFactory;
     }
 
     public ManifestsReader onlyReadRealBuckets() {
@@ -114,13 +125,63 @@ public class ManifestsReader {
             manifests = readManifests(snapshot, scanMode);
         }
 
+        Set<String> excludedManifests =
+                scanMode == ScanMode.ALL ? readExcludedManifests(snapshot) : null;
         List<ManifestFileMeta> filtered =
                 manifests.stream()
+                        .filter(
+                                m ->
+                                        excludedManifests == null
+                                                || !excludedManifests.contains(m.fileName()))
                         .filter(this::filterManifestFileMeta)
                         .collect(Collectors.toList());
         return new Result(snapshot, manifests, filtered);
     }
 
+    /**
+     * Returns the manifest files which only contain partitions not matched by the partition filter
+     * according to the partition index of the snapshot, or null if there is no valid index. The
+     * index is only used to exclude manifest files, so manifest files unknown to the index are
+     * always read.
+     */
+    @Nullable
+    private Set<String> readExcludedManifests(@Nullable Snapshot snapshot) {
+        if (snapshot == null || partitionFilter == null || partitionIndexFileFactory == null) {
+            return null;
+        }
+
+        String partitionIndex = PartitionIndexFile.validPartitionIndex(snapshot);
+        if (partitionIndex == null) {
+            return null;
+        }
+
+        Map<BinaryRow, List<String>> index;
+        try {
+            index = partitionIndexFileFactory.create().readIndex(partitionIndex);
+        } catch (Exception e) {
+            LOG.warn(
+                    "Failed to read partition index {} of snapshot {}, fall back to reading "
+                            + "all manifest files.",
+                    partitionIndex,
+                    snapshot.id(),
+                    e);
+            return null;
+        }
+
+        Set<String> excluded = new HashSet<>();
+        Set<String> matched = new HashSet<>();
+        index.forEach(
+                (partition, files) -> {
+                    if (partitionFilter.test(partition)) {
+                        matched.addAll(files);
+                    } else {
+                        excluded.addAll(files);
+                    }
+                });
+        excluded.removeAll(matched);
+        return excluded;
+    }
+
     private List<ManifestFileMeta> readManifests(Snapshot snapshot, ScanMode scanMode) {
         ManifestList manifestList = manifestListFactory.create();
         switch (scanMode) {
@@ -22,9 +22,9 @@ import org.apache.paimon.CoreOptions;
 import org.apache.paimon.deletionvectors.DeletionVectorsMaintainer;
 import org.apache.paimon.index.IndexMaintainer;
 import org.apache.paimon.io.cache.CacheManager;
-import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemoryOwner;
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.MemorySegmentPool;
 import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.metrics.WriterBufferMetric;
 import org.apache.paimon.table.sink.CommitMessage;
@@ -56,6 +56,8 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
     protected final CoreOptions options;
     protected final CacheManager cacheManager;
     private MemoryPoolFactory writeBufferPool;
+    // the pool created by this write itself, which should be released when closing
+    @Nullable private MemoryPoolFactory ownedWriteBufferPool;
 
     private WriterBufferMetric writerBufferMetric;
 
@@ -118,12 +120,18 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         }
 
         if (writeBufferPool == null) {
-            LOG.debug("Use default heap memory segment pool for write buffer.");
+            boolean offHeap = options.writeBufferOffHeap();
+            LOG.debug(
+                    "Use default {} memory segment pool for write buffer.",
+                    offHeap ? "off-heap" : "heap");
             writeBufferPool =
                     new MemoryPoolFactory(
-                                    new HeapMemorySegmentPool(
-                                            options.writeBufferSize(), options.pageSize()))
+                                    MemorySegmentPool.create(
+                                            options.writeBufferSize(),
+                                            options.pageSize(),
+                                            offHeap))
                             .addOwners(this::memoryOwners);
+            ownedWriteBufferPool = writeBufferPool;
         }
         writeBufferPool.notifyNewOwner((MemoryOwner) writer);
 
@@ -162,5 +170,9 @@ public abstract class MemoryFileStoreWrite<T> extends AbstractFileStoreWrite<T>
         if (this.writerBufferMetric != null) {
             this.writerBufferMetric.close();
         }
+        if (this.ownedWriteBufferPool != null) {
+            // writers have returned their pages when closed
+            this.ownedWriteBufferPool.close();
+        }
     }
 }
@@ -80,6 +80,7 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
     private final MergeSorter mergeSorter;
     private final List<String> sequenceFields;
     private final boolean sequenceOrder;
+    private final int prefetchFiles;
 
     @Nullable private RowType readKeyType;
 
@@ -110,6 +111,7 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
                         CoreOptions.fromMap(tableSchema.options()), keyType, valueType, null);
         this.sequenceFields = options.sequenceField();
         this.sequenceOrder = options.sequenceFieldSortOrderIsAscending();
+        this.prefetchFiles = options.fileReaderPrefetchNum();
     }
 
     public Comparator<InternalRow> keyComparator() {
@@ -292,7 +294,8 @@ public class MergeFileSplitRead implements SplitRead<KeyValue> {
                                     keyComparator,
                                     createUdsComparator(),
                                     mergeFuncWrapper,
-                                    mergeSorter));
+                                    mergeSorter,
+                                    prefetchFiles));
         }
         RecordReader<KeyValue> reader = ConcatRecordReader.create(sectionReaders);
 
@@ -28,6 +28,7 @@ import org.apache.paimon.index.IndexFileMeta;
 import org.apache.paimon.manifest.IndexManifestEntry;
 import org.apache.paimon.manifest.ManifestFileMeta;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.schema.SchemaManager;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.utils.ChangelogManager;
@@ -66,6 +67,7 @@ import static org.apache.paimon.utils.FileStorePathFactory.BUCKET_PATH_PREFIX;
 import static org.apache.paimon.utils.HintFileUtils.EARLIEST;
 import static org.apache.paimon.utils.HintFileUtils.LATEST;
 import static org.apache.paimon.utils.SnapshotManager.SNAPSHOT_PREFIX;
+import static org.apache.paimon.utils.SnapshotTimeIndex.SNAPSHOT_TIME_INDEX_PREFIX;
 import static org.apache.paimon.utils.StringUtils.isNullOrWhitespaceOnly;
 
 /**
@@ -192,7 +194,8 @@ public abstract class OrphanFilesClean implements Serializable {
             String name = path.getName();
             return !name.startsWith(SNAPSHOT_PREFIX)
                     && !name.equals(EARLIEST)
-                    && !name.equals(LATEST);
+                    && !name.equals(LATEST)
+                    && !name.startsWith(SNAPSHOT_TIME_INDEX_PREFIX);
         };
     }
 
@@ -314,6 +317,12 @@ public abstract class OrphanFilesClean implements Serializable {
         if (snapshot.statistics() != null) {
             usedFileWithFlagConsumer.accept(Pair.of(snapshot.statistics(), false));
         }
+
+        // partition index file
+        String partitionIndex = PartitionIndexFile.partitionIndex(snapshot);
+        if (partitionIndex != null) {
+            usedFileWithFlagConsumer.accept(Pair.of(partitionIndex, false));
+        }
     }
 
     /** List directories that contains data files and manifest files. */
@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry;
+import org.apache.paimon.manifest.FileEntry.Identifier;
+import org.apache.paimon.manifest.FileKind;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.manifest.ManifestFile;
+import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.utils.BiFilter;
+import org.apache.paimon.utils.ExceptionUtils;
+import org.apache.paimon.utils.Pair;
+import org.apache.paimon.utils.SnapshotManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A cache of the merged live data files of a snapshot, grouped by partition and bucket.
+ *
+ * <p>The cached files are advanced incrementally to a newer snapshot by applying the delta
+ * manifests of the snapshots in between, so planning a hot table repeatedly only reads the changes
+ * since the last planning instead of re-merging all base manifests. The files are rebuilt from the
+ * data manifests when the cache is empty, when the snapshots in between have expired or have been
+ * rolled back, or when there are too many snapshots in between.
+ */
+@ThreadSafe
+public class PlanCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PlanCache.class);
+
+    private final SnapshotManager snapshotManager;
+    private final ManifestList.Factory manifestListFactory;
+    private final ManifestFile.Factory manifestFileFactory;
+    @Nullable private final Integer parallelism;
+    private final int maxDeltaSnapshots;
+
+    @Nullable private Snapshot snapshot;
+    private Map<Pair<BinaryRow, Integer>, Map<Identifier, ManifestEntry>> files;
+
+    private long rebuildCount;
+    private long advanceCount;
+
+    public PlanCache(
+            SnapshotManager snapshotManager,
+            ManifestList.Factory manifestListFactory,
+            ManifestFile.Factory manifestFileFactory,
+            @Nullable Integer parallelism,
+            int maxDeltaSnapshots) {
+        this.snapshotManager = snapshotManager;
+        this.manifestListFactory = manifestListFactory;
+        this.manifestFileFactory = manifestFileFactory;
+        this.parallelism = parallelism;
+        this.maxDeltaSnapshots = maxDeltaSnapshots;
+        this.files = new HashMap<>();
+    }
+
+    /**
+     * Returns the live data files of the given snapshot in the buckets accepted by the filter, or
+     * null if the snapshot is older than the cached one and can not be served by this cache.
+     */
+    @Nullable
+    public synchronized Result files(Snapshot target, BiFilter<BinaryRow, Integer> bucketFilter) {
+        if (!advanceTo(target)) {
+            return null;
+        }
+
+        List<ManifestEntry> result = new ArrayList<>();
+        long totalFiles = 0;
+        for (Map.Entry<Pair<BinaryRow, Integer>, Map<Identifier, ManifestEntry>> bucket :
+                files.entrySet()) {
+            Pair<BinaryRow, Integer> key = bucket.getKey();
+            totalFiles += bucket.getValue().size();
+            if (bucketFilter.test(key.getLeft(), key.getRight())) {
+                result.addAll(bucket.getValue().values());
+            }
+        }
+        return new Result(target, result, totalFiles);
+    }
+
+    private boolean advanceTo(Snapshot target) {
+        if (snapshot != null && target.id() < snapshot.id()) {
+            return false;
+        }
+
+        if (snapshot != null && target.id() == snapshot.id()) {
+            if (sameSnapshot(snapshot, target)) {
+                return true;
+            }
+        } else if (snapshot != null && target.id() - snapshot.id() <= maxDeltaSnapshots) {
+            if (tryAdvance(target)) {
+                advanceCount++;
+                return true;
+            }
+        }
+
+        rebuild(target);
+        return true;
+    }
+
+    private boolean tryAdvance(Snapshot target) {
+        Snapshot current = snapshot;
+        try {
+            // the snapshot may have been rolled back and committed again with the same id
+            if (!sameSnapshot(current, snapshotManager.tryGetSnapshot(current.id()))) {
+                return false;
+            }
+
+            List<ManifestEntry> delta = new ArrayList<>();
+            ManifestList manifestList = manifestListFactory.create();
+            ManifestFile manifestFile = manifestFileFactory.create();
+            for (long id = current.id() + 1; id <= target.id(); id++) {
+                Snapshot next = id == target.id() ? target : snapshotManager.tryGetSnapshot(id);
+                for (ManifestEntry entry :
+                        FileEntry.readManifestEntries(
+                                manifestFile, manifestList.readDeltaManifests(next), parallelism)) {
+                    delta.add(entry);
+                }
+            }
+
+            for (ManifestEntry entry : delta) {
+                Map<Identifier, ManifestEntry> bucket =
+                        files.computeIfAbsent(
+                                Pair.of(entry.partition(), entry.bucket()),
+                                k -> new LinkedHashMap<>());
+                if (entry.kind() == FileKind.ADD) {
+                    bucket.put(entry.identifier(), entry);
+                } else {
+                    bucket.remove(entry.identifier());
+                    if (bucket.isEmpty()) {
+                        files.remove(Pair.of(entry.partition(), entry.bucket()));
+                    }
+                }
+            }
+            snapshot = target;
+            return true;
+        } catch (FileNotFoundException e) {
+            LOG.debug(
+                    "Snapshots between {} and {} have expired, rebuild plan cache.",
+                    current.id(),
+                    target.id());
+            return false;
+        } catch (RuntimeException e) {
+            // manifest files are read with their IOException wrapped
+            if (!ExceptionUtils.findThrowable(e, IOException.class).isPresent()) {
+                throw e;
+            }
+            LOG.warn(
+                    "Failed to advance plan cache from snapshot {} to {}, rebuild plan cache.",
+                    current.id(),
+                    target.id(),
+                    e);
+            return false;
+        }
+    }
+
+    private void rebuild(Snapshot target) {
+        Map<Identifier, ManifestEntry> merged = new LinkedHashMap<>();
+        FileEntry.mergeEntries(
+                manifestFileFactory.create(),
+                manifestListFactory.create().readDataManifests(target),
+                merged,
+                parallelism);
+
+        Map<Pair<BinaryRow, Integer>, Map<Identifier, ManifestEntry>> newFiles = new HashMap<>();
+        for (ManifestEntry entry : merged.values()) {
+            if (entry.kind() == FileKind.ADD) {
+                newFiles.computeIfAbsent(
+                                Pair.of(entry.partition(), entry.bucket()),
+                                k -> new LinkedHashMap<>())
+                        .put(entry.identifier(), entry);
+            }
+        }
+        files = newFiles;
+        snapshot = target;
+        rebuildCount++;
+    }
+
+    private static boolean sameSnapshot(Snapshot s1, Snapshot s2) {
+        return s1.id() == s2.id()
+                && Objects.equals(s1.baseManifestList(), s2.baseManifestList())
+                && Objects.equals(s1.deltaManifestList(), s2.deltaManifestList());
+    }
+
+    @VisibleForTesting
+    synchronized long rebuildCount() {
+        return rebuildCount;
+    }
+
+    @VisibleForTesting
+    synchronized long advanceCount() {
+        return advanceCount;
+    }
+
+    /** Result of {@link #files}. */
+    public static final class Result {
+
+        public final Snapshot snapshot;
+        public final List<ManifestEntry> files;
+        public final long totalFiles;
+
+        public Result(Snapshot snapshot, List<ManifestEntry> files, long totalFiles) {
+            this.snapshot = snapshot;
+            this.files = files;
+            this.totalFiles = totalFiles;
+        }
+    }
+}
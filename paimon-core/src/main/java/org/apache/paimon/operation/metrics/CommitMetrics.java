@@ -76,6 +76,12 @@ public class CommitMetrics {
     @VisibleForTesting static final String LAST_PARTITIONS_WRITTEN = "lastPartitionsWritten";
     @VisibleForTesting static final String LAST_BUCKETS_WRITTEN = "lastBucketsWritten";
 
+    @VisibleForTesting
+    static final String LAST_CONFLICT_READ_DURATION = "lastConflictReadDuration";
+
+    @VisibleForTesting
+    static final String LAST_CONFLICT_CHECK_DURATION = "lastConflictCheckDuration";
+
     static final String LAST_COMPACTION_INPUT_FILE_SIZE = "lastCompactionInputFileSize";
     static final String LAST_COMPACTION_OUTPUT_FILE_SIZE = "lastCompactionOutputFileSize";
 
@@ -94,6 +100,12 @@ public class CommitMetrics {
                 LAST_BUCKETS_WRITTEN,
                 () -> latestCommit == null ? 0L : latestCommit.getNumBucketsWritten());
         durationHistogram = metricGroup.histogram(COMMIT_DURATION, HISTOGRAM_WINDOW_SIZE);
+        metricGroup.gauge(
+                LAST_CONFLICT_READ_DURATION,
+                () -> latestCommit == null ? 0L : latestCommit.getConflictReadDuration());
+        metricGroup.gauge(
+                LAST_CONFLICT_CHECK_DURATION,
+                () -> latestCommit == null ? 0L : latestCommit.getConflictCheckDuration());
         metricGroup.gauge(
                 LAST_TABLE_FILES_ADDED,
                 () -> latestCommit == null ? 0L : latestCommit.getTableFilesAdded());
@@ -54,6 +54,8 @@ public class CommitStats {
     private final long generatedSnapshots;
     private final long numPartitionsWritten;
     private final long numBucketsWritten;
+    private final long conflictReadDuration;
+    private final long conflictCheckDuration;
 
     public CommitStats(
             List<ManifestEntry> appendTableFiles,
@@ -63,6 +65,28 @@ public class CommitStats {
             long commitDuration,
             int generatedSnapshots,
             int attempts) {
+        this(
+                appendTableFiles,
+                appendChangelogFiles,
+                compactTableFiles,
+                compactChangelogFiles,
+                commitDuration,
+                generatedSnapshots,
+                attempts,
+                0L,
+                0L);
+    }
+
+    public CommitStats(
+            List<ManifestEntry> appendTableFiles,
+            List<ManifestEntry> appendChangelogFiles,
+            List<ManifestEntry> compactTableFiles,
+            List<ManifestEntry> compactChangelogFiles,
+            long commitDuration,
+            int generatedSnapshots,
+            int attempts,
+            long conflictReadDuration,
+            long conflictCheckDuration) {
         List<ManifestEntry> addedTableFiles = new ArrayList<>(appendTableFiles);
         List<ManifestEntry> compactAfterFiles =
                 compactTableFiles.stream()
@@ -101,6 +125,8 @@ public class CommitStats {
         this.duration = commitDuration;
         this.generatedSnapshots = generatedSnapshots;
         this.attempts = attempts;
+        this.conflictReadDuration = conflictReadDuration;
+        this.conflictCheckDuration = conflictCheckDuration;
     }
 
     @VisibleForTesting
@@ -220,6 +246,16 @@ public class CommitStats {
         return attempts;
     }
 
+    @VisibleForTesting
+    protected long getConflictReadDuration() {
+        return conflictReadDuration;
+    }
+
+    @VisibleForTesting
+    protected long getConflictCheckDuration() {
+        return conflictCheckDuration;
+    }
+
     public long getCompactionInputFileSize() {
         return compactionInputFileSize;
     }
@@ -30,6 +30,7 @@ import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.IntSupplier;
 import java.util.stream.DoubleStream;
 import java.util.stream.LongStream;
 
@@ -44,6 +45,7 @@ public class CompactionMetrics {
     public static final String AVG_COMPACTION_TIME = "avgCompactionTime";
     public static final String COMPACTION_COMPLETED_COUNT = "compactionCompletedCount";
     public static final String COMPACTION_QUEUED_COUNT = "compactionQueuedCount";
+    public static final String COMPACTION_QUEUE_DEPTH = "compactionQueueDepth";
     public static final String MAX_COMPACTION_INPUT_SIZE = "maxCompactionInputSize";
     public static final String MAX_COMPACTION_OUTPUT_SIZE = "maxCompactionOutputSize";
     public static final String AVG_COMPACTION_INPUT_SIZE = "avgCompactionInputSize";
@@ -60,6 +62,7 @@ public class CompactionMetrics {
     private final Queue<Long> compactionTimes;
     private Counter compactionsCompletedCounter;
     private Counter compactionsQueuedCounter;
+    private volatile IntSupplier queueDepthSupplier = () -> 0;
 
     public CompactionMetrics(MetricRegistry registry, String tableName) {
         this.metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
@@ -96,6 +99,7 @@ public class CompactionMetrics {
 
         compactionsCompletedCounter = metricGroup.counter(COMPACTION_COMPLETED_COUNT);
         compactionsQueuedCounter = metricGroup.counter(COMPACTION_QUEUED_COUNT);
+        metricGroup.gauge(COMPACTION_QUEUE_DEPTH, () -> queueDepthSupplier.getAsInt());
 
         metricGroup.gauge(MAX_TOTAL_FILE_SIZE, () -> getTotalFileSizeStream().max().orElse(-1));
         metricGroup.gauge(AVG_TOTAL_FILE_SIZE, () -> getTotalFileSizeStream().average().orElse(-1));
@@ -127,6 +131,14 @@ public class CompactionMetrics {
         return reporters.values().stream().mapToLong(r -> r.totalFileSize);
     }
 
+    /**
+     * Sets where the number of compaction tasks waiting in the executor queue comes from. When the
+     * executor is shared, the depth covers tasks of all writers using it.
+     */
+    public void setQueueDepthSupplier(IntSupplier queueDepthSupplier) {
+        this.queueDepthSupplier = queueDepthSupplier;
+    }
+
     public void close() {
         metricGroup.close();
     }
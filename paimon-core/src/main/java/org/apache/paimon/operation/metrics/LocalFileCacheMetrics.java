@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.annotation.VisibleForTesting;
+import org.apache.paimon.fs.CachingFileIO;
+import org.apache.paimon.fs.FileIO;
+import org.apache.paimon.metrics.MetricGroup;
+import org.apache.paimon.metrics.MetricRegistry;
+
+import javax.annotation.Nullable;
+
+/** Metrics of the local block cache of a {@link CachingFileIO}. */
+public class LocalFileCacheMetrics {
+
+    public static final String GROUP_NAME = "localFileCache";
+    public static final String LOCAL_FILE_CACHE_HITS = "localFileCacheHits";
+    public static final String LOCAL_FILE_CACHE_MISSES = "localFileCacheMisses";
+
+    private final MetricGroup metricGroup;
+
+    private LocalFileCacheMetrics(
+            MetricRegistry registry, String tableName, CachingFileIO fileIO) {
+        metricGroup = registry.createTableMetricGroup(GROUP_NAME, tableName);
+        metricGroup.gauge(LOCAL_FILE_CACHE_HITS, fileIO::cacheHitCount);
+        metricGroup.gauge(LOCAL_FILE_CACHE_MISSES, fileIO::cacheMissCount);
+    }
+
+    /** Registers the metrics if the file io caches remote files locally, or returns null. */
+    @Nullable
+    public static LocalFileCacheMetrics register(
+            MetricRegistry registry, String tableName, FileIO fileIO) {
+        if (registry == null || !(fileIO instanceof CachingFileIO)) {
+            return null;
+        }
+        return new LocalFileCacheMetrics(registry, tableName, (CachingFileIO) fileIO);
+    }
+
+    @VisibleForTesting
+    MetricGroup getMetricGroup() {
+        return metricGroup;
+    }
+}
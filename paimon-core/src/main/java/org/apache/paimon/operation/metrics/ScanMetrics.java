@@ -33,6 +33,8 @@ public class ScanMetrics {
     public static final String LAST_SCANNED_MANIFESTS = "lastScannedManifests";
     public static final String LAST_SCAN_SKIPPED_TABLE_FILES = "lastScanSkippedTableFiles";
     public static final String LAST_SCAN_RESULTED_TABLE_FILES = "lastScanResultedTableFiles";
+    public static final String LAST_SCAN_READ_MANIFEST_BYTES = "lastScanReadManifestBytes";
+    public static final String LAST_SCAN_READ_MANIFEST_ENTRIES = "lastScanReadManifestEntries";
     public static final String MANIFEST_HIT_CACHE = "manifestHitCache";
     public static final String MANIFEST_MISSED_CACHE = "manifestMissedCache";
 
@@ -57,6 +59,12 @@ public class ScanMetrics {
         metricGroup.gauge(
                 LAST_SCAN_RESULTED_TABLE_FILES,
                 () -> latestScan == null ? 0L : latestScan.getResultedTableFiles());
+        metricGroup.gauge(
+                LAST_SCAN_READ_MANIFEST_BYTES,
+                () -> latestScan == null ? 0L : latestScan.getReadManifestBytes());
+        metricGroup.gauge(
+                LAST_SCAN_READ_MANIFEST_ENTRIES,
+                () -> latestScan == null ? 0L : latestScan.getReadManifestEntries());
         metricGroup.gauge(MANIFEST_HIT_CACHE, () -> cacheMetrics.getHitObject().get());
         metricGroup.gauge(MANIFEST_MISSED_CACHE, () -> cacheMetrics.getMissedObject().get());
     }
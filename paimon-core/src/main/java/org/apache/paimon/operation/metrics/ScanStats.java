@@ -29,12 +29,27 @@ public class ScanStats {
     private final long skippedTableFiles;
     private final long resultedTableFiles;
 
+    private final long readManifestBytes;
+    private final long readManifestEntries;
+
     public ScanStats(
             long duration, long scannedManifests, long skippedTableFiles, long resultedTableFiles) {
+        this(duration, scannedManifests, skippedTableFiles, resultedTableFiles, 0, 0);
+    }
+
+    public ScanStats(
+            long duration,
+            long scannedManifests,
+            long skippedTableFiles,
+            long resultedTableFiles,
+            long readManifestBytes,
+            long readManifestEntries) {
         this.duration = duration;
         this.scannedManifests = scannedManifests;
         this.skippedTableFiles = skippedTableFiles;
         this.resultedTableFiles = resultedTableFiles;
+        this.readManifestBytes = readManifestBytes;
+        this.readManifestEntries = readManifestEntries;
     }
 
     @VisibleForTesting
@@ -52,6 +67,16 @@ public class ScanStats {
         return resultedTableFiles;
     }
 
+    @VisibleForTesting
+    protected long getReadManifestBytes() {
+        return readManifestBytes;
+    }
+
+    @VisibleForTesting
+    protected long getReadManifestEntries() {
+        return readManifestEntries;
+    }
+
     @VisibleForTesting
     protected long getDuration() {
         return duration;
@@ -19,6 +19,7 @@
 package org.apache.paimon.operation.metrics;
 
 import org.apache.paimon.memory.MemoryPoolFactory;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
 import org.apache.paimon.metrics.MetricGroup;
 import org.apache.paimon.metrics.MetricRegistry;
 
@@ -34,6 +35,8 @@ public class WriterBufferMetric {
     private static final String BUFFER_PREEMPT_COUNT = "bufferPreemptCount";
     private static final String USED_WRITE_BUFFER_SIZE = "usedWriteBufferSizeByte";
     private static final String TOTAL_WRITE_BUFFER_SIZE = "totalWriteBufferSizeByte";
+    private static final String OFF_HEAP_WRITE_BUFFER_SIZE = "offHeapWriteBufferSizeByte";
+    private static final String OFF_HEAP_LEAKED_PAGES = "offHeapLeakedPages";
 
     private final MetricGroup metricGroup;
     private final AtomicInteger numWriters;
@@ -58,6 +61,12 @@ public class WriterBufferMetric {
                 () ->
                         getMetricValue(
                                 memoryPoolFactorySupplier, MemoryPoolFactory::totalBufferSize));
+        metricGroup.gauge(
+                OFF_HEAP_WRITE_BUFFER_SIZE,
+                () ->
+                        getMetricValue(
+                                memoryPoolFactorySupplier, MemoryPoolFactory::offHeapBufferSize));
+        metricGroup.gauge(OFF_HEAP_LEAKED_PAGES, OffHeapMemorySegmentPool::totalLeakedPages);
     }
 
     private long getMetricValue(
@@ -28,6 +28,7 @@ import org.apache.paimon.manifest.IndexManifestFile;
 import org.apache.paimon.manifest.ManifestCacheFilter;
 import org.apache.paimon.manifest.ManifestFile;
 import org.apache.paimon.manifest.ManifestList;
+import org.apache.paimon.manifest.PartitionIndexFile;
 import org.apache.paimon.operation.ChangelogDeletion;
 import org.apache.paimon.operation.FileStoreCommit;
 import org.apache.paimon.operation.FileStoreScan;
@@ -124,6 +125,11 @@ public class PrivilegedFileStore<T> implements FileStore<T> {
         return wrapped.indexManifestFileFactory();
     }
 
+    @Override
+    public PartitionIndexFile.Factory partitionIndexFileFactory() {
+        return wrapped.partitionIndexFileFactory();
+    }
+
     @Override
     public IndexFileHandler newIndexFileHandler() {
         return wrapped.newIndexFileHandler();
@@ -32,7 +32,8 @@ public class QueryLocationImpl implements QueryLocation {
 
     private final ServiceManager manager;
 
-    private InetSocketAddress[] addressesCache;
+    // may be accessed by concurrent lookups
+    private volatile InetSocketAddress[] addressesCache;
 
     public QueryLocationImpl(ServiceManager manager) {
         this.manager = manager;
@@ -40,15 +41,17 @@ public class QueryLocationImpl implements QueryLocation {
 
     @Override
     public InetSocketAddress getLocation(BinaryRow partition, int bucket, boolean forceUpdate) {
-        if (addressesCache == null || forceUpdate) {
-            Optional<InetSocketAddress[]> addresses = manager.service(PRIMARY_KEY_LOOKUP);
-            if (!addresses.isPresent()) {
+        InetSocketAddress[] addresses = addressesCache;
+        if (addresses == null || forceUpdate) {
+            Optional<InetSocketAddress[]> newAddresses = manager.service(PRIMARY_KEY_LOOKUP);
+            if (!newAddresses.isPresent()) {
                 throw new RuntimeException(
                         "Cannot find address for table path: " + manager.tablePath());
             }
-            addressesCache = addresses.get();
+            addresses = newAddresses.get();
+            addressesCache = addresses;
         }
 
-        return addressesCache[select(partition, bucket, addressesCache.length)];
+        return addresses[select(partition, bucket, addresses.length)];
     }
 }
@@ -293,6 +293,13 @@ public class ExpireSnapshotsImpl implements ExpireSnapshots {
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
+
+        try {
+            snapshotManager.retainSnapshotTimeIndex(earliest, Long.MAX_VALUE);
+        } catch (IOException e) {
+            // the index is only a hint, readers ignore entries of expired snapshots
+            LOG.warn("Failed to trim snapshot time index.", e);
+        }
     }
 
     @VisibleForTesting
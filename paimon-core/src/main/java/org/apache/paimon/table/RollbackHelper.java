@@ -90,6 +90,7 @@ public class RollbackHelper {
 
         // modify the latest hint
         snapshotManager.commitLatestHint(retainedSnapshot.id());
+        snapshotManager.retainSnapshotTimeIndex(Long.MIN_VALUE, retainedSnapshot.id());
 
         // it is possible that some snapshots have been expired
         long to = Math.max(earliest, retainedSnapshot.id() + 1);
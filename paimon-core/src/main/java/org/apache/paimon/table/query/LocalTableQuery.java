@@ -29,6 +29,7 @@ import org.apache.paimon.data.serializer.InternalSerializers;
 import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.disk.IOManager;
+import org.apache.paimon.fs.FileIO;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.cache.CacheManager;
@@ -36,10 +37,12 @@ import org.apache.paimon.lookup.LookupStoreFactory;
 import org.apache.paimon.mergetree.Levels;
 import org.apache.paimon.mergetree.LookupFile;
 import org.apache.paimon.mergetree.LookupLevels;
+import org.apache.paimon.mergetree.RemoteLookupFileDownloader;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.types.RowType;
+import org.apache.paimon.utils.FileStorePathFactory;
 import org.apache.paimon.utils.Filter;
 import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
@@ -49,19 +52,28 @@ import org.apache.paimon.shade.caffeine2.com.github.benmanes.caffeine.cache.Cach
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
 
 import static org.apache.paimon.lookup.LookupStoreFactory.bfGenerator;
 import static org.apache.paimon.mergetree.LookupFile.localFilePrefix;
 
-/** Implementation for {@link TableQuery} for caching data and file in local. */
+/**
+ * Implementation for {@link TableQuery} for caching data and file in local.
+ *
+ * <p>Lookups can be performed by multiple threads concurrently. Each bucket is guarded by its own
+ * read write lock, so lookups only wait for {@link #refreshFiles} of the same bucket.
+ */
 public class LocalTableQuery implements TableQuery {
 
-    private final Map<BinaryRow, Map<Integer, LookupLevels<KeyValue>>> tableView;
+    private final Map<BinaryRow, Map<Integer, BucketLookupLevels>> tableView;
 
     private final CoreOptions options;
 
@@ -73,18 +85,23 @@ public class LocalTableQuery implements TableQuery {
 
     private final int startLevel;
 
+    private final FileIO fileIO;
+
+    private final FileStorePathFactory pathFactory;
+
     private IOManager ioManager;
 
     @Nullable private Cache<String, LookupFile> lookupFileCache;
 
     private final RowType rowType;
+    private final long schemaId;
     private final RowType partitionType;
 
     @Nullable private Filter<InternalRow> cacheRowFilter;
 
     public LocalTableQuery(FileStoreTable table) {
         this.options = table.coreOptions();
-        this.tableView = new HashMap<>();
+        this.tableView = new ConcurrentHashMap<>();
         FileStore<?> tableStore = table.store();
         if (!(tableStore instanceof KeyValueFileStore)) {
             throw new UnsupportedOperationException(
@@ -93,7 +110,10 @@ public class LocalTableQuery implements TableQuery {
         KeyValueFileStore store = (KeyValueFileStore) tableStore;
 
         this.readerFactoryBuilder = store.newReaderFactoryBuilder();
+        this.fileIO = table.fileIO();
+        this.pathFactory = store.pathFactory();
         this.rowType = table.schema().logicalRowType();
+        this.schemaId = table.schema().id();
         this.partitionType = table.schema().logicalPartitionType();
         RowType keyType = readerFactoryBuilder.keyType();
         this.keyComparatorSupplier = new KeyComparatorSupplier(readerFactoryBuilder.keyType());
@@ -107,20 +127,20 @@ public class LocalTableQuery implements TableQuery {
         startLevel = options.needLookup() ? 1 : 0;
     }
 
-    public void refreshFiles(
+    public synchronized void refreshFiles(
             BinaryRow partition,
             int bucket,
             List<DataFileMeta> beforeFiles,
             List<DataFileMeta> dataFiles) {
-        LookupLevels<KeyValue> lookupLevels =
-                tableView.computeIfAbsent(partition, k -> new HashMap<>()).get(bucket);
+        BucketLookupLevels lookupLevels =
+                tableView.computeIfAbsent(partition, k -> new ConcurrentHashMap<>()).get(bucket);
         if (lookupLevels == null) {
             Preconditions.checkArgument(
                     beforeFiles.isEmpty(),
                     "The before file should be empty for the initial phase.");
             newLookupLevels(partition, bucket, dataFiles);
         } else {
-            lookupLevels.getLevels().update(beforeFiles, dataFiles);
+            lookupLevels.update(beforeFiles, dataFiles);
         }
     }
 
@@ -161,25 +181,58 @@ public class LocalTableQuery implements TableQuery {
                         lookupStoreFactory,
                         bfGenerator(options),
                         lookupFileCache);
+        // remote lookup files are built with the full value and without filtering
+        if (this.options.lookupRemoteFileEnabled()
+                && cacheRowFilter == null
+                && readerFactoryBuilder.readValueType().equals(rowType)) {
+            lookupLevels.withRemoteFileDownloader(
+                    new RemoteLookupFileDownloader(
+                            fileIO,
+                            pathFactory.createDataFilePathFactory(partition, bucket),
+                            schemaId));
+        }
 
-        tableView.computeIfAbsent(partition, k -> new HashMap<>()).put(bucket, lookupLevels);
+        tableView
+                .computeIfAbsent(partition, k -> new ConcurrentHashMap<>())
+                .put(bucket, new BucketLookupLevels(lookupLevels));
     }
 
-    /** TODO remove synchronized and supports multiple thread to lookup. */
     @Nullable
     @Override
-    public synchronized InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
+    public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key)
             throws IOException {
-        Map<Integer, LookupLevels<KeyValue>> buckets = tableView.get(partition);
-        if (buckets == null || buckets.isEmpty()) {
+        BucketLookupLevels lookupLevels = bucketLookupLevels(partition, bucket);
+        if (lookupLevels == null) {
             return null;
         }
-        LookupLevels<KeyValue> lookupLevels = buckets.get(bucket);
+
+        return toValue(lookupLevels.lookup(key, startLevel));
+    }
+
+    @Override
+    public List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        BucketLookupLevels lookupLevels = bucketLookupLevels(partition, bucket);
         if (lookupLevels == null) {
-            return null;
+            return new ArrayList<>(Collections.nCopies(keys.size(), null));
+        }
+
+        List<KeyValue> kvs = lookupLevels.lookupBatch(keys, startLevel);
+        List<InternalRow> values = new ArrayList<>(kvs.size());
+        for (KeyValue kv : kvs) {
+            values.add(toValue(kv));
         }
+        return values;
+    }
+
+    @Nullable
+    private BucketLookupLevels bucketLookupLevels(BinaryRow partition, int bucket) {
+        Map<Integer, BucketLookupLevels> buckets = tableView.get(partition);
+        return buckets == null ? null : buckets.get(bucket);
+    }
 
-        KeyValue kv = lookupLevels.lookup(key, startLevel);
+    @Nullable
+    private static InternalRow toValue(@Nullable KeyValue kv) {
         if (kv == null || kv.valueKind().isRetract()) {
             return null;
         } else {
@@ -209,11 +262,10 @@ public class LocalTableQuery implements TableQuery {
     }
 
     @Override
-    public void close() throws IOException {
-        for (Map.Entry<BinaryRow, Map<Integer, LookupLevels<KeyValue>>> buckets :
+    public synchronized void close() throws IOException {
+        for (Map.Entry<BinaryRow, Map<Integer, BucketLookupLevels>> buckets :
                 tableView.entrySet()) {
-            for (Map.Entry<Integer, LookupLevels<KeyValue>> bucket :
-                    buckets.getValue().entrySet()) {
+            for (Map.Entry<Integer, BucketLookupLevels> bucket : buckets.getValue().entrySet()) {
                 bucket.getValue().close();
             }
         }
@@ -222,4 +274,54 @@ public class LocalTableQuery implements TableQuery {
         }
         tableView.clear();
     }
+
+    /** {@link LookupLevels} of a bucket, files are updated exclusively of lookups. */
+    private static class BucketLookupLevels {
+
+        private final LookupLevels<KeyValue> lookupLevels;
+        private final ReadWriteLock lock;
+
+        private BucketLookupLevels(LookupLevels<KeyValue> lookupLevels) {
+            this.lookupLevels = lookupLevels;
+            this.lock = new ReentrantReadWriteLock();
+        }
+
+        @Nullable
+        private KeyValue lookup(InternalRow key, int startLevel) throws IOException {
+            lock.readLock().lock();
+            try {
+                return lookupLevels.lookup(key, startLevel);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private List<KeyValue> lookupBatch(List<InternalRow> keys, int startLevel)
+                throws IOException {
+            lock.readLock().lock();
+            try {
+                return lookupLevels.lookupBatch(keys, startLevel);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void update(List<DataFileMeta> beforeFiles, List<DataFileMeta> dataFiles) {
+            lock.writeLock().lock();
+            try {
+                lookupLevels.getLevels().update(beforeFiles, dataFiles);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private void close() throws IOException {
+            lock.writeLock().lock();
+            try {
+                lookupLevels.close();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
 }
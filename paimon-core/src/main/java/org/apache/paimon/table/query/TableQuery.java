@@ -26,6 +26,8 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /** A query of Table to perform lookup. */
 public interface TableQuery extends Closeable {
@@ -37,4 +39,18 @@ public interface TableQuery extends Closeable {
 
     @Nullable
     InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException;
+
+    /**
+     * Lookup a batch of keys in the same partition and bucket.
+     *
+     * @return values in the same order as the input keys, null if a key is not found.
+     */
+    default List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        List<InternalRow> values = new ArrayList<>(keys.size());
+        for (InternalRow key : keys) {
+            values.add(lookup(partition, bucket, key));
+        }
+        return values;
+    }
 }
@@ -37,6 +37,7 @@ import org.apache.paimon.metrics.MetricRegistry;
 import org.apache.paimon.operation.DefaultValueAssigner;
 import org.apache.paimon.operation.FileStoreScan;
 import org.apache.paimon.operation.ManifestsReader;
+import org.apache.paimon.operation.metrics.LocalFileCacheMetrics;
 import org.apache.paimon.operation.metrics.ScanMetrics;
 import org.apache.paimon.predicate.Predicate;
 import org.apache.paimon.predicate.PredicateBuilder;
@@ -290,6 +291,7 @@ public class SnapshotReaderImpl implements SnapshotReader {
     @Override
     public SnapshotReader withMetricRegistry(MetricRegistry registry) {
         scan.withMetrics(new ScanMetrics(registry, tableName));
+        LocalFileCacheMetrics.register(registry, tableName, snapshotManager.fileIO());
         return this;
     }
 
@@ -47,6 +47,7 @@ public class FileStorePathFactory {
     public static final String MANIFEST_PREFIX = "manifest-";
     public static final String MANIFEST_LIST_PREFIX = "manifest-list-";
     public static final String INDEX_MANIFEST_PREFIX = "index-manifest-";
+    public static final String PARTITION_INDEX_PREFIX = "partition-index-";
 
     public static final String INDEX_PATH = "index";
     public static final String INDEX_PREFIX = "index-";
@@ -71,6 +72,7 @@ public class FileStorePathFactory {
     private final AtomicInteger manifestFileCount;
     private final AtomicInteger manifestListCount;
     private final AtomicInteger indexManifestCount;
+    private final AtomicInteger partitionIndexCount;
     private final AtomicInteger indexFileCount;
     private final AtomicInteger statsFileCount;
     private final List<Path> externalPaths;
@@ -102,6 +104,7 @@ public class FileStorePathFactory {
         this.manifestFileCount = new AtomicInteger(0);
         this.manifestListCount = new AtomicInteger(0);
         this.indexManifestCount = new AtomicInteger(0);
+        this.partitionIndexCount = new AtomicInteger(0);
         this.indexFileCount = new AtomicInteger(0);
         this.statsFileCount = new AtomicInteger(0);
         this.externalPaths = externalPaths;
@@ -268,6 +271,21 @@ public class FileStorePathFactory {
         };
     }
 
+    public PathFactory partitionIndexFileFactory() {
+        return new PathFactory() {
+            @Override
+            public Path newPath() {
+                return toPath(
+                        PARTITION_INDEX_PREFIX + uuid + "-" + partitionIndexCount.getAndIncrement());
+            }
+
+            @Override
+            public Path toPath(String fileName) {
+                return new Path(manifestPath(), fileName);
+            }
+        };
+    }
+
     public PathFactory indexFileFactory() {
         return new PathFactory() {
             @Override
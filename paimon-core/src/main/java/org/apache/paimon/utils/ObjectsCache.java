@@ -50,6 +50,7 @@ public class ObjectsCache<K, V> {
     private final BiFunctionWithIOE<K, Long, CloseableIterator<InternalRow>> reader;
 
     @Nullable private CacheMetrics cacheMetrics;
+    @Nullable private Runnable fileReadListener;
 
     public ObjectsCache(
             SegmentsCache<K> cache,
@@ -69,6 +70,10 @@ public class ObjectsCache<K, V> {
         this.cacheMetrics = cacheMetrics;
     }
 
+    public void withFileReadListener(@Nullable Runnable fileReadListener) {
+        this.fileReadListener = fileReadListener;
+    }
+
     public List<V> read(
             K key,
             @Nullable Long fileSize,
@@ -86,6 +91,9 @@ public class ObjectsCache<K, V> {
             if (cacheMetrics != null) {
                 cacheMetrics.increaseMissedObject();
             }
+            if (fileReadListener != null) {
+                fileReadListener.run();
+            }
             if (fileSize == null) {
                 fileSize = fileSizeFunction.apply(key);
             }
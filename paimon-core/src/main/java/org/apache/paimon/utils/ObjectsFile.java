@@ -50,6 +50,7 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
     protected final PathFactory pathFactory;
 
     @Nullable private final ObjectsCache<Path, T> cache;
+    @Nullable private Runnable fileReadListener;
 
     public ObjectsFile(
             FileIO fileIO,
@@ -84,6 +85,15 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
         return this;
     }
 
+    /** Sets a listener called whenever a file is read from the file system instead of the cache. */
+    public ObjectsFile<T> withFileReadListener(@Nullable Runnable fileReadListener) {
+        this.fileReadListener = fileReadListener;
+        if (cache != null) {
+            cache.withFileReadListener(fileReadListener);
+        }
+        return this;
+    }
+
     public FileIO fileIO() {
         return fileIO;
     }
@@ -149,6 +159,9 @@ public class ObjectsFile<T> implements SimpleFileReader<T> {
             return cache.read(path, fileSize, loadFilter, readFilter, readTFilter);
         }
 
+        if (fileReadListener != null) {
+            fileReadListener.run();
+        }
         return readFromIterator(
                 createIterator(path, fileSize), serializer, readFilter, readTFilter);
     }
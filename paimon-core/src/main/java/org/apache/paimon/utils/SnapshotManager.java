@@ -47,6 +47,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -67,12 +68,16 @@ public class SnapshotManager implements Serializable {
 
     public static final int EARLIEST_SNAPSHOT_DEFAULT_RETRY_NUM = 3;
 
+    private static final int TIME_INDEX_MAX_MISSING = 32;
+
     private final FileIO fileIO;
     private final Path tablePath;
     private final String branch;
     @Nullable private final SnapshotLoader snapshotLoader;
     @Nullable private final Cache<Path, Snapshot> cache;
 
+    @Nullable private transient volatile SnapshotTimeIndex timeIndexCache;
+
     public SnapshotManager(
             FileIO fileIO,
             Path tablePath,
@@ -115,7 +120,13 @@ public class SnapshotManager implements Serializable {
         return new Path(branchPath(tablePath, branch) + "/snapshot");
     }
 
+    public Path snapshotTimeIndexPath(long segment) {
+        return new Path(
+                snapshotDirectory(), SnapshotTimeIndex.SNAPSHOT_TIME_INDEX_PREFIX + segment);
+    }
+
     public void invalidateCache() {
+        timeIndexCache = null;
         if (cache != null) {
             cache.invalidateAll();
         }
@@ -281,6 +292,12 @@ public class SnapshotManager implements Serializable {
      * mills. If there is no such a snapshot, returns null.
      */
     public @Nullable Snapshot earlierOrEqualTimeMills(long timestampMills) {
+        return lookupTimeIndex(
+                index -> index.earlierOrEqualTimeMills(timestampMills),
+                () -> searchEarlierOrEqualTimeMills(timestampMills));
+    }
+
+    private @Nullable Snapshot searchEarlierOrEqualTimeMills(long timestampMills) {
         Long latest = latestSnapshotId();
         if (latest == null) {
             return null;
@@ -315,6 +332,12 @@ public class SnapshotManager implements Serializable {
      * If there is no such a snapshot, returns null.
      */
     public @Nullable Snapshot laterOrEqualTimeMills(long timestampMills) {
+        return lookupTimeIndex(
+                index -> index.laterOrEqualTimeMills(timestampMills),
+                () -> searchLaterOrEqualTimeMills(timestampMills));
+    }
+
+    private @Nullable Snapshot searchLaterOrEqualTimeMills(long timestampMills) {
         Long earliest = earliestSnapshotId();
         Long latest = latestSnapshotId();
         if (earliest == null || latest == null) {
@@ -344,6 +367,12 @@ public class SnapshotManager implements Serializable {
     }
 
     public @Nullable Snapshot earlierOrEqualWatermark(long watermark) {
+        return lookupTimeIndex(
+                index -> index.earlierOrEqualWatermark(watermark),
+                () -> searchEarlierOrEqualWatermark(watermark));
+    }
+
+    private @Nullable Snapshot searchEarlierOrEqualWatermark(long watermark) {
         Long latest = latestSnapshotId();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
@@ -409,6 +438,12 @@ public class SnapshotManager implements Serializable {
     }
 
     public @Nullable Snapshot laterOrEqualWatermark(long watermark) {
+        return lookupTimeIndex(
+                index -> index.laterOrEqualWatermark(watermark),
+                () -> searchLaterOrEqualWatermark(watermark));
+    }
+
+    private @Nullable Snapshot searchLaterOrEqualWatermark(long watermark) {
         Long latest = latestSnapshotId();
         // If latest == Long.MIN_VALUE don't need next binary search for watermark
         // which can reduce IO cost with snapshot
@@ -473,6 +508,187 @@ public class SnapshotManager implements Serializable {
         return finalSnapshot;
     }
 
+    /**
+     * Looks up a snapshot from the snapshot time index. Falls back to searching snapshot files if
+     * the index does not exist, does not cover all alive snapshots, or is out of date.
+     */
+    private @Nullable Snapshot lookupTimeIndex(
+            Function<SnapshotTimeIndex, SnapshotTimeIndex.Entry> lookup,
+            Supplier<Snapshot> fallback) {
+        SnapshotTimeIndex index = aliveTimeIndex();
+        if (index == null) {
+            return fallback.get();
+        }
+
+        SnapshotTimeIndex.Entry entry = lookup.apply(index);
+        if (entry == null) {
+            return null;
+        }
+
+        try {
+            Snapshot snapshot = tryGetSnapshot(entry.id());
+            if (snapshot.timeMillis() == entry.timeMillis()) {
+                return snapshot;
+            }
+        } catch (FileNotFoundException ignored) {
+        }
+        // the index is out of date, for example the snapshot has been expired or rolled back
+        timeIndexCache = null;
+        return fallback.get();
+    }
+
+    /** Returns the time index covering exactly all alive snapshots, or null if not available. */
+    private @Nullable SnapshotTimeIndex aliveTimeIndex() {
+        Long earliest = earliestSnapshotId();
+        Long latest = latestSnapshotId();
+        if (earliest == null || latest == null) {
+            return null;
+        }
+
+        SnapshotTimeIndex index = timeIndexCache;
+        if (index == null || index.isEmpty() || index.firstId() > earliest) {
+            index = readTimeIndex(earliest, latest);
+        } else if (index.lastId() < latest) {
+            // only re-read segments which may have new entries
+            long fromId = SnapshotTimeIndex.segmentStart(SnapshotTimeIndex.segment(index.lastId()));
+            SnapshotTimeIndex newEntries = readTimeIndex(fromId, latest);
+            index =
+                    newEntries == null
+                            ? null
+                            : index.retain(earliest, fromId - 1).merge(newEntries.entries());
+        }
+        if (index == null) {
+            return null;
+        }
+
+        index = index.retain(earliest, latest);
+        if (index.isEmpty() || index.firstId() != earliest) {
+            // the index was created after the earliest snapshot
+            return null;
+        }
+
+        // fill entries missed by the index, for example a commit failed to update it
+        List<Long> missingIds = index.missingIds(earliest, latest);
+        if (missingIds.size() > TIME_INDEX_MAX_MISSING) {
+            return null;
+        }
+        List<SnapshotTimeIndex.Entry> missing = new ArrayList<>(missingIds.size());
+        try {
+            for (long id : missingIds) {
+                missing.add(SnapshotTimeIndex.Entry.of(tryGetSnapshot(id)));
+            }
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+        index = index.merge(missing);
+
+        // the latest entry may be stale if the table has been rolled back
+        if (index.last().timeMillis() != snapshot(latest).timeMillis()) {
+            timeIndexCache = null;
+            return null;
+        }
+
+        timeIndexCache = index;
+        return index;
+    }
+
+    /** Reads the segments of the time index covering the given ids, or null if it fails. */
+    private @Nullable SnapshotTimeIndex readTimeIndex(long fromId, long toId) {
+        SnapshotTimeIndex index = SnapshotTimeIndex.empty();
+        for (long segment = SnapshotTimeIndex.segment(fromId);
+                segment <= SnapshotTimeIndex.segment(toId);
+                segment++) {
+            SnapshotTimeIndex segmentIndex = readTimeIndexSegment(segment);
+            if (segmentIndex == null) {
+                return null;
+            }
+            index = index.merge(segmentIndex.entries());
+        }
+        return index;
+    }
+
+    /** Reads one segment of the time index, or null if it fails. */
+    private @Nullable SnapshotTimeIndex readTimeIndexSegment(long segment) {
+        try {
+            Optional<String> content =
+                    fileIO.readOverwrittenFileUtf8(snapshotTimeIndexPath(segment));
+            return content.map(SnapshotTimeIndex::fromContent).orElse(SnapshotTimeIndex.empty());
+        } catch (Exception e) {
+            LOG.warn("Failed to read snapshot time index, fall back to snapshot files.", e);
+            return null;
+        }
+    }
+
+    /**
+     * Appends the committed snapshot to the segment of the snapshot time index it belongs to, so
+     * the cost of a commit is bounded by the segment size instead of the number of snapshots.
+     * Entries of snapshots between the last indexed one and the committed one are filled from
+     * snapshot files.
+     *
+     * <p>Concurrent committers rewrite the same segment without coordination, so the entry of one
+     * of them may be lost. The index is best-effort, readers fill a few missing entries from
+     * snapshot files and fall back to searching snapshot files if too many entries are missing.
+     */
+    public void commitSnapshotTimeIndex(Snapshot snapshot) throws IOException {
+        long id = snapshot.id();
+        long segment = SnapshotTimeIndex.segment(id);
+        SnapshotTimeIndex index = readTimeIndexSegment(segment);
+        if (index == null) {
+            index = SnapshotTimeIndex.empty();
+        }
+
+        if (!index.isEmpty() && index.lastId() < id - 1) {
+            if (id - 1 - index.lastId() > TIME_INDEX_MAX_MISSING) {
+                // the index is far behind, start over instead of reading many snapshot files
+                index = SnapshotTimeIndex.empty();
+            } else {
+                List<SnapshotTimeIndex.Entry> missing = new ArrayList<>();
+                for (long i = index.lastId() + 1; i < id; i++) {
+                    try {
+                        missing.add(SnapshotTimeIndex.Entry.of(tryGetSnapshot(i)));
+                    } catch (FileNotFoundException ignored) {
+                    }
+                }
+                index = index.merge(missing);
+            }
+        }
+
+        index = index.append(SnapshotTimeIndex.Entry.of(snapshot));
+        fileIO.overwriteFileUtf8(snapshotTimeIndexPath(segment), index.toContent());
+        timeIndexCache = null;
+    }
+
+    /**
+     * Retains entries of snapshots in {@code [fromInclusive, toInclusive]} in the snapshot time
+     * index. Segments without retained entries are deleted, only the segments on the boundaries
+     * are rewritten. This is a no-op if the index does not exist.
+     */
+    public void retainSnapshotTimeIndex(long fromInclusive, long toInclusive) throws IOException {
+        timeIndexCache = null;
+        List<Long> segments =
+                listVersionedFiles(
+                                fileIO,
+                                snapshotDirectory(),
+                                SnapshotTimeIndex.SNAPSHOT_TIME_INDEX_PREFIX)
+                        .collect(Collectors.toList());
+        for (long segment : segments) {
+            long start = SnapshotTimeIndex.segmentStart(segment);
+            long end = SnapshotTimeIndex.segmentStart(segment + 1) - 1;
+            if (end < fromInclusive || start > toInclusive) {
+                fileIO.deleteQuietly(snapshotTimeIndexPath(segment));
+            } else if (start < fromInclusive || end > toInclusive) {
+                SnapshotTimeIndex index = readTimeIndexSegment(segment);
+                if (index == null) {
+                    continue;
+                }
+                SnapshotTimeIndex retained = index.retain(fromInclusive, toInclusive);
+                if (retained.size() != index.size()) {
+                    fileIO.overwriteFileUtf8(snapshotTimeIndexPath(segment), retained.toContent());
+                }
+            }
+        }
+    }
+
     public long snapshotCount() throws IOException {
         return snapshotIdStream().count();
     }
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.utils;
+
+import org.apache.paimon.Snapshot;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+/**
+ * A compact index of snapshot commit times and watermarks, stored as segment files in the snapshot
+ * directory. Segment {@code n} is the file {@code TIME_INDEX-n} holding the snapshots with ids in
+ * {@code [n * SEGMENT_SIZE, (n + 1) * SEGMENT_SIZE)}. Each line holds {@code
+ * id,timeMillis,watermark,commitKind} of one snapshot, ordered by snapshot id, so that time travel
+ * can be answered from a few reads instead of binary searching snapshot files.
+ *
+ * <p>The index is only a hint: entries may be missing (for example when a commit failed to update
+ * the index, or concurrent commits overwrote each other's entry) or stale, callers should validate
+ * the snapshot they pick.
+ */
+public class SnapshotTimeIndex {
+
+    public static final String SNAPSHOT_TIME_INDEX_PREFIX = "TIME_INDEX-";
+
+    public static final long SEGMENT_SIZE = 1000;
+
+    private static final String SEPARATOR = ",";
+
+    private final List<Entry> entries;
+
+    private SnapshotTimeIndex(List<Entry> entries) {
+        this.entries = entries;
+    }
+
+    /** Returns the segment holding the entry of the snapshot id. */
+    public static long segment(long snapshotId) {
+        return Math.floorDiv(snapshotId, SEGMENT_SIZE);
+    }
+
+    /** Returns the first snapshot id of the segment. */
+    public static long segmentStart(long segment) {
+        return segment * SEGMENT_SIZE;
+    }
+
+    public static SnapshotTimeIndex empty() {
+        return new SnapshotTimeIndex(Collections.emptyList());
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    public long firstId() {
+        return entries.get(0).id;
+    }
+
+    public long lastId() {
+        return entries.get(entries.size() - 1).id;
+    }
+
+    public Entry last() {
+        return entries.get(entries.size() - 1);
+    }
+
+    /** Appends the entry, dropping entries with larger or equal ids (e.g. left by a rollback). */
+    public SnapshotTimeIndex append(Entry entry) {
+        List<Entry> newEntries = new ArrayList<>(entries.size() + 1);
+        for (Entry e : entries) {
+            if (e.id < entry.id) {
+                newEntries.add(e);
+            }
+        }
+        newEntries.add(entry);
+        return new SnapshotTimeIndex(newEntries);
+    }
+
+    /** Adds entries for snapshot ids which are not in this index yet. */
+    public SnapshotTimeIndex merge(List<Entry> toAdd) {
+        List<Entry> newEntries = new ArrayList<>(entries);
+        newEntries.addAll(toAdd);
+        newEntries.sort((e1, e2) -> Long.compare(e1.id, e2.id));
+        List<Entry> deduplicated = new ArrayList<>(newEntries.size());
+        long lastId = Long.MIN_VALUE;
+        for (Entry entry : newEntries) {
+            if (deduplicated.isEmpty() || lastId != entry.id) {
+                deduplicated.add(entry);
+                lastId = entry.id;
+            }
+        }
+        return new SnapshotTimeIndex(deduplicated);
+    }
+
+    /** Retains entries whose ids are in {@code [fromInclusive, toInclusive]}. */
+    public SnapshotTimeIndex retain(long fromInclusive, long toInclusive) {
+        List<Entry> newEntries = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            if (entry.id >= fromInclusive && entry.id <= toInclusive) {
+                newEntries.add(entry);
+            }
+        }
+        return new SnapshotTimeIndex(newEntries);
+    }
+
+    /** Returns ids in {@code [fromInclusive, toInclusive]} without an entry in this index. */
+    public List<Long> missingIds(long fromInclusive, long toInclusive) {
+        List<Long> missing = new ArrayList<>();
+        int i = 0;
+        for (long id = fromInclusive; id <= toInclusive; id++) {
+            while (i < entries.size() && entries.get(i).id < id) {
+                i++;
+            }
+            if (i >= entries.size() || entries.get(i).id != id) {
+                missing.add(id);
+            }
+        }
+        return missing;
+    }
+
+    /** Returns the latest entry whose commit time is earlier than or equal to given mills. */
+    public @Nullable Entry earlierOrEqualTimeMills(long timestampMills) {
+        return earlierOrEqual(entries, e -> e.timeMillis, timestampMills);
+    }
+
+    /** Returns the earliest entry whose commit time is later than or equal to given mills. */
+    public @Nullable Entry laterOrEqualTimeMills(long timestampMills) {
+        return laterOrEqual(entries, e -> e.timeMillis, timestampMills);
+    }
+
+    /**
+     * Returns the latest entry whose watermark is earlier than or equal to given watermark. Same
+     * as the binary search on snapshot files, the first entry with watermark is returned if its
+     * watermark is already larger than or equal to the given one.
+     */
+    public @Nullable Entry earlierOrEqualWatermark(long watermark) {
+        List<Entry> withWatermark = entriesWithWatermark();
+        if (withWatermark == null) {
+            return null;
+        }
+        if (withWatermark.get(0).watermark >= watermark) {
+            return withWatermark.get(0);
+        }
+        return earlierOrEqual(withWatermark, e -> e.watermark, watermark);
+    }
+
+    /** Returns the earliest entry whose watermark is later than or equal to given watermark. */
+    public @Nullable Entry laterOrEqualWatermark(long watermark) {
+        List<Entry> withWatermark = entriesWithWatermark();
+        if (withWatermark == null) {
+            return null;
+        }
+        return laterOrEqual(withWatermark, e -> e.watermark, watermark);
+    }
+
+    @Nullable
+    private List<Entry> entriesWithWatermark() {
+        if (entries.isEmpty()) {
+            return null;
+        }
+        // If latest == Long.MIN_VALUE, there is no valid watermark in this table
+        Long latestWatermark = last().watermark;
+        if (latestWatermark != null && latestWatermark == Long.MIN_VALUE) {
+            return null;
+        }
+        List<Entry> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.watermark != null) {
+                result.add(entry);
+            }
+        }
+        return result.isEmpty() ? null : result;
+    }
+
+    @Nullable
+    private static Entry earlierOrEqual(
+            List<Entry> sorted, ToLongFunction<Entry> key, long target) {
+        int low = 0;
+        int high = sorted.size() - 1;
+        Entry result = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Entry entry = sorted.get(mid);
+            if (key.applyAsLong(entry) <= target) {
+                result = entry;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return result;
+    }
+
+    @Nullable
+    private static Entry laterOrEqual(List<Entry> sorted, ToLongFunction<Entry> key, long target) {
+        int low = 0;
+        int high = sorted.size() - 1;
+        Entry result = null;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            Entry entry = sorted.get(mid);
+            if (key.applyAsLong(entry) >= target) {
+                result = entry;
+                high = mid - 1;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return result;
+    }
+
+    public String toContent() {
+        StringBuilder builder = new StringBuilder();
+        for (Entry entry : entries) {
+            builder.append(entry.id)
+                    .append(SEPARATOR)
+                    .append(entry.timeMillis)
+                    .append(SEPARATOR)
+                    .append(entry.watermark == null ? "" : entry.watermark)
+                    .append(SEPARATOR)
+                    .append(entry.commitKind.name())
+                    .append('\n');
+        }
+        return builder.toString();
+    }
+
+    public static SnapshotTimeIndex fromContent(String content) {
+        List<Entry> entries = new ArrayList<>();
+        for (String line : content.split("\n")) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            String[] fields = line.split(SEPARATOR, -1);
+            if (fields.length != 4) {
+                throw new IllegalArgumentException("Invalid snapshot time index line: " + line);
+            }
+            entries.add(
+                    new Entry(
+                            Long.parseLong(fields[0]),
+                            Long.parseLong(fields[1]),
+                            fields[2].isEmpty() ? null : Long.parseLong(fields[2]),
+                            Snapshot.CommitKind.valueOf(fields[3])));
+        }
+        return empty().merge(entries);
+    }
+
+    /** Index entry of one snapshot. */
+    public static class Entry {
+
+        private final long id;
+        private final long timeMillis;
+        @Nullable private final Long watermark;
+        private final Snapshot.CommitKind commitKind;
+
+        public Entry(
+                long id,
+                long timeMillis,
+                @Nullable Long watermark,
+                Snapshot.CommitKind commitKind) {
+            this.id = id;
+            this.timeMillis = timeMillis;
+            this.watermark = watermark;
+            this.commitKind = commitKind;
+        }
+
+        public static Entry of(Snapshot snapshot) {
+            return new Entry(
+                    snapshot.id(),
+                    snapshot.timeMillis(),
+                    snapshot.watermark(),
+                    snapshot.commitKind());
+        }
+
+        public long id() {
+            return id;
+        }
+
+        public long timeMillis() {
+            return timeMillis;
+        }
+
+        @Nullable
+        public Long watermark() {
+            return watermark;
+        }
+
+        public Snapshot.CommitKind commitKind() {
+            return commitKind;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.compact;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link SharedCompactExecutor}. */
+public class SharedCompactExecutorTest {
+
+    @Test
+    public void testPriorityOrder() throws Exception {
+        SharedCompactExecutor executor = new SharedCompactExecutor(1);
+        try {
+            // block the only thread so that following tasks are queued
+            CountDownLatch latch = new CountDownLatch(1);
+            Future<?> blocker =
+                    executor.submit(
+                            () -> {
+                                latch.await();
+                                return null;
+                            });
+
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            double[] priorities = new double[] {0.5, 1.2, 0.5, 0.9, 2.0};
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < priorities.length; i++) {
+                int id = i;
+                futures.add(
+                        executor.submit(
+                                SharedCompactExecutor.prioritized(
+                                        () -> {
+                                            order.add(id);
+                                            return id;
+                                        },
+                                        priorities[i])));
+            }
+            assertThat(executor.queueDepth()).isEqualTo(priorities.length);
+
+            latch.countDown();
+            blocker.get();
+            for (Future<Integer> future : futures) {
+                future.get();
+            }
+
+            // higher priority first, FIFO for equal priorities
+            assertThat(order).containsExactly(4, 1, 3, 0, 2);
+            assertThat(executor.queueDepth()).isEqualTo(0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testGetInstance() {
+        SharedCompactExecutor executor = SharedCompactExecutor.getInstance(1);
+        assertThat(SharedCompactExecutor.getInstance(1)).isSameAs(executor);
+
+        int threads = executor.getMaximumPoolSize() + 2;
+        assertThat(SharedCompactExecutor.getInstance(threads)).isSameAs(executor);
+        assertThat(executor.getMaximumPoolSize()).isEqualTo(threads);
+        assertThat(executor.getCorePoolSize()).isEqualTo(threads);
+    }
+}
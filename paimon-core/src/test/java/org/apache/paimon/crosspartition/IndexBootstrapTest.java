@@ -23,14 +23,18 @@ import org.apache.paimon.catalog.Identifier;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
 import org.apache.paimon.data.Timestamp;
+import org.apache.paimon.fs.FileStatus;
+import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
 import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
 import org.apache.paimon.schema.Schema;
 import org.apache.paimon.table.FileStoreTable;
 import org.apache.paimon.table.Table;
 import org.apache.paimon.table.TableTestBase;
 import org.apache.paimon.table.source.DataSplit;
+import org.apache.paimon.table.source.DeletionFile;
 import org.apache.paimon.types.DataTypes;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.Pair;
@@ -41,8 +45,12 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Random;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import static org.apache.paimon.crosspartition.IndexBootstrap.BUCKET_FIELD;
@@ -96,9 +104,194 @@ public class IndexBootstrapTest extends TableTestBase {
         Thread.sleep(1000);
     }
 
+    @Test
+    public void testBootstrapWithPersistedIndex() throws Exception {
+        Options persist = new Options();
+        persist.set(CoreOptions.CROSS_PARTITION_UPSERT_PERSIST_INDEX, true);
+        FileStoreTable table = (FileStoreTable) createTable(persist);
+
+        write(table, row(1, 1, 1, 2), row(1, 2, 2, 3), row(2, 3, 3, 4), row(3, 4, 4, 5));
+
+        IndexBootstrap indexBootstrap = new IndexBootstrap(table);
+        List<GenericRow> result = new ArrayList<>();
+        Consumer<InternalRow> consumer =
+                row -> result.add(GenericRow.of(row.getInt(0), row.getInt(1), row.getInt(2)));
+
+        // first bootstrap scans the table and persists the keys
+        indexBootstrap.bootstrap(1, 0, consumer);
+        List<GenericRow> expected =
+                Arrays.asList(
+                        GenericRow.of(1, 1, 2),
+                        GenericRow.of(2, 1, 3),
+                        GenericRow.of(3, 2, 4),
+                        GenericRow.of(4, 3, 5));
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        result.clear();
+
+        Path keysDir =
+                new Path(new Path(table.location(), PersistedKeyIndex.KEY_INDEX_DIR), "keys");
+        List<String> keyFiles = listNames(table, keysDir);
+        assertThat(keyFiles).hasSize(4);
+
+        // second bootstrap reuses the key files
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        result.clear();
+        assertThat(listNames(table, keysDir)).containsExactlyInAnyOrderElementsOf(keyFiles);
+
+        // changed bucket is read from the table again, with another number of tasks
+        write(table, row(1, 5, 5, 2));
+        indexBootstrap.bootstrap(2, 0, consumer);
+        indexBootstrap.bootstrap(2, 1, consumer);
+        assertThat(result)
+                .containsExactlyInAnyOrder(
+                        GenericRow.of(1, 1, 2),
+                        GenericRow.of(5, 1, 2),
+                        GenericRow.of(2, 1, 3),
+                        GenericRow.of(3, 2, 4),
+                        GenericRow.of(4, 3, 5));
+        assertThat(listNames(table, keysDir)).hasSize(4);
+
+        Thread.sleep(1000);
+    }
+
+    @Test
+    public void testPersistedIndexWithSeveralSplitsInBucket() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_PERSIST_INDEX, true);
+        // every section of a bucket is a split of its own
+        options.set(CoreOptions.SOURCE_SPLIT_TARGET_SIZE, MemorySize.parse("1 b"));
+        FileStoreTable table = (FileStoreTable) createTable(options);
+
+        write(table, row(1, 1, 1, 0));
+        write(table, row(1, 2, 2, 0));
+        write(table, row(1, 3, 3, 0));
+
+        IndexBootstrap indexBootstrap = new IndexBootstrap(table);
+        List<GenericRow> result = new ArrayList<>();
+        Consumer<InternalRow> consumer =
+                row -> result.add(GenericRow.of(row.getInt(0), row.getInt(1), row.getInt(2)));
+        List<GenericRow> expected =
+                Arrays.asList(
+                        GenericRow.of(1, 1, 0), GenericRow.of(2, 1, 0), GenericRow.of(3, 1, 0));
+
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        result.clear();
+
+        Path keysDir =
+                new Path(new Path(table.location(), PersistedKeyIndex.KEY_INDEX_DIR), "keys");
+        List<String> keyFiles = listNames(table, keysDir);
+        assertThat(keyFiles).hasSize(3);
+
+        // every split of the bucket reuses its own key file
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        result.clear();
+        assertThat(listNames(table, keysDir)).containsExactlyInAnyOrderElementsOf(keyFiles);
+
+        // the first two splits are merged into one, their key files are replaced
+        write(table, row(1, 1, 1, 0), row(1, 2, 2, 0));
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        List<String> newKeyFiles = listNames(table, keysDir);
+        assertThat(newKeyFiles).hasSize(2);
+        assertThat(newKeyFiles).containsAnyElementsOf(keyFiles);
+
+        Thread.sleep(1000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testPersistedIndexWithDeletionVectors() throws Exception {
+        Options options = new Options();
+        options.set(CoreOptions.CROSS_PARTITION_UPSERT_PERSIST_INDEX, true);
+        options.set(CoreOptions.DELETION_VECTORS_ENABLED, true);
+        FileStoreTable table = (FileStoreTable) createTable(options);
+
+        // a large first file, so that the small files written later are not compacted with it
+        Random random = new Random();
+        Pair<InternalRow, Integer>[] rows = new Pair[1000];
+        List<GenericRow> expected = new ArrayList<>();
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = row(1, random.nextInt(), i, 0);
+            expected.add(GenericRow.of(i, 1, 0));
+        }
+        write(table, rows);
+
+        IndexBootstrap indexBootstrap = new IndexBootstrap(table);
+        List<GenericRow> result = new ArrayList<>();
+        Consumer<InternalRow> consumer =
+                row -> result.add(GenericRow.of(row.getInt(0), row.getInt(1), row.getInt(2)));
+        Path keysDir =
+                new Path(new Path(table.location(), PersistedKeyIndex.KEY_INDEX_DIR), "keys");
+
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        result.clear();
+        List<String> keyFiles = listNames(table, keysDir);
+        Set<String> files = fileIds(table);
+        assertThat(keyFiles).hasSize(files.size());
+
+        // a new key, only the new file is read from the table
+        write(table, row(1, 0, 1000, 0));
+        expected.add(GenericRow.of(1000, 1, 0));
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        result.clear();
+        List<String> newKeyFiles = listNames(table, keysDir);
+        Set<String> newFiles = fileIds(table);
+        assertThat(newKeyFiles).hasSize(newFiles.size());
+        assertThat(retained(files, newFiles)).isNotEmpty();
+        assertThat(retained(keyFiles, newKeyFiles)).hasSameSizeAs(retained(files, newFiles));
+
+        // an update adds a deletion vector to the first file, which is read again
+        keyFiles = newKeyFiles;
+        files = newFiles;
+        write(table, row(1, 0, 5, 0));
+        indexBootstrap.bootstrap(1, 0, consumer);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected);
+        newKeyFiles = listNames(table, keysDir);
+        newFiles = fileIds(table);
+        assertThat(newKeyFiles).hasSize(newFiles.size());
+        assertThat(retained(keyFiles, newKeyFiles)).hasSameSizeAs(retained(files, newFiles));
+
+        Thread.sleep(1000);
+    }
+
+    /** Data files with their deletion files, a changed deletion file is a changed file. */
+    private Set<String> fileIds(FileStoreTable table) {
+        Set<String> ids = new HashSet<>();
+        for (DataSplit split : table.newSnapshotReader().read().dataSplits()) {
+            List<DeletionFile> deletionFiles = split.deletionFiles().orElse(null);
+            for (int i = 0; i < split.dataFiles().size(); i++) {
+                DeletionFile deletionFile = deletionFiles == null ? null : deletionFiles.get(i);
+                ids.add(split.dataFiles().get(i).fileName() + "#" + deletionFile);
+            }
+        }
+        return ids;
+    }
+
+    private static <T> Set<T> retained(Collection<T> before, Collection<T> after) {
+        Set<T> retained = new HashSet<>(before);
+        retained.retainAll(after);
+        return retained;
+    }
+
+    private List<String> listNames(FileStoreTable table, Path dir) throws Exception {
+        List<String> names = new ArrayList<>();
+        for (FileStatus status : table.fileIO().listStatus(dir)) {
+            names.add(status.getPath().getName());
+        }
+        return names;
+    }
+
     private Table createTable() throws Exception {
+        return createTable(new Options());
+    }
+
+    private Table createTable(Options options) throws Exception {
         Identifier identifier = identifier("T");
-        Options options = new Options();
         options.set(CoreOptions.BUCKET, -1);
         Schema schema =
                 Schema.newBuilder()
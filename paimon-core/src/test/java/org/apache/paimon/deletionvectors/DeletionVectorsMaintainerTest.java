@@ -33,6 +33,7 @@ import org.apache.paimon.table.sink.CommitMessage;
 import org.apache.paimon.table.sink.CommitMessageImpl;
 import org.apache.paimon.utils.FileIOUtils;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -252,6 +253,128 @@ public class DeletionVectorsMaintainerTest extends PrimaryKeyTableTestBase {
         assertThat(dvs.get("f3").getCardinality()).isEqualTo(2);
     }
 
+    @Test
+    public void testIncrementalWrite() {
+        initIncrementalIndexHandler(3);
+        DeletionVectorsMaintainer.Factory factory =
+                new DeletionVectorsMaintainer.Factory(fileHandler);
+
+        DeletionVectorsMaintainer dvMaintainer =
+                factory.createOrRestore(null, BinaryRow.EMPTY_ROW, 0);
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        IndexIncrement increment1 = writeAndCommit(dvMaintainer);
+        assertThat(increment1.newIndexFiles()).hasSize(1);
+        assertThat(increment1.deletedIndexFiles()).isEmpty();
+
+        // only the new deletion vector is written
+        dvMaintainer = restore(factory);
+        dvMaintainer.notifyNewDeletion("f3", 3);
+        IndexIncrement increment2 = writeAndCommit(dvMaintainer);
+        assertThat(increment2.newIndexFiles()).hasSize(1);
+        assertThat(increment2.newIndexFiles().get(0).rowCount()).isEqualTo(1);
+        assertThat(increment2.deletedIndexFiles()).isEmpty();
+        assertThat(scanIndexFiles()).hasSize(2);
+
+        // the index file containing the modified deletion vector is rewritten
+        dvMaintainer = restore(factory);
+        dvMaintainer.notifyNewDeletion("f1", 4);
+        IndexIncrement increment3 = writeAndCommit(dvMaintainer);
+        assertThat(increment3.newIndexFiles()).hasSize(1);
+        assertThat(increment3.newIndexFiles().get(0).rowCount()).isEqualTo(2);
+        assertThat(increment3.deletedIndexFiles()).isEqualTo(increment1.newIndexFiles());
+        assertThat(scanIndexFiles()).hasSize(2);
+
+        // the index file is deleted if all its deletion vectors are removed
+        dvMaintainer = restore(factory);
+        dvMaintainer.removeDeletionVectorOf("f3");
+        IndexIncrement increment4 = writeAndCommit(dvMaintainer);
+        assertThat(increment4.newIndexFiles()).isEmpty();
+        assertThat(increment4.deletedIndexFiles()).isEqualTo(increment2.newIndexFiles());
+        assertThat(scanIndexFiles()).hasSize(1);
+
+        // all index files are rewritten into one if there would be too many
+        for (int i = 4; i <= 6; i++) {
+            dvMaintainer = restore(factory);
+            dvMaintainer.notifyNewDeletion("f" + i, i);
+            writeAndCommit(dvMaintainer);
+        }
+        List<IndexFileMeta> indexFiles = scanIndexFiles();
+        assertThat(indexFiles).hasSize(1);
+
+        Map<String, DeletionVector> deletionVectors =
+                fileHandler.readAllDeletionVectors(indexFiles);
+        assertThat(deletionVectors).containsOnlyKeys("f1", "f2", "f4", "f5", "f6");
+        assertThat(deletionVectors.get("f1").getCardinality()).isEqualTo(2);
+        assertThat(deletionVectors.get("f1").isDeleted(4)).isTrue();
+        assertThat(deletionVectors.get("f6").isDeleted(6)).isTrue();
+    }
+
+    @Test
+    public void testIncrementalCompactDeletion() {
+        initIncrementalIndexHandler(8);
+        DeletionVectorsMaintainer.Factory factory =
+                new DeletionVectorsMaintainer.Factory(fileHandler);
+
+        DeletionVectorsMaintainer dvMaintainer =
+                factory.createOrRestore(null, BinaryRow.EMPTY_ROW, 0);
+        dvMaintainer.notifyNewDeletion("f1", 1);
+        dvMaintainer.notifyNewDeletion("f2", 2);
+        IndexFileMeta committed = writeAndCommit(dvMaintainer).newIndexFiles().get(0);
+
+        dvMaintainer = restore(factory);
+        File indexDir = new File(tempPath.toFile(), "/default.db/T/index");
+        assertThat(indexDir.listFiles()).hasSize(1);
+
+        dvMaintainer.notifyNewDeletion("f3", 3);
+        CompactDeletionFile deletionFile1 = CompactDeletionFile.generateFiles(dvMaintainer);
+        dvMaintainer.notifyNewDeletion("f1", 4);
+        CompactDeletionFile deletionFile2 = CompactDeletionFile.generateFiles(dvMaintainer);
+        dvMaintainer.notifyNewDeletion("f3", 5);
+        CompactDeletionFile deletionFile3 = CompactDeletionFile.generateFiles(dvMaintainer);
+        assertThat(indexDir.listFiles()).hasSize(4);
+
+        // the file of f3 generated by deletionFile1 is rewritten before being committed
+        CompactDeletionFile merged =
+                deletionFile3.mergeOldFile(deletionFile2.mergeOldFile(deletionFile1));
+        assertThat(indexDir.listFiles()).hasSize(3);
+
+        IndexIncrement increment = merged.getOrCompute();
+        assertThat(increment.newIndexFiles())
+                .extracting(IndexFileMeta::rowCount)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(increment.deletedIndexFiles()).containsExactly(committed);
+
+        Map<String, DeletionVector> deletionVectors =
+                fileHandler.readAllDeletionVectors(increment.newIndexFiles());
+        assertThat(deletionVectors.get("f1").isDeleted(4)).isTrue();
+        assertThat(deletionVectors.get("f3").isDeleted(5)).isTrue();
+    }
+
+    private DeletionVectorsMaintainer restore(DeletionVectorsMaintainer.Factory factory) {
+        return factory.createOrRestore(table.latestSnapshot().get(), BinaryRow.EMPTY_ROW, 0);
+    }
+
+    private IndexIncrement writeAndCommit(DeletionVectorsMaintainer dvMaintainer) {
+        IndexIncrement increment = dvMaintainer.writeDeletionVectorsIndexIncrement();
+        CommitMessage commitMessage =
+                new CommitMessageImpl(
+                        BinaryRow.EMPTY_ROW,
+                        0,
+                        1,
+                        DataIncrement.emptyIncrement(),
+                        CompactIncrement.emptyIncrement(),
+                        increment);
+        BatchTableCommit commit = table.newBatchWriteBuilder().newCommit();
+        commit.commit(Collections.singletonList(commitMessage));
+        return increment;
+    }
+
+    private List<IndexFileMeta> scanIndexFiles() {
+        return fileHandler.scan(
+                table.latestSnapshot().get(), "DELETION_VECTORS", BinaryRow.EMPTY_ROW, 0);
+    }
+
     private DeletionVector createDeletionVector(boolean bitmap64) {
         return bitmap64 ? new Bitmap64DeletionVector() : new BitmapDeletionVector();
     }
@@ -264,4 +387,15 @@ public class DeletionVectorsMaintainerTest extends PrimaryKeyTableTestBase {
         table = table.copy(options);
         fileHandler = table.store().newIndexFileHandler();
     }
+
+    private void initIncrementalIndexHandler(int maxIndexFiles) {
+        Map<String, String> options = new HashMap<>();
+        options.put(CoreOptions.DELETION_VECTORS_INCREMENTAL_WRITE.key(), "true");
+        options.put(
+                CoreOptions.DELETION_VECTORS_INCREMENTAL_MAX_INDEX_FILES.key(),
+                String.valueOf(maxIndexFiles));
+
+        table = table.copy(options);
+        fileHandler = table.store().newIndexFileHandler();
+    }
 }
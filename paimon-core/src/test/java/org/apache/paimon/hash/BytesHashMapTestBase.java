@@ -25,6 +25,7 @@ import org.apache.paimon.data.serializer.PagedTypeSerializer;
 import org.apache.paimon.memory.HeapMemorySegmentPool;
 import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
 import org.apache.paimon.types.BigIntType;
 import org.apache.paimon.types.BooleanType;
 import org.apache.paimon.types.DataType;
@@ -136,6 +137,30 @@ abstract class BytesHashMapTestBase<K> extends BytesMapTestBase {
         table.free();
     }
 
+    @Test
+    void testBuildAndRetrieveOffHeap() throws Exception {
+        final int numMemSegments =
+                needNumMemSegments(
+                        NUM_ENTRIES,
+                        rowLength(RowType.of(VALUE_TYPES)),
+                        rowLength(RowType.of(KEY_TYPES)),
+                        PAGE_SIZE);
+        int memorySize = numMemSegments * PAGE_SIZE;
+        OffHeapMemorySegmentPool pool = new OffHeapMemorySegmentPool(memorySize, PAGE_SIZE);
+
+        BytesHashMap<K> table = createBytesHashMap(pool, KEY_TYPES, VALUE_TYPES);
+
+        K[] keys = generateRandomKeys(NUM_ENTRIES);
+        List<BinaryRow> expected = new ArrayList<>(NUM_ENTRIES);
+        verifyInsert(keys, expected, table);
+        verifyRetrieve(table, keys, expected);
+        table.free();
+
+        assertThat(pool.outstandingPages()).isEqualTo(0);
+        pool.close();
+        assertThat(pool.allocatedBytes()).isEqualTo(0);
+    }
+
     @Test
     void testBuildAndUpdate() throws Exception {
         final int numMemSegments =
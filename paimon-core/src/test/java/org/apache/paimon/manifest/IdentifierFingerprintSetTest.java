@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.manifest;
+
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.manifest.FileEntry.Identifier;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.apache.paimon.io.DataFileTestUtils.row;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link IdentifierFingerprintSet}. */
+public class IdentifierFingerprintSetTest {
+
+    @Test
+    public void testAddAndContains() {
+        IdentifierFingerprintSet set = new IdentifierFingerprintSet();
+        Set<Identifier> expected = new HashSet<>();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < 10000; i++) {
+            Identifier identifier = identifier(row(random.nextInt(10)), random.nextInt(5000));
+            assertThat(set.add(identifier)).isEqualTo(expected.add(identifier));
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+
+        for (int i = 0; i < 10000; i++) {
+            Identifier identifier = identifier(row(random.nextInt(20)), random.nextInt(10000));
+            assertThat(set.contains(identifier)).isEqualTo(expected.contains(identifier));
+        }
+    }
+
+    @Test
+    public void testAllFieldsAreHashed() {
+        Identifier identifier =
+                new Identifier(
+                        row(1), 0, 1, "file", Collections.singletonList("extra"), null, null);
+        IdentifierFingerprintSet set = new IdentifierFingerprintSet();
+        set.add(identifier);
+
+        assertThat(set.contains(identifier)).isTrue();
+        assertThat(
+                        set.contains(
+                                new Identifier(
+                                        row(2),
+                                        0,
+                                        1,
+                                        "file",
+                                        Collections.singletonList("extra"),
+                                        null,
+                                        null)))
+                .isFalse();
+        assertThat(
+                        set.contains(
+                                new Identifier(
+                                        row(1),
+                                        1,
+                                        0,
+                                        "file",
+                                        Collections.singletonList("extra"),
+                                        null,
+                                        null)))
+                .isFalse();
+        assertThat(
+                        set.contains(
+                                new Identifier(
+                                        row(1), 0, 1, "file", Collections.emptyList(), null, null)))
+                .isFalse();
+        assertThat(
+                        set.contains(
+                                new Identifier(
+                                        row(1),
+                                        0,
+                                        1,
+                                        "file",
+                                        Arrays.asList("ex", "tra"),
+                                        null,
+                                        null)))
+                .isFalse();
+        assertThat(
+                        set.contains(
+                                new Identifier(
+                                        row(1),
+                                        0,
+                                        1,
+                                        "file",
+                                        Collections.singletonList("extra"),
+                                        new byte[0],
+                                        null)))
+                .isFalse();
+        assertThat(
+                        set.contains(
+                                new Identifier(
+                                        row(1),
+                                        0,
+                                        1,
+                                        "file",
+                                        Collections.singletonList("extra"),
+                                        null,
+                                        "oss://bucket/file")))
+                .isFalse();
+    }
+
+    private static Identifier identifier(BinaryRow partition, int file) {
+        return new Identifier(
+                partition, file % 3, file % 5, "data-" + file, Collections.emptyList(), null, null);
+    }
+}
@@ -26,6 +26,7 @@ import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for {@link MemoryPoolFactory}. */
 public class MemoryPoolFactoryTest {
@@ -76,6 +77,42 @@ public class MemoryPoolFactoryTest {
         assertThat(factory.memoryOwners()).containsExactlyInAnyOrderElementsOf(allAddedOwners);
     }
 
+    @Test
+    public void testOffHeapPool() {
+        OffHeapMemorySegmentPool innerPool = new OffHeapMemorySegmentPool(1024 * 10, 1024);
+        MemoryPoolFactory factory = new MemoryPoolFactory(innerPool).addOwners(new ArrayList<>());
+        MemorySegmentPool pool = factory.createSubPool(new TestMemoryOwner());
+
+        List<MemorySegment> segments = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            MemorySegment segment = pool.nextSegment();
+            assertThat(segment.isOffHeap()).isTrue();
+            segment.putLong(0, i);
+            segments.add(segment);
+        }
+        assertThat(segments.get(2).getLong(0)).isEqualTo(2);
+        assertThat(factory.offHeapBufferSize()).isEqualTo(3 * 1024);
+        assertThat(innerPool.outstandingPages()).isEqualTo(3);
+
+        long leakedPages = OffHeapMemorySegmentPool.totalLeakedPages();
+        pool.returnAll(segments.subList(0, 2));
+        factory.close();
+        assertThat(OffHeapMemorySegmentPool.totalLeakedPages()).isEqualTo(leakedPages + 1);
+
+        // the held page is not released by closing and is still accessible
+        assertThat(factory.offHeapBufferSize()).isEqualTo(1024);
+        assertThat(innerPool.outstandingPages()).isEqualTo(1);
+        segments.get(2).putLong(8, 3);
+        assertThat(segments.get(2).getLong(0)).isEqualTo(2);
+        assertThat(segments.get(2).getLong(8)).isEqualTo(3);
+
+        // it is released once it is returned to the closed pool
+        pool.returnAll(segments.subList(2, 3));
+        assertThat(factory.offHeapBufferSize()).isEqualTo(0);
+        assertThat(innerPool.outstandingPages()).isEqualTo(0);
+        assertThatThrownBy(pool::nextSegment).isInstanceOf(IllegalStateException.class);
+    }
+
     private static class TestMemoryOwner implements MemoryOwner {
         @Override
         public void setMemoryPool(MemorySegmentPool memoryPool) {}
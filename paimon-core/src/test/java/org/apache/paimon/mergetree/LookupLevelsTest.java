@@ -24,16 +24,19 @@ import org.apache.paimon.compression.CompressOptions;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.data.serializer.RowCompactedSerializer;
 import org.apache.paimon.deletionvectors.DeletionVector;
 import org.apache.paimon.format.FlushingFileFormat;
 import org.apache.paimon.fs.FileIOFinder;
 import org.apache.paimon.fs.Path;
 import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.DataFilePathFactory;
 import org.apache.paimon.io.KeyValueFileReaderFactory;
 import org.apache.paimon.io.KeyValueFileWriterFactory;
 import org.apache.paimon.io.RollingFileWriter;
 import org.apache.paimon.io.cache.CacheManager;
 import org.apache.paimon.lookup.hash.HashLookupStoreFactory;
+import org.apache.paimon.lookup.sort.SortLookupStoreFactory;
 import org.apache.paimon.manifest.FileSource;
 import org.apache.paimon.options.MemorySize;
 import org.apache.paimon.options.Options;
@@ -64,6 +67,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 
 import static org.apache.paimon.KeyValue.UNKNOWN_SEQUENCE;
@@ -267,6 +273,169 @@ public class LookupLevelsTest {
         assertThat(kv.value().getInt(1)).isEqualTo(11);
     }
 
+    @Test
+    public void testLookupBatch() throws IOException {
+        Levels levels =
+                new Levels(
+                        comparator,
+                        Arrays.asList(
+                                newFile(0, kv(1, 0)),
+                                newFile(1, kv(1, 11, 1), kv(3, 33, 2), kv(5, 5, 3)),
+                                newFile(1, kv(7, 77, 4), kv(9, 99, 5)),
+                                newFile(2, kv(2, 22, 6), kv(5, 55, 7), kv(8, 88, 8))),
+                        3);
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofMebiBytes(10));
+
+        // unsorted keys with duplicates and misses
+        List<InternalRow> keys =
+                Arrays.asList(row(9), row(4), row(1), row(5), row(8), row(0), row(5), row(2));
+        List<KeyValue> results = lookupLevels.lookupBatch(keys, 0);
+        assertThat(results).hasSize(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            KeyValue single = lookupLevels.lookup(keys.get(i), 0);
+            KeyValue batch = results.get(i);
+            if (single == null) {
+                assertThat(batch).isNull();
+            } else {
+                assertThat(batch).isNotNull();
+                assertThat(batch.level()).isEqualTo(single.level());
+                assertThat(batch.sequenceNumber()).isEqualTo(single.sequenceNumber());
+                assertThat(batch.value().getInt(1)).isEqualTo(single.value().getInt(1));
+            }
+        }
+        assertThat(results.get(1)).isNull();
+        assertThat(results.get(2).level()).isEqualTo(0);
+        assertThat(results.get(3).value().getInt(1)).isEqualTo(5);
+        assertThat(results.get(4).level()).isEqualTo(2);
+        assertThat(results.get(5)).isNull();
+
+        // start from level 1
+        results = lookupLevels.lookupBatch(Arrays.asList(row(1), row(8)), 1);
+        assertThat(results.get(0).value().getInt(1)).isEqualTo(11);
+        assertThat(results.get(1).value().getInt(1)).isEqualTo(88);
+
+        assertThat(lookupLevels.lookupBatch(Collections.emptyList(), 1)).isEmpty();
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testConcurrentLookup() throws Exception {
+        List<DataFileMeta> files = new ArrayList<>();
+        int fileNum = 10;
+        int recordInFile = 100;
+        for (int i = 0; i < fileNum; i++) {
+            List<KeyValue> kvs = new ArrayList<>();
+            for (int j = 0; j < recordInFile; j++) {
+                int key = i * recordInFile + j;
+                kvs.add(kv(key, key));
+            }
+            files.add(newFile(1, kvs.toArray(new KeyValue[0])));
+        }
+        Levels levels = new Levels(comparator, files, 1);
+        // small disk size to evict lookup files while they are being read
+        LookupLevels<KeyValue> lookupLevels =
+                createLookupLevels(levels, MemorySize.ofKibiBytes(20));
+
+        int threadNum = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNum);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadNum; t++) {
+                int offset = t;
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    for (int i = 0; i < fileNum * recordInFile; i++) {
+                                        int key = (i * 7 + offset) % (fileNum * recordInFile);
+                                        KeyValue kv = lookupLevels.lookup(row(key), 1);
+                                        assertThat(kv).isNotNull();
+                                        assertThat(kv.value().getInt(1)).isEqualTo(key);
+                                    }
+                                    return null;
+                                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        lookupLevels.close();
+        assertThat(lookupLevels.cachedFiles()).isEmpty();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRemoteLookupFile() throws IOException {
+        Options options = new Options();
+        options.set(CoreOptions.LOOKUP_REMOTE_FILE_ENABLED, true);
+        KeyValueFileWriterFactory writerFactory = createWriterFactory(new CoreOptions(options));
+        DataFileMeta file =
+                newFile(writerFactory, 1, FileSource.COMPACT, kv(1, 11), kv(3, 33), kv(5, 55));
+        assertThat(file.extraFiles())
+                .containsExactly(file.fileName() + DataFilePathFactory.LOOKUP_PATH_SUFFIX);
+
+        // level 0 and append files do not have lookup files
+        assertThat(newFile(writerFactory, 0, FileSource.COMPACT, kv(1, 11)).extraFiles())
+                .isEmpty();
+        assertThat(newFile(writerFactory, 1, FileSource.APPEND, kv(1, 11)).extraFiles())
+                .isEmpty();
+
+        Path path = new Path(tempDir.toUri().toString());
+        LookupLevels<KeyValue> lookupLevels =
+                new LookupLevels<>(
+                                new Levels(comparator, Collections.singletonList(file), 2),
+                                comparator,
+                                keyType,
+                                new LookupLevels.KeyValueProcessor(rowType),
+                                ignore -> {
+                                    throw new IOException("Data file should not be read.");
+                                },
+                                ignore ->
+                                        new File(
+                                                tempDir.toFile(),
+                                                LOOKUP_FILE_PREFIX + UUID.randomUUID()),
+                                new SortLookupStoreFactory(
+                                        new RowCompactedSerializer(keyType)
+                                                .createSliceComparator(),
+                                        new CacheManager(MemorySize.ofMebiBytes(1)),
+                                        1024,
+                                        new CompressOptions("none", 1)),
+                                rowCount -> BloomFilter.builder(rowCount, 0.05),
+                                LookupFile.createCache(
+                                        Duration.ofHours(1), MemorySize.ofMebiBytes(10)))
+                        .withRemoteFileDownloader(
+                                new RemoteLookupFileDownloader(
+                                        FileIOFinder.find(path),
+                                        createNonPartFactory(path)
+                                                .createDataFilePathFactory(BinaryRow.EMPTY_ROW, 0),
+                                        0));
+
+        KeyValue kv = lookupLevels.lookup(row(3), 1);
+        assertThat(kv).isNotNull();
+        assertThat(kv.level()).isEqualTo(1);
+        assertThat(kv.value().getInt(1)).isEqualTo(33);
+        assertThat(lookupLevels.lookup(row(4), 1)).isNull();
+
+        lookupLevels.close();
+        assertThat(lookupLevels.lookupFiles().estimatedSize()).isEqualTo(0);
+
+        // lookup files of data files written with another schema are not reused
+        RemoteLookupFileDownloader downloader =
+                new RemoteLookupFileDownloader(
+                        FileIOFinder.find(path),
+                        createNonPartFactory(path)
+                                .createDataFilePathFactory(BinaryRow.EMPTY_ROW, 0),
+                        1);
+        File localFile = new File(tempDir.toFile(), LOOKUP_FILE_PREFIX + UUID.randomUUID());
+        assertThat(downloader.tryToDownload(file, localFile)).isNull();
+        assertThat(localFile).doesNotExist();
+    }
+
     private LookupLevels<KeyValue> createLookupLevels(Levels levels, MemorySize maxDiskSize) {
         return new LookupLevels<>(
                 levels,
@@ -294,8 +463,21 @@ public class LookupLevelsTest {
     }
 
     private DataFileMeta newFile(int level, KeyValue... records) throws IOException {
+        return newFile(
+                createWriterFactory(new CoreOptions(new Options())),
+                level,
+                FileSource.APPEND,
+                records);
+    }
+
+    private DataFileMeta newFile(
+            KeyValueFileWriterFactory writerFactory,
+            int level,
+            FileSource fileSource,
+            KeyValue... records)
+            throws IOException {
         RollingFileWriter<KeyValue, DataFileMeta> writer =
-                createWriterFactory().createRollingMergeTreeFileWriter(level, FileSource.APPEND);
+                writerFactory.createRollingMergeTreeFileWriter(level, fileSource);
         for (KeyValue kv : records) {
             writer.write(kv);
         }
@@ -303,7 +485,7 @@ public class LookupLevelsTest {
         return writer.result().get(0);
     }
 
-    private KeyValueFileWriterFactory createWriterFactory() {
+    private KeyValueFileWriterFactory createWriterFactory(CoreOptions options) {
         Path path = new Path(tempDir.toUri().toString());
         String identifier = "avro";
         Function<String, FileStorePathFactory> pathFactoryMap = k -> createNonPartFactory(path);
@@ -315,7 +497,7 @@ public class LookupLevelsTest {
                         new FlushingFileFormat(identifier),
                         pathFactoryMap,
                         VALUE_128_MB.getBytes())
-                .build(BinaryRow.EMPTY_ROW, 0, new CoreOptions(new Options()));
+                .build(BinaryRow.EMPTY_ROW, 0, options);
     }
 
     private KeyValueFileReaderFactory createReaderFactory() {
@@ -71,6 +71,8 @@ import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -360,6 +362,22 @@ public abstract class MergeTreeTestBase {
         doTestWriteRead(3, 20_000);
     }
 
+    @Test
+    public void testWriteManyWithAsyncFlush() throws Exception {
+        ExecutorService flushExecutor = Executors.newSingleThreadExecutor();
+        try {
+            writer.close();
+            writer =
+                    createMergeTreeWriter(
+                            Collections.emptyList(),
+                            createCompactManager(service, Collections.emptyList()),
+                            flushExecutor);
+            doTestWriteRead(3, 20_000);
+        } finally {
+            flushExecutor.shutdownNow();
+        }
+    }
+
     private void doTestWriteRead(int batchNumber) throws Exception {
         doTestWriteRead(batchNumber, 200);
     }
@@ -412,6 +430,13 @@ public abstract class MergeTreeTestBase {
 
     private MergeTreeWriter createMergeTreeWriter(
             List<DataFileMeta> files, MergeTreeCompactManager compactManager) {
+        return createMergeTreeWriter(files, compactManager, null);
+    }
+
+    private MergeTreeWriter createMergeTreeWriter(
+            List<DataFileMeta> files,
+            MergeTreeCompactManager compactManager,
+            @Nullable ExecutorService flushExecutor) {
         long maxSequenceNumber =
                 files.stream().map(DataFileMeta::maxSequenceNumber).max(Long::compare).orElse(-1L);
         MergeTreeWriter writer =
@@ -429,9 +454,12 @@ public abstract class MergeTreeTestBase {
                         options.commitForceCompact(),
                         ChangelogProducer.NONE,
                         null,
-                        null);
-        writer.setMemoryPool(
-                new HeapMemorySegmentPool(options.writeBufferSize(), options.pageSize()));
+                        null,
+                        flushExecutor);
+        // background flush splits the buffer into two halves
+        long bufferSize =
+                flushExecutor == null ? options.writeBufferSize() : options.writeBufferSize() * 2;
+        writer.setMemoryPool(new HeapMemorySegmentPool(bufferSize, options.pageSize()));
         return writer;
     }
 
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.CoreOptions.SortEngine;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.mergetree.compact.CombiningRecordReaderTestBase;
+import org.apache.paimon.reader.ReaderSupplier;
+import org.apache.paimon.reader.RecordReader;
+import org.apache.paimon.utils.ReusingTestData;
+import org.apache.paimon.utils.TestReusingRecordReader;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link PrefetchConcatRecordReader}. */
+public class PrefetchConcatRecordReaderTest extends CombiningRecordReaderTestBase {
+
+    @Override
+    protected boolean addOnly() {
+        return false;
+    }
+
+    @Override
+    protected List<ReusingTestData> getExpected(List<ReusingTestData> input) {
+        return input;
+    }
+
+    @Override
+    protected RecordReader<KeyValue> createRecordReader(
+            List<TestReusingRecordReader> readers, SortEngine sortEngine) {
+        return new PrefetchConcatRecordReader<>(suppliers(readers), new Semaphore(1));
+    }
+
+    @Test
+    public void testSmallData() throws IOException {
+        runTest(
+                parseData(
+                        "1, 1, +, 100 | 3, 2, +, 300 | 5, 3, -, 500 | "
+                                + "7, 4, +, 700 | 9, 20, +, 900",
+                        "",
+                        "12, 6, +, 1200 |  14, 7, +, 1400 |  16, 8, -, 1600 |  18, 9, -, 1800"),
+                CoreOptions.SORT_ENGINE.defaultValue());
+    }
+
+    @Test
+    public void testCloseWithPrefetchedReader() throws IOException {
+        List<TestReusingRecordReader> readers =
+                parseData("1, 1, +, 100", "3, 2, +, 300").stream()
+                        .map(TestReusingRecordReader::new)
+                        .collect(Collectors.toList());
+        Semaphore budget = new Semaphore(1);
+
+        RecordReader<KeyValue> reader =
+                new PrefetchConcatRecordReader<>(suppliers(readers), budget);
+        reader.close();
+
+        // the prefetched reader is closed and its permit is returned
+        readers.get(0).assertCleanUp();
+        assertThat(budget.availablePermits()).isEqualTo(1);
+    }
+
+    private static List<ReaderSupplier<KeyValue>> suppliers(
+            List<TestReusingRecordReader> readers) {
+        return readers.stream()
+                .map(r -> (ReaderSupplier<KeyValue>) () -> r)
+                .collect(Collectors.toList());
+    }
+}
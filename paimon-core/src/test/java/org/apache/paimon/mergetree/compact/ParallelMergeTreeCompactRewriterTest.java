@@ -0,0 +1,314 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.mergetree.compact;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.KeyValue;
+import org.apache.paimon.compact.CompactResult;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.format.FlushingFileFormat;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.io.KeyValueFileWriterFactory;
+import org.apache.paimon.io.RollingFileWriter;
+import org.apache.paimon.manifest.FileSource;
+import org.apache.paimon.mergetree.SortedRun;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.types.DataTypes;
+import org.apache.paimon.types.RowKind;
+import org.apache.paimon.types.RowType;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.apache.paimon.io.DataFileTestUtils.newFile;
+import static org.apache.paimon.options.MemorySize.VALUE_128_MB;
+import static org.apache.paimon.utils.FileStorePathFactoryTest.createNonPartFactory;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for {@link ParallelMergeTreeCompactRewriter}. */
+public class ParallelMergeTreeCompactRewriterTest {
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testSplitBalancedSections() {
+        // 8 sections of the same size
+        List<List<SortedRun>> sections = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            sections.add(section(i * 10, i * 10 + 9));
+        }
+
+        List<List<List<SortedRun>>> groups =
+                ParallelMergeTreeCompactRewriter.splitSections(sections, 4);
+        assertThat(groups).hasSize(4);
+        for (List<List<SortedRun>> group : groups) {
+            assertThat(group).hasSize(2);
+        }
+        assertThat(flatten(groups)).isEqualTo(sections);
+    }
+
+    @Test
+    public void testSplitSingleSection() {
+        List<List<SortedRun>> sections = Collections.singletonList(section(0, 100));
+        List<List<List<SortedRun>>> groups =
+                ParallelMergeTreeCompactRewriter.splitSections(sections, 4);
+        assertThat(groups).containsExactly(sections);
+    }
+
+    @Test
+    public void testSplitRandomSections() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<List<SortedRun>> sections = new ArrayList<>();
+        int key = 0;
+        int numSections = random.nextInt(1, 50);
+        for (int i = 0; i < numSections; i++) {
+            int size = random.nextInt(1, 1000);
+            sections.add(section(key, key + size - 1));
+            key += size;
+        }
+
+        int maxGroups = random.nextInt(1, 10);
+        List<List<List<SortedRun>>> groups =
+                ParallelMergeTreeCompactRewriter.splitSections(sections, maxGroups);
+        assertThat(groups.size()).isBetween(1, Math.min(maxGroups, numSections));
+        for (List<List<SortedRun>> group : groups) {
+            assertThat(group).isNotEmpty();
+        }
+        // groups are contiguous so that they cover disjoint key ranges in order
+        assertThat(flatten(groups)).isEqualTo(sections);
+    }
+
+    @Test
+    public void testRewriteInParallel() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<TestRewriter> rewriters =
+                    Arrays.asList(new TestRewriter(), new TestRewriter(), new TestRewriter());
+            CompactResult result =
+                    new ParallelMergeTreeCompactRewriter(new ArrayList<>(rewriters), executor)
+                            .rewrite(1, true, sections(6));
+
+            // every range is rewritten by its own rewriter into its own file
+            assertThat(result.before()).hasSize(6);
+            assertThat(result.after()).hasSize(3);
+            assertThat(dataFiles()).hasSize(3);
+            for (TestRewriter rewriter : rewriters) {
+                assertThat(rewriter.invoked.get()).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailedRangeDeletesOutputs() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            TestRewriter failing = new TestRewriter();
+            failing.fail = true;
+            ParallelMergeTreeCompactRewriter rewriter =
+                    new ParallelMergeTreeCompactRewriter(
+                            Arrays.asList(new TestRewriter(), new TestRewriter(), failing),
+                            executor);
+
+            assertThatThrownBy(() -> rewriter.rewrite(1, true, sections(6)))
+                    .isInstanceOf(IOException.class)
+                    .hasMessage("Expected failure.");
+            assertThat(dataFiles()).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testInFlightRangeOutputsDeleted() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch failed = new CountDownLatch(1);
+            TestRewriter first = new TestRewriter();
+            first.fail = true;
+            first.beforeWrite = started::await;
+            first.afterFailure = failed::countDown;
+            TestRewriter inFlight = new TestRewriter();
+            inFlight.beforeWrite =
+                    () -> {
+                        started.countDown();
+                        failed.await();
+                    };
+            ParallelMergeTreeCompactRewriter rewriter =
+                    new ParallelMergeTreeCompactRewriter(
+                            Arrays.asList(first, inFlight, new TestRewriter()), executor);
+
+            assertThatThrownBy(() -> rewriter.rewrite(1, true, sections(6)))
+                    .hasMessage("Expected failure.");
+            // the in-flight range finished writing after the failure, its output is deleted
+            assertThat(inFlight.invoked.get()).isEqualTo(1);
+            assertThat(dataFiles()).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShutdownWhileRewriting() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ExecutorService compactExecutor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch written = new CountDownLatch(1);
+            TestRewriter first = new TestRewriter();
+            first.beforeWrite = started::await;
+            first.afterWrite = written::countDown;
+            TestRewriter inFlight = new TestRewriter();
+            inFlight.beforeWrite =
+                    () -> {
+                        started.countDown();
+                        Thread.sleep(Long.MAX_VALUE);
+                    };
+            TestRewriter queued = new TestRewriter();
+            ParallelMergeTreeCompactRewriter rewriter =
+                    new ParallelMergeTreeCompactRewriter(
+                            Arrays.asList(first, inFlight, queued), executor);
+
+            Future<CompactResult> compaction =
+                    compactExecutor.submit(() -> rewriter.rewrite(1, true, sections(6)));
+            written.await();
+
+            // like closing the write: cancel the compaction, then shut down the executor
+            compaction.cancel(true);
+            ParallelMergeTreeCompactRewriter.shutdownNow(executor);
+
+            compactExecutor.shutdown();
+            assertThat(compactExecutor.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+            assertThat(queued.invoked.get()).isEqualTo(0);
+            assertThat(dataFiles()).isEmpty();
+        } finally {
+            executor.shutdownNow();
+            compactExecutor.shutdownNow();
+        }
+    }
+
+    private List<List<SortedRun>> sections(int numSections) {
+        List<List<SortedRun>> sections = new ArrayList<>();
+        for (int i = 0; i < numSections; i++) {
+            sections.add(section(i * 10, i * 10 + 9));
+        }
+        return sections;
+    }
+
+    private List<java.nio.file.Path> dataFiles() throws IOException {
+        if (!Files.exists(tempDir)) {
+            return Collections.emptyList();
+        }
+        String prefix = new CoreOptions(new Options()).dataFilePrefix();
+        try (Stream<java.nio.file.Path> files = Files.walk(tempDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(p -> p.getFileName().toString().startsWith(prefix))
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private KeyValueFileWriterFactory createWriterFactory() {
+        RowType keyType = RowType.of(DataTypes.INT());
+        RowType valueType = RowType.of(DataTypes.INT());
+        Path path = new Path(tempDir.toString());
+        return KeyValueFileWriterFactory.builder(
+                        LocalFileIO.create(),
+                        0,
+                        keyType,
+                        valueType,
+                        new FlushingFileFormat("avro"),
+                        k -> createNonPartFactory(path),
+                        VALUE_128_MB.getBytes())
+                .build(BinaryRow.EMPTY_ROW, 0, new CoreOptions(new Options()));
+    }
+
+    /** Action of {@link TestRewriter} which may block. */
+    private interface Action {
+        void run() throws Exception;
+    }
+
+    /** Rewriter which writes one record per section of its range into one real file. */
+    private class TestRewriter extends MergeTreeCompactRewriter {
+
+        private final AtomicInteger invoked = new AtomicInteger();
+        private boolean fail = false;
+        private Action beforeWrite = () -> {};
+        private Action afterFailure = () -> {};
+        private Action afterWrite = () -> {};
+
+        private TestRewriter() {
+            super(null, createWriterFactory(), null, null, null, null);
+        }
+
+        @Override
+        public CompactResult rewrite(
+                int outputLevel, boolean dropDelete, List<List<SortedRun>> sections)
+                throws Exception {
+            invoked.incrementAndGet();
+            beforeWrite.run();
+            if (fail) {
+                afterFailure.run();
+                throw new IOException("Expected failure.");
+            }
+
+            RollingFileWriter<KeyValue, DataFileMeta> writer =
+                    writerFactory.createRollingMergeTreeFileWriter(outputLevel, FileSource.COMPACT);
+            List<DataFileMeta> before = extractFilesFromSections(sections);
+            for (DataFileMeta file : before) {
+                GenericRow row = GenericRow.of(file.minKey().getInt(0));
+                writer.write(new KeyValue().replace(row, 0, RowKind.INSERT, row));
+            }
+            writer.close();
+            afterWrite.run();
+            return new CompactResult(before, writer.result());
+        }
+    }
+
+    private static List<SortedRun> section(int minKey, int maxKey) {
+        return Collections.singletonList(SortedRun.fromSingle(newFile(0, minKey, maxKey, 0)));
+    }
+
+    private static List<List<SortedRun>> flatten(List<List<List<SortedRun>>> groups) {
+        List<List<SortedRun>> result = new ArrayList<>();
+        groups.forEach(result::addAll);
+        return result;
+    }
+}
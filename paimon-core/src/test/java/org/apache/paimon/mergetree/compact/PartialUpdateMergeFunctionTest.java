@@ -133,6 +133,42 @@ public class PartialUpdateMergeFunctionTest {
         validate(func, null, null, null, null, null, null, null);
     }
 
+    @Test
+    public void testSequenceGroupPartialDeleteAdjustProjection() {
+        Options options = new Options();
+        options.set("fields.f3.sequence-group", "f1,f2");
+        options.set("fields.f6.sequence-group", "f4,f5");
+        options.set("partial-update.remove-record-on-sequence-group", "f6");
+        RowType rowType =
+                RowType.of(
+                        DataTypes.INT(),
+                        DataTypes.INT(),
+                        DataTypes.INT(),
+                        DataTypes.INT(),
+                        DataTypes.INT(),
+                        DataTypes.INT(),
+                        DataTypes.INT());
+        // the group of 'f6' is not projected, but its deletes remove the whole record
+        int[][] projection = new int[][] {{1}, {2}, {3}};
+        MergeFunctionFactory<KeyValue> factory =
+                PartialUpdateMergeFunction.factory(options, rowType, ImmutableList.of("f0"));
+        MergeFunctionFactory.AdjustedProjection adjustedProjection =
+                factory.adjustProjection(projection);
+
+        validate(adjustedProjection, new int[] {1, 2, 3, 6}, new int[] {0, 1, 2});
+
+        MergeFunction<KeyValue> func = factory.create(adjustedProjection.pushdownProjection);
+        func.reset();
+        add(func, 1, 1, 1, 1);
+        add(func, 2, 2, 2, null);
+        validate(func, 2, 2, 2, 1);
+
+        // delete
+        add(func, RowKind.DELETE, 1, 1, 2, 4);
+        validate(func, null, null, null, null);
+        assertThat(func.getResult().valueKind()).isEqualTo(RowKind.DELETE);
+    }
+
     @Test
     public void testMultiSequenceFields() {
         Options options = new Options();
@@ -132,6 +132,70 @@ class AggregateMergeFunctionTest {
                                 BinaryString.fromString("1/2/3/4/5")));
     }
 
+    @Test
+    void testPrimitiveAggFunc() {
+        Options options = new Options();
+        options.set("fields.a.aggregate-function", "sum");
+        options.set("fields.b.aggregate-function", "max");
+        options.set("fields.c.aggregate-function", "min");
+        options.set("fields.d.aggregate-function", "sum");
+        options.set("fields.e.aggregate-function", "bool_and");
+        options.set("fields.f.aggregate-function", "bool_or");
+        MergeFunction<KeyValue> aggregateFunction =
+                AggregateMergeFunction.factory(
+                                options,
+                                Arrays.asList("k", "a", "b", "c", "d", "e", "f"),
+                                Arrays.asList(
+                                        DataTypes.INT(),
+                                        DataTypes.TINYINT(),
+                                        DataTypes.BIGINT(),
+                                        DataTypes.DOUBLE(),
+                                        DataTypes.FLOAT(),
+                                        DataTypes.BOOLEAN(),
+                                        DataTypes.BOOLEAN()),
+                                Collections.singletonList("k"))
+                        .create();
+        aggregateFunction.reset();
+
+        aggregateFunction.add(kv(RowKind.INSERT, 1, (byte) 100, 5L, 2.5, 0.1f, true, false));
+        aggregateFunction.add(kv(RowKind.INSERT, 1, (byte) 100, null, -1.0, 0.2f, true, null));
+        aggregateFunction.add(kv(RowKind.INSERT, 1, (byte) 100, 7L, null, 0.3f, false, false));
+        // the tinyint sum 300 wraps around to 44 like the boxed one
+        assertThat(aggregateFunction.getResult().value())
+                .isEqualTo(GenericRow.of(1, (byte) 44, 7L, -1.0, 0.1f + 0.2f + 0.3f, false, false));
+
+        // all fields are null
+        aggregateFunction.reset();
+        aggregateFunction.add(kv(RowKind.INSERT, 2, null, null, null, null, null, null));
+        assertThat(aggregateFunction.getResult().value())
+                .isEqualTo(GenericRow.of(2, null, null, null, null, null, null));
+    }
+
+    @Test
+    void testPrimitiveAggFuncWithRetract() {
+        Options options = new Options();
+        options.set("fields.a.aggregate-function", "sum");
+        options.set("fields.b.aggregate-function", "sum");
+        MergeFunction<KeyValue> aggregateFunction =
+                AggregateMergeFunction.factory(
+                                options,
+                                Arrays.asList("k", "a", "b"),
+                                Arrays.asList(DataTypes.INT(), DataTypes.INT(), DataTypes.DOUBLE()),
+                                Collections.singletonList("k"))
+                        .create();
+        aggregateFunction.reset();
+
+        aggregateFunction.add(kv(RowKind.INSERT, 1, 5, 1.5));
+        aggregateFunction.add(kv(RowKind.INSERT, 1, 3, null));
+        aggregateFunction.add(kv(RowKind.UPDATE_BEFORE, 1, 2, 0.5));
+        aggregateFunction.add(kv(RowKind.INSERT, 1, 4, 2.0));
+        assertThat(aggregateFunction.getResult().value()).isEqualTo(GenericRow.of(1, 10, 3.0));
+    }
+
+    private KeyValue kv(RowKind rowKind, Object... values) {
+        return new KeyValue().replace(GenericRow.of(values[0]), rowKind, GenericRow.of(values));
+    }
+
     private KeyValue value(Integer... values) {
         return new KeyValue()
                 .replace(GenericRow.of(values[0]), RowKind.INSERT, GenericRow.of(values));
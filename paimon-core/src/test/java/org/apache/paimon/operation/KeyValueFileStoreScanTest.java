@@ -271,6 +271,39 @@ public class KeyValueFileStoreScanTest {
         }
     }
 
+    @Test
+    public void testSinglePassMerge() throws Exception {
+        writeData(generateData(100));
+        writeData(generateData(100));
+        // overwrite the whole table, so that manifests contain deletions of previous files
+        List<KeyValue> data = generateData(100);
+        store.overwriteData(data, gen::getPartition, this::getBucket, Collections.emptyMap());
+        List<KeyValue> appended = generateData(100);
+        Snapshot snapshot = writeData(appended);
+        data.addAll(appended);
+
+        KeyValueFileStoreScan scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        Set<String> expectedFiles =
+                scan.plan().files().stream()
+                        .map(ManifestEntry::fileName)
+                        .collect(Collectors.toSet());
+
+        scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withSinglePassMerge(true);
+        assertThat(
+                        scan.plan().files().stream()
+                                .map(ManifestEntry::fileName)
+                                .collect(Collectors.toSet()))
+                .isEqualTo(expectedFiles);
+
+        scan = store.newScan();
+        scan.withSnapshot(snapshot.id());
+        scan.withSinglePassMerge(true);
+        runTestExactMatch(scan, snapshot.id(), store.toKvMap(data));
+    }
+
     private void runTestExactMatch(
             FileStoreScan scan, Long expectedSnapshotId, Map<BinaryRow, BinaryRow> expected)
             throws Exception {
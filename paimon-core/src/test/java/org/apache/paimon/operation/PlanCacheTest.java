@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.manifest.ManifestEntry;
+import org.apache.paimon.options.Options;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for {@link PlanCache}. */
+public class PlanCacheTest extends PrimaryKeyTableTestBase {
+
+    private PlanCache planCache;
+
+    @Override
+    protected Options tableOptions() {
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, 1);
+        return options;
+    }
+
+    @BeforeEach
+    public void beforeEach() {
+        planCache =
+                new PlanCache(
+                        table.snapshotManager(),
+                        table.store().manifestListFactory(),
+                        table.store().manifestFileFactory(),
+                        null,
+                        5);
+    }
+
+    @Test
+    public void testAdvance() throws Exception {
+        writeCommit(GenericRow.of(1, 1, 1), GenericRow.of(2, 2, 2));
+        assertSameFiles(scan -> {});
+        assertThat(planCache.rebuildCount()).isEqualTo(1);
+
+        writeCommit(GenericRow.of(1, 3, 3));
+        writeCommit(GenericRow.of(2, 4, 4));
+        compact(1);
+        assertSameFiles(scan -> {});
+        assertSameFiles(
+                scan ->
+                        scan.withPartitionFilter(
+                                Collections.singletonList(BinaryRow.singleColumn(1))));
+        assertSameFiles(scan -> scan.withLevel(0));
+        assertThat(planCache.rebuildCount()).isEqualTo(1);
+        assertThat(planCache.advanceCount()).isEqualTo(1);
+
+        // older snapshot is not served by the cache
+        assertSameFiles(scan -> scan.withSnapshot(1));
+        assertThat(planCache.rebuildCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void testRebuild() throws Exception {
+        writeCommit(GenericRow.of(1, 1, 1));
+        assertSameFiles(scan -> {});
+
+        // too many snapshots in between
+        for (int i = 2; i < 9; i++) {
+            writeCommit(GenericRow.of(i % 2, i, i));
+        }
+        assertSameFiles(scan -> {});
+        assertThat(planCache.rebuildCount()).isEqualTo(2);
+        assertThat(planCache.advanceCount()).isEqualTo(0);
+
+        // snapshot is committed again with the same id after rollback
+        table.rollbackTo(7);
+        writeCommit(GenericRow.of(1, 10, 10));
+        assertSameFiles(scan -> {});
+        assertThat(planCache.rebuildCount()).isEqualTo(3);
+        assertThat(planCache.advanceCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void testRebuildOnUnreadableDelta() throws Exception {
+        writeCommit(GenericRow.of(1, 1, 1));
+        assertSameFiles(scan -> {});
+
+        writeCommit(GenericRow.of(1, 2, 2));
+        writeCommit(GenericRow.of(2, 3, 3));
+        String deltaManifestList = table.snapshotManager().snapshot(2).deltaManifestList();
+        table.fileIO()
+                .deleteQuietly(table.store().pathFactory().toManifestListPath(deltaManifestList));
+
+        assertSameFiles(scan -> {});
+        assertThat(planCache.rebuildCount()).isEqualTo(2);
+        assertThat(planCache.advanceCount()).isEqualTo(0);
+    }
+
+    private void assertSameFiles(Consumer<FileStoreScan> scanSetter) {
+        AbstractFileStoreScan cachedScan = (AbstractFileStoreScan) table.store().newScan();
+        cachedScan.withPlanCache(planCache);
+        scanSetter.accept(cachedScan);
+
+        FileStoreScan scan = table.store().newScan();
+        scanSetter.accept(scan);
+
+        assertThat(fileNames(cachedScan.plan())).isEqualTo(fileNames(scan.plan()));
+    }
+
+    private static Set<String> fileNames(FileStoreScan.Plan plan) {
+        return plan.files().stream().map(ManifestEntry::fileName).collect(Collectors.toSet());
+    }
+}
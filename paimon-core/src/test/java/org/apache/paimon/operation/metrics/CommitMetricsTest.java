@@ -175,6 +175,35 @@ public class CommitMetricsTest {
         assertThat(lastChangelogRecordsCompacted.getValue()).isEqualTo(601);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testConflictDurationMetrics() {
+        CommitMetrics commitMetrics = getCommitMetrics();
+        Map<String, Metric> registeredGenericMetrics = commitMetrics.getMetricGroup().getMetrics();
+        Gauge<Long> lastConflictReadDuration =
+                (Gauge<Long>)
+                        registeredGenericMetrics.get(CommitMetrics.LAST_CONFLICT_READ_DURATION);
+        Gauge<Long> lastConflictCheckDuration =
+                (Gauge<Long>)
+                        registeredGenericMetrics.get(CommitMetrics.LAST_CONFLICT_CHECK_DURATION);
+        assertThat(lastConflictReadDuration.getValue()).isEqualTo(0);
+        assertThat(lastConflictCheckDuration.getValue()).isEqualTo(0);
+
+        commitMetrics.reportCommit(
+                new CommitStats(
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        new ArrayList<>(),
+                        200,
+                        1,
+                        1,
+                        30,
+                        20));
+        assertThat(lastConflictReadDuration.getValue()).isEqualTo(30);
+        assertThat(lastConflictCheckDuration.getValue()).isEqualTo(20);
+    }
+
     private void reportOnce(CommitMetrics commitMetrics) {
         List<ManifestEntry> appendTableFiles = new ArrayList<>();
         List<ManifestEntry> appendChangelogFiles = new ArrayList<>();
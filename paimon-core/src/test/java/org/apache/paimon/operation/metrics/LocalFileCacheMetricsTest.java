@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.operation.metrics;
+
+import org.apache.paimon.fs.CachingFileIO;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
+import org.apache.paimon.fs.SeekableInputStream;
+import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.metrics.Gauge;
+import org.apache.paimon.metrics.Metric;
+import org.apache.paimon.metrics.TestMetricRegistry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for {@link LocalFileCacheMetrics}. */
+public class LocalFileCacheMetricsTest {
+
+    private static final String TABLE_NAME = "myTable";
+
+    @TempDir java.nio.file.Path tempDir;
+
+    @Test
+    public void testNotRegisteredWithoutCache() {
+        assertThat(
+                        LocalFileCacheMetrics.register(
+                                new TestMetricRegistry(), TABLE_NAME, LocalFileIO.create()))
+                .isNull();
+    }
+
+    @Test
+    public void testMetricsAreUpdated() throws IOException {
+        CachingFileIO fileIO =
+                new CachingFileIO(
+                        LocalFileIO.create(),
+                        tempDir.resolve("cache").toString(),
+                        1024 * 1024,
+                        100);
+        LocalFileCacheMetrics metrics =
+                LocalFileCacheMetrics.register(new TestMetricRegistry(), TABLE_NAME, fileIO);
+        assertThat(metrics).isNotNull();
+        assertThat(metrics.getMetricGroup().getGroupName())
+                .isEqualTo(LocalFileCacheMetrics.GROUP_NAME);
+        Map<String, Metric> registeredMetrics = metrics.getMetricGroup().getMetrics();
+        Gauge<Long> hits =
+                (Gauge<Long>) registeredMetrics.get(LocalFileCacheMetrics.LOCAL_FILE_CACHE_HITS);
+        Gauge<Long> misses =
+                (Gauge<Long>) registeredMetrics.get(LocalFileCacheMetrics.LOCAL_FILE_CACHE_MISSES);
+        assertThat(hits.getValue()).isEqualTo(0);
+        assertThat(misses.getValue()).isEqualTo(0);
+
+        Path path = new Path(tempDir.toString(), "bucket-0/data-1.orc");
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            out.write(new byte[250]);
+        }
+        readFully(fileIO, path);
+        assertThat(hits.getValue()).isEqualTo(0);
+        assertThat(misses.getValue()).isEqualTo(3);
+
+        readFully(fileIO, path);
+        assertThat(hits.getValue()).isEqualTo(3);
+        assertThat(misses.getValue()).isEqualTo(3);
+    }
+
+    private static void readFully(CachingFileIO fileIO, Path path) throws IOException {
+        try (SeekableInputStream in = fileIO.newInputStream(path)) {
+            byte[] buffer = new byte[64];
+            while (in.read(buffer) != -1) {}
+        }
+    }
+}
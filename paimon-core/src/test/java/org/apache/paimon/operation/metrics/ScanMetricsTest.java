@@ -49,6 +49,8 @@ public class ScanMetricsTest {
                         ScanMetrics.LAST_SCANNED_MANIFESTS,
                         ScanMetrics.LAST_SCAN_SKIPPED_TABLE_FILES,
                         ScanMetrics.LAST_SCAN_RESULTED_TABLE_FILES,
+                        ScanMetrics.LAST_SCAN_READ_MANIFEST_BYTES,
+                        ScanMetrics.LAST_SCAN_READ_MANIFEST_ENTRIES,
                         ScanMetrics.MANIFEST_HIT_CACHE,
                         ScanMetrics.MANIFEST_MISSED_CACHE);
     }
@@ -72,6 +74,12 @@ public class ScanMetricsTest {
         Gauge<Long> lastScanResultedTableFiles =
                 (Gauge<Long>)
                         registeredGenericMetrics.get(ScanMetrics.LAST_SCAN_RESULTED_TABLE_FILES);
+        Gauge<Long> lastScanReadManifestBytes =
+                (Gauge<Long>)
+                        registeredGenericMetrics.get(ScanMetrics.LAST_SCAN_READ_MANIFEST_BYTES);
+        Gauge<Long> lastScanReadManifestEntries =
+                (Gauge<Long>)
+                        registeredGenericMetrics.get(ScanMetrics.LAST_SCAN_READ_MANIFEST_ENTRIES);
 
         assertThat(lastScanDuration.getValue()).isEqualTo(0);
         assertThat(scanDuration.getCount()).isEqualTo(0);
@@ -79,6 +87,8 @@ public class ScanMetricsTest {
         assertThat(lastScannedManifests.getValue()).isEqualTo(0);
         assertThat(lastScanSkippedTableFiles.getValue()).isEqualTo(0);
         assertThat(lastScanResultedTableFiles.getValue()).isEqualTo(0);
+        assertThat(lastScanReadManifestBytes.getValue()).isEqualTo(0);
+        assertThat(lastScanReadManifestEntries.getValue()).isEqualTo(0);
 
         // report once
         reportOnce(scanMetrics);
@@ -96,6 +106,8 @@ public class ScanMetricsTest {
         assertThat(lastScannedManifests.getValue()).isEqualTo(20);
         assertThat(lastScanSkippedTableFiles.getValue()).isEqualTo(25);
         assertThat(lastScanResultedTableFiles.getValue()).isEqualTo(10);
+        assertThat(lastScanReadManifestBytes.getValue()).isEqualTo(4096);
+        assertThat(lastScanReadManifestEntries.getValue()).isEqualTo(35);
 
         // report again
         reportAgain(scanMetrics);
@@ -113,10 +125,12 @@ public class ScanMetricsTest {
         assertThat(lastScannedManifests.getValue()).isEqualTo(22);
         assertThat(lastScanSkippedTableFiles.getValue()).isEqualTo(30);
         assertThat(lastScanResultedTableFiles.getValue()).isEqualTo(8);
+        assertThat(lastScanReadManifestBytes.getValue()).isEqualTo(0);
+        assertThat(lastScanReadManifestEntries.getValue()).isEqualTo(0);
     }
 
     private void reportOnce(ScanMetrics scanMetrics) {
-        ScanStats scanStats = new ScanStats(200, 20, 25, 10);
+        ScanStats scanStats = new ScanStats(200, 20, 25, 10, 4096, 35);
         scanMetrics.reportScan(scanStats);
     }
 
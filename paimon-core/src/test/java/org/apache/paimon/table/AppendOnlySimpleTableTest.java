@@ -86,6 +86,7 @@ import static org.apache.paimon.CoreOptions.DATA_FILE_PATH_DIRECTORY;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PARQUET;
 import static org.apache.paimon.CoreOptions.FILE_INDEX_IN_MANIFEST_THRESHOLD;
+import static org.apache.paimon.CoreOptions.FILE_INDEX_READ_EXTERNAL_IN_PLAN;
 import static org.apache.paimon.CoreOptions.METADATA_STATS_MODE;
 import static org.apache.paimon.CoreOptions.WRITE_ONLY;
 import static org.apache.paimon.io.DataFileTestUtils.row;
@@ -587,6 +588,61 @@ public class AppendOnlySimpleTableTest extends SimpleTableTestBase {
         reader.forEachRemaining(row -> assertThat(row.getString(1).toString()).isEqualTo("b"));
     }
 
+    @Test
+    public void testBloomFilterInDiskFilteredInPlan() throws Exception {
+        RowType rowType =
+                RowType.builder()
+                        .field("id", DataTypes.INT())
+                        .field("index_column", DataTypes.STRING())
+                        .field("index_column2", DataTypes.INT())
+                        .field("index_column3", DataTypes.BIGINT())
+                        .build();
+        FileStoreTable table =
+                createUnawareBucketFileStoreTable(
+                        rowType,
+                        options -> {
+                            options.set(
+                                    FileIndexOptions.FILE_INDEX
+                                            + "."
+                                            + BloomFilterFileIndexFactory.BLOOM_FILTER
+                                            + "."
+                                            + CoreOptions.COLUMNS,
+                                    "index_column, index_column2, index_column3");
+                            options.set(FILE_INDEX_IN_MANIFEST_THRESHOLD.key(), "50 B");
+                            options.set(FILE_INDEX_READ_EXTERNAL_IN_PLAN, true);
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+        List<CommitMessage> result = new ArrayList<>();
+        write.write(GenericRow.of(1, BinaryString.fromString("a"), 2, 3L));
+        write.write(GenericRow.of(1, BinaryString.fromString("c"), 2, 3L));
+        result.addAll(write.prepareCommit(true, 0));
+        write.write(GenericRow.of(1, BinaryString.fromString("b"), 2, 3L));
+        result.addAll(write.prepareCommit(true, 0));
+        commit.commit(0, result);
+        result.clear();
+
+        // plan twice, the second plan reads index files from cache
+        for (int i = 0; i < 2; i++) {
+            TableScan.Plan plan =
+                    table.newScan()
+                            .withFilter(
+                                    new PredicateBuilder(rowType)
+                                            .equal(1, BinaryString.fromString("b")))
+                            .plan();
+            List<DataFileMeta> metas =
+                    plan.splits().stream()
+                            .flatMap(split -> ((DataSplit) split).dataFiles().stream())
+                            .collect(Collectors.toList());
+            assertThat(metas.size()).isEqualTo(1);
+            assertThat(metas.get(0).embeddedIndex()).isNull();
+        }
+
+        write.close();
+        commit.close();
+    }
+
     @Test
     public void testBSIAndBitmapIndexInMemory() throws Exception {
         RowType rowType =
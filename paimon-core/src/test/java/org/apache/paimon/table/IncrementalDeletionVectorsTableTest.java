@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.index.IndexFileMeta;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.sink.BatchTableCommit;
+import org.apache.paimon.table.sink.BatchTableWrite;
+import org.apache.paimon.table.sink.CommitMessage;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.apache.paimon.deletionvectors.DeletionVectorsIndexFile.DELETION_VECTORS_INDEX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/** Tests for primary key tables with {@link CoreOptions#DELETION_VECTORS_INCREMENTAL_WRITE}. */
+public class IncrementalDeletionVectorsTableTest extends PrimaryKeyTableTestBase {
+
+    private final Map<Integer, Integer> expected = new TreeMap<>();
+
+    @Override
+    protected Options tableOptions() {
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, 1);
+        options.set(CoreOptions.DELETION_VECTORS_ENABLED, true);
+        options.set(CoreOptions.DELETION_VECTORS_INCREMENTAL_MAX_INDEX_FILES, 2);
+        return options;
+    }
+
+    @Test
+    public void testSwitchIncrementalWrite() throws Exception {
+        writeAndCheck(0, 0, 20);
+        writeAndCheck(1, 0, 5);
+        assertThat(indexFiles()).hasSize(1);
+
+        // enable incremental write for the existing table
+        setIncrementalWrite(true);
+        for (int round = 2; round < 8; round++) {
+            writeAndCheck(round, round, round + 3);
+            assertThat(indexFiles()).isNotEmpty().hasSizeLessThanOrEqualTo(2);
+        }
+
+        compact(1);
+        checkQuery();
+
+        writeAndCheck(8, 10, 15);
+        assertThat(indexFiles()).isNotEmpty().hasSizeLessThanOrEqualTo(2);
+
+        // disable it again, all deletion vectors of the bucket are rewritten into one file
+        setIncrementalWrite(false);
+        writeAndCheck(9, 5, 12);
+        assertThat(indexFiles()).hasSize(1);
+
+        compact(1);
+        checkQuery();
+    }
+
+    @Test
+    public void testRejectIncrementalFilesFromMismatchedCommitter() throws Exception {
+        setIncrementalWrite(true);
+        writeAndCheck(0, 0, 10);
+        writeAndCheck(1, 0, 1);
+
+        FileStoreTable committerTable =
+                table.copy(
+                        Collections.singletonMap(
+                                CoreOptions.DELETION_VECTORS_INCREMENTAL_WRITE.key(), "false"));
+        List<CommitMessage> messages;
+        try (BatchTableWrite write = table.newBatchWriteBuilder().newWrite()) {
+            // rewrites the index file holding the deletion vector of the first file
+            write.write(GenericRow.of(1, 1, 200));
+            messages = write.prepareCommit();
+        }
+        try (BatchTableCommit commit = committerTable.newBatchWriteBuilder().newCommit()) {
+            assertThatThrownBy(() -> commit.commit(messages))
+                    .hasMessageContaining(CoreOptions.DELETION_VECTORS_INCREMENTAL_WRITE.key());
+        }
+
+        checkQuery();
+    }
+
+    private void setIncrementalWrite(boolean enabled) {
+        table =
+                table.copy(
+                        Collections.singletonMap(
+                                CoreOptions.DELETION_VECTORS_INCREMENTAL_WRITE.key(),
+                                String.valueOf(enabled)));
+    }
+
+    /** Upserts keys in [from, to) with values of the round, then checks the query result. */
+    private void writeAndCheck(int round, int from, int to) throws Exception {
+        GenericRow[] rows = new GenericRow[to - from];
+        for (int pk = from; pk < to; pk++) {
+            int value = round * 100 + pk;
+            rows[pk - from] = GenericRow.of(1, pk, value);
+            expected.put(pk, value);
+        }
+        writeCommit(rows);
+        checkQuery();
+    }
+
+    private void checkQuery() throws Exception {
+        GenericRow[] rows =
+                expected.entrySet().stream()
+                        .map(e -> GenericRow.of(1, e.getKey(), e.getValue()))
+                        .toArray(GenericRow[]::new);
+        assertThat(query()).containsExactlyInAnyOrder(rows);
+    }
+
+    private List<IndexFileMeta> indexFiles() {
+        return table.store()
+                .newIndexFileHandler()
+                .scan(
+                        table.snapshotManager().latestSnapshot(),
+                        DELETION_VECTORS_INDEX,
+                        BinaryRow.singleColumn(1),
+                        0);
+    }
+}
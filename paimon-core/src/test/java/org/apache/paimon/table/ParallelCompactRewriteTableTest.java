@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.paimon.table;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.io.DataFileMeta;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.source.DataSplit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Tests for compaction with {@link CoreOptions#COMPACTION_REWRITE_PARALLELISM}. */
+public class ParallelCompactRewriteTableTest extends PrimaryKeyTableTestBase {
+
+    @Override
+    protected Options tableOptions() {
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, 1);
+        options.set(CoreOptions.COMPACTION_REWRITE_PARALLELISM, 3);
+        options.set(CoreOptions.NUM_SORTED_RUNS_COMPACTION_TRIGGER, 100);
+        return options;
+    }
+
+    @Test
+    public void testRewriteInParallel() throws Exception {
+        // three disjoint key ranges, each written twice, so every range is an overlapping section
+        List<GenericRow> expected = new ArrayList<>();
+        for (int range = 0; range < 3; range++) {
+            for (int round = 0; round < 2; round++) {
+                GenericRow[] rows = new GenericRow[5];
+                for (int i = 0; i < rows.length; i++) {
+                    int pk = range * 10 + i;
+                    rows[i] = GenericRow.of(1, pk, pk * 100 + round);
+                }
+                writeCommit(rows);
+            }
+            for (int i = 0; i < 5; i++) {
+                int pk = range * 10 + i;
+                expected.add(GenericRow.of(1, pk, pk * 100 + 1));
+            }
+        }
+        assertThat(dataFiles()).hasSize(6);
+
+        compact(1);
+
+        // every range is rewritten by its own rewriter into its own file
+        List<DataFileMeta> files = dataFiles();
+        assertThat(files).hasSize(3);
+        for (DataFileMeta file : files) {
+            assertThat(file.rowCount()).isEqualTo(5);
+            assertThat(file.level()).isEqualTo(table.coreOptions().numLevels() - 1);
+        }
+        assertThat(query()).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private List<DataFileMeta> dataFiles() {
+        List<DataFileMeta> files = new ArrayList<>();
+        for (DataSplit split : table.newSnapshotReader().read().dataSplits()) {
+            files.addAll(split.dataFiles());
+        }
+        return files;
+    }
+}
@@ -0,0 +1,227 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.table;
+
+import org.apache.paimon.CoreOptions;
+import org.apache.paimon.FileStore;
+import org.apache.paimon.Snapshot;
+import org.apache.paimon.catalog.PrimaryKeyTableTestBase;
+import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.data.GenericRow;
+import org.apache.paimon.fs.Path;
+import org.apache.paimon.manifest.ManifestFileMeta;
+import org.apache.paimon.manifest.PartitionIndexEntry;
+import org.apache.paimon.manifest.PartitionIndexFile;
+import org.apache.paimon.operation.FileStoreCommit;
+import org.apache.paimon.operation.ManifestsReader;
+import org.apache.paimon.options.Options;
+import org.apache.paimon.table.source.ScanMode;
+import org.apache.paimon.utils.FileStorePathFactory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** Test for the partition index of snapshots. */
+public class PartitionIndexTableTest extends PrimaryKeyTableTestBase {
+
+    @Override
+    protected Options tableOptions() {
+        Options options = new Options();
+        options.set(CoreOptions.BUCKET, 1);
+        options.set(CoreOptions.MANIFEST_PARTITION_INDEX_ENABLED, true);
+        options.set(CoreOptions.MANIFEST_MERGE_MIN_COUNT, 3);
+        return options;
+    }
+
+    @Test
+    public void testPartitionIndex() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            writeCommit(GenericRow.of(i % 3, i, i));
+        }
+
+        Snapshot snapshot = table.latestSnapshot().get();
+        String partitionIndex = PartitionIndexFile.partitionIndex(snapshot);
+        assertThat(partitionIndex).isNotNull();
+
+        FileStore<?> store = table.store();
+        Map<BinaryRow, List<String>> index =
+                store.partitionIndexFileFactory().create().readIndex(partitionIndex);
+        assertThat(index.keySet())
+                .containsExactlyInAnyOrder(
+                        BinaryRow.singleColumn(0),
+                        BinaryRow.singleColumn(1),
+                        BinaryRow.singleColumn(2));
+
+        List<String> manifests =
+                store.manifestListFactory().create().readDataManifests(snapshot).stream()
+                        .map(ManifestFileMeta::fileName)
+                        .collect(Collectors.toList());
+        index.values().forEach(files -> assertThat(manifests).containsAll(files));
+
+        ManifestsReader manifestsReader =
+                new ManifestsReader(
+                                table.schema().logicalPartitionType(),
+                                store.options().partitionDefaultName(),
+                                table.snapshotManager(),
+                                store.manifestListFactory(),
+                                store.partitionIndexFileFactory())
+                        .withPartitionFilter(
+                                Collections.singletonList(BinaryRow.singleColumn(1)));
+        List<String> filtered =
+                manifestsReader.read(snapshot, ScanMode.ALL).filteredManifests.stream()
+                        .map(ManifestFileMeta::fileName)
+                        .collect(Collectors.toList());
+        assertThat(filtered)
+                .containsExactlyInAnyOrderElementsOf(index.get(BinaryRow.singleColumn(1)));
+
+        assertThat(query()).hasSize(10);
+    }
+
+    @Test
+    public void testManifestNotInPartitionIndex() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            writeCommit(GenericRow.of(i % 3, i, i));
+        }
+
+        Snapshot snapshot = table.latestSnapshot().get();
+        PartitionIndexFile partitionIndexFile = table.store().partitionIndexFileFactory().create();
+        Map<BinaryRow, List<String>> index =
+                partitionIndexFile.readIndex(PartitionIndexFile.partitionIndex(snapshot));
+        List<String> candidates = new ArrayList<>(index.get(BinaryRow.singleColumn(1)));
+        candidates.removeAll(index.get(BinaryRow.singleColumn(2)));
+        assertThat(candidates).isNotEmpty();
+        String missing = candidates.get(0);
+
+        // an index which does not know the manifest file must not exclude it
+        List<PartitionIndexEntry> entries = new ArrayList<>();
+        index.forEach(
+                (partition, files) -> {
+                    List<String> remaining = new ArrayList<>(files);
+                    remaining.remove(missing);
+                    entries.add(new PartitionIndexEntry(partition, remaining));
+                });
+        Map<String, String> properties = new HashMap<>(snapshot.properties());
+        properties.put(
+                PartitionIndexFile.SNAPSHOT_PROPERTY,
+                partitionIndexFile.writeWithoutRolling(entries));
+        Snapshot partialIndexed = withProperties(snapshot, properties);
+        assertThat(PartitionIndexFile.validPartitionIndex(partialIndexed)).isNotNull();
+
+        assertThat(readManifests(partialIndexed, 2)).contains(missing);
+        assertThat(readManifests(snapshot, 2)).doesNotContain(missing);
+    }
+
+    @Test
+    public void testPartitionIndexOfOtherManifestLists() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            writeCommit(GenericRow.of(i % 2, i, i));
+        }
+
+        // properties copied from the previous snapshot must not be used as index
+        Snapshot previous = table.snapshotManager().snapshot(4);
+        Snapshot latest = table.latestSnapshot().get();
+        Snapshot copied = withProperties(latest, previous.properties());
+        assertThat(PartitionIndexFile.validPartitionIndex(latest)).isNotNull();
+        assertThat(PartitionIndexFile.partitionIndex(copied)).isNotNull();
+        assertThat(PartitionIndexFile.validPartitionIndex(copied)).isNull();
+        assertThat(readManifests(copied, 0)).containsAll(readManifests(latest, 0));
+
+        // manifest compaction writes an index for its own manifest lists
+        try (FileStoreCommit commit = table.store().newCommit(commitUser, table)) {
+            commit.compactManifest();
+        }
+        Snapshot compacted = table.latestSnapshot().get();
+        assertThat(PartitionIndexFile.validPartitionIndex(compacted)).isNotNull();
+        assertThat(query()).hasSize(5);
+    }
+
+    @Test
+    public void testExpirePartitionIndex() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            writeCommit(GenericRow.of(i % 2, i, i));
+        }
+
+        FileStorePathFactory pathFactory = table.store().pathFactory();
+        List<String> partitionIndexes =
+                table.snapshotManager().safelyGetAllSnapshots().stream()
+                        .sorted(Comparator.comparingLong(Snapshot::id))
+                        .map(PartitionIndexFile::partitionIndex)
+                        .collect(Collectors.toList());
+        assertThat(partitionIndexes).doesNotContainNull().doesNotHaveDuplicates();
+
+        ((ExpireSnapshotsImpl) table.newExpireSnapshots()).expireUntil(1, 5);
+
+        for (int i = 0; i < 4; i++) {
+            Path path = pathFactory.toManifestFilePath(partitionIndexes.get(i));
+            assertThat(table.fileIO().exists(path)).isFalse();
+        }
+        assertThat(table.fileIO().exists(pathFactory.toManifestFilePath(partitionIndexes.get(4))))
+                .isTrue();
+        assertThat(query()).hasSize(5);
+    }
+
+    private List<String> readManifests(Snapshot snapshot, int partition) {
+        FileStore<?> store = table.store();
+        return new ManifestsReader(
+                        table.schema().logicalPartitionType(),
+                        store.options().partitionDefaultName(),
+                        table.snapshotManager(),
+                        store.manifestListFactory(),
+                        store.partitionIndexFileFactory())
+                .withPartitionFilter(Collections.singletonList(BinaryRow.singleColumn(partition)))
+                .read(snapshot, ScanMode.ALL)
+                .filteredManifests
+                .stream()
+                .map(ManifestFileMeta::fileName)
+                .collect(Collectors.toList());
+    }
+
+    private static Snapshot withProperties(Snapshot snapshot, Map<String, String> properties) {
+        return new Snapshot(
+                snapshot.id(),
+                snapshot.schemaId(),
+                snapshot.baseManifestList(),
+                snapshot.baseManifestListSize(),
+                snapshot.deltaManifestList(),
+                snapshot.deltaManifestListSize(),
+                snapshot.changelogManifestList(),
+                snapshot.changelogManifestListSize(),
+                snapshot.indexManifest(),
+                snapshot.commitUser(),
+                snapshot.commitIdentifier(),
+                snapshot.commitKind(),
+                snapshot.timeMillis(),
+                snapshot.logOffsets(),
+                snapshot.totalRecordCount(),
+                snapshot.deltaRecordCount(),
+                snapshot.changelogRecordCount(),
+                snapshot.watermark(),
+                snapshot.statistics(),
+                properties);
+    }
+}
@@ -119,6 +119,8 @@ import static org.apache.paimon.CoreOptions.DELETION_VECTORS_ENABLED;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PARQUET;
 import static org.apache.paimon.CoreOptions.FILE_FORMAT_PER_LEVEL;
+import static org.apache.paimon.CoreOptions.FILE_INDEX_IN_MANIFEST_THRESHOLD;
+import static org.apache.paimon.CoreOptions.FILE_INDEX_READ_EXTERNAL_IN_PLAN;
 import static org.apache.paimon.CoreOptions.LOOKUP_LOCAL_FILE_TYPE;
 import static org.apache.paimon.CoreOptions.MERGE_ENGINE;
 import static org.apache.paimon.CoreOptions.METADATA_STATS_MODE;
@@ -1095,6 +1097,40 @@ public class PrimaryKeySimpleTableTest extends SimpleTableTestBase {
         assertThat(((DataSplit) splits.get(0)).dataFiles().size()).isEqualTo(1);
     }
 
+    @Test
+    public void testFileIndexInFileFilteredInPlanWithoutDeletionVectors() throws Exception {
+        FileStoreTable table =
+                createFileStoreTable(
+                        conf -> {
+                            conf.set(BUCKET, 1);
+                            conf.set("file-index.bloom-filter.columns", "b");
+                            conf.set(FILE_INDEX_IN_MANIFEST_THRESHOLD.key(), "1 B");
+                            conf.set(FILE_INDEX_READ_EXTERNAL_IN_PLAN, true);
+                        });
+
+        StreamTableWrite write = table.newWrite(commitUser);
+        StreamTableCommit commit = table.newCommit(commitUser);
+
+        write.write(rowData(1, 1, 300L));
+        commit.commit(0, write.prepareCommit(true, 0));
+
+        // the update changes the indexed column, the newer file doesn't contain 300 anymore
+        write.write(rowData(1, 1, 400L));
+        commit.commit(1, write.prepareCommit(true, 1));
+
+        PredicateBuilder builder = new PredicateBuilder(ROW_TYPE);
+        ReadBuilder readBuilder = table.newReadBuilder().withFilter(builder.equal(2, 300L));
+        List<Split> splits = readBuilder.newScan().plan().splits();
+
+        // files of a bucket are merged together, so none of them can be filtered alone
+        assertThat(((DataSplit) splits.get(0)).dataFiles().size()).isEqualTo(2);
+        assertThat(getResult(readBuilder.newRead(), splits, BATCH_ROW_TO_STRING))
+                .containsExactly("1|1|400|binary|varbinary|mapKey:mapVal|multiset");
+
+        write.close();
+        commit.close();
+    }
+
     @Test
     public void testDeletionVectorsCombineWithFileIndexPushDownParquet() throws Exception {
         FileStoreTable table =
@@ -35,6 +35,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -60,6 +61,8 @@ public class ObjectsCacheTest {
 
         ScanMetrics scanMetrics = new ScanMetrics(new TestMetricRegistry(), "table");
         cache.withCacheMetrics(scanMetrics.getCacheMetrics());
+        AtomicInteger fileReads = new AtomicInteger();
+        cache.withFileReadListener(fileReads::incrementAndGet);
         // test empty
         map.put("k1", Collections.emptyList());
         List<String> values =
@@ -67,6 +70,7 @@ public class ObjectsCacheTest {
                         "k1", null, Filter.alwaysTrue(), Filter.alwaysTrue(), Filter.alwaysTrue());
         assertThat(values).isEmpty();
         assertThat(scanMetrics.getCacheMetrics().getMissedObject()).hasValue(1);
+        assertThat(fileReads).hasValue(1);
 
         // test values
         List<String> expect = Arrays.asList("v1", "v2", "v3");
@@ -76,6 +80,7 @@ public class ObjectsCacheTest {
                         "k2", null, Filter.alwaysTrue(), Filter.alwaysTrue(), Filter.alwaysTrue());
         assertThat(values).containsExactlyElementsOf(expect);
         assertThat(scanMetrics.getCacheMetrics().getMissedObject()).hasValue(2);
+        assertThat(fileReads).hasValue(2);
 
         // test cache
         values =
@@ -83,6 +88,8 @@ public class ObjectsCacheTest {
                         "k2", null, Filter.alwaysTrue(), Filter.alwaysTrue(), Filter.alwaysTrue());
         assertThat(values).containsExactlyElementsOf(expect);
         assertThat(scanMetrics.getCacheMetrics().getHitObject()).hasValue(1);
+        // cached files are not read again
+        assertThat(fileReads).hasValue(2);
 
         // test filter
         values =
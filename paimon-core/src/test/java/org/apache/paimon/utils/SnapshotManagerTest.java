@@ -242,6 +242,103 @@ public class SnapshotManagerTest {
         assertThat(snapshotManager.laterOrEqualWatermark(millis + 999)).isNull();
     }
 
+    @Test
+    public void testSnapshotTimeIndex() throws IOException {
+        long millis = 1684726826L;
+        FileIO localFileIO = LocalFileIO.create();
+        SnapshotManager snapshotManager =
+                newSnapshotManager(localFileIO, new Path(tempDir.toString()));
+        // create 10 snapshots, snapshot 4 is skipped and filled by the next index commit
+        for (long i = 0; i < 10; i++) {
+            Snapshot snapshot = createSnapshotWithMillis(i, millis + i * 1000, millis + i * 100);
+            localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+            if (i != 4) {
+                snapshotManager.commitSnapshotTimeIndex(snapshot);
+            }
+        }
+        assertThat(localFileIO.exists(snapshotManager.snapshotTimeIndexPath(0))).isTrue();
+
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis - 1)).isNull();
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 4500).id()).isEqualTo(4);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 5000).id()).isEqualTo(5);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 3500).id()).isEqualTo(4);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 9001)).isNull();
+        assertThat(snapshotManager.earlierOrEqualWatermark(millis + 250).id()).isEqualTo(2);
+        assertThat(snapshotManager.laterOrEqualWatermark(millis + 250).id()).isEqualTo(3);
+        assertThat(snapshotManager.laterOrEqualWatermark(millis + 901)).isNull();
+
+        // expire snapshots 0 ~ 2
+        for (long i = 0; i < 3; i++) {
+            snapshotManager.deleteSnapshot(i);
+        }
+        snapshotManager.commitEarliestHint(3);
+        snapshotManager.retainSnapshotTimeIndex(3, Long.MAX_VALUE);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 2500)).isNull();
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis).id()).isEqualTo(3);
+
+        // rollback to snapshot 7 and commit new snapshots, the cached index is out of date
+        for (long i = 8; i < 10; i++) {
+            snapshotManager.deleteSnapshot(i);
+        }
+        snapshotManager.commitLatestHint(7);
+        for (long i = 8; i < 10; i++) {
+            Snapshot snapshot = createSnapshotWithMillis(i, millis + i * 2000, millis + i * 100);
+            localFileIO.overwriteFileUtf8(snapshotManager.snapshotPath(i), snapshot.toJson());
+        }
+        snapshotManager.commitLatestHint(9);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 9001).id()).isEqualTo(8);
+
+        // the index is rebuilt by following commits
+        snapshotManager.retainSnapshotTimeIndex(Long.MIN_VALUE, 7);
+        Snapshot snapshot = createSnapshotWithMillis(10, millis + 20000, millis + 1000);
+        localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(10), snapshot.toJson());
+        snapshotManager.commitLatestHint(10);
+        snapshotManager.commitSnapshotTimeIndex(snapshot);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 17000).id()).isEqualTo(9);
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 30000).id()).isEqualTo(10);
+    }
+
+    @Test
+    public void testSnapshotTimeIndexSegments() throws IOException {
+        long millis = 1684726826L;
+        FileIO localFileIO = LocalFileIO.create();
+        SnapshotManager snapshotManager =
+                newSnapshotManager(localFileIO, new Path(tempDir.toString()));
+        long first = SnapshotTimeIndex.SEGMENT_SIZE - 5;
+        long last = SnapshotTimeIndex.SEGMENT_SIZE + 5;
+        for (long i = first; i <= last; i++) {
+            Snapshot snapshot = createSnapshotWithMillis(i, millis + i * 1000, millis + i * 100);
+            localFileIO.tryToWriteAtomic(snapshotManager.snapshotPath(i), snapshot.toJson());
+            snapshotManager.commitSnapshotTimeIndex(snapshot);
+        }
+
+        // each commit only rewrites the segment of its snapshot
+        Path firstSegment = snapshotManager.snapshotTimeIndexPath(0);
+        Path secondSegment = snapshotManager.snapshotTimeIndexPath(1);
+        assertThat(SnapshotTimeIndex.fromContent(localFileIO.readFileUtf8(firstSegment)).size())
+                .isEqualTo(5);
+        assertThat(SnapshotTimeIndex.fromContent(localFileIO.readFileUtf8(secondSegment)).size())
+                .isEqualTo(6);
+
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + first * 1000 - 1)).isNull();
+        assertThat(snapshotManager.earlierOrEqualTimeMills(millis + 999_500).id())
+                .isEqualTo(999);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis + 999_500).id()).isEqualTo(1000);
+        assertThat(snapshotManager.laterOrEqualWatermark(millis + 100_150).id())
+                .isEqualTo(1002);
+
+        // segments without retained snapshots are deleted
+        for (long i = first; i < SnapshotTimeIndex.SEGMENT_SIZE + 1; i++) {
+            snapshotManager.deleteSnapshot(i);
+        }
+        snapshotManager.commitEarliestHint(SnapshotTimeIndex.SEGMENT_SIZE + 1);
+        snapshotManager.retainSnapshotTimeIndex(SnapshotTimeIndex.SEGMENT_SIZE + 1, Long.MAX_VALUE);
+        assertThat(localFileIO.exists(firstSegment)).isFalse();
+        assertThat(SnapshotTimeIndex.fromContent(localFileIO.readFileUtf8(secondSegment)).size())
+                .isEqualTo(5);
+        assertThat(snapshotManager.laterOrEqualTimeMills(millis).id()).isEqualTo(1001);
+    }
+
     public static Snapshot createSnapshotWithMillis(long id, long millis) {
         return new Snapshot(
                 id,
@@ -159,7 +159,10 @@ public class CdcRecordStoreMultiWriteOperator
                                         memoryPoolFactory,
                                         getMetricGroup()));
 
-        ((StoreSinkWriteImpl) write).withCompactExecutor(compactExecutor);
+        if (!table.coreOptions().compactionSharedExecutorEnabled()) {
+            // otherwise the write schedules compactions in the JVM-wide shared executor
+            ((StoreSinkWriteImpl) write).withCompactExecutor(compactExecutor);
+        }
 
         boolean logCorruptRecord = table.coreOptions().toConfiguration().get(LOG_CORRUPT_RECORD);
         Optional<GenericRow> optionalConverted =
@@ -18,6 +18,7 @@
 
 package org.apache.paimon.flink.query;
 
+import org.apache.paimon.CoreOptions;
 import org.apache.paimon.annotation.VisibleForTesting;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
@@ -35,6 +36,8 @@ import org.apache.paimon.utils.TypeUtils;
 import javax.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 
@@ -52,7 +55,13 @@ public class RemoteTableQuery implements TableQuery {
     public RemoteTableQuery(Table table) {
         this.table = (FileStoreTable) table;
         ServiceManager manager = this.table.store().newServiceManager();
-        this.client = new KvQueryClient(new QueryLocationImpl(manager), 1);
+        CoreOptions options = this.table.coreOptions();
+        this.client =
+                new KvQueryClient(
+                        new QueryLocationImpl(manager),
+                        1,
+                        options.lookupRemoteQueryCoalesceWindow().toMillis(),
+                        options.lookupRemoteQueryMaxBatchKeys());
         this.keySerializer =
                 InternalSerializers.create(TypeUtils.project(table.rowType(), table.primaryKeys()));
     }
@@ -64,29 +73,49 @@ public class RemoteTableQuery implements TableQuery {
     @Nullable
     @Override
     public InternalRow lookup(BinaryRow partition, int bucket, InternalRow key) throws IOException {
-        BinaryRow row;
+        // copy the rows, they may wait in a coalesced request while the caller reuses them
+        BinaryRow row = get(client.getValue(partition.copy(), bucket, toBinaryKey(key)));
+        return project(row);
+    }
+
+    @Override
+    public List<InternalRow> lookupBatch(BinaryRow partition, int bucket, List<InternalRow> keys)
+            throws IOException {
+        BinaryRow[] binaryKeys = new BinaryRow[keys.size()];
+        for (int i = 0; i < binaryKeys.length; i++) {
+            binaryKeys[i] = toBinaryKey(keys.get(i));
+        }
+        BinaryRow[] rows = get(client.getValues(partition, bucket, binaryKeys));
+        List<InternalRow> values = new ArrayList<>(rows.length);
+        for (BinaryRow row : rows) {
+            values.add(project(row));
+        }
+        return values;
+    }
+
+    private BinaryRow toBinaryKey(InternalRow key) {
+        // the serializer reuses its row and may be used by concurrent lookups
+        synchronized (keySerializer) {
+            return keySerializer.toBinaryRow(key).copy();
+        }
+    }
+
+    private static <T> T get(CompletableFuture<T> future) throws IOException {
         try {
-            row =
-                    client.getValues(
-                                    partition,
-                                    bucket,
-                                    new BinaryRow[] {keySerializer.toBinaryRow(key)})
-                            .get()[0];
+            return future.get();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new IOException(e);
         } catch (ExecutionException e) {
             throw new IOException(e.getCause());
         }
+    }
 
-        if (projection == null) {
+    @Nullable
+    private InternalRow project(@Nullable BinaryRow row) {
+        if (projection == null || row == null) {
             return row;
         }
-
-        if (row == null) {
-            return null;
-        }
-
         return ProjectedRow.from(projection).replaceRow(row);
     }
 
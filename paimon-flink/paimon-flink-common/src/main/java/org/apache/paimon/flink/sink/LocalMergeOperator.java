@@ -25,7 +25,8 @@ import org.apache.paimon.codegen.CodeGenUtils;
 import org.apache.paimon.codegen.Projection;
 import org.apache.paimon.data.BinaryRow;
 import org.apache.paimon.data.InternalRow;
-import org.apache.paimon.memory.HeapMemorySegmentPool;
+import org.apache.paimon.memory.MemorySegmentPool;
+import org.apache.paimon.memory.OffHeapMemorySegmentPool;
 import org.apache.paimon.mergetree.SortBufferWriteBuffer;
 import org.apache.paimon.mergetree.compact.MergeFunction;
 import org.apache.paimon.mergetree.localmerge.HashMapLocalMerger;
@@ -43,6 +44,8 @@ import org.apache.paimon.utils.KeyComparatorSupplier;
 import org.apache.paimon.utils.Preconditions;
 import org.apache.paimon.utils.UserDefinedSeqComparator;
 
+import org.apache.flink.metrics.Counter;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperatorFactory;
 import org.apache.flink.streaming.api.operators.BoundedOneInput;
@@ -69,6 +72,11 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
 
     private static final long serialVersionUID = 1L;
 
+    public static final String LOCAL_MERGE_INPUT_RECORDS = "localMergeInputRecords";
+    public static final String LOCAL_MERGE_OUTPUT_RECORDS = "localMergeOutputRecords";
+    public static final String LOCAL_MERGE_EVICTIONS = "localMergeEvictions";
+    public static final String LOCAL_MERGE_RATIO = "localMergeRatio";
+
     private final TableSchema schema;
     private final boolean ignoreDelete;
 
@@ -76,11 +84,16 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
 
     private transient RowKindGenerator rowKindGenerator;
 
+    private transient MemorySegmentPool pool;
     private transient LocalMerger merger;
     private transient long currentWatermark;
 
     private transient boolean endOfInput;
 
+    private transient Counter inputRecords;
+    private transient Counter outputRecords;
+    private transient Counter evictions;
+
     private LocalMergeOperator(
             StreamOperatorParameters<InternalRow> parameters, TableSchema schema) {
         Preconditions.checkArgument(
@@ -134,14 +147,22 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
             }
         }
 
-        HeapMemorySegmentPool pool =
-                new HeapMemorySegmentPool(options.localMergeBufferSize(), options.pageSize());
+        pool =
+                MemorySegmentPool.create(
+                        options.localMergeBufferSize(),
+                        options.pageSize(),
+                        options.writeBufferOffHeap());
         UserDefinedSeqComparator udsComparator =
                 UserDefinedSeqComparator.create(valueType, options);
         if (canHashMerger) {
             merger =
                     new HashMapLocalMerger(
-                            valueType, primaryKeys, pool, mergeFunction, udsComparator);
+                            valueType,
+                            primaryKeys,
+                            pool,
+                            mergeFunction,
+                            udsComparator,
+                            options.localMergeHotKeyRatio());
         } else {
             RowType keyType =
                     PrimaryKeyTableUtils.addKeyNamePrefix(schema.logicalPrimaryKeysType());
@@ -163,6 +184,12 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
 
         currentWatermark = Long.MIN_VALUE;
         endOfInput = false;
+
+        MetricGroup metricGroup = getMetricGroup();
+        inputRecords = metricGroup.counter(LOCAL_MERGE_INPUT_RECORDS);
+        outputRecords = metricGroup.counter(LOCAL_MERGE_OUTPUT_RECORDS);
+        evictions = metricGroup.counter(LOCAL_MERGE_EVICTIONS);
+        metricGroup.gauge(LOCAL_MERGE_RATIO, this::mergeRatio);
     }
 
     @Override
@@ -177,12 +204,21 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
         // row kind must be INSERT when it is divided into key and value
         row.setRowKind(RowKind.INSERT);
 
+        inputRecords.inc();
         BinaryRow key = keyProjection.apply(row);
         if (!merger.put(rowKind, key, row)) {
+            if (merger.evict(this::emit)) {
+                evictions.inc();
+                if (merger.put(rowKind, key, row)) {
+                    return;
+                }
+            }
+
             flushBuffer();
             if (!merger.put(rowKind, key, row)) {
                 // change row kind back
                 row.setRowKind(rowKind);
+                outputRecords.inc();
                 output.collect(record);
             }
         }
@@ -211,7 +247,10 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
     @Override
     public void close() throws Exception {
         if (merger != null) {
-            merger.clear();
+            merger.close();
+        }
+        if (pool instanceof OffHeapMemorySegmentPool) {
+            ((OffHeapMemorySegmentPool) pool).close();
         }
 
         super.close();
@@ -222,7 +261,7 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
             return;
         }
 
-        merger.forEach(row -> output.collect(new StreamRecord<>(row)));
+        merger.forEach(this::emit);
         merger.clear();
 
         if (currentWatermark != Long.MIN_VALUE) {
@@ -232,6 +271,16 @@ public class LocalMergeOperator extends AbstractStreamOperator<InternalRow>
         }
     }
 
+    private void emit(InternalRow row) {
+        outputRecords.inc();
+        output.collect(new StreamRecord<>(row));
+    }
+
+    private double mergeRatio() {
+        long input = inputRecords.getCount();
+        return input == 0 ? 0 : 1 - (double) outputRecords.getCount() / input;
+    }
+
     @VisibleForTesting
     LocalMerger merger() {
         return merger;
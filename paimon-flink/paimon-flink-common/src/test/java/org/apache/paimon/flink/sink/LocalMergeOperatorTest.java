@@ -51,6 +51,7 @@ import java.util.Random;
 import java.util.function.Consumer;
 
 import static org.apache.paimon.CoreOptions.LOCAL_MERGE_BUFFER_SIZE;
+import static org.apache.paimon.CoreOptions.LOCAL_MERGE_HOT_KEY_RATIO;
 import static org.apache.paimon.CoreOptions.SEQUENCE_FIELD;
 import static org.apache.paimon.data.BinaryString.fromString;
 import static org.apache.paimon.types.RowKind.DELETE;
@@ -134,6 +135,32 @@ class LocalMergeOperatorTest {
         result.clear();
     }
 
+    @Test
+    public void testHashEvictColdKeys() throws Exception {
+        Map<String, String> options = new HashMap<>();
+        options.put(LOCAL_MERGE_BUFFER_SIZE.key(), "2 m");
+        options.put(LOCAL_MERGE_HOT_KEY_RATIO.key(), "0.5");
+        prepareHashOperator(options);
+        List<String> result = new ArrayList<>();
+        setOutput(result);
+
+        Map<String, String> expected = new HashMap<>();
+        for (int i = 0; i < 30_000; i++) {
+            String key = i + "";
+            expected.put(key, "+I:" + key + "->" + i);
+            processElement(key, i);
+            processElement("hot", i);
+        }
+        expected.put("hot", "+I:hot->29999");
+
+        // the hot key stays in the buffer while cold keys are evicted
+        assertThat(result).isNotEmpty().noneMatch(r -> r.startsWith("+I:hot->"));
+
+        operator.prepareSnapshotPreBarrier(0);
+        assertThat(result).containsExactlyInAnyOrderElementsOf(expected.values());
+        result.clear();
+    }
+
     private void prepareHashOperator() throws Exception {
         prepareHashOperator(new HashMap<>());
     }
@@ -1418,9 +1418,16 @@ public class RecordReaderImpl implements RecordReader {
             readCurrentStripeRowIndex();
         }
 
-        // In the absence of SArg all rows groups should be included
+        // In the absence of SArg all rows groups should be included, unless rows are selected
         if (sargApp == null) {
-            return null;
+            if (selection == null || rowIndexStride <= 0) {
+                return null;
+            }
+            if (rowIndexColsToRead == null) {
+                // row indexes are required to seek to the selected row groups
+                readCurrentStripeRowIndex();
+            }
+            return pickRowGroupsBySelection(stripes.get(currentStripe).getNumberOfRows());
         }
         return sargApp.pickRowGroups(
                 stripes.get(currentStripe),
@@ -1433,6 +1440,19 @@ public class RecordReaderImpl implements RecordReader {
                 selection);
     }
 
+    private boolean[] pickRowGroupsBySelection(long rowsInStripe) {
+        int groupsInStripe = (int) ((rowsInStripe + rowIndexStride - 1) / rowIndexStride);
+        boolean[] result = new boolean[groupsInStripe];
+        boolean hasSkipped = false;
+        for (int rowGroup = 0; rowGroup < result.length; ++rowGroup) {
+            long firstRow = rowBaseInStripe + rowIndexStride * rowGroup;
+            long lastRow = Math.min(firstRow + rowIndexStride, rowBaseInStripe + rowsInStripe);
+            result[rowGroup] = selection.intersects(firstRow, lastRow);
+            hasSkipped = hasSkipped || !result[rowGroup];
+        }
+        return hasSkipped ? result : SargApplier.READ_ALL_RGS;
+    }
+
     private void clearStreams() {
         planner.clearStreams();
     }
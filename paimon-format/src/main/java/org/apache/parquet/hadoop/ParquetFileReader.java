@@ -70,6 +70,7 @@ import org.apache.parquet.internal.column.columnindex.ColumnIndex;
 import org.apache.parquet.internal.column.columnindex.OffsetIndex;
 import org.apache.parquet.internal.filter2.columnindex.ColumnIndexFilter;
 import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore;
+import org.apache.parquet.internal.filter2.columnindex.ColumnIndexStore.MissingOffsetIndexException;
 import org.apache.parquet.internal.filter2.columnindex.RowRanges;
 import org.apache.parquet.internal.hadoop.metadata.IndexReference;
 import org.apache.parquet.io.InputFile;
@@ -328,8 +329,7 @@ public class ParquetFileReader implements Closeable {
     }
 
     public long getFilteredRecordCount() {
-        if (!options.useColumnIndexFilter()
-                || !FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+        if (!rowRangesFilteringRequired()) {
             return getRecordCount();
         }
         long total = 0L;
@@ -513,8 +513,7 @@ public class ParquetFileReader implements Closeable {
         }
 
         // Filtering not required -> fall back to the non-filtering path
-        if (!options.useColumnIndexFilter()
-                || !FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+        if (!rowRangesFilteringRequired()) {
             return internalReadRowGroup(blockIndex);
         }
 
@@ -686,8 +685,7 @@ public class ParquetFileReader implements Closeable {
             return null;
         }
         // Filtering not required -> fall back to the non-filtering path
-        if (!options.useColumnIndexFilter()
-                || !FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+        if (!rowRangesFilteringRequired()) {
             return readNextRowGroup();
         }
         BlockMetaData block = blocks.get(currentBlock);
@@ -797,24 +795,54 @@ public class ParquetFileReader implements Closeable {
         return ciStore;
     }
 
+    /**
+     * Row ranges are calculated from column indexes with the record filter, or from the selected
+     * positions only (e.g. a bitmap file index result) if there is no record filter.
+     */
+    private boolean rowRangesFilteringRequired() {
+        return options.useColumnIndexFilter()
+                && (FilterCompat.isFilteringRequired(options.getRecordFilter())
+                        || selection != null);
+    }
+
     private RowRanges getRowRanges(int blockIndex) {
-        assert FilterCompat.isFilteringRequired(options.getRecordFilter())
-                : "Should not be invoked if filter is null or NOOP";
+        assert rowRangesFilteringRequired()
+                : "Should not be invoked if filter is null or NOOP and there is no selection";
         RowRanges rowRanges = blockRowRanges.get(blockIndex);
         if (rowRanges == null) {
-            rowRanges =
-                    ColumnIndexFilter.calculateRowRanges(
-                            options.getRecordFilter(),
-                            getColumnIndexStore(blockIndex),
-                            paths.keySet(),
-                            blocks.get(blockIndex).getRowCount(),
-                            blocks.get(blockIndex).getRowIndexOffset(),
-                            selection);
+            BlockMetaData block = blocks.get(blockIndex);
+            if (FilterCompat.isFilteringRequired(options.getRecordFilter())) {
+                rowRanges =
+                        ColumnIndexFilter.calculateRowRanges(
+                                options.getRecordFilter(),
+                                getColumnIndexStore(blockIndex),
+                                paths.keySet(),
+                                block.getRowCount(),
+                                block.getRowIndexOffset(),
+                                selection);
+            } else {
+                rowRanges = selectionRowRanges(blockIndex);
+            }
             blockRowRanges.set(blockIndex, rowRanges);
         }
         return rowRanges;
     }
 
+    private RowRanges selectionRowRanges(int blockIndex) {
+        BlockMetaData block = blocks.get(blockIndex);
+        // pages can only be skipped if all the required columns have offset indexes
+        ColumnIndexStore ciStore = getColumnIndexStore(blockIndex);
+        try {
+            for (ColumnPath path : paths.keySet()) {
+                ciStore.getOffsetIndex(path);
+            }
+        } catch (MissingOffsetIndexException e) {
+            LOG.info(e.getMessage());
+            return RowRanges.createSingle(block.getRowCount());
+        }
+        return RowRanges.create(block.getRowCount(), block.getRowIndexOffset(), selection);
+    }
+
     public boolean skipNextRowGroup() {
         return advanceToNextBlock();
     }
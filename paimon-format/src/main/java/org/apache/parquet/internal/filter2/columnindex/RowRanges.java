@@ -190,6 +190,29 @@ public class RowRanges {
         return ranges;
     }
 
+    /**
+     * Creates the row ranges of the selected positions in a row group, used when there is no
+     * filter to calculate row ranges from column indexes.
+     *
+     * @param rowCount the number of rows of the row group
+     * @param rowIndexOffset the offset of the row group
+     * @param selection the selected positions in the file
+     */
+    public static RowRanges create(long rowCount, long rowIndexOffset, RoaringBitmap32 selection) {
+        RowRanges ranges = new RowRanges();
+        long end = rowIndexOffset + rowCount;
+        long from = selection.nextValue((int) rowIndexOffset);
+        while (from >= 0 && from < end) {
+            long to = Math.min(selection.nextAbsentValue((int) from), end);
+            ranges.add(new Range(from - rowIndexOffset, to - 1 - rowIndexOffset));
+            if (to >= end) {
+                break;
+            }
+            from = selection.nextValue((int) to);
+        }
+        return ranges;
+    }
+
     /**
      * Calculates the union of the two specified RowRanges object. The union of two range is
      * calculated if there are no elements between them. Otherwise, the two disjunct ranges are
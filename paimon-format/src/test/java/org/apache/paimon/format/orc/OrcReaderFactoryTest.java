@@ -18,12 +18,17 @@
 
 package org.apache.paimon.format.orc;
 
+import org.apache.paimon.data.GenericRow;
 import org.apache.paimon.data.InternalRow;
+import org.apache.paimon.format.FileFormatFactory;
 import org.apache.paimon.format.FormatReaderContext;
+import org.apache.paimon.format.FormatWriter;
 import org.apache.paimon.format.OrcFormatReaderContext;
 import org.apache.paimon.format.orc.filter.OrcFilters;
 import org.apache.paimon.fs.Path;
+import org.apache.paimon.fs.PositionOutputStream;
 import org.apache.paimon.fs.local.LocalFileIO;
+import org.apache.paimon.options.Options;
 import org.apache.paimon.reader.RecordReader;
 import org.apache.paimon.types.DataType;
 import org.apache.paimon.types.DataTypes;
@@ -31,9 +36,11 @@ import org.apache.paimon.types.DecimalType;
 import org.apache.paimon.types.RowType;
 import org.apache.paimon.utils.DecimalUtils;
 import org.apache.paimon.utils.Projection;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.ql.io.sarg.PredicateLeaf;
+import org.apache.orc.Reader;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
@@ -234,6 +241,72 @@ class OrcReaderFactoryTest {
         }
     }
 
+    @Test
+    void testReadWithSelectionOnly(@TempDir java.nio.file.Path tempDir) throws IOException {
+        // small stripes of several row groups
+        Options options = new Options();
+        options.set("orc.row.index.stride", "1000");
+        options.set("orc.rows.between.memory.checks", "5000");
+        options.set("orc.stripe.size", "1024");
+        OrcFileFormat orc =
+                new OrcFileFormatFactory()
+                        .create(new FileFormatFactory.FormatContext(options, 1024, 1024));
+        RowType rowType = RowType.of(DataTypes.INT());
+
+        int number = 30000;
+        LocalFileIO fileIO = new LocalFileIO();
+        Path path = new Path(tempDir.toString(), "selection.orc");
+        try (PositionOutputStream out = fileIO.newOutputStream(path, false)) {
+            FormatWriter writer = orc.createWriterFactory(rowType).create(out, "lz4");
+            for (int i = 0; i < number; i++) {
+                writer.addElement(GenericRow.of(i));
+            }
+            writer.close();
+        }
+        try (Reader orcReader =
+                OrcReaderFactory.createReader(new Configuration(), fileIO, path, null)) {
+            assertThat(orcReader.getStripes().size()).isGreaterThan(1);
+        }
+
+        // random ranges, some of them span several row groups
+        Random random = new Random();
+        RoaringBitmap32 selection = new RoaringBitmap32();
+        for (int i = 0; i < 5; i++) {
+            int start = random.nextInt(number - 100);
+            int end = start + random.nextInt(100) + 1;
+            for (int j = start; j < end; j++) {
+                selection.add(j);
+            }
+        }
+
+        List<Integer> result = new ArrayList<>();
+        try (RecordReader<InternalRow> reader =
+                orc.createReaderFactory(rowType)
+                        .createReader(
+                                new FormatReaderContext(
+                                        fileIO, path, fileIO.getFileSize(path), selection))) {
+            reader.forEachRemainingWithPosition(
+                    (rowPosition, row) -> {
+                        assertThat(rowPosition).isEqualTo(row.getInt(0));
+                        result.add(row.getInt(0));
+                    });
+        }
+
+        // whole row groups are read, unselected row groups are skipped
+        List<Integer> selected = new ArrayList<>();
+        selection.iterator().forEachRemaining(selected::add);
+        assertThat(result).containsAll(selected);
+        assertThat(result).hasSizeLessThan(number);
+        for (int value : result) {
+            long previous = selection.previousValue(value);
+            long next = selection.nextValue(value);
+            assertThat(
+                            (previous >= 0 && value - previous < 1000)
+                                    || (next >= 0 && next - value < 1000))
+                    .isTrue();
+        }
+    }
+
     @Test
     void testReadDecimalTypeFile() throws IOException {
         OrcReaderFactory format = createFormat(DECIMAL_FILE_TYPE, new int[] {0});
@@ -54,12 +54,15 @@ import org.apache.paimon.types.TimestampType;
 import org.apache.paimon.types.TinyIntType;
 import org.apache.paimon.types.VarBinaryType;
 import org.apache.paimon.types.VarCharType;
+import org.apache.paimon.utils.RoaringBitmap32;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.example.data.Group;
 import org.apache.parquet.example.data.simple.SimpleGroupFactory;
 import org.apache.parquet.filter2.compat.FilterCompat;
 import org.apache.parquet.filter2.predicate.ParquetFilters;
+import org.apache.parquet.hadoop.ParquetFileReader;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
 import org.apache.parquet.hadoop.example.ExampleParquetWriter;
@@ -670,6 +673,59 @@ public class ParquetReadWriteTest {
                 });
     }
 
+    @ParameterizedTest
+    @MethodSource("parameters")
+    void testReadWithSelectionOnly(int rowGroupSize) throws IOException {
+        int number = 10000;
+        List<InternalRow> records = new ArrayList<>(number);
+        for (int i = 0; i < number; i++) {
+            records.add(newRow(i));
+        }
+        Path testPath = createTempParquetFileByPaimon(folder, records, rowGroupSize, ROW_TYPE);
+
+        // only select rows in the first half, so that the row groups of the second half are skipped
+        Random random = new Random();
+        RoaringBitmap32 selection = new RoaringBitmap32();
+        for (int i = 0; i < 100; i++) {
+            int start = random.nextInt(number / 2);
+            int end = Math.min(number, start + random.nextInt(50) + 1);
+            for (int j = start; j < end; j++) {
+                selection.add(j);
+            }
+        }
+
+        ParquetReaderFactory format =
+                new ParquetReaderFactory(new Options(), ROW_TYPE, 500, FilterCompat.NOOP);
+        RecordReader<InternalRow> reader =
+                format.createReader(
+                        new FormatReaderContext(
+                                new LocalFileIO(),
+                                testPath,
+                                new LocalFileIO().getFileSize(testPath),
+                                selection));
+
+        List<Integer> result = new ArrayList<>();
+        reader.forEachRemaining(row -> result.add(row.getInt(4)));
+
+        List<Integer> expected = new ArrayList<>();
+        selection.iterator().forEachRemaining(expected::add);
+        assertThat(result).isEqualTo(expected);
+
+        // unselected row groups and pages are not read
+        LocalFileIO fileIO = new LocalFileIO();
+        try (ParquetFileReader fileReader =
+                new ParquetFileReader(
+                        ParquetInputFile.fromPath(fileIO, testPath, fileIO.getFileSize(testPath)),
+                        ParquetReadOptions.builder().build(),
+                        selection)) {
+            assertThat(fileReader.getRowGroups().size())
+                    .isLessThan(fileReader.getFooter().getBlocks().size());
+            assertThat(fileReader.getFilteredRecordCount())
+                    .isGreaterThanOrEqualTo(selection.getCardinality())
+                    .isLessThan(fileReader.getRecordCount());
+        }
+    }
+
     private void innerTestTypes(File folder, List<Integer> records, int rowGroupSize)
             throws IOException {
         List<InternalRow> rows = records.stream().map(this::newRow).collect(Collectors.toList());
@@ -26,17 +26,30 @@ import org.apache.paimon.service.messages.KvResponse;
 import org.apache.paimon.service.network.NetworkClient;
 import org.apache.paimon.service.network.messages.MessageSerializer;
 import org.apache.paimon.service.network.stats.DisabledServiceRequestStats;
+import org.apache.paimon.utils.ExecutorThreadFactory;
 import org.apache.paimon.utils.FutureUtils;
+import org.apache.paimon.utils.Pair;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-/** A class for the Client to get values from Servers. */
+/**
+ * A class for the Client to get values from Servers.
+ *
+ * <p>Single key lookups from {@link #getValue} can be coalesced: lookups for the same partition and
+ * bucket arriving within the coalesce window are sent to the server as one {@link KvRequest}.
+ */
 public class KvQueryClient {
 
     private static final Logger LOG = LoggerFactory.getLogger(KvQueryClient.class);
@@ -44,8 +57,25 @@ public class KvQueryClient {
     private final NetworkClient<KvRequest, KvResponse> networkClient;
     private final QueryLocation queryLocation;
 
+    private final long coalesceWindowMillis;
+    private final int maxBatchKeys;
+    private final Map<Pair<BinaryRow, Integer>, PendingBatch> pendingBatches;
+    private ScheduledExecutorService lazyCoalesceScheduler;
+    private boolean shutdown;
+
     public KvQueryClient(QueryLocation queryLocation, int numEventLoopThreads) {
+        this(queryLocation, numEventLoopThreads, 0, Integer.MAX_VALUE);
+    }
+
+    public KvQueryClient(
+            QueryLocation queryLocation,
+            int numEventLoopThreads,
+            long coalesceWindowMillis,
+            int maxBatchKeys) {
         this.queryLocation = queryLocation;
+        this.coalesceWindowMillis = coalesceWindowMillis;
+        this.maxBatchKeys = maxBatchKeys;
+        this.pendingBatches = new HashMap<>();
         final MessageSerializer<KvRequest, KvResponse> messageSerializer =
                 new MessageSerializer<>(
                         new KvRequest.KvRequestDeserializer(),
@@ -66,6 +96,70 @@ public class KvQueryClient {
         return response;
     }
 
+    /**
+     * Gets the value of a single key. If coalescing is enabled, the key is sent together with other
+     * keys of the same partition and bucket, so the given rows must not be reused by the caller.
+     */
+    public CompletableFuture<BinaryRow> getValue(BinaryRow partition, int bucket, BinaryRow key) {
+        if (coalesceWindowMillis <= 0) {
+            return getValues(partition, bucket, new BinaryRow[] {key}).thenApply(v -> v[0]);
+        }
+
+        CompletableFuture<BinaryRow> future = new CompletableFuture<>();
+        PendingBatch toSend = null;
+        synchronized (pendingBatches) {
+            if (shutdown) {
+                return FutureUtils.completedExceptionally(
+                        new IllegalStateException(
+                                networkClient.getClientName() + " is already shut down."));
+            }
+
+            Pair<BinaryRow, Integer> partitionBucket = Pair.of(partition, bucket);
+            PendingBatch batch = pendingBatches.get(partitionBucket);
+            if (batch == null) {
+                batch = new PendingBatch(partition, bucket);
+                PendingBatch scheduled = batch;
+                coalesceScheduler()
+                        .schedule(
+                                () -> flush(partitionBucket, scheduled),
+                                coalesceWindowMillis,
+                                TimeUnit.MILLISECONDS);
+                pendingBatches.put(partitionBucket, batch);
+            }
+            batch.keys.add(key);
+            batch.futures.add(future);
+            if (batch.keys.size() >= maxBatchKeys) {
+                pendingBatches.remove(partitionBucket);
+                toSend = batch;
+            }
+        }
+
+        if (toSend != null) {
+            toSend.send();
+        }
+        return future;
+    }
+
+    private void flush(Pair<BinaryRow, Integer> partitionBucket, PendingBatch batch) {
+        synchronized (pendingBatches) {
+            // the batch may have been sent because it was full
+            if (!pendingBatches.remove(partitionBucket, batch)) {
+                return;
+            }
+        }
+        batch.send();
+    }
+
+    private ScheduledExecutorService coalesceScheduler() {
+        if (lazyCoalesceScheduler == null) {
+            lazyCoalesceScheduler =
+                    Executors.newSingleThreadScheduledExecutor(
+                            new ExecutorThreadFactory(
+                                    networkClient.getClientName() + "-coalesce"));
+        }
+        return lazyCoalesceScheduler;
+    }
+
     private void executeActionAsync(
             final CompletableFuture<BinaryRow[]> result,
             final KvRequest request,
@@ -118,6 +212,45 @@ public class KvQueryClient {
     }
 
     public CompletableFuture<Void> shutdownFuture() {
+        synchronized (pendingBatches) {
+            shutdown = true;
+            if (lazyCoalesceScheduler != null) {
+                lazyCoalesceScheduler.shutdownNow();
+            }
+            RuntimeException e = new RuntimeException("Client is shutting down.");
+            for (PendingBatch batch : pendingBatches.values()) {
+                batch.futures.forEach(f -> f.completeExceptionally(e));
+            }
+            pendingBatches.clear();
+        }
         return networkClient.shutdown();
     }
+
+    /** Keys of the same partition and bucket waiting to be sent in one request. */
+    private class PendingBatch {
+
+        private final BinaryRow partition;
+        private final int bucket;
+        private final List<BinaryRow> keys = new ArrayList<>();
+        private final List<CompletableFuture<BinaryRow>> futures = new ArrayList<>();
+
+        private PendingBatch(BinaryRow partition, int bucket) {
+            this.partition = partition;
+            this.bucket = bucket;
+        }
+
+        private void send() {
+            getValues(partition, bucket, keys.toArray(new BinaryRow[0]))
+                    .whenComplete(
+                            (values, throwable) -> {
+                                for (int i = 0; i < futures.size(); i++) {
+                                    if (throwable != null) {
+                                        futures.get(i).completeExceptionally(throwable);
+                                    } else {
+                                        futures.get(i).complete(values[i]);
+                                    }
+                                }
+                            });
+        }
+    }
 }
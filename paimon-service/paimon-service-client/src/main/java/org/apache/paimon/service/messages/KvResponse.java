@@ -19,6 +19,7 @@
 package org.apache.paimon.service.messages;
 
 import org.apache.paimon.data.BinaryRow;
+import org.apache.paimon.memory.MemorySegment;
 import org.apache.paimon.service.network.messages.MessageBody;
 import org.apache.paimon.service.network.messages.MessageDeserializer;
 
@@ -76,6 +77,52 @@ public class KvResponse extends MessageBody {
         return buffer.array();
     }
 
+    @Override
+    public void serialize(ByteBuf buf) {
+        buf.writeInt(values.length);
+        for (BinaryRow value : values) {
+            if (value == null) {
+                buf.writeByte(1);
+            } else {
+                buf.writeByte(0);
+                // same layout as SerializationUtils#serializeBinaryRow, prefixed by its length
+                buf.writeInt(4 + value.getSizeInBytes());
+                buf.writeInt(value.getFieldCount());
+                writeSegments(value, buf);
+            }
+        }
+    }
+
+    @Override
+    public int serializedSize() {
+        int size = 4;
+        for (BinaryRow value : values) {
+            size += 1;
+            if (value != null) {
+                size += 4 + 4 + value.getSizeInBytes();
+            }
+        }
+        return size;
+    }
+
+    private static void writeSegments(BinaryRow row, ByteBuf buf) {
+        int offset = row.getOffset();
+        int remaining = row.getSizeInBytes();
+        for (MemorySegment segment : row.getSegments()) {
+            if (remaining == 0) {
+                break;
+            }
+            if (offset >= segment.size()) {
+                offset -= segment.size();
+                continue;
+            }
+            int length = Math.min(remaining, segment.size() - offset);
+            buf.writeBytes(segment.wrap(offset, length));
+            remaining -= length;
+            offset = 0;
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -21,6 +21,8 @@ package org.apache.paimon.service.network.messages;
 import org.apache.paimon.service.network.NetworkClient;
 import org.apache.paimon.service.network.NetworkServer;
 
+import org.apache.paimon.shade.netty4.io.netty.buffer.ByteBuf;
+
 /**
  * The base class for every message exchanged during the communication between {@link NetworkClient}
  * and {@link NetworkServer}.
@@ -35,4 +37,22 @@ public abstract class MessageBody {
      * @return A byte array with the serialized content of the message.
      */
     public abstract byte[] serialize();
+
+    /**
+     * Serializes the message directly into the given buffer. The written content must be the same
+     * as {@link #serialize()}, messages can override this to avoid the intermediate byte array.
+     *
+     * @param buf The buffer to write the serialized content of the message into.
+     */
+    public void serialize(ByteBuf buf) {
+        buf.writeBytes(serialize());
+    }
+
+    /**
+     * Returns the byte length of the serialized message, or -1 if it is unknown before
+     * serialization. It is only used to size the buffer to serialize into.
+     */
+    public int serializedSize() {
+        return -1;
+    }
 }
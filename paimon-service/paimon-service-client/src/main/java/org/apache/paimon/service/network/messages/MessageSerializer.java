@@ -106,7 +106,29 @@ public final class MessageSerializer<REQ extends MessageBody, RESP extends Messa
     public static <RESP extends MessageBody> ByteBuf serializeResponse(
             final ByteBufAllocator alloc, final long requestId, final RESP response) {
         Preconditions.checkNotNull(response);
-        return writePayload(alloc, requestId, MessageType.REQUEST_RESULT, response.serialize());
+        int payloadSize = response.serializedSize();
+        if (payloadSize < 0) {
+            return writePayload(
+                    alloc, requestId, MessageType.REQUEST_RESULT, response.serialize());
+        }
+
+        final int frameLength = HEADER_LENGTH + REQUEST_ID_SIZE + payloadSize;
+        final ByteBuf buf = alloc.ioBuffer(frameLength + Integer.BYTES);
+
+        // Frame length is set at the end
+        buf.writeInt(0);
+        writeHeader(buf, MessageType.REQUEST_RESULT);
+        buf.writeLong(requestId);
+        try {
+            response.serialize(buf);
+        } catch (Throwable t) {
+            buf.release();
+            throw t;
+        }
+
+        // Set frame length
+        buf.setInt(0, buf.readableBytes() - Integer.BYTES);
+        return buf;
     }
 
     /**
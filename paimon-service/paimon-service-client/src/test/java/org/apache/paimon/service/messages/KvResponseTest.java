@@ -43,6 +43,26 @@ public class KvResponseTest {
         assertThat(newRequest).isEqualTo(request);
     }
 
+    @Test
+    void testSerializationIntoBuffer() {
+        KvResponse response = random();
+        ByteBuf byteBuf = UnpooledByteBufAllocator.DEFAULT.directBuffer();
+        response.serialize(byteBuf);
+
+        // must be the same as serializing into a byte array
+        byte[] bytes = response.serialize();
+        assertThat(response.serializedSize()).isEqualTo(bytes.length);
+        assertThat(byteBuf.readableBytes()).isEqualTo(bytes.length);
+        byte[] written = new byte[byteBuf.readableBytes()];
+        byteBuf.getBytes(byteBuf.readerIndex(), written);
+        assertThat(written).isEqualTo(bytes);
+
+        KvResponse newResponse =
+                new KvResponse.KvResponseDeserializer().deserializeMessage(byteBuf);
+        assertThat(newResponse).isEqualTo(response);
+        byteBuf.release();
+    }
+
     public static KvResponse random() {
         Random rnd = new Random();
         BinaryRow[] values = new BinaryRow[rnd.nextInt(100)];
@@ -33,6 +33,8 @@ import org.apache.paimon.utils.Preconditions;
 
 import org.apache.paimon.shade.netty4.io.netty.channel.ChannelHandler;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.table.sink.ChannelComputer.select;
@@ -51,7 +53,8 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
     private final int serverId;
     private final int numServers;
     private final TableQuery lookup;
-    private final InternalRowSerializer valueSerializer;
+    /** Serializers reuse their rows, so each query thread needs its own one. */
+    private final ThreadLocal<InternalRowSerializer> valueSerializers;
 
     /**
      * Create the handler used by the {@link KvQueryServer}.
@@ -73,7 +76,8 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
         this.serverId = serverId;
         this.numServers = numServers;
         this.lookup = Preconditions.checkNotNull(lookup);
-        this.valueSerializer = lookup.createValueSerializer();
+        InternalRowSerializer valueSerializer = lookup.createValueSerializer();
+        this.valueSerializers = ThreadLocal.withInitial(valueSerializer::duplicate);
     }
 
     @Override
@@ -89,13 +93,19 @@ public class KvServerHandler extends AbstractServerHandler<KvRequest, KvResponse
         }
 
         try {
-            BinaryRow[] keys = request.keys();
-            BinaryRow[] values = new BinaryRow[keys.length];
+            List<InternalRow> keys = Arrays.<InternalRow>asList(request.keys());
+            // look up all keys of the request in one batch, which shares the file lookups
+            List<InternalRow> lookupValues =
+                    this.lookup.lookupBatch(request.partition(), request.bucket(), keys);
+            InternalRowSerializer serializer = valueSerializers.get();
+            BinaryRow[] values = new BinaryRow[lookupValues.size()];
             for (int i = 0; i < values.length; i++) {
-                InternalRow value =
-                        this.lookup.lookup(request.partition(), request.bucket(), keys[i]);
-                if (value != null) {
-                    values[i] = valueSerializer.toBinaryRow(value).copy();
+                InternalRow value = lookupValues.get(i);
+                if (value instanceof BinaryRow) {
+                    // values of a batch lookup are independent, no need to copy
+                    values[i] = (BinaryRow) value;
+                } else if (value != null) {
+                    values[i] = serializer.toBinaryRow(value).copy();
                 }
             }
             responseFuture.complete(new KvResponse(values));
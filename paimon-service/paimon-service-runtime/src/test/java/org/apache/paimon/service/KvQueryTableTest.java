@@ -42,11 +42,13 @@ import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.apache.paimon.io.DataFileTestUtils.row;
 import static org.apache.paimon.service.ServiceManager.PRIMARY_KEY_LOOKUP;
 import static org.apache.paimon.table.sink.ChannelComputer.select;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /** Test for remote lookup. */
 public class KvQueryTableTest extends PrimaryKeyTableTestBase {
@@ -159,6 +161,50 @@ public class KvQueryTableTest extends PrimaryKeyTableTestBase {
         assertThat(result).containsOnly(row(1, 1, 1), row(1, 2, 1));
     }
 
+    @Test
+    public void testRemoteGetCoalesced() throws Exception {
+        KvQueryClient coalescingClient =
+                new KvQueryClient(
+                        new QueryLocationImpl(table.store().newServiceManager()), 1, 50, 3);
+        try {
+            write(1, 1, 1);
+            write(1, 2, 1);
+            write(2, 1, 2);
+
+            // lookups of the same partition and bucket are merged, the third key of partition 1
+            // fills the batch which is sent at once, later ones wait for the coalesce window
+            List<CompletableFuture<BinaryRow>> futures = new ArrayList<>();
+            futures.add(coalescingClient.getValue(row(1), 0, row(1)));
+            futures.add(coalescingClient.getValue(row(1), 0, row(2)));
+            futures.add(coalescingClient.getValue(row(2), 0, row(1)));
+            futures.add(coalescingClient.getValue(row(1), 0, row(3)));
+            futures.add(coalescingClient.getValue(row(1), 0, row(1)));
+            futures.add(coalescingClient.getValue(row(1), 0, row(2)));
+
+            assertThat(futures.get(0).get()).isEqualTo(row(1, 1, 1));
+            assertThat(futures.get(1).get()).isEqualTo(row(1, 2, 1));
+            assertThat(futures.get(2).get()).isEqualTo(row(2, 1, 2));
+            assertThat(futures.get(3).get()).isNull();
+            assertThat(futures.get(4).get()).isEqualTo(row(1, 1, 1));
+            assertThat(futures.get(5).get()).isEqualTo(row(1, 2, 1));
+        } finally {
+            coalescingClient.shutdownFuture().get();
+        }
+    }
+
+    @Test
+    public void testGetCoalescedAfterShutdown() throws Exception {
+        KvQueryClient coalescingClient =
+                new KvQueryClient(
+                        new QueryLocationImpl(table.store().newServiceManager()), 1, 50, 3);
+        coalescingClient.getValue(row(1), 0, row(1));
+        coalescingClient.shutdownFuture().get();
+
+        assertThatThrownBy(() -> coalescingClient.getValue(row(1), 0, row(2)).get())
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("already shut down");
+    }
+
     @Test
     public void testServerRestartSamePorts() throws Throwable {
         innerTestServerRestart(
@@ -91,4 +91,12 @@ public class SparkConnectorOptions {
                     .defaultValue(false)
                     .withDescription(
                             "Whether to read row in the form of changelog (add rowkind column in row to represent its change type).");
+
+    public static final ConfigOption<Boolean> READ_COLUMNAR_ENABLED =
+            key("read.columnar.enabled")
+                    .booleanType()
+                    .defaultValue(true)
+                    .withDescription(
+                            "If true, read data in columnar batches when all splits are raw files in parquet or orc format, "
+                                    + "which avoids converting data row by row.");
 }
@@ -0,0 +1,232 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark.data;
+
+import org.apache.paimon.data.columnar.BooleanColumnVector;
+import org.apache.paimon.data.columnar.ByteColumnVector;
+import org.apache.paimon.data.columnar.BytesColumnVector;
+import org.apache.paimon.data.columnar.ColumnVector;
+import org.apache.paimon.data.columnar.DecimalColumnVector;
+import org.apache.paimon.data.columnar.DoubleColumnVector;
+import org.apache.paimon.data.columnar.FloatColumnVector;
+import org.apache.paimon.data.columnar.IntColumnVector;
+import org.apache.paimon.data.columnar.LongColumnVector;
+import org.apache.paimon.data.columnar.ShortColumnVector;
+import org.apache.paimon.data.columnar.TimestampColumnVector;
+import org.apache.paimon.spark.DataConverter;
+import org.apache.paimon.spark.SparkTypeUtils;
+import org.apache.paimon.types.DataType;
+import org.apache.paimon.types.DataTypeChecks;
+import org.apache.paimon.types.DataTypeFamily;
+
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.types.Decimal;
+import org.apache.spark.sql.vectorized.ColumnarArray;
+import org.apache.spark.sql.vectorized.ColumnarMap;
+import org.apache.spark.unsafe.types.UTF8String;
+
+import javax.annotation.Nullable;
+
+/**
+ * A Spark {@link org.apache.spark.sql.vectorized.ColumnVector} which wraps a Paimon {@link
+ * ColumnVector} without copying. An optional selection of row ids is used to skip deleted rows.
+ */
+public class SparkColumnVector extends org.apache.spark.sql.vectorized.ColumnVector {
+
+    private final DataType type;
+    private final int timestampPrecision;
+
+    private ColumnVector vector;
+    @Nullable private int[] selected;
+    private int numRows;
+
+    public SparkColumnVector(DataType type) {
+        super(toSparkType(type));
+        this.type = type;
+        this.timestampPrecision =
+                type.is(DataTypeFamily.TIMESTAMP) ? DataTypeChecks.getPrecision(type) : 0;
+    }
+
+    /** Whether the Paimon type can be wrapped as a Spark column vector. */
+    public static boolean isSupported(DataType type) {
+        switch (type.getTypeRoot()) {
+            case BOOLEAN:
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case DATE:
+            case TIME_WITHOUT_TIME_ZONE:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+            case DECIMAL:
+            case CHAR:
+            case VARCHAR:
+            case BINARY:
+            case VARBINARY:
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /** The physical Spark type of the column, chars and varchars are read as strings. */
+    public static org.apache.spark.sql.types.DataType toSparkType(DataType type) {
+        switch (type.getTypeRoot()) {
+            case CHAR:
+            case VARCHAR:
+                return DataTypes.StringType;
+            default:
+                return SparkTypeUtils.fromPaimonType(type);
+        }
+    }
+
+    /**
+     * Replaces the wrapped vector, if selected is not null, only the selected row ids of the
+     * vector are visible.
+     */
+    public SparkColumnVector replace(ColumnVector vector, @Nullable int[] selected, int numRows) {
+        this.vector = vector;
+        this.selected = selected;
+        this.numRows = numRows;
+        return this;
+    }
+
+    private int rowId(int i) {
+        return selected == null ? i : selected[i];
+    }
+
+    @Override
+    public void close() {
+        // the wrapped vector is owned and recycled by the reader
+        vector = null;
+        selected = null;
+    }
+
+    @Override
+    public boolean hasNull() {
+        return numNulls() > 0;
+    }
+
+    @Override
+    public int numNulls() {
+        int numNulls = 0;
+        for (int i = 0; i < numRows; i++) {
+            if (isNullAt(i)) {
+                numNulls++;
+            }
+        }
+        return numNulls;
+    }
+
+    @Override
+    public boolean isNullAt(int rowId) {
+        return vector.isNullAt(rowId(rowId));
+    }
+
+    @Override
+    public boolean getBoolean(int rowId) {
+        return ((BooleanColumnVector) vector).getBoolean(rowId(rowId));
+    }
+
+    @Override
+    public byte getByte(int rowId) {
+        return ((ByteColumnVector) vector).getByte(rowId(rowId));
+    }
+
+    @Override
+    public short getShort(int rowId) {
+        return ((ShortColumnVector) vector).getShort(rowId(rowId));
+    }
+
+    @Override
+    public int getInt(int rowId) {
+        return ((IntColumnVector) vector).getInt(rowId(rowId));
+    }
+
+    @Override
+    public long getLong(int rowId) {
+        switch (type.getTypeRoot()) {
+            case TIMESTAMP_WITHOUT_TIME_ZONE:
+            case TIMESTAMP_WITH_LOCAL_TIME_ZONE:
+                TimestampColumnVector timestampVector = (TimestampColumnVector) vector;
+                return DataConverter.fromPaimon(
+                        timestampVector.getTimestamp(rowId(rowId), timestampPrecision));
+            default:
+                return ((LongColumnVector) vector).getLong(rowId(rowId));
+        }
+    }
+
+    @Override
+    public float getFloat(int rowId) {
+        return ((FloatColumnVector) vector).getFloat(rowId(rowId));
+    }
+
+    @Override
+    public double getDouble(int rowId) {
+        return ((DoubleColumnVector) vector).getDouble(rowId(rowId));
+    }
+
+    @Override
+    public Decimal getDecimal(int rowId, int precision, int scale) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        org.apache.paimon.data.Decimal decimal =
+                ((DecimalColumnVector) vector).getDecimal(rowId(rowId), precision, scale);
+        if (decimal.isCompact()) {
+            return Decimal.apply(decimal.toUnscaledLong(), precision, scale);
+        }
+        return DataConverter.fromPaimon(decimal);
+    }
+
+    @Override
+    public UTF8String getUTF8String(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        BytesColumnVector.Bytes bytes = ((BytesColumnVector) vector).getBytes(rowId(rowId));
+        return UTF8String.fromBytes(bytes.data, bytes.offset, bytes.len);
+    }
+
+    @Override
+    public byte[] getBinary(int rowId) {
+        if (isNullAt(rowId)) {
+            return null;
+        }
+        return ((BytesColumnVector) vector).getBytes(rowId(rowId)).getBytes();
+    }
+
+    @Override
+    public ColumnarArray getArray(int rowId) {
+        throw new UnsupportedOperationException("Unsupported type: " + type);
+    }
+
+    @Override
+    public ColumnarMap getMap(int ordinal) {
+        throw new UnsupportedOperationException("Unsupported type: " + type);
+    }
+
+    @Override
+    public org.apache.spark.sql.vectorized.ColumnVector getChild(int ordinal) {
+        throw new UnsupportedOperationException("Unsupported type: " + type);
+    }
+}
@@ -35,7 +35,12 @@ case class PaimonBatch(
   override def planInputPartitions(): Array[InputPartition] =
     inputPartitions.map(_.asInstanceOf[InputPartition]).toArray
 
-  override def createReaderFactory(): PartitionReaderFactory =
-    PaimonPartitionReaderFactory(readBuilder, metadataColumns)
+  override def createReaderFactory(): PartitionReaderFactory = {
+    val columnarReads = PaimonColumnarPartitionReader.supportColumnarReads(
+      inputPartitions,
+      readBuilder,
+      metadataColumns)
+    PaimonPartitionReaderFactory(readBuilder, metadataColumns, columnarReads)
+  }
 
 }
@@ -0,0 +1,300 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark
+
+import org.apache.paimon.data.{InternalRow => PaimonInternalRow}
+import org.apache.paimon.data.columnar.VectorizedColumnBatch
+import org.apache.paimon.deletionvectors.ApplyDeletionFileRecordIterator
+import org.apache.paimon.disk.IOManager
+import org.apache.paimon.fs.Path
+import org.apache.paimon.reader.{FileRecordIterator, RecordReader, VectorizedRecordIterator}
+import org.apache.paimon.spark.SparkUtils.createIOManager
+import org.apache.paimon.spark.data.SparkColumnVector
+import org.apache.paimon.spark.schema.PaimonMetadataColumn
+import org.apache.paimon.spark.util.OptionUtils
+import org.apache.paimon.table.source.{DataSplit, ReadBuilder, Split}
+import org.apache.paimon.types.{DataType, DataTypeChecks, DataTypeRoot}
+import org.apache.paimon.utils.IntArrayList
+
+import org.apache.spark.sql.PaimonUtils
+import org.apache.spark.sql.connector.metric.CustomTaskMetric
+import org.apache.spark.sql.connector.read.PartitionReader
+import org.apache.spark.sql.execution.vectorized.OnHeapColumnVector
+import org.apache.spark.sql.types.Decimal
+import org.apache.spark.sql.vectorized.{ColumnarBatch, ColumnVector}
+
+import scala.collection.JavaConverters._
+
+/**
+ * A [[PartitionReader]] which reads [[ColumnarBatch]]es. Vectorized batches of parquet and orc
+ * files are wrapped as Spark column vectors without copying, deleted rows are skipped through a
+ * selection of row ids. Batches which are not vectorized, for example because of schema evolution,
+ * are copied into on heap column vectors.
+ */
+case class PaimonColumnarPartitionReader(readBuilder: ReadBuilder, partition: PaimonInputPartition)
+  extends PartitionReader[ColumnarBatch] {
+
+  import PaimonColumnarPartitionReader._
+
+  private val splits: Iterator[Split] = partition.splits.toIterator
+  private val ioManager: IOManager = createIOManager()
+  private lazy val read = readBuilder.newRead().withIOManager(ioManager)
+
+  private val fieldTypes: Array[DataType] = readBuilder.readType().getFieldTypes.asScala.toArray
+  private val vectors: Array[SparkColumnVector] = fieldTypes.map(new SparkColumnVector(_))
+  private val vectorizedBatch = new ColumnarBatch(vectors.toArray[ColumnVector])
+  private var rowVectors: Array[OnHeapColumnVector] = _
+  private var rowBatch: ColumnarBatch = _
+
+  private var currentReader: RecordReader[PaimonInternalRow] = readSplit()
+  private var currentIterator: RecordReader.RecordIterator[PaimonInternalRow] = _
+  private var vectorized = false
+  private var currentBatch: ColumnarBatch = _
+  private var lastFilePath: Path = _
+
+  override def next(): Boolean = {
+    if (vectorized) {
+      // the previous batch is returned, its vectors can be recycled
+      releaseIterator()
+    }
+    var loaded = false
+    while (!loaded && nextIterator()) {
+      loaded = if (vectorized) loadVectorizedBatch() else loadRowBatch()
+    }
+    loaded
+  }
+
+  override def get(): ColumnarBatch = currentBatch
+
+  private def readSplit(): RecordReader[PaimonInternalRow] = {
+    if (splits.hasNext) {
+      read.createReader(splits.next())
+    } else {
+      null
+    }
+  }
+
+  private def nextIterator(): Boolean = {
+    while (currentIterator == null && currentReader != null) {
+      currentIterator = currentReader.readBatch()
+      if (currentIterator == null) {
+        currentReader.close()
+        currentReader = readSplit()
+      } else {
+        vectorized = isVectorized(currentIterator)
+        currentIterator match {
+          case fileRecordIterator: FileRecordIterator[_] =>
+            if (lastFilePath != fileRecordIterator.filePath()) {
+              PaimonUtils.setInputFileName(fileRecordIterator.filePath().toUri.toString)
+              lastFilePath = fileRecordIterator.filePath()
+            }
+          case _ =>
+        }
+      }
+    }
+    currentIterator != null
+  }
+
+  private def isVectorized(iterator: RecordReader.RecordIterator[PaimonInternalRow]): Boolean = {
+    iterator match {
+      case dv: ApplyDeletionFileRecordIterator =>
+        dv.iterator() match {
+          case inner: VectorizedRecordIterator => isFullBatch(inner.batch())
+          case _ => false
+        }
+      case inner: VectorizedRecordIterator => isFullBatch(inner.batch())
+      case _ => false
+    }
+  }
+
+  private def isFullBatch(batch: VectorizedColumnBatch): Boolean = {
+    batch.getArity == fieldTypes.length
+  }
+
+  private def loadVectorizedBatch(): Boolean = {
+    val (batch, selected, numRows) = currentIterator match {
+      case dv: ApplyDeletionFileRecordIterator =>
+        val inner = dv.iterator()
+        val batch = inner.asInstanceOf[VectorizedRecordIterator].batch()
+        val deletionVector = dv.deletionVector()
+        val originNumRows = batch.getNumRows
+        val picked = new IntArrayList(originNumRows)
+        var i = 0
+        while (i < originNumRows) {
+          inner.next()
+          if (!deletionVector.isDeleted(inner.returnedPosition())) {
+            picked.add(i)
+          }
+          i += 1
+        }
+        if (picked.size() == originNumRows) {
+          (batch, null, originNumRows)
+        } else {
+          (batch, picked.toArray, picked.size())
+        }
+      case iterator: VectorizedRecordIterator =>
+        val batch = iterator.batch()
+        (batch, null, batch.getNumRows)
+    }
+
+    if (numRows == 0) {
+      releaseIterator()
+      false
+    } else {
+      var i = 0
+      while (i < vectors.length) {
+        vectors(i).replace(batch.columns(i), selected, numRows)
+        i += 1
+      }
+      vectorizedBatch.setNumRows(numRows)
+      currentBatch = vectorizedBatch
+      true
+    }
+  }
+
+  private def loadRowBatch(): Boolean = {
+    if (rowVectors == null) {
+      rowVectors = fieldTypes.map(
+        t => new OnHeapColumnVector(ROW_BATCH_SIZE, SparkColumnVector.toSparkType(t)))
+      rowBatch = new ColumnarBatch(rowVectors.toArray[ColumnVector])
+    }
+    rowVectors.foreach(_.reset())
+
+    var numRows = 0
+    var exhausted = false
+    while (!exhausted && numRows < ROW_BATCH_SIZE) {
+      val row = currentIterator.next()
+      if (row == null) {
+        exhausted = true
+      } else {
+        writeRow(row, numRows)
+        numRows += 1
+      }
+    }
+    if (exhausted) {
+      releaseIterator()
+    }
+
+    if (numRows == 0) {
+      false
+    } else {
+      rowBatch.setNumRows(numRows)
+      currentBatch = rowBatch
+      true
+    }
+  }
+
+  private def writeRow(row: PaimonInternalRow, rowId: Int): Unit = {
+    var i = 0
+    while (i < fieldTypes.length) {
+      val vector = rowVectors(i)
+      val fieldType = fieldTypes(i)
+      if (row.isNullAt(i)) {
+        vector.putNull(rowId)
+      } else {
+        fieldType.getTypeRoot match {
+          case DataTypeRoot.BOOLEAN => vector.putBoolean(rowId, row.getBoolean(i))
+          case DataTypeRoot.TINYINT => vector.putByte(rowId, row.getByte(i))
+          case DataTypeRoot.SMALLINT => vector.putShort(rowId, row.getShort(i))
+          case DataTypeRoot.INTEGER | DataTypeRoot.DATE | DataTypeRoot.TIME_WITHOUT_TIME_ZONE =>
+            vector.putInt(rowId, row.getInt(i))
+          case DataTypeRoot.BIGINT => vector.putLong(rowId, row.getLong(i))
+          case DataTypeRoot.FLOAT => vector.putFloat(rowId, row.getFloat(i))
+          case DataTypeRoot.DOUBLE => vector.putDouble(rowId, row.getDouble(i))
+          case DataTypeRoot.DECIMAL =>
+            // same physical layout as spark parquet vectorized reader
+            val precision = DataTypeChecks.getPrecision(fieldType)
+            val decimal = row.getDecimal(i, precision, DataTypeChecks.getScale(fieldType))
+            if (precision <= Decimal.MAX_INT_DIGITS) {
+              vector.putInt(rowId, decimal.toUnscaledLong.toInt)
+            } else if (precision <= Decimal.MAX_LONG_DIGITS) {
+              vector.putLong(rowId, decimal.toUnscaledLong)
+            } else {
+              vector.putByteArray(rowId, decimal.toUnscaledBytes)
+            }
+          case DataTypeRoot.CHAR | DataTypeRoot.VARCHAR =>
+            vector.putByteArray(rowId, row.getString(i).toBytes)
+          case DataTypeRoot.BINARY | DataTypeRoot.VARBINARY =>
+            vector.putByteArray(rowId, row.getBinary(i))
+          case DataTypeRoot.TIMESTAMP_WITHOUT_TIME_ZONE |
+              DataTypeRoot.TIMESTAMP_WITH_LOCAL_TIME_ZONE =>
+            val timestamp = row.getTimestamp(i, DataTypeChecks.getPrecision(fieldType))
+            vector.putLong(rowId, DataConverter.fromPaimon(timestamp))
+          case _ =>
+            throw new UnsupportedOperationException(s"Unsupported type: $fieldType")
+        }
+      }
+      i += 1
+    }
+  }
+
+  private def releaseIterator(): Unit = {
+    if (currentIterator != null) {
+      currentIterator.releaseBatch()
+      currentIterator = null
+    }
+    vectorized = false
+  }
+
+  override def currentMetricsValues(): Array[CustomTaskMetric] = {
+    super.currentMetricsValues() ++ PaimonPartitionReader.splitMetricsValues(partition)
+  }
+
+  override def close(): Unit = {
+    try {
+      releaseIterator()
+      if (currentReader != null) {
+        currentReader.close()
+      }
+      if (rowVectors != null) {
+        rowVectors.foreach(_.close())
+      }
+    } finally {
+      ioManager.close()
+      PaimonUtils.unsetInputFileName()
+    }
+  }
+}
+
+object PaimonColumnarPartitionReader {
+
+  val ROW_BATCH_SIZE = 4096
+
+  private val COLUMNAR_FORMATS = Set("parquet", "orc")
+
+  /**
+   * Whether all partitions can be read as columnar batches, Spark does not allow to mix row based
+   * and columnar partitions in a scan. Only raw convertible data splits of parquet and orc files
+   * are read in columnar, other splits need merging which produces rows anyway.
+   */
+  def supportColumnarReads(
+      partitions: Seq[PaimonInputPartition],
+      readBuilder: ReadBuilder,
+      metadataColumns: Seq[PaimonMetadataColumn]): Boolean = {
+    OptionUtils.readColumnarEnabled() &&
+    metadataColumns.isEmpty &&
+    readBuilder.readType().getFieldTypes.asScala.forall(SparkColumnVector.isSupported) &&
+    partitions.forall(_.splits.forall {
+      case split: DataSplit =>
+        split.rawConvertible() && !split.isStreaming &&
+        split.dataFiles().asScala.forall(f => COLUMNAR_FORMATS.contains(f.fileFormat()))
+      case _ => false
+    })
+  }
+}
@@ -108,9 +108,26 @@ case class PaimonPartitionReader(
   }
 
   override def currentMetricsValues(): Array[CustomTaskMetric] = {
+    super.currentMetricsValues() ++ PaimonPartitionReader.splitMetricsValues(partition)
+  }
+
+  override def close(): Unit = {
+    try {
+      if (currentRecordReader != null) {
+        currentRecordReader.close()
+      }
+    } finally {
+      ioManager.close()
+    }
+  }
+}
+
+object PaimonPartitionReader {
+
+  def splitMetricsValues(partition: PaimonInputPartition): Array[CustomTaskMetric] = {
     val dataSplits = partition.splits.collect { case ds: DataSplit => ds }
     val numSplits = dataSplits.length
-    val paimonMetricsValues: Array[CustomTaskMetric] = if (dataSplits.nonEmpty) {
+    if (dataSplits.nonEmpty) {
       val splitSize = dataSplits.map(_.dataFiles().asScala.map(_.fileSize).sum).sum
       Array(
         PaimonNumSplitsTaskMetric(numSplits),
@@ -120,16 +137,5 @@ case class PaimonPartitionReader(
     } else {
       Array.empty[CustomTaskMetric]
     }
-    super.currentMetricsValues() ++ paimonMetricsValues
-  }
-
-  override def close(): Unit = {
-    try {
-      if (currentRecordReader != null) {
-        currentRecordReader.close()
-      }
-    } finally {
-      ioManager.close()
-    }
   }
 }
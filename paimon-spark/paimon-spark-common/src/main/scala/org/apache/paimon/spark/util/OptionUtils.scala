@@ -63,6 +63,10 @@ object OptionUtils extends SQLConfHelper {
     getOptionString(SparkConnectorOptions.USE_V2_WRITE).toBoolean
   }
 
+  def readColumnarEnabled(): Boolean = {
+    getOptionString(SparkConnectorOptions.READ_COLUMNAR_ENABLED).toBoolean
+  }
+
   def extractCatalogName(): Option[String] = {
     val sparkCatalogTemplate = String.format("%s([^.]*)$", SPARK_CATALOG_PREFIX)
     val sparkCatalogPattern = Pattern.compile(sparkCatalogTemplate)
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.paimon.spark.sql
+
+import org.apache.paimon.spark.PaimonSparkTestBase
+
+import org.apache.spark.sql.{DataFrame, Row}
+import org.apache.spark.sql.execution.adaptive.AdaptiveSparkPlanHelper
+import org.apache.spark.sql.execution.datasources.v2.BatchScanExec
+
+class PaimonColumnarReadTest extends PaimonSparkTestBase with AdaptiveSparkPlanHelper {
+
+  private def supportsColumnar(df: DataFrame): Boolean = {
+    val scans = collect(df.queryExecution.executedPlan) { case scan: BatchScanExec => scan }
+    assert(scans.nonEmpty)
+    scans.forall(_.supportsColumnar)
+  }
+
+  private def checkColumnarAnswer(query: String, expectColumnar: Boolean): Unit = {
+    var expected: Seq[Row] = Seq.empty
+    withSparkSQLConf("spark.paimon.read.columnar.enabled" -> "false") {
+      val df = spark.sql(query)
+      assert(!supportsColumnar(df))
+      expected = df.collect().toSeq
+    }
+    val df = spark.sql(query)
+    assert(supportsColumnar(df) == expectColumnar)
+    checkAnswer(df, expected)
+  }
+
+  Seq("parquet", "orc").foreach {
+    fileFormat =>
+      test(s"Columnar read: append table with file.format=$fileFormat") {
+        withTable("T") {
+          spark.sql(s"""
+                       |CREATE TABLE T (
+                       |  a BOOLEAN, b TINYINT, c SMALLINT, d INT, e BIGINT, f FLOAT, g DOUBLE,
+                       |  h DECIMAL(10, 2), i DECIMAL(38, 10), j STRING, k BINARY, l DATE,
+                       |  m TIMESTAMP, pt STRING)
+                       |PARTITIONED BY (pt)
+                       |TBLPROPERTIES ('file.format' = '$fileFormat')
+                       |""".stripMargin)
+          spark.sql(
+            """
+              |INSERT INTO T VALUES
+              |(true, 1, 10, 100, 1000, 1.1, 1.11, 12.34, 1234567890.0123456789, 'x1',
+              | binary('b1'), date'2024-01-01', timestamp'2024-01-01 01:02:03.123456', 'p1'),
+              |(false, 2, 20, 200, 2000, 2.2, 2.22, 23.45, -1.5, 'x2',
+              | binary('b2'), date'2024-01-02', timestamp'2024-01-02 01:02:03', 'p2'),
+              |(null, null, null, null, null, null, null, null, null, null,
+              | null, null, null, 'p1')
+              |""".stripMargin)
+
+          checkColumnarAnswer("SELECT * FROM T", expectColumnar = true)
+          checkColumnarAnswer("SELECT j, pt, d FROM T WHERE pt = 'p1'", expectColumnar = true)
+          checkColumnarAnswer("SELECT pt, sum(d) FROM T GROUP BY pt", expectColumnar = true)
+        }
+      }
+  }
+
+  test("Columnar read: deletion vectors are applied") {
+    withTable("T") {
+      spark.sql("""
+                  |CREATE TABLE T (id INT, name STRING)
+                  |TBLPROPERTIES (
+                  |  'primary-key' = 'id', 'bucket' = '1', 'deletion-vectors.enabled' = 'true')
+                  |""".stripMargin)
+      spark.sql("INSERT INTO T SELECT id, cast(id AS STRING) FROM range(0, 10000)")
+      spark.sql("DELETE FROM T WHERE id % 3 = 0")
+      spark.sql("UPDATE T SET name = 'updated' WHERE id % 5 = 0")
+
+      checkColumnarAnswer("SELECT * FROM T", expectColumnar = true)
+      checkAnswer(spark.sql("SELECT count(*) FROM T"), Row(6666))
+    }
+  }
+
+  test("Columnar read: fall back to rows for evolved schema") {
+    withTable("T") {
+      spark.sql("CREATE TABLE T (a INT, b STRING)")
+      spark.sql("INSERT INTO T VALUES (1, 'x1'), (2, 'x2')")
+      spark.sql("ALTER TABLE T ALTER COLUMN a TYPE BIGINT")
+      spark.sql("ALTER TABLE T ADD COLUMN c DOUBLE")
+      spark.sql("INSERT INTO T VALUES (3, 'x3', 3.3)")
+
+      checkColumnarAnswer("SELECT * FROM T", expectColumnar = true)
+    }
+  }
+
+  test("Columnar read: not supported for merging and metadata columns") {
+    withTable("T") {
+      spark.sql("""
+                  |CREATE TABLE T (id INT, name STRING)
+                  |TBLPROPERTIES ('primary-key' = 'id', 'bucket' = '1')
+                  |""".stripMargin)
+      spark.sql("INSERT INTO T VALUES (1, 'x1'), (2, 'x2')")
+      spark.sql("INSERT INTO T VALUES (1, 'x11')")
+
+      checkColumnarAnswer("SELECT * FROM T", expectColumnar = false)
+    }
+
+    withTable("T") {
+      spark.sql("CREATE TABLE T (id INT, name STRING)")
+      spark.sql("INSERT INTO T VALUES (1, 'x1'), (2, 'x2')")
+
+      checkColumnarAnswer("SELECT id, __paimon_row_index FROM T", expectColumnar = false)
+    }
+  }
+}